@@ -180,6 +180,18 @@ public @interface Bean {
 	 * </p>
 	 *
 	 * <p>
+	 * A {@link Strategy#CLEANABLE_PROTOTYPE} bean is a prototype bean whose instances are destroyed as soon as they become unreachable instead of when the module is stopped.
+	 * </p>
+	 *
+	 * <p>
+	 * A {@link Strategy#POOLED} bean exposes a pool of instances which are borrowed and returned by dependent beans, as a result dependent beans receive the pool and not the instances.
+	 * </p>
+	 *
+	 * <p>
+	 * A {@link Strategy#THREAD} bean exposes one instance per thread, as a result dependent beans receive a thread local handle from which they obtain the instance bound to the current thread.
+	 * </p>
+	 *
+	 * <p>
 	 * Note that this attribute is irrelevant and therefore ignored when specified on a socket bean
 	 * </p>
 	 *
@@ -194,7 +206,50 @@ public @interface Bean {
 		/**
 		 * Prototype strategy results in multiple instance being created when requested.
 		 */
-		PROTOTYPE
+		PROTOTYPE,
+		/**
+		 * <p>
+		 * Cleanable prototype strategy results in multiple instances being created when requested, each instance being destroyed when it becomes phantom reachable.
+		 * </p>
+		 *
+		 * <p>
+		 * This strategy only applies to wrapper beans: the wrapper instance holds the state to release (e.g. a direct buffer, a file channel...) and its destroy methods are invoked once the instance
+		 * it provides has been reclaimed by the garbage collector or, at the latest, when the module is stopped. As a result, the wrapper must not hold a strong reference to the instance it provides
+		 * otherwise the instance will never become unreachable.
+		 * </p>
+		 *
+		 * @since 1.7
+		 */
+		CLEANABLE_PROTOTYPE,
+		/**
+		 * <p>
+		 * Pooled strategy results in a bounded pool of reusable instances being created, dependent beans being injected with a {@code io.inverno.core.v1.BeanPool} from which they can borrow
+		 * instances and return them once done.
+		 * </p>
+		 *
+		 * <p>
+		 * Initialization methods are invoked when an instance is added to the pool and destroy methods when it is evicted from the pool or, at the latest, when the module is stopped. The pool can be
+		 * configured using the {@link Pool @Pool} annotation.
+		 * </p>
+		 *
+		 * @since 1.7
+		 */
+		POOLED,
+		/**
+		 * <p>
+		 * Thread strategy results in one instance being created per thread, dependent beans being injected with a {@code io.inverno.core.v1.ThreadLocalBean} which provides the instance bound to
+		 * the current thread.
+		 * </p>
+		 *
+		 * <p>
+		 * Initialization methods are invoked when an instance is created the first time a thread requests it. Once that thread has terminated, the instance is recycled for another thread so that
+		 * the number of instances remains bounded by the number of live threads even with many short-lived virtual threads. Destroy methods are invoked when an instance is no longer needed or, at
+		 * the latest, when the module is stopped.
+		 * </p>
+		 *
+		 * @since 1.7
+		 */
+		THREAD
 	}
 
 	/**
@@ -203,4 +258,29 @@ public @interface Bean {
 	 * @return The bean's strategy
 	 */
 	Strategy strategy() default Strategy.SINGLETON;
+
+	/**
+	 * <p>
+	 * Indicates whether a {@link Strategy#SINGLETON} bean should be created the first time it is requested instead of when the module is started.
+	 * </p>
+	 *
+	 * <p>
+	 * A lazy bean is still created when the module is started if it is required by a bean which is not lazy. Lazy beans are otherwise not created at all unless they are requested, which can
+	 * significantly reduce the startup time of an application that only uses a fraction of its beans. Once created, a lazy bean is destroyed like any other bean when the module is stopped.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans can be made lazy by default in a module by setting the {@code inverno.lazyBeans} compiler option, a bean explicitly declared with {@code lazy = false} is then still created when the
+	 * module is started.
+	 * </p>
+	 *
+	 * <p>
+	 * Note that this attribute is ignored when the bean is not a singleton.
+	 * </p>
+	 *
+	 * @return true to create the bean the first time it is requested, false otherwise
+	 *
+	 * @since 1.7
+	 */
+	boolean lazy() default false;
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Used in conjunction with {@link Bean @Bean} to configure the pool of a {@link Bean.Strategy#POOLED} bean.
+ * </p>
+ *
+ * <p>
+ * A pool holds at most {@link #maxSize()} instances, when all of them are borrowed an extra overflow instance is created by default which is destroyed as soon as it is returned so that borrowing
+ * an instance never blocks. The maximum size then bounds the number of instances kept in the pool but not the number of instances in existence, {@link #overflow()} must be disabled when the number
+ * of instances must be strictly bounded in which case borrowing from an exhausted pool fails. Idle instances exceeding {@link #minSize()} are evicted from the pool when they haven't been borrowed
+ * for more than {@link #idleTimeout()} milliseconds.
+ * </p>
+ *
+ * <pre>{@code
+ * @Bean(strategy = Bean.Strategy.POOLED)
+ * @Wrapper
+ * @Pool(minSize = 2, maxSize = 16, idleTimeout = 30000)
+ * public class DeflaterWrapper implements Supplier<Deflater> {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Bean
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.TYPE })
+public @interface Pool {
+
+	/**
+	 * <p>
+	 * Indicates the number of instances created when the pool is created and kept in the pool regardless of the idle timeout.
+	 * </p>
+	 *
+	 * @return the minimum size of the pool
+	 */
+	int minSize() default 0;
+
+	/**
+	 * <p>
+	 * Indicates the maximum number of instances held by the pool, defaults to twice the number of available processors when negative or zero.
+	 * </p>
+	 *
+	 * <p>
+	 * This is not a hard limit on the number of instances unless {@link #overflow()} is disabled: overflow instances are created on top of pooled instances when the pool is exhausted.
+	 * </p>
+	 *
+	 * @return the maximum size of the pool
+	 */
+	int maxSize() default 0;
+
+	/**
+	 * <p>
+	 * Indicates the time in milliseconds after which an idle instance is evicted from the pool, idle instances are never evicted when negative or zero.
+	 * </p>
+	 *
+	 * @return the idle timeout in milliseconds
+	 */
+	long idleTimeout() default 60000;
+
+	/**
+	 * <p>
+	 * Indicates whether an overflow instance, destroyed as soon as it is returned, is created when all pooled instances are borrowed.
+	 * </p>
+	 *
+	 * <p>
+	 * When disabled, borrowing from an exhausted pool fails with an {@code IllegalStateException} so that no more than {@link #maxSize()} instances ever exist.
+	 * </p>
+	 *
+	 * @return true to create overflow instances when the pool is exhausted, false to fail
+	 */
+	boolean overflow() default true;
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import io.inverno.core.v1.Module;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A module exposing singleton and prototype beans the same way a generated module class does, used to measure the cost of bean accessors.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+public final class AccessorModule extends Module {
+
+	private final Bean<Service> singleton;
+	private final Bean<Service> singletonWrapper;
+	private final Bean<Service> prototypeWeak;
+	private final Bean<Service> prototypeWeakWrapper;
+
+	public AccessorModule() {
+		super("io.inverno.core.benchmark.accessor");
+
+		this.singleton = this.with(ModuleBeanBuilder
+			.singleton("singleton", () -> {
+				Service singleton = new Service();
+				return singleton;
+			})
+		);
+		this.singletonWrapper = this.with(WrapperBeanBuilder
+			.singleton("singletonWrapper", () -> {
+				ServiceWrapper singletonWrapper = new ServiceWrapper();
+				return singletonWrapper;
+			})
+		);
+		this.prototypeWeak = this.with(ModuleBeanBuilder
+			.prototype("prototypeWeak", () -> {
+				Service prototypeWeak = new Service();
+				return prototypeWeak;
+			})
+			.destroy(Service::close)
+		);
+		this.prototypeWeakWrapper = this.with(WrapperBeanBuilder
+			.prototype("prototypeWeakWrapper", () -> {
+				ServiceWrapper prototypeWeakWrapper = new ServiceWrapper();
+				return prototypeWeakWrapper;
+			})
+			.destroy(ServiceWrapper::close)
+		);
+	}
+
+	public Service singleton() {
+		return this.singleton.get();
+	}
+
+	public Service singletonWrapper() {
+		return this.singletonWrapper.get();
+	}
+
+	public Service prototypeWeak() {
+		return this.prototypeWeak.get();
+	}
+
+	public Service prototypeWeakWrapper() {
+		return this.prototypeWeakWrapper.get();
+	}
+
+	/**
+	 * <p>
+	 * A simple bean.
+	 * </p>
+	 */
+	public static final class Service {
+
+		public void close() {
+
+		}
+	}
+
+	/**
+	 * <p>
+	 * A simple wrapper bean.
+	 * </p>
+	 */
+	public static final class ServiceWrapper implements Supplier<Service> {
+
+		@Override
+		public Service get() {
+			// the wrapper must not hold the instance otherwise tracked prototype instances would never be reclaimed
+			return new Service();
+		}
+
+		public void close() {
+
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the compilation of a synthetic module whose beans are all autowired, the cost of resolving sockets being dominated by the number of beans each socket is matched against.
+ * </p>
+ *
+ * <p>
+ * Each bean implements its own service interface and requires the services of up to two other beans through constructor sockets, one bean also aggregates all services in a multi socket. Every
+ * socket then matches exactly one bean among all the beans of the module, or all of them for the multi socket. Dependencies form a tree with a few shared beans so that the cost of traversing the
+ * dependency graph remains negligible.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AutowiringBenchmark {
+
+	private static final String MODULE = "io.inverno.benchmark.autowiring";
+
+	@Param({"100", "250", "500"})
+	public int size;
+
+	private SyntheticModuleCompiler compiler;
+
+	@Setup
+	public void setup() {
+		this.compiler = new SyntheticModuleCompiler("autowiring")
+			.source(MODULE, "module-info.java",
+				"@io.inverno.core.annotation.Module\n" +
+				"module " + MODULE + " {\n" +
+				"\trequires io.inverno.core;\n" +
+				"\trequires io.inverno.core.annotation;\n" +
+				"\texports " + MODULE + ";\n" +
+				"}\n"
+			)
+			.type(MODULE, "Service", "public interface Service {\n}\n")
+			.type(MODULE, "Registry",
+				"@io.inverno.core.annotation.Bean\n" +
+				"public class Registry {\n\n" +
+				"\tpublic Registry(java.util.List<Service> services) {\n\t}\n" +
+				"}\n"
+			);
+
+		for(int i = 0; i < this.size; i++) {
+			this.compiler.type(MODULE, "Service" + i, "public interface Service" + i + " extends Service {\n}\n");
+
+			StringBuilder bean = new StringBuilder();
+			bean.append("@io.inverno.core.annotation.Bean(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)\n");
+			bean.append("public class Bean").append(i).append(" implements Service").append(i).append(" {\n\n");
+			if(i >= 8) {
+				bean.append("\tpublic Bean").append(i).append("(Service").append(i / 2).append(" parent, Service").append(i % 8).append(" shared) {\n\t}\n");
+			}
+			else if(i > 0) {
+				bean.append("\tpublic Bean").append(i).append("(Service").append(i / 2).append(" parent) {\n\t}\n");
+			}
+			bean.append("}\n");
+			this.compiler.type(MODULE, "Bean" + i, bean);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void clean() {
+		this.compiler.clean();
+	}
+
+	@Benchmark
+	public Object compile() {
+		return this.compiler.compile(MODULE);
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the throughput of generated bean accessors for every kind of module bean: singleton, prototype and prototype with destroy methods (weak), for both module and wrapper beans.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanAccessorBenchmark {
+
+	private static final String MODULE = "io.inverno.benchmark.accessor";
+	
+	private SyntheticModuleHarness harness;
+	
+	private Supplier<?> singleton;
+	private Supplier<?> prototype;
+	private Supplier<?> prototypeWeak;
+	private Supplier<?> singletonWrapper;
+	private Supplier<?> prototypeWrapper;
+	private Supplier<?> prototypeWeakWrapper;
+	
+	@Setup
+	public void setup() {
+		SyntheticModuleCompiler compiler = new SyntheticModuleCompiler("accessor")
+			.source(MODULE, "module-info.java", 
+				"@io.inverno.core.annotation.Module\n" + 
+				"module " + MODULE + " {\n" +
+				"\trequires io.inverno.core;\n" +
+				"\trequires io.inverno.core.annotation;\n" +
+				"\texports " + MODULE + ";\n" + 
+				"}\n"
+			)
+			.type(MODULE, "Service", "public class Service {\n}\n")
+			.type(MODULE, "SingletonBean", 
+				"@io.inverno.core.annotation.Bean\n" + 
+				"public class SingletonBean {\n}\n"
+			)
+			.type(MODULE, "PrototypeBean", 
+				"@io.inverno.core.annotation.Bean(strategy = io.inverno.core.annotation.Bean.Strategy.PROTOTYPE)\n" + 
+				"public class PrototypeBean {\n}\n"
+			)
+			.type(MODULE, "PrototypeWeakBean", 
+				"@io.inverno.core.annotation.Bean(strategy = io.inverno.core.annotation.Bean.Strategy.PROTOTYPE)\n" + 
+				"public class PrototypeWeakBean {\n\n" +
+				"\t@io.inverno.core.annotation.Destroy\n" +
+				"\tpublic void destroy() {\n\t}\n" +
+				"}\n"
+			)
+			.type(MODULE, "SingletonWrapperBean", 
+				"@io.inverno.core.annotation.Bean\n" + 
+				"@io.inverno.core.annotation.Wrapper\n" + 
+				"public class SingletonWrapperBean implements java.util.function.Supplier<Service> {\n\n" +
+				"\tpublic Service get() {\n\t\treturn new Service();\n\t}\n" +
+				"}\n"
+			)
+			.type(MODULE, "PrototypeWrapperBean", 
+				"@io.inverno.core.annotation.Bean(strategy = io.inverno.core.annotation.Bean.Strategy.PROTOTYPE)\n" + 
+				"@io.inverno.core.annotation.Wrapper\n" + 
+				"public class PrototypeWrapperBean implements java.util.function.Supplier<Service> {\n\n" +
+				"\tpublic Service get() {\n\t\treturn new Service();\n\t}\n" +
+				"}\n"
+			)
+			.type(MODULE, "PrototypeWeakWrapperBean", 
+				"@io.inverno.core.annotation.Bean(strategy = io.inverno.core.annotation.Bean.Strategy.PROTOTYPE)\n" + 
+				"@io.inverno.core.annotation.Wrapper\n" + 
+				"public class PrototypeWeakWrapperBean implements java.util.function.Supplier<Service> {\n\n" +
+				"\tpublic Service get() {\n\t\treturn new Service();\n\t}\n\n" +
+				"\t@io.inverno.core.annotation.Destroy\n" +
+				"\tpublic void destroy() {\n\t}\n" +
+				"}\n"
+			)
+			.harness(MODULE, "Accessor", "singletonBean", "prototypeBean", "prototypeWeakBean", "singletonWrapperBean", "prototypeWrapperBean", "prototypeWeakWrapperBean");
+		
+		this.harness = new SyntheticModuleHarness(compiler.compile(MODULE), MODULE);
+		
+		this.singleton = this.harness.accessor("singletonBean");
+		this.prototype = this.harness.accessor("prototypeBean");
+		this.prototypeWeak = this.harness.accessor("prototypeWeakBean");
+		this.singletonWrapper = this.harness.accessor("singletonWrapperBean");
+		this.prototypeWrapper = this.harness.accessor("prototypeWrapperBean");
+		this.prototypeWeakWrapper = this.harness.accessor("prototypeWeakWrapperBean");
+	}
+	
+	@TearDown
+	public void tearDown() throws Exception {
+		this.harness.close();
+	}
+	
+	@Benchmark
+	public Object singleton() {
+		return this.singleton.get();
+	}
+	
+	@Benchmark
+	public Object prototype() {
+		return this.prototype.get();
+	}
+	
+	@Benchmark
+	public Object prototypeWeak() {
+		return this.prototypeWeak.get();
+	}
+	
+	@Benchmark
+	public Object singletonWrapper() {
+		return this.singletonWrapper.get();
+	}
+	
+	@Benchmark
+	public Object prototypeWrapper() {
+		return this.prototypeWrapper.get();
+	}
+	
+	@Benchmark
+	public Object prototypeWeakWrapper() {
+		return this.prototypeWeakWrapper.get();
+	}
+}
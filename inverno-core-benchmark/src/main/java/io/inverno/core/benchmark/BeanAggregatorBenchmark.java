@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures multi-socket aggregation by requesting prototype beans injected with a list, a set or an array of singleton beans, as well as their optional counterparts, the aggregation being
+ * performed by the generated module class on each request.
+ * </p>
+ *
+ * <p>
+ * Lists and arrays of module beans are created directly by the generated module class whereas sets and multi-sockets involving wrapper beans, which might supply null instances, are aggregated
+ * using a {@code BeanAggregator}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanAggregatorBenchmark {
+
+	private static final String MODULE = "io.inverno.benchmark.aggregator";
+	
+	@Param({"1", "8", "64"})
+	public int size;
+	
+	private SyntheticModuleHarness harness;
+	
+	private Supplier<?> list;
+	private Supplier<?> set;
+	private Supplier<?> array;
+	private Supplier<?> optionalList;
+	private Supplier<?> wrappedList;
+	
+	@Setup
+	public void setup() {
+		SyntheticModuleCompiler compiler = new SyntheticModuleCompiler("aggregator")
+			.source(MODULE, "module-info.java", 
+				"@io.inverno.core.annotation.Module\n" + 
+				"module " + MODULE + " {\n" +
+				"\trequires io.inverno.core;\n" +
+				"\trequires io.inverno.core.annotation;\n" +
+				"\texports " + MODULE + ";\n" + 
+				"}\n"
+			)
+			.type(MODULE, "Element", "public interface Element {\n}\n")
+			.type(MODULE, "ListBean", 
+				"@io.inverno.core.annotation.Bean(strategy = io.inverno.core.annotation.Bean.Strategy.PROTOTYPE)\n" + 
+				"public class ListBean {\n\n" +
+				"\tpublic ListBean(java.util.List<Element> elements) {\n\t}\n" +
+				"}\n"
+			)
+			.type(MODULE, "SetBean", 
+				"@io.inverno.core.annotation.Bean(strategy = io.inverno.core.annotation.Bean.Strategy.PROTOTYPE)\n" + 
+				"public class SetBean {\n\n" +
+				"\tpublic SetBean(java.util.Set<Element> elements) {\n\t}\n" +
+				"}\n"
+			)
+			.type(MODULE, "ArrayBean", 
+				"@io.inverno.core.annotation.Bean(strategy = io.inverno.core.annotation.Bean.Strategy.PROTOTYPE)\n" + 
+				"public class ArrayBean {\n\n" +
+				"\tpublic ArrayBean(Element[] elements) {\n\t}\n" +
+				"}\n"
+			)
+			.type(MODULE, "OptionalListBean", 
+				"@io.inverno.core.annotation.Bean(strategy = io.inverno.core.annotation.Bean.Strategy.PROTOTYPE)\n" + 
+				"public class OptionalListBean {\n\n" +
+				"\tpublic void setElements(java.util.List<Element> elements) {\n\t}\n" +
+				"}\n"
+			)
+			.type(MODULE, "Wrapped", "public interface Wrapped {\n}\n")
+			.type(MODULE, "WrappedListBean", 
+				"@io.inverno.core.annotation.Bean(strategy = io.inverno.core.annotation.Bean.Strategy.PROTOTYPE)\n" + 
+				"public class WrappedListBean {\n\n" +
+				"\tpublic WrappedListBean(java.util.List<Wrapped> elements) {\n\t}\n" +
+				"}\n"
+			)
+			.harness(MODULE, "Aggregator", "listBean", "setBean", "arrayBean", "optionalListBean", "wrappedListBean");
+		
+		for(int i = 0; i < this.size; i++) {
+			compiler.type(MODULE, "Element" + i, 
+				"@io.inverno.core.annotation.Bean(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)\n" + 
+				"public class Element" + i + " implements Element {\n}\n"
+			);
+			compiler.type(MODULE, "Wrapped" + i, 
+				"@io.inverno.core.annotation.Bean(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)\n" + 
+				"@io.inverno.core.annotation.Wrapper\n" + 
+				"public class Wrapped" + i + " implements java.util.function.Supplier<Wrapped> {\n\n" +
+				"\tprivate final Wrapped instance = new Wrapped() {};\n\n" +
+				"\t@Override\n" +
+				"\tpublic Wrapped get() {\n\t\treturn this.instance;\n\t}\n" +
+				"}\n"
+			);
+		}
+		
+		this.harness = new SyntheticModuleHarness(compiler.compile(MODULE), MODULE);
+		
+		this.list = this.harness.accessor("listBean");
+		this.set = this.harness.accessor("setBean");
+		this.array = this.harness.accessor("arrayBean");
+		this.optionalList = this.harness.accessor("optionalListBean");
+		this.wrappedList = this.harness.accessor("wrappedListBean");
+	}
+	
+	@TearDown
+	public void tearDown() throws Exception {
+		this.harness.close();
+	}
+	
+	@Benchmark
+	public Object list() {
+		return this.list.get();
+	}
+	
+	@Benchmark
+	public Object set() {
+		return this.set.get();
+	}
+	
+	@Benchmark
+	public Object array() {
+		return this.array.get();
+	}
+	
+	@Benchmark
+	public Object optionalList() {
+		return this.optionalList.get();
+	}
+	
+	@Benchmark
+	public Object wrappedList() {
+		return this.wrappedList.get();
+	}
+}
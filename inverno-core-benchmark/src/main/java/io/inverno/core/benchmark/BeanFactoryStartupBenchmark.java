@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the cold startup of a synthetic module whose bean factories are generated as lambdas or as switch-based bean factories ({@code inverno.switchBeanFactories} compiler option).
+ * </p>
+ *
+ * <p>
+ * Compiled modules are loaded in a new module layer before each iteration so that every measurement includes class loading and linkage of the generated module class, in particular the bootstrap
+ * of the lambdas and method references created for each bean factory, init and destroy method.
+ * </p>
+ *
+ * <p>
+ * Beans are organized as a binary tree: bean {@code i} depends on beans {@code 2i+1} and {@code 2i+2}, only the root bean {@code 0} is public and all beans define an init and a destroy method.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class BeanFactoryStartupBenchmark {
+
+	private static final String MODULE = "io.inverno.benchmark.factory";
+
+	@Param({"100", "1000"})
+	public int beans;
+
+	@Param({"lambda", "switch"})
+	public String factories;
+
+	private SyntheticModuleCompiler compiler;
+
+	private InvernoModuleLoader moduleLoader;
+
+	@Setup
+	public void setup() {
+		this.compiler = new SyntheticModuleCompiler("factory")
+			.option("inverno.switchBeanFactories", Boolean.toString(this.factories.equals("switch")))
+			.source(MODULE, "module-info.java",
+				"@io.inverno.core.annotation.Module\n" +
+				"module " + MODULE + " {\n" +
+				"\trequires io.inverno.core;\n" +
+				"\trequires io.inverno.core.annotation;\n" +
+				"\texports " + MODULE + ";\n" +
+				"}\n"
+			);
+
+		for(int i = 0; i < this.beans; i++) {
+			StringBuilder bean = new StringBuilder();
+			bean.append("@io.inverno.core.annotation.Bean");
+			if(i > 0) {
+				bean.append("(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)");
+			}
+			bean.append("\n");
+			bean.append("public class Bean").append(i).append(" {\n\n");
+			bean.append("\tpublic Bean").append(i).append("(");
+			if(2 * i + 1 < this.beans) {
+				bean.append("Bean").append(2 * i + 1).append(" left");
+				if(2 * i + 2 < this.beans) {
+					bean.append(", Bean").append(2 * i + 2).append(" right");
+				}
+			}
+			bean.append(") {\n\t}\n\n");
+			bean.append("\t@io.inverno.core.annotation.Init\n");
+			bean.append("\tpublic void init() {\n\t}\n\n");
+			bean.append("\t@io.inverno.core.annotation.Destroy\n");
+			bean.append("\tpublic void destroy() {\n\t}\n");
+			bean.append("}\n");
+			this.compiler.type(MODULE, "Bean" + i, bean);
+		}
+
+		this.compiler.compile(MODULE);
+	}
+
+	@Setup(Level.Iteration)
+	public void setupIteration() {
+		this.moduleLoader = this.compiler.load(MODULE);
+	}
+
+	@Benchmark
+	public void startStop() {
+		InvernoModuleProxy module = this.moduleLoader.load(MODULE).build();
+		module.start();
+		module.stop();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import io.inverno.test.InvernoModuleProxy;
+import io.inverno.test.InvernoModuleProxyBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the time to build, start and stop a chain of component modules, each module composing the previous one and exposing a bean depending on the bean exposed by that module.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentModuleChainBenchmark {
+
+	private static final String MODULE_PREFIX = "io.inverno.benchmark.chain.m";
+	
+	@Param({"1", "8", "32"})
+	public int depth;
+	
+	private InvernoModuleProxyBuilder moduleBuilder;
+	
+	@Setup
+	public void setup() {
+		SyntheticModuleCompiler compiler = new SyntheticModuleCompiler("chain");
+		String[] modules = new String[this.depth];
+		for(int i = 0; i < this.depth; i++) {
+			modules[i] = MODULE_PREFIX + i;
+			
+			StringBuilder moduleInfo = new StringBuilder();
+			moduleInfo.append("@io.inverno.core.annotation.Module\n");
+			moduleInfo.append("module ").append(modules[i]).append(" {\n");
+			moduleInfo.append("\trequires io.inverno.core;\n");
+			moduleInfo.append("\trequires io.inverno.core.annotation;\n");
+			if(i > 0) {
+				moduleInfo.append("\trequires transitive ").append(modules[i - 1]).append(";\n");
+			}
+			moduleInfo.append("\texports ").append(modules[i]).append(";\n");
+			moduleInfo.append("}\n");
+			compiler.source(modules[i], "module-info.java", moduleInfo);
+			
+			StringBuilder bean = new StringBuilder();
+			bean.append("@io.inverno.core.annotation.Bean\n");
+			bean.append("public class Service").append(i).append(" {\n\n");
+			bean.append("\tpublic Service").append(i).append("(");
+			if(i > 0) {
+				bean.append(modules[i - 1]).append(".Service").append(i - 1).append(" previous");
+			}
+			bean.append(") {\n\t}\n");
+			bean.append("}\n");
+			compiler.type(modules[i], "Service" + i, bean);
+		}
+		
+		this.moduleBuilder = compiler.compile(modules).load(modules[this.depth - 1]);
+	}
+	
+	@Benchmark
+	public void startStop() {
+		InvernoModuleProxy module = this.moduleBuilder.build();
+		module.start();
+		module.stop();
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import io.inverno.test.InvernoModuleProxy;
+import io.inverno.test.InvernoModuleProxyBuilder;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the time to build, start and stop a synthetic module composed of a graph of beans, sequentially or concurrently.
+ * </p>
+ *
+ * <p>
+ * Beans are organized as a binary tree: bean {@code i} depends on beans {@code 2i+1} and {@code 2i+2} and only the root bean {@code 0} is public. Leaves and independent sub-trees can then be
+ * created concurrently when the module is started with an executor.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModuleStartStopBenchmark {
+
+	private static final String MODULE = "io.inverno.benchmark.graph";
+	
+	@Param({"10", "100", "1000"})
+	public int beans;
+	
+	@Param({"false", "true"})
+	public boolean parallel;
+	
+	private InvernoModuleProxyBuilder moduleBuilder;
+	
+	@Setup
+	public void setup() {
+		SyntheticModuleCompiler compiler = new SyntheticModuleCompiler("graph")
+			.source(MODULE, "module-info.java", 
+				"@io.inverno.core.annotation.Module\n" + 
+				"module " + MODULE + " {\n" +
+				"\trequires io.inverno.core;\n" +
+				"\trequires io.inverno.core.annotation;\n" +
+				"\texports " + MODULE + ";\n" + 
+				"}\n"
+			);
+		
+		for(int i = 0; i < this.beans; i++) {
+			StringBuilder bean = new StringBuilder();
+			bean.append("@io.inverno.core.annotation.Bean");
+			if(i > 0) {
+				bean.append("(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)");
+			}
+			bean.append("\n");
+			bean.append("public class Bean").append(i).append(" {\n\n");
+			bean.append("\tpublic Bean").append(i).append("(");
+			if(2 * i + 1 < this.beans) {
+				bean.append("Bean").append(2 * i + 1).append(" left");
+				if(2 * i + 2 < this.beans) {
+					bean.append(", Bean").append(2 * i + 2).append(" right");
+				}
+			}
+			bean.append(") {\n\t}\n");
+			bean.append("}\n");
+			compiler.type(MODULE, "Bean" + i, bean);
+		}
+		
+		this.moduleBuilder = compiler.compile(MODULE).load(MODULE);
+	}
+	
+	@Benchmark
+	public void startStop() {
+		InvernoModuleProxy module = this.moduleBuilder.build();
+		if(this.parallel) {
+			module.start(ForkJoinPool.commonPool());
+		}
+		else {
+			module.start();
+		}
+		module.stop();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the throughput of prototype beans with destroy methods, whose instances must be tracked by the module, from 1 to 64 concurrent threads.
+ * </p>
+ *
+ * <p>
+ * Instances are dropped right away so that the garbage collector keeps enqueuing stale references while instances are requested.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrototypeTrackingBenchmark {
+
+	private AccessorModule module;
+	
+	@Setup
+	public void setup() {
+		this.module = new AccessorModule();
+		this.module.start();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		this.module.stop();
+	}
+	
+	@Benchmark
+	@Threads(1)
+	public AccessorModule.Service prototypeWeak_1() {
+		return this.module.prototypeWeak();
+	}
+	
+	@Benchmark
+	@Threads(4)
+	public AccessorModule.Service prototypeWeak_4() {
+		return this.module.prototypeWeak();
+	}
+	
+	@Benchmark
+	@Threads(16)
+	public AccessorModule.Service prototypeWeak_16() {
+		return this.module.prototypeWeak();
+	}
+	
+	@Benchmark
+	@Threads(64)
+	public AccessorModule.Service prototypeWeak_64() {
+		return this.module.prototypeWeak();
+	}
+	
+	@Benchmark
+	@Threads(1)
+	public AccessorModule.Service prototypeWeakWrapper_1() {
+		return this.module.prototypeWeakWrapper();
+	}
+	
+	@Benchmark
+	@Threads(4)
+	public AccessorModule.Service prototypeWeakWrapper_4() {
+		return this.module.prototypeWeakWrapper();
+	}
+	
+	@Benchmark
+	@Threads(16)
+	public AccessorModule.Service prototypeWeakWrapper_16() {
+		return this.module.prototypeWeakWrapper();
+	}
+	
+	@Benchmark
+	@Threads(64)
+	public AccessorModule.Service prototypeWeakWrapper_64() {
+		return this.module.prototypeWeakWrapper();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the cost of singleton bean accessors compared to a plain field read, with a single thread and under multi-threaded contention.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingletonAccessorBenchmark {
+
+	private AccessorModule module;
+	
+	private AccessorModule.Service field;
+	
+	@Setup
+	public void setup() {
+		this.module = new AccessorModule();
+		this.module.start();
+		this.field = this.module.singleton();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		this.module.stop();
+	}
+	
+	@Benchmark
+	public AccessorModule.Service field() {
+		return this.field;
+	}
+	
+	@Benchmark
+	public AccessorModule.Service singleton() {
+		return this.module.singleton();
+	}
+	
+	@Benchmark
+	public AccessorModule.Service singletonWrapper() {
+		return this.module.singletonWrapper();
+	}
+	
+	@Benchmark
+	@Threads(Threads.MAX)
+	public AccessorModule.Service field_contended() {
+		return this.field;
+	}
+	
+	@Benchmark
+	@Threads(Threads.MAX)
+	public AccessorModule.Service singleton_contended() {
+		return this.module.singleton();
+	}
+	
+	@Benchmark
+	@Threads(Threads.MAX)
+	public AccessorModule.Service singletonWrapper_contended() {
+		return this.module.singletonWrapper();
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoTestCompiler;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.net.MalformedURLException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Writes synthetic Inverno module sources and compiles them with the Inverno compiler so that benchmarks run against actual generated module classes.
+ * </p>
+ *
+ * <p>
+ * Sources, generated sources and compiled modules are written to a dedicated directory per benchmark under {@value #PROPERTY_WORK_DIR} ({@code target/inverno-benchmark} by default). The Inverno core
+ * runtime and compiler are resolved from the {@value #PROPERTY_DEPENDENCIES} directory ({@code target/inverno-benchmark/dependencies} by default) which is populated during the Maven build.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+public class SyntheticModuleCompiler {
+	
+	public static final String PROPERTY_WORK_DIR = "inverno.benchmark.workDir";
+	public static final String PROPERTY_DEPENDENCIES = "inverno.benchmark.dependencies";
+
+	private static final Path DEFAULT_WORK_DIR = Path.of("target/inverno-benchmark");
+	private static final Path DEFAULT_DEPENDENCIES = DEFAULT_WORK_DIR.resolve("dependencies");
+	
+	private final Path moduleSourcePath;
+	private final Path generatedSourcePath;
+	private final Path moduleTargetPath;
+	private final Path dependenciesPath;
+	private final Map<String, String> compilerOptions;
+
+	/**
+	 * <p>
+	 * Creates a synthetic module compiler.
+	 * </p>
+	 *
+	 * @param benchmark the name of the benchmark used to isolate its sources and compiled modules
+	 */
+	public SyntheticModuleCompiler(String benchmark) {
+		Path workDir = Path.of(System.getProperty(PROPERTY_WORK_DIR, DEFAULT_WORK_DIR.toString())).resolve(benchmark);
+		this.moduleSourcePath = workDir.resolve("mods-src");
+		this.generatedSourcePath = workDir.resolve("generated-sources");
+		this.moduleTargetPath = workDir.resolve("mods");
+		this.dependenciesPath = Path.of(System.getProperty(PROPERTY_DEPENDENCIES, DEFAULT_DEPENDENCIES.toString()));
+		this.compilerOptions = new HashMap<>();
+		
+		deleteDir(workDir);
+	}
+	
+	/**
+	 * <p>
+	 * Sets an Inverno compiler option used when compiling modules.
+	 * </p>
+	 *
+	 * @param name  the name of the option (e.g. {@code inverno.switchBeanFactories})
+	 * @param value the value of the option
+	 *
+	 * @return this compiler
+	 */
+	public SyntheticModuleCompiler option(String name, String value) {
+		this.compilerOptions.put(name, value);
+		return this;
+	}
+	
+	/**
+	 * <p>
+	 * Writes a source file in the specified module.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module
+	 * @param fileName   the path to the file relative to the module source directory (e.g. {@code io/inverno/benchmark/Bean.java})
+	 * @param content    the content of the source file
+	 *
+	 * @return this compiler
+	 */
+	public SyntheticModuleCompiler source(String moduleName, String fileName, CharSequence content) {
+		try {
+			Path sourceFile = this.moduleSourcePath.resolve(moduleName).resolve(fileName);
+			Files.createDirectories(sourceFile.getParent());
+			Files.writeString(sourceFile, content);
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this;
+	}
+	
+	/**
+	 * <p>
+	 * Writes a bean class in the specified module.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module which is also the name of the package of the bean
+	 * @param className  the simple name of the bean class
+	 * @param content    the class declaration without package declaration
+	 *
+	 * @return this compiler
+	 */
+	public SyntheticModuleCompiler type(String moduleName, String className, CharSequence content) {
+		return this.source(moduleName, moduleName.replace('.', '/') + "/" + className + ".java", "package " + moduleName + ";\n\n" + content);
+	}
+	
+	/**
+	 * <p>
+	 * Writes a benchmark harness in the specified module.
+	 * </p>
+	 *
+	 * <p>
+	 * The harness is a class named {@code BenchmarkHarness} that builds and starts the module when instantiated and exposes the specified public beans as suppliers. Since it is compiled along with
+	 * the module, it invokes the generated bean accessors directly, benchmarks can then measure them without reflection overhead.
+	 * </p>
+	 *
+	 * @param moduleName      the name of the module
+	 * @param moduleClassName the simple name of the generated module class
+	 * @param beans           the names of the public beans to expose
+	 *
+	 * @return this compiler
+	 *
+	 * @see SyntheticModuleHarness
+	 */
+	public SyntheticModuleCompiler harness(String moduleName, String moduleClassName, String... beans) {
+		StringBuilder harness = new StringBuilder();
+		harness.append("public final class BenchmarkHarness implements java.util.function.Function<String, java.util.function.Supplier<?>>, AutoCloseable {\n\n");
+		harness.append("\tprivate final ").append(moduleClassName).append(" module;\n\n");
+		harness.append("\tpublic BenchmarkHarness() {\n");
+		harness.append("\t\tthis.module = new ").append(moduleClassName).append(".Builder().build();\n");
+		harness.append("\t\tthis.module.start();\n");
+		harness.append("\t}\n\n");
+		harness.append("\t@Override\n");
+		harness.append("\tpublic java.util.function.Supplier<?> apply(String bean) {\n");
+		harness.append("\t\treturn switch(bean) {\n");
+		for(String bean : beans) {
+			harness.append("\t\t\tcase \"").append(bean).append("\" -> this.module::").append(bean).append(";\n");
+		}
+		harness.append("\t\t\tdefault -> throw new IllegalArgumentException(\"Unknown bean: \" + bean);\n");
+		harness.append("\t\t};\n");
+		harness.append("\t}\n\n");
+		harness.append("\t@Override\n");
+		harness.append("\tpublic void close() {\n");
+		harness.append("\t\tthis.module.stop();\n");
+		harness.append("\t}\n");
+		harness.append("}\n");
+		return this.type(moduleName, "BenchmarkHarness", harness);
+	}
+	
+	/**
+	 * <p>
+	 * Compiles the specified modules.
+	 * </p>
+	 *
+	 * @param modules the modules to compile
+	 *
+	 * @return a module loader
+	 *
+	 * @throws IllegalStateException if the modules failed to compile
+	 */
+	public InvernoModuleLoader compile(String... modules) throws IllegalStateException {
+		try {
+			return InvernoTestCompiler.builder()
+				.moduleSourcePath(this.moduleSourcePath)
+				.generatedSourcePath(this.generatedSourcePath)
+				.moduleTargetPath(this.moduleTargetPath)
+				.modulePaths(Set.of(this.dependenciesPath))
+				.build()
+				.compile(this.compilerOptions, modules);
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		catch(InvernoCompilationException e) {
+			throw new IllegalStateException("Error compiling synthetic modules", e);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Loads previously compiled modules in a new module layer.
+	 * </p>
+	 *
+	 * <p>
+	 * Module classes, including Inverno core runtime classes, are loaded by a new class loader, this allows benchmarks to measure cold module startup including class loading and linkage.
+	 * </p>
+	 *
+	 * @param modules the modules to load
+	 *
+	 * @return a module loader
+	 */
+	public InvernoModuleLoader load(String... modules) {
+		try {
+			return new InvernoModuleLoader(List.of(this.moduleTargetPath, this.dependenciesPath), Set.of(modules), List.of());
+		}
+		catch(MalformedURLException e) {
+			throw new IllegalStateException("Error loading synthetic modules", e);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Deletes generated sources and compiled modules so that the next compilation starts from scratch.
+	 * </p>
+	 *
+	 * @return this compiler
+	 */
+	public SyntheticModuleCompiler clean() {
+		deleteDir(this.generatedSourcePath);
+		deleteDir(this.moduleTargetPath);
+		return this;
+	}
+	
+	/**
+	 * <p>
+	 * Instantiates a class defined in a compiled module using its no-arg constructor.
+	 * </p>
+	 *
+	 * @param moduleLoader the module loader
+	 * @param moduleName   the name of the module defining the class
+	 * @param className    the canonical name of the class
+	 *
+	 * @return a new instance
+	 */
+	public static Object newInstance(InvernoModuleLoader moduleLoader, String moduleName, String className) {
+		try {
+			return moduleLoader.loadClass(moduleName, className).getConstructor().newInstance();
+		}
+		catch(ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+			throw new IllegalStateException("Error instantiating " + className, e);
+		}
+	}
+	
+	private static void deleteDir(Path path) {
+		if(Files.exists(path)) {
+			try(Stream<Path> walk = Files.walk(path)) {
+				walk.sorted(Comparator.reverseOrder()).forEach(p -> {
+					try {
+						Files.delete(p);
+					}
+					catch(IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+			catch(IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
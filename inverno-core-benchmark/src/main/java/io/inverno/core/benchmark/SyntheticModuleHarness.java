@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import io.inverno.test.InvernoModuleLoader;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Gives access to the beans of a started synthetic module through the harness generated by {@link SyntheticModuleCompiler#harness(String, String, String...)}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ */
+public class SyntheticModuleHarness implements AutoCloseable {
+
+	private final Function<String, Supplier<?>> harness;
+
+	/**
+	 * <p>
+	 * Builds and starts the specified synthetic module.
+	 * </p>
+	 *
+	 * @param moduleLoader the module loader
+	 * @param moduleName   the name of the module
+	 */
+	@SuppressWarnings("unchecked")
+	public SyntheticModuleHarness(InvernoModuleLoader moduleLoader, String moduleName) {
+		this.harness = (Function<String, Supplier<?>>)SyntheticModuleCompiler.newInstance(moduleLoader, moduleName, moduleName + ".BenchmarkHarness");
+	}
+	
+	/**
+	 * <p>
+	 * Returns a supplier invoking the accessor of the specified bean on the module.
+	 * </p>
+	 *
+	 * @param bean the name of the bean
+	 *
+	 * @return a bean supplier
+	 */
+	public Supplier<?> accessor(String bean) {
+		return this.harness.apply(bean);
+	}
+	
+	/**
+	 * <p>
+	 * Stops the module.
+	 * </p>
+	 */
+	@Override
+	public void close() throws Exception {
+		((AutoCloseable)this.harness).close();
+	}
+}
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import io.inverno.core.compiler.module.BeanPruningMode;
 import io.inverno.core.compiler.spi.CompilerOptions;
 
 /**
@@ -30,6 +31,14 @@ public class GenericCompilerOptions implements CompilerOptions {
 	public static final String DEBUG = "inverno.debug";
 	public static final String VERBOSE = "inverno.verbose";
 	public static final String GENERATE_DESCRIPTOR = "inverno.generateDescriptor";
+	public static final String LAZY_BEANS = "inverno.lazyBeans";
+	public static final String INCREMENTAL = "inverno.incremental";
+	public static final String PROFILE = "inverno.profile";
+	public static final String MODULE_CHUNK_SIZE = "inverno.moduleChunkSize";
+	public static final String SWITCH_BEAN_FACTORIES = "inverno.switchBeanFactories";
+	public static final String PRUNE_BEANS = "inverno.pruneBeans";
+	
+	public static final int DEFAULT_MODULE_CHUNK_SIZE = 100;
 	
 	private final Predicate<String> nameFilter;
 	private final Map<String, String> processingEnvOptions;
@@ -37,6 +46,12 @@ public class GenericCompilerOptions implements CompilerOptions {
 	private final boolean debug;
 	private final boolean verbose;
 	private final boolean generateModuleDescriptor;
+	private final boolean lazyBeans;
+	private final boolean incremental;
+	private final boolean profile;
+	private final int moduleChunkSize;
+	private final boolean switchBeanFactories;
+	private final BeanPruningMode beanPruningMode;
 	
 	public GenericCompilerOptions(Map<String, String> processingEnvOptions) {
 		this.processingEnvOptions = processingEnvOptions;
@@ -44,6 +59,12 @@ public class GenericCompilerOptions implements CompilerOptions {
 		this.debug = processingEnvOptions.containsKey(DEBUG) && (processingEnvOptions.get(DEBUG) == null || Boolean.parseBoolean(processingEnvOptions.get(DEBUG)));
 		this.verbose = processingEnvOptions.containsKey(VERBOSE) && (processingEnvOptions.get(VERBOSE) == null || Boolean.parseBoolean(processingEnvOptions.get(VERBOSE)));
 		this.generateModuleDescriptor = processingEnvOptions.containsKey(GENERATE_DESCRIPTOR) && (processingEnvOptions.get(GENERATE_DESCRIPTOR) == null || Boolean.parseBoolean(processingEnvOptions.get(GENERATE_DESCRIPTOR)));
+		this.lazyBeans = processingEnvOptions.containsKey(LAZY_BEANS) && (processingEnvOptions.get(LAZY_BEANS) == null || Boolean.parseBoolean(processingEnvOptions.get(LAZY_BEANS)));
+		this.incremental = processingEnvOptions.containsKey(INCREMENTAL) && (processingEnvOptions.get(INCREMENTAL) == null || Boolean.parseBoolean(processingEnvOptions.get(INCREMENTAL)));
+		this.profile = processingEnvOptions.containsKey(PROFILE) && (processingEnvOptions.get(PROFILE) == null || Boolean.parseBoolean(processingEnvOptions.get(PROFILE)));
+		this.moduleChunkSize = parseInt(processingEnvOptions.get(MODULE_CHUNK_SIZE), DEFAULT_MODULE_CHUNK_SIZE);
+		this.switchBeanFactories = processingEnvOptions.containsKey(SWITCH_BEAN_FACTORIES) && (processingEnvOptions.get(SWITCH_BEAN_FACTORIES) == null || Boolean.parseBoolean(processingEnvOptions.get(SWITCH_BEAN_FACTORIES)));
+		this.beanPruningMode = parseBeanPruningMode(processingEnvOptions);
 	}
 	
 	private GenericCompilerOptions(GenericCompilerOptions parentOptions, Predicate<String> nameFilter) {
@@ -52,6 +73,38 @@ public class GenericCompilerOptions implements CompilerOptions {
 		this.debug = parentOptions.debug;
 		this.verbose = parentOptions.verbose;
 		this.generateModuleDescriptor = parentOptions.generateModuleDescriptor;
+		this.lazyBeans = parentOptions.lazyBeans;
+		this.incremental = parentOptions.incremental;
+		this.profile = parentOptions.profile;
+		this.moduleChunkSize = parentOptions.moduleChunkSize;
+		this.switchBeanFactories = parentOptions.switchBeanFactories;
+		this.beanPruningMode = parentOptions.beanPruningMode;
+	}
+	
+	private static int parseInt(String value, int defaultValue) {
+		if(value == null) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(value.trim());
+		}
+		catch(NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+	
+	private static BeanPruningMode parseBeanPruningMode(Map<String, String> processingEnvOptions) {
+		if(!processingEnvOptions.containsKey(PRUNE_BEANS)) {
+			return BeanPruningMode.DISABLED;
+		}
+		String value = processingEnvOptions.get(PRUNE_BEANS);
+		if(value == null || Boolean.parseBoolean(value)) {
+			return BeanPruningMode.PRUNE;
+		}
+		else if(value.trim().equalsIgnoreCase("report")) {
+			return BeanPruningMode.REPORT;
+		}
+		return BeanPruningMode.DISABLED;
 	}
 	
 	public GenericCompilerOptions withFilter(Predicate<String> namefilter) {
@@ -71,6 +124,30 @@ public class GenericCompilerOptions implements CompilerOptions {
 	public boolean isGenerateModuleDescriptor() {
 		return generateModuleDescriptor;
 	}
+	
+	public boolean isLazyBeans() {
+		return lazyBeans;
+	}
+	
+	public boolean isIncremental() {
+		return incremental;
+	}
+	
+	public boolean isProfile() {
+		return profile;
+	}
+	
+	public int getModuleChunkSize() {
+		return moduleChunkSize;
+	}
+	
+	public boolean isSwitchBeanFactories() {
+		return switchBeanFactories;
+	}
+	
+	public BeanPruningMode getBeanPruningMode() {
+		return beanPruningMode;
+	}
 
 	@Override
 	public boolean containsOption(String name) {
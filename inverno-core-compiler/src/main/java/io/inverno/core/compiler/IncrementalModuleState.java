@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.compiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import io.inverno.core.compiler.module.ModuleIndex;
+import io.inverno.core.compiler.spi.ModuleInfo;
+import io.inverno.core.compiler.spi.support.SourceFragments;
+
+/**
+ * <p>
+ * Persists the state of generated modules between compilations in order to avoid regenerating and recompiling module classes whose inputs did not change.
+ * </p>
+ *
+ * <p>
+ * The state of a module is a fingerprint of the generated module class which results from the module bean and wiring model, it is stored in the class output next to the module descriptor. A module
+ * is considered up to date when the fingerprint of the module class to generate is equal to the stored fingerprint and the module class compiled during a previous compilation and its index are still
+ * present in the class output.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+class IncrementalModuleState {
+
+	private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final Pattern GENERATED_DATE = Pattern.compile(", date = \"[^\"]*\"");
+
+	private final ProcessingEnvironment processingEnvironment;
+
+	/**
+	 * <p>
+	 * Creates an incremental module state.
+	 * </p>
+	 *
+	 * @param processingEnvironment the processing environment
+	 */
+	public IncrementalModuleState(ProcessingEnvironment processingEnvironment) {
+		this.processingEnvironment = processingEnvironment;
+	}
+
+	/**
+	 * <p>
+	 * Computes the fingerprint of a module class.
+	 * </p>
+	 *
+	 * <p>
+	 * The generation date specified in the {@code @Generated} annotation is ignored. The module class is digested fragment by fragment and never concatenated.
+	 * </p>
+	 *
+	 * @param moduleClass the source fragments of the module class
+	 *
+	 * @return a fingerprint
+	 */
+	public String fingerprint(SourceFragments moduleClass) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+			digest.update(Integer.toString(InvernoCompiler.VERSION).getBytes(StandardCharsets.UTF_8));
+			
+			CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			boolean dateFound = false;
+			for(CharSequence fragment : moduleClass) {
+				Matcher dateMatcher = GENERATED_DATE.matcher(fragment);
+				if(!dateFound && dateMatcher.find()) {
+					dateFound = true;
+					update(digest, encoder, buffer, fragment, 0, dateMatcher.start());
+					update(digest, encoder, buffer, fragment, dateMatcher.end(), fragment.length());
+				}
+				else {
+					update(digest, encoder, buffer, fragment, 0, fragment.length());
+				}
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		}
+		catch(NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static void update(MessageDigest digest, CharsetEncoder encoder, ByteBuffer buffer, CharSequence source, int start, int end) {
+		CharBuffer input = CharBuffer.wrap(source, start, end);
+		encoder.reset();
+		CoderResult result;
+		do {
+			result = encoder.encode(input, buffer, true);
+			if(result.isUnderflow()) {
+				encoder.flush(buffer);
+			}
+			buffer.flip();
+			digest.update(buffer);
+			buffer.clear();
+		} while(result.isOverflow());
+	}
+
+	/**
+	 * <p>
+	 * Determines whether the specified module is up to date.
+	 * </p>
+	 *
+	 * @param moduleInfo         the module
+	 * @param fingerprint        the fingerprint of the module class to generate
+	 * @param requiresDescriptor true to require the module descriptor generated during a previous compilation
+	 *
+	 * @return true if the module class compiled during a previous compilation can be kept, false otherwise
+	 */
+	public boolean isUpToDate(ModuleInfo moduleInfo, String fingerprint, boolean requiresDescriptor) {
+		String moduleName = moduleInfo.getQualifiedName().getValue();
+		String moduleClassPath = moduleInfo.getQualifiedName().getClassName().replace('.', '/') + ".class";
+		try {
+			if(!this.exists(moduleName, moduleClassPath) || !this.exists(moduleName, ModuleIndex.getIndexPath(moduleName)) || (requiresDescriptor && !this.exists(moduleName, "META-INF/inverno/core/" + moduleName + "/module.yml"))) {
+				return false;
+			}
+			return fingerprint.equals(this.read(moduleName, getFingerprintPath(moduleName)));
+		}
+		catch(IOException e) {
+			// No previous state
+			return false;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Stores the fingerprint of the module class generated for the specified module.
+	 * </p>
+	 *
+	 * @param moduleInfo          the module
+	 * @param fingerprint         the fingerprint of the generated module class
+	 * @param originatingElements the module originating elements
+	 *
+	 * @throws IOException if there was an error writing the state
+	 */
+	public void update(ModuleInfo moduleInfo, String fingerprint, Element[] originatingElements) throws IOException {
+		String moduleName = moduleInfo.getQualifiedName().getValue();
+		FileObject fingerprintFile;
+		try {
+			// module oriented
+			fingerprintFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, moduleName + "/", getFingerprintPath(moduleName), originatingElements);
+		}
+		catch (FilerException e) {
+			// not module oriented after all
+			fingerprintFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", getFingerprintPath(moduleName), originatingElements);
+		}
+		try (Writer writer = fingerprintFile.openWriter()) {
+			writer.write(fingerprint);
+			writer.flush();
+		}
+	}
+
+	private boolean exists(String moduleName, String path) {
+		try {
+			// Opening the resource is the only reliable way to determine whether it exists whatever the file manager
+			this.getResource(moduleName, path).openInputStream().close();
+			return true;
+		}
+		catch(IOException e) {
+			return false;
+		}
+	}
+
+	private String read(String moduleName, String path) throws IOException {
+		return this.getResource(moduleName, path).getCharContent(true).toString();
+	}
+
+	private FileObject getResource(String moduleName, String path) throws IOException {
+		try {
+			// module oriented
+			return this.processingEnvironment.getFiler().getResource(StandardLocation.CLASS_OUTPUT, moduleName + "/", path);
+		}
+		catch (FilerException | IllegalArgumentException e) {
+			// not module oriented after all
+			return this.processingEnvironment.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
+		}
+	}
+
+	private static String getFingerprintPath(String moduleName) {
+		return "META-INF/inverno/core/" + moduleName + "/module.sha256";
+	}
+}
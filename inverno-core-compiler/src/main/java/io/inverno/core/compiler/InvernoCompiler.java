@@ -20,8 +20,12 @@ import io.inverno.core.annotation.Module;
 import io.inverno.core.annotation.NestedBean;
 import io.inverno.core.compiler.bean.BeanCompilationException;
 import io.inverno.core.compiler.bean.ModuleBeanInfoFactory;
+import io.inverno.core.compiler.module.ModuleIndex;
 import io.inverno.core.compiler.module.ModuleInfoBuilderFactory;
 import io.inverno.core.compiler.module.ModuleMetadataExtractor;
+import io.inverno.core.compiler.profiler.CompilationProfiler;
+import io.inverno.core.compiler.profiler.CompilationProfiler.Measurement;
+import io.inverno.core.compiler.profiler.CompilationProfiler.Phase;
 import io.inverno.core.compiler.socket.SocketBeanInfoFactory;
 import io.inverno.core.compiler.socket.SocketCompilationException;
 import io.inverno.core.compiler.spi.ModuleBeanInfo;
@@ -30,6 +34,7 @@ import io.inverno.core.compiler.spi.SocketBeanInfo;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -67,12 +72,13 @@ import javax.tools.Diagnostic.Kind;
  */
 //@SupportedAnnotationTypes({"io.inverno.core.annotation/io.inverno.core.annotation.Module","io.inverno.core.annotation/io.inverno.core.annotation.Bean"})
 @SupportedAnnotationTypes({"io.inverno.core.annotation.Module","io.inverno.core.annotation.Bean"})
-@SupportedOptions({GenericCompilerOptions.DEBUG, GenericCompilerOptions.VERBOSE, GenericCompilerOptions.GENERATE_DESCRIPTOR})
+@SupportedOptions({GenericCompilerOptions.DEBUG, GenericCompilerOptions.VERBOSE, GenericCompilerOptions.GENERATE_DESCRIPTOR, GenericCompilerOptions.LAZY_BEANS, GenericCompilerOptions.INCREMENTAL, GenericCompilerOptions.PROFILE, GenericCompilerOptions.MODULE_CHUNK_SIZE, GenericCompilerOptions.SWITCH_BEAN_FACTORIES, GenericCompilerOptions.PRUNE_BEANS})
 public class InvernoCompiler extends AbstractProcessor {
 
 	public static final int VERSION = 1;
 	
 	private GenericCompilerOptions compilerOptions;
+	private CompilationProfiler profiler;
 	private ModuleGenerator moduleGenerator;
 	
 	private Map<String, SocketBeanInfoFactory> socketFactories = new TreeMap<>(Collections.reverseOrder());
@@ -82,7 +88,8 @@ public class InvernoCompiler extends AbstractProcessor {
 	public synchronized void init(ProcessingEnvironment processingEnv) {
 		super.init(processingEnv);
 		this.compilerOptions = new GenericCompilerOptions(processingEnv.getOptions());
-		this.moduleGenerator = new ModuleGenerator(processingEnv, this.compilerOptions);
+		this.profiler = new CompilationProfiler(this.compilerOptions.isProfile());
+		this.moduleGenerator = new ModuleGenerator(processingEnv, this.compilerOptions, this.profiler);
 		
 		this.socketFactories = new TreeMap<>(Collections.reverseOrder());
 		this.beanFactories = new TreeMap<>(Collections.reverseOrder());
@@ -103,7 +110,7 @@ public class InvernoCompiler extends AbstractProcessor {
 		return Stream.concat(super.getSupportedOptions().stream(), this.moduleGenerator.getPluginsExecutor().getPlugins().stream().filter(plugin -> plugin.getSupportedOptions() != null).flatMap(plugin -> plugin.getSupportedOptions().stream())).collect(Collectors.toSet());
 	}
 	
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "unchecked", "try" })
 	@Override
 	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
 		this.processingEnv.getElementUtils().getTypeElement(NestedBean.class.getCanonicalName()).asType();
@@ -119,10 +126,10 @@ public class InvernoCompiler extends AbstractProcessor {
 				.map(moduleElement -> {
 					String moduleName = moduleElement.getQualifiedName().toString();
 					
-					ModuleInfoBuilder moduleInfoBuilder = ModuleInfoBuilderFactory.createModuleBuilder(this.processingEnv, moduleElement);
+					ModuleInfoBuilder moduleInfoBuilder = ModuleInfoBuilderFactory.createModuleBuilder(this.processingEnv, moduleElement, this.profiler, this.compilerOptions.getBeanPruningMode());
 					moduleOriginatingElements.put(moduleName, new HashSet<>(List.of(moduleElement)));
 					
-					this.beanFactories.put(moduleName, ModuleBeanInfoFactory.create(this.processingEnv, moduleElement));
+					this.beanFactories.put(moduleName, ModuleBeanInfoFactory.create(this.processingEnv, moduleElement, this.compilerOptions.isLazyBeans()));
 					this.socketFactories.put(moduleName, SocketBeanInfoFactory.create(this.processingEnv, moduleElement));
 					
 					return moduleInfoBuilder;
@@ -144,7 +151,7 @@ public class InvernoCompiler extends AbstractProcessor {
 					}
 					ModuleBeanInfoFactory beanFactory = this.beanFactories.get(moduleName);
 					ModuleBeanInfo moduleBean;
-					try {
+					try(Measurement measurement = this.profiler.start(moduleName, Phase.BEAN_EXTRACTION)) {
 						moduleBean = beanFactory.createBean(element);
 					}
 					catch (BeanCompilationException e) {
@@ -182,7 +189,7 @@ public class InvernoCompiler extends AbstractProcessor {
 					}
 					SocketBeanInfoFactory socketFactory = this.socketFactories.get(moduleName);
 					SocketBeanInfo moduleSocket;
-					try {
+					try(Measurement measurement = this.profiler.start(moduleName, Phase.BEAN_EXTRACTION)) {
 						moduleSocket = socketFactory.createSocketBean(element);
 					}
 					catch (SocketCompilationException e) {
@@ -246,7 +253,15 @@ public class InvernoCompiler extends AbstractProcessor {
 			)
 			.putOriginatingElements(moduleOriginatingElements);
 			
-		this.moduleGenerator.generateNextRound(roundEnv);
+		try {
+			this.moduleGenerator.generateNextRound(roundEnv);
+		}
+		finally {
+			if(roundEnv.processingOver()) {
+				// No more plugins will be executed
+				this.moduleGenerator.getPluginsExecutor().shutdown();
+			}
+		}
 		return true;
 	}
 	
@@ -270,10 +285,16 @@ public class InvernoCompiler extends AbstractProcessor {
 		}
 		ModuleInfoBuilder componentModuleBuilder = ModuleInfoBuilderFactory.createModuleBuilder(this.processingEnv, moduleElement, componentModuleElement, 1);
 		
-		SocketBeanInfoFactory componentModuleSocketFactory = SocketBeanInfoFactory.create(this.processingEnv, moduleElement, componentModuleElement, 1);
+		ExecutableElement moduleConstructor = (ExecutableElement)moduleType.getEnclosedElements().stream()
+			.filter(e -> e.getKind().equals(ElementKind.CONSTRUCTOR)).findFirst().get();
+		Map<String, ExecutableElement> moduleAccessors = moduleType.getEnclosedElements().stream()
+			.filter(element -> element.getKind().equals(ElementKind.METHOD) && ((ExecutableElement)element).getParameters().isEmpty())
+			.collect(Collectors.toMap(element -> element.getSimpleName().toString(), element -> (ExecutableElement)element, (e1, e2) -> e1, LinkedHashMap::new));
+		ModuleIndex moduleIndex = this.getComponentModuleIndex(componentModuleElement, moduleType, moduleConstructor, moduleAccessors);
+		
+		SocketBeanInfoFactory componentModuleSocketFactory = SocketBeanInfoFactory.create(this.processingEnv, moduleElement, componentModuleElement, moduleIndex, 1);
 	
-		List<? extends SocketBeanInfo> componentModuleSockets = ((ExecutableElement)moduleType.getEnclosedElements().stream()
-			.filter(e -> e.getKind().equals(ElementKind.CONSTRUCTOR)).findFirst().get())
+		List<? extends SocketBeanInfo> componentModuleSockets = moduleConstructor
 			.getParameters().stream()
 			.map(ve -> {
 				try {
@@ -287,9 +308,16 @@ public class InvernoCompiler extends AbstractProcessor {
 
 		componentModuleBuilder.sockets(componentModuleSockets.stream().toArray(SocketBeanInfo[]::new));
 
+		Stream<ExecutableElement> componentModuleBeanElements;
+		if(moduleIndex != null) {
+			componentModuleBeanElements = moduleIndex.getBeans().stream().map(indexedBean -> moduleAccessors.get(indexedBean.getName()));
+		}
+		else {
+			componentModuleBeanElements = moduleAccessors.values().stream().filter(element -> element.getModifiers().contains(Modifier.PUBLIC) && !element.getModifiers().contains(Modifier.STATIC));
+		}
+		
 		ModuleBeanInfoFactory componentModuleBeanFactory = ModuleBeanInfoFactory.create(this.processingEnv, moduleElement, componentModuleElement, () -> componentModuleSockets, 1);
-		List<? extends ModuleBeanInfo> componentModuleBeans = moduleType.getEnclosedElements().stream()
-			.filter(element -> element.getKind().equals(ElementKind.METHOD) && element.getModifiers().contains(Modifier.PUBLIC) && !element.getModifiers().contains(Modifier.STATIC) && ((ExecutableElement)element).getParameters().isEmpty())
+		List<? extends ModuleBeanInfo> componentModuleBeans = componentModuleBeanElements
 			.map(element -> {
 				try {
 					return componentModuleBeanFactory.createBean(element);
@@ -312,4 +340,39 @@ public class InvernoCompiler extends AbstractProcessor {
 	
 		return componentModuleBuilder;
 	}
+	
+	/**
+	 * <p>
+	 * Returns the index generated with the module class of a binary component module.
+	 * </p>
+	 * 
+	 * <p>
+	 * An index is only returned when it is consistent with the module class: the module class name, the number of sockets and the name and type of each public bean must match.
+	 * </p>
+	 * 
+	 * @param componentModuleElement the component module element
+	 * @param moduleType             the module class
+	 * @param moduleConstructor      the module class constructor
+	 * @param moduleAccessors        the no-argument methods of the module class indexed by name
+	 * 
+	 * @return the module index or null if the component module provides no index or an inconsistent index
+	 */
+	private ModuleIndex getComponentModuleIndex(ModuleElement componentModuleElement, TypeElement moduleType, ExecutableElement moduleConstructor, Map<String, ExecutableElement> moduleAccessors) {
+		ModuleIndex moduleIndex = ModuleIndex.load(this.processingEnv, componentModuleElement.getQualifiedName().toString()).orElse(null);
+		if(moduleIndex == null 
+			|| !moduleIndex.getClassName().equals(moduleType.getQualifiedName().toString()) 
+			|| moduleIndex.getSockets().size() != moduleConstructor.getParameters().size()) {
+			return null;
+		}
+		for(ModuleIndex.Bean indexedBean : moduleIndex.getBeans()) {
+			ExecutableElement accessor = moduleAccessors.get(indexedBean.getName());
+			if(accessor == null || !accessor.getModifiers().contains(Modifier.PUBLIC) || !indexedBean.getType().equals(ModuleIndex.erasure(this.processingEnv, accessor.getReturnType()))) {
+				return null;
+			}
+		}
+		if(this.compilerOptions.isVerbose()) {
+			System.out.println("Using index of component module " + moduleIndex.getModuleName());
+		}
+		return moduleIndex;
+	}
 }
@@ -15,8 +15,11 @@
  */
 package io.inverno.core.compiler;
 
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
@@ -25,6 +28,7 @@ import io.inverno.core.compiler.spi.ModuleQualifiedName;
 import io.inverno.core.compiler.spi.MultiSocketType;
 import io.inverno.core.compiler.spi.support.AbstractSourceGenerationContext;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +49,7 @@ class ModuleClassGenerationContext extends AbstractSourceGenerationContext<Modul
 		MODULE_LINKER_CLASS,
 		BEAN_FIELD,
 		BEAN_NEW,
+		BEAN_DEPENDENCIES,
 		BEAN_ACCESSOR,
 		BEAN_REFERENCE,
 		BEAN_OPTIONAL_REFERENCE,
@@ -53,6 +58,10 @@ class ModuleClassGenerationContext extends AbstractSourceGenerationContext<Modul
 		SOCKET_ASSIGNMENT,
 		SOCKET_INJECTOR,
 		SOCKET_SUPPLIER,
+		CHUNK_SOCKET_PARAMETER,
+		CHUNK_SOCKET_ARGUMENT,
+		MODULE_SOCKET_FIELD,
+		MODULE_SOCKET_ASSIGNMENT,
 		COMPONENT_MODULE_FIELD,
 		COMPONENT_MODULE_NEW,
 		COMPONENT_MODULE_BEAN_REFERENCE
@@ -67,17 +76,21 @@ class ModuleClassGenerationContext extends AbstractSourceGenerationContext<Modul
 	private final String setTypeName;
 	private final String npeTypeName;
 	
+	private String moduleReference;
+	private BeanFactory beanFactory;
+	
 	public ModuleClassGenerationContext(Types typeUtils, Elements elementUtils, GenerationMode mode) {
 		super(typeUtils, elementUtils, mode);
 
-		this.supplierType = this.typeUtils.erasure(this.elementUtils.getTypeElement(Supplier.class.getCanonicalName()).asType());
-		this.optionalTypeName = this.getTypeName(this.typeUtils.erasure(this.elementUtils.getTypeElement(Optional.class.getCanonicalName()).asType()));
+		this.supplierType = this.getErasedType(Supplier.class.getCanonicalName());
+		this.optionalTypeName = this.getTypeName(this.getErasedType(Optional.class.getCanonicalName()));
 		this.supplierTypeName = this.getTypeName(this.supplierType);
-		this.mapTypeName = this.getTypeName(this.typeUtils.erasure(this.elementUtils.getTypeElement(Map.class.getCanonicalName()).asType()));
-		this.collectionTypeName = this.getTypeName(this.typeUtils.erasure(this.elementUtils.getTypeElement(Collection.class.getCanonicalName()).asType()));
-		this.listTypeName = this.getTypeName(this.typeUtils.erasure(this.elementUtils.getTypeElement(List.class.getCanonicalName()).asType()));
-		this.setTypeName = this.getTypeName(this.typeUtils.erasure(this.elementUtils.getTypeElement(Set.class.getCanonicalName()).asType()));
-		this.npeTypeName = this.getTypeName(this.elementUtils.getTypeElement(NullPointerException.class.getCanonicalName()).asType());
+		this.mapTypeName = this.getTypeName(this.getErasedType(Map.class.getCanonicalName()));
+		this.collectionTypeName = this.getTypeName(this.getErasedType(Collection.class.getCanonicalName()));
+		this.listTypeName = this.getTypeName(this.getErasedType(List.class.getCanonicalName()));
+		this.setTypeName = this.getTypeName(this.getErasedType(Set.class.getCanonicalName()));
+		this.npeTypeName = this.getTypeName(this.getTypeElement(NullPointerException.class.getCanonicalName()).asType());
+		this.moduleReference = "this";
 	}
 	
 	private ModuleClassGenerationContext(ModuleClassGenerationContext parentGeneration) {
@@ -91,6 +104,8 @@ class ModuleClassGenerationContext extends AbstractSourceGenerationContext<Modul
 		this.listTypeName = parentGeneration.listTypeName;
 		this.setTypeName = parentGeneration.setTypeName;
 		this.npeTypeName = parentGeneration.npeTypeName;
+		this.moduleReference = parentGeneration.moduleReference;
+		this.beanFactory = parentGeneration.beanFactory;
 	}
 	
 	@Override
@@ -114,16 +129,28 @@ class ModuleClassGenerationContext extends AbstractSourceGenerationContext<Modul
 		return context;
 	}
 	
+	public ModuleClassGenerationContext withModuleReference(String moduleReference) {
+		ModuleClassGenerationContext context = new ModuleClassGenerationContext(this);
+		context.moduleReference = moduleReference;
+		return context;
+	}
+	
+	public ModuleClassGenerationContext withBeanFactory(BeanFactory beanFactory) {
+		ModuleClassGenerationContext context = new ModuleClassGenerationContext(this);
+		context.beanFactory = beanFactory;
+		return context;
+	}
+	
 	public String getMultiTypeName(TypeMirror type, MultiSocketType multiType) {
 		switch (multiType) {
 			case ARRAY:
 				return this.getTypeName(this.getTypeUtils().getArrayType(type));
 			case COLLECTION:
-				return this.getTypeName(this.getTypeUtils().getDeclaredType(this.getElementUtils().getTypeElement(Collection.class.getCanonicalName()), type));
+				return this.getTypeName(this.getDeclaredType(Collection.class.getCanonicalName(), type));
 			case LIST:
-				return this.getTypeName(this.getTypeUtils().getDeclaredType(this.getElementUtils().getTypeElement(List.class.getCanonicalName()), type));
+				return this.getTypeName(this.getDeclaredType(List.class.getCanonicalName(), type));
 			case SET:
-				return this.getTypeName(this.getTypeUtils().getDeclaredType(this.getElementUtils().getTypeElement(Set.class.getCanonicalName()), type));
+				return this.getTypeName(this.getDeclaredType(Set.class.getCanonicalName(), type));
 			default:
 				break;
 		}
@@ -142,6 +169,10 @@ class ModuleClassGenerationContext extends AbstractSourceGenerationContext<Modul
 		return this.supplierTypeName;
 	}
 	
+	public boolean isAsynchronous(ExecutableElement method) {
+		return method.getReturnType().getKind() == TypeKind.DECLARED && this.typeUtils.isAssignable(this.typeUtils.erasure(method.getReturnType()), this.getErasedType(CompletionStage.class.getCanonicalName()));
+	}
+	
 	public String getMapTypeName() {
 		return this.mapTypeName;
 	}
@@ -161,4 +192,56 @@ class ModuleClassGenerationContext extends AbstractSourceGenerationContext<Modul
 	public String getNpeTypeName() {
 		return this.npeTypeName;
 	}
+	
+	public String getModuleReference() {
+		return this.moduleReference;
+	}
+	
+	public BeanFactory getBeanFactory() {
+		return this.beanFactory;
+	}
+	
+	/**
+	 * <p>
+	 * Collects the bean instantiation, initialization and destruction code of the beans of a module which are generated in a single switch-based bean factory class instead of lambdas.
+	 * </p>
+	 * 
+	 * <p>
+	 * Each piece of code is identified by an id which is used to create the bean factory instance and to select the code to execute in the switch.
+	 * </p>
+	 * 
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 */
+	public static class BeanFactory {
+		
+		private final Map<Integer, StringBuilder> suppliers = new LinkedHashMap<>();
+		private final Map<Integer, StringBuilder> consumers = new LinkedHashMap<>();
+		
+		private int nextId;
+		
+		public int addSupplier(StringBuilder supplier) {
+			int id = this.nextId++;
+			this.suppliers.put(id, supplier);
+			return id;
+		}
+		
+		public int addConsumer(StringBuilder consumer) {
+			int id = this.nextId++;
+			this.consumers.put(id, consumer);
+			return id;
+		}
+		
+		public Map<Integer, StringBuilder> getSuppliers() {
+			return this.suppliers;
+		}
+		
+		public Map<Integer, StringBuilder> getConsumers() {
+			return this.consumers;
+		}
+		
+		public boolean isEmpty() {
+			return this.nextId == 0;
+		}
+	}
 }
@@ -18,6 +18,7 @@ package io.inverno.core.compiler;
 import io.inverno.core.annotation.Bean;
 import io.inverno.core.compiler.ModuleClassGenerationContext.GenerationMode;
 import io.inverno.core.compiler.spi.BeanInfo;
+import io.inverno.core.compiler.spi.BeanSocketQualifiedName;
 import io.inverno.core.compiler.spi.ModuleBeanInfo;
 import io.inverno.core.compiler.spi.ModuleBeanMultiSocketInfo;
 import io.inverno.core.compiler.spi.ModuleBeanSingleSocketInfo;
@@ -26,20 +27,27 @@ import io.inverno.core.compiler.spi.ModuleInfo;
 import io.inverno.core.compiler.spi.ModuleInfoVisitor;
 import io.inverno.core.compiler.spi.MultiSocketBeanInfo;
 import io.inverno.core.compiler.spi.MultiSocketInfo;
+import io.inverno.core.compiler.spi.MultiSocketType;
 import io.inverno.core.compiler.spi.MutatorBeanInfo;
 import io.inverno.core.compiler.spi.NestedBeanInfo;
 import io.inverno.core.compiler.spi.OverridableBeanInfo;
 import io.inverno.core.compiler.spi.OverridingSocketBeanInfo;
+import io.inverno.core.compiler.spi.PoolInfo;
 import io.inverno.core.compiler.spi.SingleSocketBeanInfo;
 import io.inverno.core.compiler.spi.SingleSocketInfo;
 import io.inverno.core.compiler.spi.SocketBeanInfo;
 import io.inverno.core.compiler.spi.SocketInfo;
 import io.inverno.core.compiler.spi.WrapperBeanInfo;
+import io.inverno.core.compiler.spi.support.SourceFragments;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.WildcardType;
@@ -64,106 +72,272 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 	private static final String INVERNO_CORE_MODULE_BEANAGGREGATOR_CLASS = INVERNO_CORE_PACKAGE + ".Module.BeanAggregator";
 	private static final String INVERNO_CORE_MODULE_SOCKET_ANNOTATION = INVERNO_CORE_PACKAGE + ".Module.Socket";
 	
-	@Override
-	public StringBuilder visit(ModuleInfo moduleInfo, ModuleClassGenerationContext context) {
+	private static final String CHUNK_CLASS_PREFIX = "BeanChunk";
+	private static final String BEAN_FACTORY_CLASS = "BeanFactory";
+	
+	private final int moduleChunkSize;
+	private final boolean switchBeanFactories;
+	
+	/**
+	 * <p>
+	 * Creates a module class generator.
+	 * </p>
+	 * 
+	 * <p>
+	 * The registrations of the beans of a module defining more beans than the specified chunk size are partitioned into inner classes of at most chunk size beans in order for the generated module
+	 * class to stay under the JVM method size and constant pool limits. Beans are still registered in the same order.
+	 * </p>
+	 * 
+	 * <p>
+	 * Beans are instantiated, initialized and destroyed in lambdas and method references unless switch bean factories are enabled, in which case the corresponding code is generated in a single
+	 * bean factory class per module class or per chunk in order to avoid the linkage of one lambda per bean and per init or destroy method at startup.
+	 * </p>
+	 * 
+	 * @param moduleChunkSize     the maximum number of beans registered in a single method or a value lower or equal to 0 to never partition registrations
+	 * @param switchBeanFactories true to generate switch-based bean factories, false to generate lambdas
+	 */
+	public ModuleClassGenerator(int moduleChunkSize, boolean switchBeanFactories) {
+		this.moduleChunkSize = moduleChunkSize;
+		this.switchBeanFactories = switchBeanFactories;
+	}
+	
+	/**
+	 * <p>
+	 * Generates the module class of the specified module.
+	 * </p>
+	 * 
+	 * <p>
+	 * The module class is returned as source fragments which can be written to a source file without concatenating the whole module class in memory first.
+	 * </p>
+	 * 
+	 * @param moduleInfo the module
+	 * @param context    a generation context in {@link GenerationMode#MODULE_CLASS} mode
+	 * 
+	 * @return the module class source fragments
+	 */
+	public SourceFragments generate(ModuleInfo moduleInfo, ModuleClassGenerationContext context) {
 		String className = moduleInfo.getQualifiedName().getClassName();
 		String packageName = className.lastIndexOf(".") != -1 ? className.substring(0, className.lastIndexOf(".")) : "";
 		className = className.substring(packageName.length() + 1);
 		
-		if(context.getMode() == GenerationMode.MODULE_CLASS) {
-			TypeMirror generatedType = context.getElementUtils().getTypeElement(context.getElementUtils().getModuleElement("java.compiler"), "javax.annotation.processing.Generated").asType();
-			TypeMirror moduleType = context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_CLASS).asType();
+		TypeMirror generatedType = context.getElementUtils().getTypeElement(context.getElementUtils().getModuleElement("java.compiler"), "javax.annotation.processing.Generated").asType();
+		TypeMirror moduleType = context.getTypeElement(INVERNO_CORE_MODULE_CLASS).asType();
 
-			context.addImport(className, moduleInfo.getQualifiedName().getClassName());
-			context.addImport("Builder", moduleInfo.getQualifiedName().getClassName() + ".Builder");
-			
-			// Fields
-			StringBuilder module_field_beans = Arrays.stream(moduleInfo.getBeans())
-				.filter(moduleBeanInfo -> !(moduleBeanInfo instanceof MutatorBeanInfo) || ((MutatorBeanInfo)moduleBeanInfo).getMutatingSocket().isWired())
-				.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_FIELD)))
+		context.addImport(className, moduleInfo.getQualifiedName().getClassName());
+		context.addImport("Builder", moduleInfo.getQualifiedName().getClassName() + ".Builder");
+		
+		List<ModuleBeanInfo> moduleBeans = Arrays.stream(moduleInfo.getBeans())
+			.filter(moduleBeanInfo -> !(moduleBeanInfo instanceof MutatorBeanInfo) || ((MutatorBeanInfo)moduleBeanInfo).getMutatingSocket().isWired())
+			.collect(Collectors.toList());
+		int chunkCount = this.moduleChunkSize > 0 && moduleBeans.size() > this.moduleChunkSize ? (moduleBeans.size() + this.moduleChunkSize - 1) / this.moduleChunkSize : 0;
+		for(int i=0;i<chunkCount;i++) {
+			context.addImport(CHUNK_CLASS_PREFIX + i, moduleInfo.getQualifiedName().getClassName() + "." + CHUNK_CLASS_PREFIX + i);
+		}
+		if(this.switchBeanFactories) {
+			context.addImport(BEAN_FACTORY_CLASS, moduleInfo.getQualifiedName().getClassName() + "." + BEAN_FACTORY_CLASS);
+		}
+		
+		// Fields
+		StringBuilder module_field_beans = Arrays.stream(moduleInfo.getBeans())
+			.filter(moduleBeanInfo -> !(moduleBeanInfo instanceof MutatorBeanInfo) || ((MutatorBeanInfo)moduleBeanInfo).getMutatingSocket().isWired())
+			.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_FIELD)))
+			.collect(context.joining(System.lineSeparator()));
+		StringBuilder module_field_modules = Arrays.stream(moduleInfo.getModules())
+			.map(componentModuleInfo -> this.visit(componentModuleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.COMPONENT_MODULE_FIELD)))
+			.collect(context.joining(System.lineSeparator()));
+		
+		// Bean factories can't access constructor parameters, sockets must then be stored in fields
+		StringBuilder module_field_sockets = new StringBuilder();
+		StringBuilder module_constructor_sockets = new StringBuilder();
+		if(this.switchBeanFactories) {
+			module_field_sockets = Arrays.stream(moduleInfo.getSockets()) 
+				.filter(socketInfo -> socketInfo.isWired() && !(socketInfo instanceof OverridingSocketBeanInfo))
+				.map(socketInfo -> this.visit(socketInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.MODULE_SOCKET_FIELD)))
 				.collect(context.joining(System.lineSeparator()));
-			StringBuilder module_field_modules = Arrays.stream(moduleInfo.getModules())
-				.map(componentModuleInfo -> this.visit(componentModuleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.COMPONENT_MODULE_FIELD)))
+			module_constructor_sockets = Arrays.stream(moduleInfo.getSockets()) 
+				.filter(socketInfo -> socketInfo.isWired() && !(socketInfo instanceof OverridingSocketBeanInfo))
+				.map(socketInfo -> this.visit(socketInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.MODULE_SOCKET_ASSIGNMENT)))
 				.collect(context.joining(System.lineSeparator()));
+		}
+		
+		StringBuilder module_constructor_parameters = Arrays.stream(moduleInfo.getSockets()) 
+			.filter(socketInfo -> socketInfo.isWired())
+			.map(socketInfo -> new StringBuilder().append(context.indent(3)).append(this.visit(socketInfo , context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.SOCKET_PARAMETER))))
+			.collect(context.joining("," + System.lineSeparator()));
+		
+		StringBuilder module_constructor_modules = Arrays.stream(moduleInfo.getModules())
+			.map(componentModuleInfo -> this.visit(componentModuleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.COMPONENT_MODULE_NEW)))
+			.collect(context.joining(System.lineSeparator()));
+		
+		StringBuilder module_constructor_beans;
+		StringBuilder module_constructor_dependencies;
+		SourceFragments module_chunks = new SourceFragments();
+		if(chunkCount > 0) {
+			// Bean registrations are partitioned into inner classes in order to keep the module constructor under the JVM method size limit and the bean factories out of the module class constant pool
+			ModuleClassGenerationContext chunkContext = context.withModule(moduleInfo.getQualifiedName()).withModuleReference(className + ".this").withIndentDepth(1);
 			
-			StringBuilder module_constructor_parameters = Arrays.stream(moduleInfo.getSockets()) 
+			StringBuilder chunk_parameters = Arrays.stream(moduleInfo.getSockets()) 
 				.filter(socketInfo -> socketInfo.isWired())
-				.map(socketInfo -> new StringBuilder().append(context.indent(3)).append(this.visit(socketInfo , context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.SOCKET_PARAMETER))))
+				.map(socketInfo -> new StringBuilder().append(context.indent(4)).append(this.visit(socketInfo, chunkContext.withMode(GenerationMode.CHUNK_SOCKET_PARAMETER))))
 				.collect(context.joining("," + System.lineSeparator()));
 			
-			StringBuilder module_constructor_modules = Arrays.stream(moduleInfo.getModules())
-				.map(componentModuleInfo -> this.visit(componentModuleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.COMPONENT_MODULE_NEW)))
-				.collect(context.joining(System.lineSeparator()));
+			StringBuilder chunk_arguments = Arrays.stream(moduleInfo.getSockets()) 
+				.filter(socketInfo -> socketInfo.isWired())
+				.map(socketInfo -> this.visit(socketInfo, chunkContext.withMode(GenerationMode.CHUNK_SOCKET_ARGUMENT)))
+				.collect(context.joining(", "));
 			
-			StringBuilder module_constructor_beans = Arrays.stream(moduleInfo.getBeans())
-				.filter(moduleBeanInfo -> !(moduleBeanInfo instanceof MutatorBeanInfo) || ((MutatorBeanInfo)moduleBeanInfo).getMutatingSocket().isWired())
-				.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_NEW)))
+			module_constructor_beans = new StringBuilder();
+			module_constructor_dependencies = new StringBuilder();
+			for(int i=0;i<chunkCount;i++) {
+				String chunkClassName = CHUNK_CLASS_PREFIX + i;
+				List<ModuleBeanInfo> chunkBeans = moduleBeans.subList(i * this.moduleChunkSize, Math.min((i + 1) * this.moduleChunkSize, moduleBeans.size()));
+				
+				ModuleClassGenerationContext.BeanFactory chunkBeanFactory = this.switchBeanFactories ? new ModuleClassGenerationContext.BeanFactory() : null;
+				StringBuilder chunk_beans = chunkBeans.stream()
+					.map(moduleBeanInfo -> this.visit(moduleBeanInfo, chunkContext.withBeanFactory(chunkBeanFactory).withMode(GenerationMode.BEAN_NEW)))
+					.collect(context.joining(System.lineSeparator()));
+				
+				StringBuilder chunk_dependencies = chunkBeans.stream()
+					.map(moduleBeanInfo -> this.visit(moduleBeanInfo, chunkContext.withMode(GenerationMode.BEAN_DEPENDENCIES)))
+					.collect(context.joining(System.lineSeparator()));
+				
+				if(i > 0) {
+					module_constructor_beans.append(System.lineSeparator());
+					module_constructor_dependencies.append(System.lineSeparator());
+					module_chunks.append(System.lineSeparator()).append(System.lineSeparator());
+				}
+				module_constructor_beans.append(context.indent(2)).append("new ").append(chunkClassName).append("().beans(").append(chunk_arguments).append(");");
+				module_constructor_dependencies.append(context.indent(2)).append("new ").append(chunkClassName).append("().dependencies();");
+				
+				module_chunks.append(context.indent(1)).append("private final class ").append(chunkClassName).append(" {").append(System.lineSeparator()).append(System.lineSeparator());
+				module_chunks.append(context.indent(2)).append("private void beans(");
+				if(chunk_parameters.length() > 0) {
+					module_chunks.append(System.lineSeparator()).append(chunk_parameters).append(System.lineSeparator()).append(context.indent(3));
+				}
+				module_chunks.append(") {").append(System.lineSeparator());
+				module_chunks.append(chunk_beans).append(System.lineSeparator());
+				module_chunks.append(context.indent(2)).append("}").append(System.lineSeparator()).append(System.lineSeparator());
+				module_chunks.append(context.indent(2)).append("private void dependencies() {").append(System.lineSeparator());
+				module_chunks.append(chunk_dependencies).append(System.lineSeparator());
+				module_chunks.append(context.indent(2)).append("}").append(System.lineSeparator());
+				if(chunkBeanFactory != null && !chunkBeanFactory.isEmpty()) {
+					module_chunks.append(System.lineSeparator()).append(this.generateBeanFactory(chunkBeanFactory, chunkContext)).append(System.lineSeparator());
+				}
+				module_chunks.append(context.indent(1)).append("}");
+			}
+		}
+		else {
+			ModuleClassGenerationContext.BeanFactory beanFactory = this.switchBeanFactories ? new ModuleClassGenerationContext.BeanFactory() : null;
+			module_constructor_beans = moduleBeans.stream()
+				.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withBeanFactory(beanFactory).withMode(GenerationMode.BEAN_NEW)))
 				.collect(context.joining(System.lineSeparator()));
+			if(beanFactory != null && !beanFactory.isEmpty()) {
+				module_chunks.append(this.generateBeanFactory(beanFactory, context));
+			}
 			
-			StringBuilder module_method_beans = Arrays.stream(moduleInfo.getBeans())
-				.filter(moduleBeanInfo -> !(moduleBeanInfo instanceof MutatorBeanInfo) || ((MutatorBeanInfo)moduleBeanInfo).getMutatingSocket().isWired())
-				.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_ACCESSOR)))
+			module_constructor_dependencies = moduleBeans.stream()
+				.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_DEPENDENCIES)))
 				.collect(context.joining(System.lineSeparator()));
-			
-			StringBuilder module_builder = this.visit(moduleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.MODULE_BUILDER_CLASS));
-			StringBuilder module_linker = this.visit(moduleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.MODULE_LINKER_CLASS));
-			
-			StringBuilder moduleClass = new StringBuilder();
+		}
+		
+		StringBuilder module_method_beans = Arrays.stream(moduleInfo.getBeans())
+			.filter(moduleBeanInfo -> !(moduleBeanInfo instanceof MutatorBeanInfo) || ((MutatorBeanInfo)moduleBeanInfo).getMutatingSocket().isWired())
+			.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_ACCESSOR)))
+			.collect(context.joining(System.lineSeparator()));
+		
+		StringBuilder module_builder = this.visit(moduleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.MODULE_BUILDER_CLASS));
+		StringBuilder module_linker = this.visit(moduleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.MODULE_LINKER_CLASS));
+		
+		StringBuilder moduleHeader = new StringBuilder();
 
-			if(!packageName.equals("")) {
-				moduleClass.append("package ").append(packageName).append(";").append(System.lineSeparator()).append(System.lineSeparator());
-			}
-			
-			context.removeImport(className);
-			context.removeImport("Builder");
-			context.removeImport("ModuleBuilder");
-			context.removeImport("ModuleLinker");
-			context.removeImport("Bean");
-			context.removeImport("WrapperBeanBuilder");
-			context.removeImport("ModuleBeanBuilder");
-			context.removeImport("BeanAggregator");
-			context.removeImport("Socket");
-			
-			context.getTypeName(generatedType);
-			context.getTypeName(moduleType);
-			
-			moduleClass.append(context.getImports().stream().sorted().filter(i -> !i.startsWith("java.lang") && i.lastIndexOf(".") > 0 && !i.substring(0, i.lastIndexOf(".")).equals(packageName)).map(i -> new StringBuilder().append("import ").append(i).append(";")).collect(context.joining(System.lineSeparator()))).append(System.lineSeparator()).append(System.lineSeparator());
+		if(!packageName.equals("")) {
+			moduleHeader.append("package ").append(packageName).append(";").append(System.lineSeparator()).append(System.lineSeparator());
+		}
+		
+		context.removeImport(className);
+		context.removeImport("Builder");
+		context.removeImport("ModuleBuilder");
+		context.removeImport("ModuleLinker");
+		context.removeImport("Bean");
+		context.removeImport("WrapperBeanBuilder");
+		context.removeImport("ModuleBeanBuilder");
+		context.removeImport("BeanAggregator");
+		context.removeImport("Socket");
+		for(int i=0;i<chunkCount;i++) {
+			context.removeImport(CHUNK_CLASS_PREFIX + i);
+		}
+		if(this.switchBeanFactories) {
+			context.removeImport(BEAN_FACTORY_CLASS);
+		}
+		
+		context.getTypeName(generatedType);
+		context.getTypeName(moduleType);
+		
+		moduleHeader.append(context.getImports().stream().sorted().filter(i -> !i.startsWith("java.lang") && i.lastIndexOf(".") > 0 && !i.substring(0, i.lastIndexOf(".")).equals(packageName)).map(i -> new StringBuilder().append("import ").append(i).append(";")).collect(context.joining(System.lineSeparator()))).append(System.lineSeparator()).append(System.lineSeparator());
 
-			moduleClass.append("@").append(context.getTypeName(generatedType)).append("(value= {\"").append(InvernoCompiler.class.getCanonicalName()).append("\", \"").append(moduleInfo.getVersion()).append("\"}, date = \"").append(ZonedDateTime.now().toString()).append("\")").append(System.lineSeparator());
-			moduleClass.append("public final class ").append(className).append(" extends ").append(context.getTypeName(moduleType)).append(" {").append(System.lineSeparator()).append(System.lineSeparator());
+		moduleHeader.append("@").append(context.getTypeName(generatedType)).append("(value= {\"").append(InvernoCompiler.class.getCanonicalName()).append("\", \"").append(moduleInfo.getVersion()).append("\"}, date = \"").append(ZonedDateTime.now().toString()).append("\")").append(System.lineSeparator());
+		moduleHeader.append("public final class ").append(className).append(" extends ").append(context.getTypeName(moduleType)).append(" {").append(System.lineSeparator()).append(System.lineSeparator());
 
-			if(module_field_modules.length() > 0) {
-				moduleClass.append(module_field_modules).append(System.lineSeparator()).append(System.lineSeparator());
-			}
-			if(module_field_beans.length() > 0) {
-				moduleClass.append(module_field_beans).append(System.lineSeparator()).append(System.lineSeparator());
-			}
-			
-			moduleClass.append(context.indent(1)).append("private ").append(className).append("(").append(System.lineSeparator()).append(module_constructor_parameters).append(System.lineSeparator()).append(context.indent(2)).append(") {").append(System.lineSeparator());
-			moduleClass.append(context.indent(2)).append("super(\"").append(moduleInfo.getQualifiedName().getValue()).append("\");").append(System.lineSeparator());
-			
-			if(module_constructor_modules.length() > 0) {
-				moduleClass.append(System.lineSeparator()).append(module_constructor_modules).append(System.lineSeparator());
-			}
-			if(module_constructor_beans.length() > 0) {
-				moduleClass.append(System.lineSeparator()).append(module_constructor_beans).append(System.lineSeparator());
-			}
-			
-			moduleClass.append(context.indent(1)).append("}").append(System.lineSeparator());
-			
-			if(module_method_beans.length() > 0) {
-				moduleClass.append(System.lineSeparator()).append(module_method_beans).append(System.lineSeparator());
-			}
-			
-			moduleClass.append(module_builder).append(System.lineSeparator()).append(System.lineSeparator());
-			moduleClass.append(module_linker);
-			
-			moduleClass.append(System.lineSeparator()).append("}").append(System.lineSeparator());
-			
+		// Large parts are not copied, the module class is written fragment by fragment
+		SourceFragments moduleClass = new SourceFragments().append(moduleHeader);
+
+		if(module_field_modules.length() > 0) {
+			moduleClass.append(module_field_modules).append(System.lineSeparator()).append(System.lineSeparator());
+		}
+		if(module_field_beans.length() > 0) {
+			moduleClass.append(module_field_beans).append(System.lineSeparator()).append(System.lineSeparator());
+		}
+		if(module_field_sockets.length() > 0) {
+			moduleClass.append(module_field_sockets).append(System.lineSeparator()).append(System.lineSeparator());
+		}
+		
+		moduleClass.append(context.indent(1)).append("private ").append(className).append("(").append(System.lineSeparator()).append(module_constructor_parameters).append(System.lineSeparator()).append(context.indent(2)).append(") {").append(System.lineSeparator());
+		moduleClass.append(context.indent(2)).append("super(\"").append(moduleInfo.getQualifiedName().getValue()).append("\");").append(System.lineSeparator());
+		
+		if(module_constructor_sockets.length() > 0) {
+			moduleClass.append(System.lineSeparator()).append(module_constructor_sockets).append(System.lineSeparator());
+		}
+		if(module_constructor_modules.length() > 0) {
+			moduleClass.append(System.lineSeparator()).append(module_constructor_modules).append(System.lineSeparator());
+		}
+		if(module_constructor_beans.length() > 0) {
+			moduleClass.append(System.lineSeparator()).append(module_constructor_beans).append(System.lineSeparator());
+		}
+		if(module_constructor_dependencies.length() > 0) {
+			moduleClass.append(System.lineSeparator()).append(module_constructor_dependencies).append(System.lineSeparator());
+		}
+		
+		moduleClass.append(context.indent(1)).append("}").append(System.lineSeparator());
+		
+		if(module_method_beans.length() > 0) {
+			moduleClass.append(System.lineSeparator()).append(module_method_beans).append(System.lineSeparator());
+		}
+		
+		if(module_chunks.length() > 0) {
+			moduleClass.append(module_chunks).append(System.lineSeparator()).append(System.lineSeparator());
+		}
+		
+		moduleClass.append(module_builder).append(System.lineSeparator()).append(System.lineSeparator());
+		moduleClass.append(module_linker);
+		
+		moduleClass.append(System.lineSeparator()).append("}").append(System.lineSeparator());
+		
+		return moduleClass;
+	}
+	
+	@Override
+	public StringBuilder visit(ModuleInfo moduleInfo, ModuleClassGenerationContext context) {
+		String className = moduleInfo.getQualifiedName().getClassName();
+		String packageName = className.lastIndexOf(".") != -1 ? className.substring(0, className.lastIndexOf(".")) : "";
+		className = className.substring(packageName.length() + 1);
+		
+		if(context.getMode() == GenerationMode.MODULE_CLASS) {
+			StringBuilder moduleClass = new StringBuilder();
+			this.generate(moduleInfo, context).forEach(moduleClass::append);
 			return moduleClass;
 		}
 		else if(context.getMode() == GenerationMode.MODULE_BUILDER_CLASS) {
-			TypeMirror moduleBuilderType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_MODULEBUILDER_CLASS).asType());
+			TypeMirror moduleBuilderType = context.getErasedType(INVERNO_CORE_MODULE_MODULEBUILDER_CLASS);
 			
 			StringBuilder module_builder_fields = Arrays.stream(moduleInfo.getSockets()) 
 				.filter(socketInfo -> socketInfo.isWired())
@@ -223,7 +397,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			return moduleBuilderClass;
 		}
 		else if(context.getMode() == GenerationMode.MODULE_LINKER_CLASS) {
-			TypeMirror moduleLinkerType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_LINKER_CLASS).asType());
+			TypeMirror moduleLinkerType = context.getErasedType(INVERNO_CORE_MODULE_LINKER_CLASS);
 			
 			StringBuilder linker_module_args = Arrays.stream(moduleInfo.getSockets())
 				.filter(socketInfo -> socketInfo.isWired())
@@ -260,7 +434,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			return linkerClass;
 		}
 		else if(context.getMode() == GenerationMode.COMPONENT_MODULE_NEW) {
-			TypeMirror componentModuleType = context.getElementUtils().getTypeElement(moduleInfo.getQualifiedName().getClassName()).asType();
+			TypeMirror componentModuleType = context.getTypeElement(moduleInfo.getQualifiedName().getClassName()).asType();
 
 			StringBuilder component_module_arguments = Arrays.stream(moduleInfo.getSockets())
 				.filter(socketInfo -> socketInfo.isWired())
@@ -286,7 +460,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			return moduleNew;
 		}
 		else if(context.getMode() == GenerationMode.COMPONENT_MODULE_FIELD) {
-			TypeMirror componentModuleType = context.getElementUtils().getTypeElement(moduleInfo.getQualifiedName().getClassName()).asType();
+			TypeMirror componentModuleType = context.getTypeElement(moduleInfo.getQualifiedName().getClassName()).asType();
 			return new StringBuilder().append(context.indent(1)).append("private ").append(context.getTypeName(componentModuleType)).append(" ").append(context.getFieldName(moduleInfo.getQualifiedName())).append(";");
 		}
 		return null;
@@ -319,19 +493,35 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 		if(context.getMode() == GenerationMode.BEAN_FIELD) {
 			TypeMirror beanType = moduleBeanInfo instanceof OverridableBeanInfo && moduleBeanInfo.getProvidedType() != null ? moduleBeanInfo.getProvidedType() : moduleBeanInfo.getType();
 			if(moduleBeanInfo instanceof MutatorBeanInfo && ((MutatorBeanInfo)moduleBeanInfo).getMutatingSocket().isOptional()) {
-				beanType = context.getTypeUtils().getDeclaredType(context.getElementUtils().getTypeElement(Optional.class.getCanonicalName()), beanType);
+				beanType = context.getDeclaredType(Optional.class.getCanonicalName(), beanType);
+			}
+			else {
+				TypeElement handleElement = this.getHandleElement(moduleBeanInfo);
+				if(handleElement != null) {
+					beanType = context.getTypeUtils().getDeclaredType(handleElement, beanType);
+				}
 			}
-			TypeMirror moduleBeanType = context.getTypeUtils().getDeclaredType(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_BEAN_CLASS), beanType);
+			TypeMirror moduleBeanType = context.getDeclaredType(INVERNO_CORE_MODULE_BEAN_CLASS, beanType);
 			return new StringBuilder().append(context.indent(1)).append("private ").append(context.getTypeName(moduleBeanType)).append(" ").append(context.getFieldName(moduleBeanInfo.getQualifiedName())).append(";");
 		}
 		else if(context.getMode() == GenerationMode.BEAN_ACCESSOR) {
 			StringBuilder beanAccessor = new StringBuilder();
 			TypeMirror beanType = moduleBeanInfo.getProvidedType() != null ? moduleBeanInfo.getProvidedType() : moduleBeanInfo.getType();
 			if(moduleBeanInfo instanceof MutatorBeanInfo && ((MutatorBeanInfo)moduleBeanInfo).getMutatingSocket().isOptional()) {
-				beanType = context.getTypeUtils().getDeclaredType(context.getElementUtils().getTypeElement(Optional.class.getCanonicalName()), beanType);
+				beanType = context.getDeclaredType(Optional.class.getCanonicalName(), beanType);
+			}
+			// The handle of a pooled or thread bean providing a type other than its actual type must be cast to the handle of the provided type which is safe since a handle only produces instances
+			TypeElement handleElement = this.getHandleElement(moduleBeanInfo);
+			boolean handleCast = handleElement != null && !context.getTypeUtils().isSameType(beanType, context.getTypeUtils().getDeclaredType(handleElement, moduleBeanInfo.getType()));
+			if(handleCast) {
+				beanAccessor.append(context.indent(1)).append("@SuppressWarnings(\"unchecked\")").append(System.lineSeparator());
 			}
 			beanAccessor.append(context.indent(1)).append(moduleBeanInfo.getVisibility().equals(Bean.Visibility.PUBLIC) ? "public " : "private ").append(context.getTypeName(beanType)).append(" ").append(moduleBeanInfo.getQualifiedName().normalize()).append("() {").append(System.lineSeparator());
-			beanAccessor.append(context.indent(2)).append("return this.").append(context.getFieldName(moduleBeanInfo.getQualifiedName())).append(".get()").append(";").append(System.lineSeparator());
+			beanAccessor.append(context.indent(2)).append("return ");
+			if(handleCast) {
+				beanAccessor.append("(").append(context.getTypeName(beanType)).append(")(").append(context.getTypeName(context.getTypeUtils().erasure(beanType))).append("<?>)");
+			}
+			beanAccessor.append("this.").append(context.getFieldName(moduleBeanInfo.getQualifiedName())).append(".get()").append(";").append(System.lineSeparator());
 			beanAccessor.append(context.indent(1)).append("}").append(System.lineSeparator());
 			
 			return beanAccessor;
@@ -353,35 +543,49 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 				TypeMirror beanBuilderType;
 				if(moduleBeanInfo instanceof WrapperBeanInfo) {
 					beanType = ((WrapperBeanInfo)moduleBeanInfo).getWrapperType();
-					beanBuilderType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_WRAPPERBEANBUILDER_CLASS).asType());
+					beanBuilderType = context.getErasedType(INVERNO_CORE_MODULE_WRAPPERBEANBUILDER_CLASS);
 				}
 				else if(moduleBeanInfo instanceof MutatorBeanInfo) {
 					variable.append("_mutator");
 					beanType = ((MutatorBeanInfo)moduleBeanInfo).getMutatorType();
-					beanBuilderType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_MODULEBEANBUILDER_CLASS).asType());
+					beanBuilderType = context.getErasedType(INVERNO_CORE_MODULE_MODULEBEANBUILDER_CLASS);
 				}
 				else {
 					beanType = moduleBeanInfo.getType();
-					beanBuilderType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_MODULEBEANBUILDER_CLASS).asType());
+					beanBuilderType = context.getErasedType(INVERNO_CORE_MODULE_MODULEBEANBUILDER_CLASS);
 				}
 				
-				StringBuilder beanNew = new StringBuilder().append(context.indent(2)).append("this.").append(context.getFieldName(moduleBeanInfo.getQualifiedName())).append(" = this.with(").append(context.getTypeName(beanBuilderType)).append(System.lineSeparator());
+				StringBuilder beanNew = new StringBuilder().append(context.indent(2)).append(context.getModuleReference()).append(".").append(context.getFieldName(moduleBeanInfo.getQualifiedName())).append(" = ").append(context.getModuleReference()).append(".with(").append(context.getTypeName(beanBuilderType)).append(System.lineSeparator());
 				
 				switch (moduleBeanInfo.getStrategy()) {
 					case SINGLETON:
-						beanNew.append(context.indent(3)).append(".singleton(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", () -> {").append(System.lineSeparator());
+						beanNew.append(context.indent(3)).append(moduleBeanInfo.isLazy() ? ".lazySingleton(\"" : ".singleton(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", ");
 						break;
 					case PROTOTYPE:
-						beanNew.append(context.indent(3)).append(".prototype(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", () -> {").append(System.lineSeparator());
+						beanNew.append(context.indent(3)).append(".prototype(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", ");
+						break;
+					case CLEANABLE_PROTOTYPE:
+						beanNew.append(context.indent(3)).append(".cleanablePrototype(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", ");
+						break;
+					case POOLED:
+						PoolInfo poolInfo = moduleBeanInfo.getPoolInfo();
+						beanNew.append(context.indent(3)).append(".pooled(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", ").append(poolInfo.getMinSize()).append(", ").append(poolInfo.getMaxSize()).append(", ").append(poolInfo.getIdleTimeout()).append("L, ").append(poolInfo.isOverflow()).append(", ");
+						break;
+					case THREAD:
+						beanNew.append(context.indent(3)).append(".thread(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", ");
 						break;
 					default:
 					throw new IllegalArgumentException("Unkown bean strategy: " + moduleBeanInfo.getStrategy());
 				}
 				
-				beanNew.append(context.indent(4)).append(context.getTypeName(beanType)).append(" ").append(variable).append(" = new ").append(context.getTypeName(beanType)).append("(");
+				// When bean factories are generated in a switch, the factory code is one level deeper (class > method > switch > case) and the module instance must be referenced explicitly
+				String moduleClassName = context.getModule().getClassName();
+				ModuleClassGenerationContext factoryContext = context.getBeanFactory() != null ? context.withIndentDepthAdd(1).withModuleReference(moduleClassName.substring(moduleClassName.lastIndexOf('.') + 1) + ".this") : context;
+				StringBuilder beanFactory = new StringBuilder();
+				beanFactory.append(factoryContext.indent(4)).append(factoryContext.getTypeName(beanType)).append(" ").append(variable).append(" = new ").append(factoryContext.getTypeName(beanType)).append("(");
 				if(moduleBeanInfo.getRequiredSockets().length > 0) {
-					beanNew.append(System.lineSeparator());
-					beanNew.append(Arrays.stream(moduleBeanInfo.getRequiredSockets())
+					beanFactory.append(System.lineSeparator());
+					beanFactory.append(Arrays.stream(moduleBeanInfo.getRequiredSockets())
 						.sorted((ModuleBeanSocketInfo s1, ModuleBeanSocketInfo s2) -> {
 							if(s1.getSocketElement().get() != s2.getSocketElement().get()) {
 								throw new IllegalStateException("Comparing required sockets with different socket elements");
@@ -389,52 +593,99 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 							List<String> orderedDependencyNames = s1.getSocketElement().get().getParameters().stream().map(element -> element.getSimpleName().toString()).collect(Collectors.toList());
 							return orderedDependencyNames.indexOf(s1.getQualifiedName().getSimpleValue()) - orderedDependencyNames.indexOf(s2.getQualifiedName().getSimpleValue());
 						})
-						.map(socketInfo -> new StringBuilder().append(context.indent(5)).append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_REFERENCE).withIndentDepth(5))))
-						.collect(context.joining("," + System.lineSeparator())));
-					beanNew.append(System.lineSeparator()).append(context.indent(4)).append(");").append(System.lineSeparator());
+						.map(socketInfo -> new StringBuilder().append(factoryContext.indent(5)).append(this.visit(socketInfo, factoryContext.withMode(GenerationMode.BEAN_REFERENCE).withIndentDepthAdd(5))))
+						.collect(factoryContext.joining("," + System.lineSeparator())));
+					beanFactory.append(System.lineSeparator()).append(factoryContext.indent(4)).append(");").append(System.lineSeparator());
 				}
 				else {
-					beanNew.append(");").append(System.lineSeparator());
+					beanFactory.append(");").append(System.lineSeparator());
 				}
-				beanNew.append(Arrays.stream(moduleBeanInfo.getOptionalSockets())
+				beanFactory.append(Arrays.stream(moduleBeanInfo.getOptionalSockets())
 					.filter(socketInfo -> socketInfo.isResolved())
 					.map(socketInfo -> {
-						StringBuilder optSocket = new StringBuilder().append(context.indent(4));
+						StringBuilder optSocket = new StringBuilder().append(factoryContext.indent(4));
 						if(socketInfo.isLazy()) {
-							optSocket.append(variable).append(".").append(socketInfo.getSocketElement().get().getSimpleName().toString()).append("(").append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_REFERENCE).withIndentDepth(4))).append(");");
+							optSocket.append(variable).append(".").append(socketInfo.getSocketElement().get().getSimpleName().toString()).append("(").append(this.visit(socketInfo, factoryContext.withMode(GenerationMode.BEAN_REFERENCE).withIndentDepthAdd(4))).append(");");
 						}
 						else {
-							optSocket.append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_OPTIONAL_REFERENCE).withIndentDepth(4))).append(".ifPresent(").append(variable).append("::").append(socketInfo.getSocketElement().get().getSimpleName().toString()).append(");");
+							optSocket.append(this.visit(socketInfo, factoryContext.withMode(GenerationMode.BEAN_OPTIONAL_REFERENCE).withIndentDepthAdd(4))).append(".ifPresent(").append(variable).append("::").append(socketInfo.getSocketElement().get().getSimpleName().toString()).append(");");
 						}
 						return optSocket;
 					})
-					.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
+					.collect(factoryContext.joining(System.lineSeparator()))).append(System.lineSeparator());
 	
-				beanNew.append(context.indent(4)).append("return ");
+				beanFactory.append(factoryContext.indent(4)).append("return ");
+				if(context.getBeanFactory() != null) {
+					beanFactory.append("(T)");
+				}
 				if(moduleBeanInfo instanceof MutatorBeanInfo) {
 					if(((MutatorBeanInfo) moduleBeanInfo).getMutatingSocket().isOptional()) {
-						beanNew.append(this.visit(((MutatorBeanInfo) moduleBeanInfo).getMutatingSocket(), context.withMode(GenerationMode.BEAN_OPTIONAL_REFERENCE))).append(".map(").append(variable).append("::apply)");
+						beanFactory.append(this.visit(((MutatorBeanInfo) moduleBeanInfo).getMutatingSocket(), factoryContext.withMode(GenerationMode.BEAN_OPTIONAL_REFERENCE))).append(".map(").append(variable).append("::apply)");
 					}
 					else {
-						beanNew.append(variable).append(".apply(").append(this.visit(((MutatorBeanInfo) moduleBeanInfo).getMutatingSocket(), context.withMode(GenerationMode.BEAN_REFERENCE))).append(")");
+						beanFactory.append(variable).append(".apply(").append(this.visit(((MutatorBeanInfo) moduleBeanInfo).getMutatingSocket(), factoryContext.withMode(GenerationMode.BEAN_REFERENCE))).append(")");
 					}
 				}
 				else {
-					beanNew.append(variable);
-				}
-				beanNew.append(";").append(System.lineSeparator());
-				beanNew.append(context.indent(3)).append("})").append(System.lineSeparator());
-	
-				if(moduleBeanInfo.getInitElements().length > 0) {
-					beanNew.append(Arrays.stream(moduleBeanInfo.getInitElements())
-						.map(element -> new StringBuilder().append(context.indent(3)).append(".init(").append(context.getTypeName(beanType)).append("::").append(element.getSimpleName().toString()).append(")"))
-						.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
+					beanFactory.append(variable);
 				}
+				beanFactory.append(";").append(System.lineSeparator());
+				
+				if(context.getBeanFactory() != null) {
+					TypeMirror suppliedType;
+					if(moduleBeanInfo instanceof MutatorBeanInfo) {
+						suppliedType = moduleBeanInfo.getType();
+						if(((MutatorBeanInfo) moduleBeanInfo).getMutatingSocket().isOptional()) {
+							suppliedType = context.getDeclaredType(Optional.class.getCanonicalName(), suppliedType);
+						}
+					}
+					else {
+						suppliedType = beanType;
+					}
+					int factoryId = context.getBeanFactory().addSupplier(beanFactory);
+					beanNew.append("new ").append(BEAN_FACTORY_CLASS).append("<").append(context.getTypeName(suppliedType)).append(">(").append(factoryId).append("))").append(System.lineSeparator());
 					
-				if(moduleBeanInfo.getDestroyElements().length > 0) {
-					beanNew.append(Arrays.stream(moduleBeanInfo.getDestroyElements())
-						.map(element -> new StringBuilder().append(context.indent(3)).append(".destroy(").append(context.getTypeName(beanType)).append("::").append(element.getSimpleName().toString()).append(")"))
-						.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
+					if(moduleBeanInfo.getInitElements().length > 0) {
+						beanNew.append(Arrays.stream(moduleBeanInfo.getInitElements())
+							.map(element -> {
+								if(context.isAsynchronous(element)) {
+									// the bean factory only implements synchronous operations
+									return new StringBuilder().append(context.indent(3)).append(".initAsync(").append(context.getTypeName(beanType)).append("::").append(element.getSimpleName().toString()).append(")");
+								}
+								StringBuilder init = new StringBuilder().append(factoryContext.indent(4)).append("((").append(context.getTypeName(beanType)).append(")bean).").append(element.getSimpleName().toString()).append("();").append(System.lineSeparator());
+								return new StringBuilder().append(context.indent(3)).append(".init(new ").append(BEAN_FACTORY_CLASS).append("<>(").append(context.getBeanFactory().addConsumer(init)).append("))");
+							})
+							.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
+					}
+					
+					if(moduleBeanInfo.getDestroyElements().length > 0) {
+						beanNew.append(Arrays.stream(moduleBeanInfo.getDestroyElements())
+							.map(element -> {
+								if(context.isAsynchronous(element)) {
+									return new StringBuilder().append(context.indent(3)).append(".destroyAsync(").append(context.getTypeName(beanType)).append("::").append(element.getSimpleName().toString()).append(")");
+								}
+								StringBuilder destroy = new StringBuilder().append(factoryContext.indent(4)).append("((").append(context.getTypeName(beanType)).append(")bean).").append(element.getSimpleName().toString()).append("();").append(System.lineSeparator());
+								return new StringBuilder().append(context.indent(3)).append(".destroy(new ").append(BEAN_FACTORY_CLASS).append("<>(").append(context.getBeanFactory().addConsumer(destroy)).append("))");
+							})
+							.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
+					}
+				}
+				else {
+					beanNew.append("() -> {").append(System.lineSeparator());
+					beanNew.append(beanFactory);
+					beanNew.append(context.indent(3)).append("})").append(System.lineSeparator());
+		
+					if(moduleBeanInfo.getInitElements().length > 0) {
+						beanNew.append(Arrays.stream(moduleBeanInfo.getInitElements())
+							.map(element -> new StringBuilder().append(context.indent(3)).append(context.isAsynchronous(element) ? ".initAsync(" : ".init(").append(context.getTypeName(beanType)).append("::").append(element.getSimpleName().toString()).append(")"))
+							.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
+					}
+						
+					if(moduleBeanInfo.getDestroyElements().length > 0) {
+						beanNew.append(Arrays.stream(moduleBeanInfo.getDestroyElements())
+							.map(element -> new StringBuilder().append(context.indent(3)).append(context.isAsynchronous(element) ? ".destroyAsync(" : ".destroy(").append(context.getTypeName(beanType)).append("::").append(element.getSimpleName().toString()).append(")"))
+							.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
+					}
 				}
 				
 				beanNew.append(context.indent(2)).append(");");
@@ -442,13 +693,42 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 				return beanNew;
 			}
 		}
+		else if(context.getMode() == GenerationMode.BEAN_DEPENDENCIES) {
+			// Lazy sockets are excluded since the corresponding beans are not required to create the bean
+			Set<String> beanDependencies = new LinkedHashSet<>();
+			Set<String> moduleDependencies = new LinkedHashSet<>();
+			for(ModuleBeanSocketInfo socketInfo : moduleBeanInfo.getSockets()) {
+				if(socketInfo.isResolved() && !socketInfo.isLazy()) {
+					if(socketInfo instanceof SingleSocketInfo) {
+						this.collectDependencies(((SingleSocketInfo)socketInfo).getBean(), context, beanDependencies, moduleDependencies);
+					}
+					else if(socketInfo instanceof MultiSocketInfo) {
+						for(BeanInfo beanInfo : ((MultiSocketInfo)socketInfo).getBeans()) {
+							this.collectDependencies(beanInfo, context, beanDependencies, moduleDependencies);
+						}
+					}
+				}
+			}
+			
+			String moduleReference = context.getModuleReference();
+			String beanField = context.getFieldName(moduleBeanInfo.getQualifiedName());
+			StringBuilder dependencies = new StringBuilder().append(context.indent(2)).append(moduleReference).append(".beanDependencies(").append(moduleReference).append(".").append(beanField);
+			beanDependencies.forEach(dependency -> dependencies.append(", ").append(moduleReference).append(".").append(dependency));
+			dependencies.append(");");
+			if(!moduleDependencies.isEmpty()) {
+				dependencies.append(System.lineSeparator()).append(context.indent(2)).append(moduleReference).append(".moduleDependencies(").append(moduleReference).append(".").append(beanField);
+				moduleDependencies.forEach(dependency -> dependencies.append(", ").append(moduleReference).append(".").append(dependency));
+				dependencies.append(");");
+			}
+			return dependencies;
+		}
 		else if(context.getMode() == GenerationMode.BEAN_REFERENCE) {
 			if(moduleBeanInfo.getQualifiedName().getModuleQName().equals(context.getModule())) {
 				// We can't use bean accessor for internal beans since provided types are ignored inside a module
-				return new StringBuilder().append("this.").append(context.getFieldName(moduleBeanInfo.getQualifiedName())).append(".get()");
+				return new StringBuilder().append(context.getModuleReference()).append(".").append(context.getFieldName(moduleBeanInfo.getQualifiedName())).append(".get()");
 			}
 			else {
-				return new StringBuilder().append("this.").append(context.getFieldName(moduleBeanInfo.getQualifiedName().getModuleQName())).append(".").append(moduleBeanInfo.getQualifiedName().normalize()).append("()");
+				return new StringBuilder().append(context.getModuleReference()).append(".").append(context.getFieldName(moduleBeanInfo.getQualifiedName().getModuleQName())).append(".").append(moduleBeanInfo.getQualifiedName().normalize()).append("()");
 			}
 		}
 		else if(context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE) {
@@ -462,6 +742,74 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 		return new StringBuilder();
 	}
 
+	/**
+	 * <p>
+	 * Collects the beans of the module and the component modules a socket bean resolves to.
+	 * </p>
+	 *
+	 * @param beanInfo           the bean injected in a socket
+	 * @param context            the generation context
+	 * @param beanDependencies   the names of the bean fields the socket depends on
+	 * @param moduleDependencies the names of the component module fields the socket depends on
+	 */
+	private void collectDependencies(BeanInfo beanInfo, ModuleClassGenerationContext context, Set<String> beanDependencies, Set<String> moduleDependencies) {
+		if(beanInfo instanceof NestedBeanInfo) {
+			this.collectDependencies(((NestedBeanInfo)beanInfo).getProvidingBean(), context, beanDependencies, moduleDependencies);
+		}
+		else if(beanInfo instanceof ModuleBeanInfo) {
+			if(beanInfo.getQualifiedName().getModuleQName().equals(context.getModule())) {
+				beanDependencies.add(context.getFieldName(beanInfo.getQualifiedName()));
+			}
+			else {
+				moduleDependencies.add(context.getFieldName(beanInfo.getQualifiedName().getModuleQName()));
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Returns the handle type element of a pooled or thread bean.
+	 * </p>
+	 *
+	 * <p>
+	 * Pooled and thread beans provide a handle (ie. a pool or a thread local bean) of the actual bean type internally and of the provided type externally, an overridable bean uses the handle of
+	 * the provided type in both cases.
+	 * </p>
+	 *
+	 * @param moduleBeanInfo the module bean
+	 *
+	 * @return the handle type element or null if the bean doesn't provide a handle of the actual bean type
+	 */
+	private TypeElement getHandleElement(ModuleBeanInfo moduleBeanInfo) {
+		if(!(moduleBeanInfo instanceof OverridableBeanInfo) && (moduleBeanInfo.getStrategy() == Bean.Strategy.POOLED || moduleBeanInfo.getStrategy() == Bean.Strategy.THREAD)) {
+			return (TypeElement)((DeclaredType)moduleBeanInfo.getProvidedType()).asElement();
+		}
+		return null;
+	}
+	
+	/**
+	 * <p>
+	 * Determines whether the specified bean can't be null when it is injected in a socket.
+	 * </p>
+	 *
+	 * <p>
+	 * Only module beans instantiated inside the module can be guaranteed not null, wrapper beans might supply null instances, mutator and overridable beans might return null and so might nested
+	 * beans, socket beans and beans from component modules.
+	 * </p>
+	 *
+	 * @param beanInfo the bean
+	 * @param context  the generation context
+	 *
+	 * @return true if the bean can't be null, false otherwise
+	 */
+	private boolean isNonNullBean(BeanInfo beanInfo, ModuleClassGenerationContext context) {
+		if(!(beanInfo instanceof ModuleBeanInfo) || beanInfo instanceof MutatorBeanInfo || beanInfo instanceof OverridableBeanInfo || !beanInfo.getQualifiedName().getModuleQName().equals(context.getModule())) {
+			return false;
+		}
+		// Pooled and thread beans always provide a handle even when they are wrapper beans
+		return !(beanInfo instanceof WrapperBeanInfo) || this.getHandleElement((ModuleBeanInfo)beanInfo) != null;
+	}
+	
 	@Override
 	public StringBuilder visit(WrapperBeanInfo moduleWrapperBeanInfo, ModuleClassGenerationContext context) {
 		return this.visit((ModuleBeanInfo)moduleWrapperBeanInfo, context);
@@ -515,10 +863,10 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 				else if(((WildcardType)multiSocketInfo.getType()).getSuperBound() != null) {
 					// TODO if we want to be strict here we should resolve the upper most type based on the beans injected in the socket
 					// but we can simply use Object here, it's not ideal but it works
-					unwildDependencyType = context.getElementUtils().getTypeElement(Object.class.getCanonicalName()).asType();
+					unwildDependencyType = context.getTypeElement(Object.class.getCanonicalName()).asType();
 				}
 				else {
-					unwildDependencyType = context.getElementUtils().getTypeElement(Object.class.getCanonicalName()).asType();
+					unwildDependencyType = context.getTypeElement(Object.class.getCanonicalName()).asType();
 				}
 			}
 			else {
@@ -526,19 +874,58 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			}
 			
 			if(multiSocketInfo.isResolved()) {
-				TypeMirror beanAggregatorType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_BEANAGGREGATOR_CLASS).asType());
-
 				boolean lazy = multiSocketInfo instanceof ModuleBeanMultiSocketInfo && ((ModuleBeanMultiSocketInfo)multiSocketInfo).isLazy();
+				BeanInfo[] beans = multiSocketInfo.getBeans();
+				
+				StringBuilder beanSocketReference = new StringBuilder();
+				
+				// Lazy suppliers and beans instantiated inside the module are never null, the multiple bean can then be created directly without filtering null beans. Sets are always aggregated
+				// since distinct beans might still be equal.
+				boolean direct = Arrays.stream(beans).allMatch(beanInfo -> lazy || this.isNonNullBean(beanInfo, context)) && 
+					((multiSocketInfo.getMultiType() == MultiSocketType.ARRAY && !lazy) || multiSocketInfo.getMultiType() == MultiSocketType.COLLECTION || multiSocketInfo.getMultiType() == MultiSocketType.LIST);
+				if(direct) {
+					if(context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE) {
+						beanSocketReference.append(context.getOptionalTypeName()).append(".of(");
+					}
+					if(multiSocketInfo.getMultiType() == MultiSocketType.ARRAY) {
+						beanSocketReference.append("new ").append(context.getTypeName(unwildDependencyType)).append("[] {").append(System.lineSeparator());
+					}
+					else {
+						beanSocketReference.append(context.getListTypeName()).append(".<");
+						if(lazy) {
+							beanSocketReference.append(context.getSupplierTypeName()).append("<").append(context.getTypeName(unwildDependencyType)).append(">");
+						}
+						else {
+							beanSocketReference.append(context.getTypeName(unwildDependencyType));
+						}
+						beanSocketReference.append(">of(").append(System.lineSeparator());
+					}
+					beanSocketReference.append(Arrays.stream(beans)
+						.map(beanInfo -> {
+							StringBuilder beanRef = new StringBuilder(context.indent(1));
+							if(lazy) {
+								beanRef.append("() -> ");
+							}
+							return beanRef.append(this.visit(beanInfo, context.withMode(GenerationMode.BEAN_REFERENCE)));
+						})
+						.collect(context.joining("," + System.lineSeparator()))).append(System.lineSeparator());
+					beanSocketReference.append(context.indent(0)).append(multiSocketInfo.getMultiType() == MultiSocketType.ARRAY ? "}" : ")");
+					if(context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE) {
+						beanSocketReference.append(")");
+					}
+					return beanSocketReference;
+				}
 				
-				StringBuilder beanSocketReference = new StringBuilder().append("new ").append(context.getTypeName(beanAggregatorType)).append("<");
+				TypeMirror beanAggregatorType = context.getErasedType(INVERNO_CORE_MODULE_BEANAGGREGATOR_CLASS);
+				beanSocketReference.append("new ").append(context.getTypeName(beanAggregatorType)).append("<");
 				if(lazy) {
 					beanSocketReference.append(context.getSupplierTypeName()).append("<").append(context.getTypeName(unwildDependencyType)).append(">");
 				}
 				else {
 					beanSocketReference.append(context.getTypeName(unwildDependencyType));
 				}
-				beanSocketReference.append(">()").append(System.lineSeparator());
-				beanSocketReference.append(Arrays.stream(multiSocketInfo.getBeans())
+				beanSocketReference.append(">(").append(beans.length).append(")").append(System.lineSeparator());
+				beanSocketReference.append(Arrays.stream(beans)
 					.map(beanInfo -> {
 						StringBuilder beanRef = new StringBuilder(context.indent(1)).append(".add(");
 						if(lazy) {
@@ -632,7 +1019,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 		if(context.getMode() == GenerationMode.SOCKET_PARAMETER) {
 			StringBuilder socketParameter = new StringBuilder();
 			if(socketBeanInfo.isWired()) {
-				TypeMirror socketAnnotationType = context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_SOCKET_ANNOTATION).asType();
+				TypeMirror socketAnnotationType = context.getTypeElement(INVERNO_CORE_MODULE_SOCKET_ANNOTATION).asType();
 				
 				socketParameter.append("@").append(context.getTypeName(socketAnnotationType)).append("(name = \"").append(socketBeanInfo.getQualifiedName().normalize()).append("\"");
 				if(socketBeanInfo.getWiredBeans().length > 0) {
@@ -660,6 +1047,24 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			
 			return socketParameter;
 		}
+		else if(context.getMode() == GenerationMode.CHUNK_SOCKET_PARAMETER) {
+			// Socket annotations and selectors are only required on the module constructor
+			StringBuilder socketParameter = new StringBuilder();
+			if(socketBeanInfo.isOptional()) {
+				socketParameter.append(context.getOptionalTypeName()).append("<").append(this.visit(socketBeanInfo, context.withMode(GenerationMode.SOCKET_SUPPLIER))).append(">");
+			}
+			else {
+				socketParameter.append(this.visit(socketBeanInfo, context.withMode(GenerationMode.SOCKET_SUPPLIER)));
+			}
+			return socketParameter.append(" ").append(this.visit(socketBeanInfo, context.withMode(GenerationMode.CHUNK_SOCKET_ARGUMENT)));
+		}
+		else if(context.getMode() == GenerationMode.CHUNK_SOCKET_ARGUMENT) {
+			StringBuilder socketArgument = new StringBuilder().append(socketBeanInfo.getQualifiedName().normalize());
+			if(socketBeanInfo instanceof OverridingSocketBeanInfo) {
+				socketArgument.append("_override");
+			}
+			return socketArgument;
+		}
 		else if(context.getMode() == GenerationMode.SOCKET_FIELD) {
 			if(socketBeanInfo.isOptional()) {
 				return new StringBuilder().append(context.indent(2)).append("private ").append(context.getOptionalTypeName()).append("<").append(this.visit(socketBeanInfo, context.withMode(GenerationMode.SOCKET_SUPPLIER))).append("> ").append(socketBeanInfo.getQualifiedName().normalize()).append(" = ").append(context.getOptionalTypeName()).append(".empty();");
@@ -694,20 +1099,33 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 				return this.visit((MultiSocketBeanInfo)socketBeanInfo, context);
 			}
 		}
+		else if(context.getMode() == GenerationMode.MODULE_SOCKET_FIELD) {
+			StringBuilder socketField = new StringBuilder().append(context.indent(1)).append("private final ");
+			if(socketBeanInfo.isOptional()) {
+				socketField.append(context.getOptionalTypeName()).append("<").append(this.visit(socketBeanInfo, context.withMode(GenerationMode.SOCKET_SUPPLIER))).append(">");
+			}
+			else {
+				socketField.append(this.visit(socketBeanInfo, context.withMode(GenerationMode.SOCKET_SUPPLIER)));
+			}
+			return socketField.append(" ").append(this.getSocketFieldName(socketBeanInfo, context)).append(";");
+		}
+		else if(context.getMode() == GenerationMode.MODULE_SOCKET_ASSIGNMENT) {
+			return new StringBuilder().append(context.indent(2)).append("this.").append(this.getSocketFieldName(socketBeanInfo, context)).append(" = ").append(socketBeanInfo.getQualifiedName().normalize()).append(";");
+		}
 		else if(context.getMode() == GenerationMode.BEAN_REFERENCE) {
 			if(socketBeanInfo.isOptional()) {
-				return new StringBuilder().append(socketBeanInfo.getQualifiedName().normalize()).append(".orElse(() -> null).get()");
+				return this.getSocketReference(socketBeanInfo, context).append(".orElse(() -> null).get()");
 			}
 			else {
-				return new StringBuilder().append(socketBeanInfo.getQualifiedName().normalize()).append(".get()");
+				return this.getSocketReference(socketBeanInfo, context).append(".get()");
 			}
 		}
 		else if(context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE) {
 			if(socketBeanInfo.isOptional()) {
-				return new StringBuilder().append(socketBeanInfo.getQualifiedName().normalize()).append(".map(").append(context.getSupplierTypeName()).append("::get)");
+				return this.getSocketReference(socketBeanInfo, context).append(".map(").append(context.getSupplierTypeName()).append("::get)");
 			}
 			else {
-				return new StringBuilder().append(context.getOptionalTypeName()).append(".ofNullable(").append(socketBeanInfo.getQualifiedName().normalize()).append(".get())");
+				return new StringBuilder().append(context.getOptionalTypeName()).append(".ofNullable(").append(this.getSocketReference(socketBeanInfo, context)).append(".get())");
 			}
 		}
 		else if(context.getMode() == GenerationMode.COMPONENT_MODULE_BEAN_REFERENCE) {
@@ -732,6 +1150,58 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 		return new StringBuilder();
 	}
 
+	private StringBuilder getSocketReference(SocketBeanInfo socketBeanInfo, ModuleClassGenerationContext context) {
+		if(this.switchBeanFactories) {
+			return new StringBuilder().append(context.getModuleReference()).append(".").append(this.getSocketFieldName(socketBeanInfo, context));
+		}
+		return new StringBuilder().append(socketBeanInfo.getQualifiedName().normalize());
+	}
+	
+	private String getSocketFieldName(SocketBeanInfo socketBeanInfo, ModuleClassGenerationContext context) {
+		// A mutator bean has the same qualified name as its mutating socket, the socket field must then be named after a distinct qualified name
+		return context.getFieldName(new BeanSocketQualifiedName(socketBeanInfo.getQualifiedName(), socketBeanInfo.getQualifiedName().getBeanName()));
+	}
+	
+	private StringBuilder generateBeanFactory(ModuleClassGenerationContext.BeanFactory beanFactory, ModuleClassGenerationContext context) {
+		StringBuilder beanFactoryClass = new StringBuilder();
+		beanFactoryClass.append(context.indent(1)).append("private final class ").append(BEAN_FACTORY_CLASS).append("<T> implements ").append(context.getSupplierTypeName()).append("<T>, ").append("BeanBuilder.FallibleConsumer<T> {").append(System.lineSeparator()).append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(2)).append("private final int id;").append(System.lineSeparator()).append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(2)).append("private ").append(BEAN_FACTORY_CLASS).append("(int id) {").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(3)).append("this.id = id;").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(2)).append("}").append(System.lineSeparator()).append(System.lineSeparator());
+		
+		beanFactoryClass.append(context.indent(2)).append("@Override").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(2)).append("@SuppressWarnings(\"unchecked\")").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(2)).append("public T get() {").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(3)).append("switch(this.id) {").append(System.lineSeparator());
+		beanFactory.getSuppliers().forEach((id, supplier) -> {
+			beanFactoryClass.append(context.indent(4)).append("case ").append(id).append(": {").append(System.lineSeparator());
+			beanFactoryClass.append(supplier);
+			beanFactoryClass.append(context.indent(4)).append("}").append(System.lineSeparator());
+		});
+		beanFactoryClass.append(context.indent(4)).append("default:").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(5)).append("throw new IllegalStateException(\"Unknown bean factory: \" + this.id);").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(3)).append("}").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(2)).append("}").append(System.lineSeparator()).append(System.lineSeparator());
+		
+		beanFactoryClass.append(context.indent(2)).append("@Override").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(2)).append("@SuppressWarnings(\"unchecked\")").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(2)).append("public void accept(T bean) throws Exception {").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(3)).append("switch(this.id) {").append(System.lineSeparator());
+		beanFactory.getConsumers().forEach((id, consumer) -> {
+			beanFactoryClass.append(context.indent(4)).append("case ").append(id).append(":").append(System.lineSeparator());
+			beanFactoryClass.append(consumer);
+			beanFactoryClass.append(context.indent(5)).append("break;").append(System.lineSeparator());
+		});
+		beanFactoryClass.append(context.indent(4)).append("default:").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(5)).append("throw new IllegalStateException(\"Unknown bean factory: \" + this.id);").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(3)).append("}").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(2)).append("}").append(System.lineSeparator());
+		beanFactoryClass.append(context.indent(1)).append("}");
+		
+		return beanFactoryClass;
+	}
+	
 	@Override
 	public StringBuilder visit(SingleSocketBeanInfo singleSocketBeanInfo, ModuleClassGenerationContext context) {
 		if(context.getMode() == GenerationMode.COMPONENT_MODULE_BEAN_REFERENCE) {
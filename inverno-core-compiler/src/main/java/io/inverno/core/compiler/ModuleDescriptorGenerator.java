@@ -131,6 +131,16 @@ class ModuleDescriptorGenerator implements ModuleInfoVisitor<String, String> {
 			result.append(pad).append("  ").append("providedType: ").append(moduleBeanInfo.getProvidedType().toString()).append("\n");
 		}
 		result.append(pad).append("  ").append("strategy: ").append(moduleBeanInfo.getStrategy().toString()).append("\n");
+		if(moduleBeanInfo.isLazy()) {
+			result.append(pad).append("  ").append("lazy: ").append("true").append("\n");
+		}
+		if(moduleBeanInfo.getPoolInfo() != null) {
+			result.append(pad).append("  ").append("pool: ").append("\n");
+			result.append(pad).append("  ").append(this.indent).append("minSize: ").append(moduleBeanInfo.getPoolInfo().getMinSize()).append("\n");
+			result.append(pad).append("  ").append(this.indent).append("maxSize: ").append(moduleBeanInfo.getPoolInfo().getMaxSize()).append("\n");
+			result.append(pad).append("  ").append(this.indent).append("idleTimeout: ").append(moduleBeanInfo.getPoolInfo().getIdleTimeout()).append("\n");
+			result.append(pad).append("  ").append(this.indent).append("overflow: ").append(moduleBeanInfo.getPoolInfo().isOverflow()).append("\n");
+		}
 		if(moduleBeanInfo instanceof WrapperBeanInfo) {
 			result.append(pad).append("  ").append("wrapperType: ").append(((WrapperBeanInfo)moduleBeanInfo).getWrapperType().toString()).append("\n");
 		}
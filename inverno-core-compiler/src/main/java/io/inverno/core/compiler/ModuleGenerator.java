@@ -16,6 +16,7 @@
 package io.inverno.core.compiler;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,14 +39,19 @@ import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 
 import io.inverno.core.compiler.ModuleClassGenerationContext.GenerationMode;
+import io.inverno.core.compiler.module.ModuleIndex;
 import io.inverno.core.compiler.plugin.PluginsExecutionResult;
 import io.inverno.core.compiler.plugin.PluginsExecutionTask;
 import io.inverno.core.compiler.plugin.PluginsExecutor;
+import io.inverno.core.compiler.profiler.CompilationProfiler;
+import io.inverno.core.compiler.profiler.CompilationProfiler.Measurement;
+import io.inverno.core.compiler.profiler.CompilationProfiler.Phase;
 import io.inverno.core.compiler.spi.BeanInfo;
 import io.inverno.core.compiler.spi.ModuleBeanInfo;
 import io.inverno.core.compiler.spi.ModuleInfo;
 import io.inverno.core.compiler.spi.ModuleInfoBuilder;
 import io.inverno.core.compiler.spi.SocketBeanInfo;
+import io.inverno.core.compiler.spi.support.SourceFragments;
 
 /**
  * <p>
@@ -65,12 +71,15 @@ class ModuleGenerator {
 	private final Map<String, ModuleInfo> generatedModules;
 	private final Map<String, ModuleInfo> componentModules;
 	private final Set<String> faultyModules;
+	private final Set<String> upToDateModules;
 	private final Map<String, PluginsExecutionResult> pluginsExecutedModules;
 	
 	private final ProcessingEnvironment processingEnvironment;
 	
 	private final ModuleClassGenerator moduleClassGenerator;
 	private final ModuleDescriptorGenerator moduleDescriptorGenerator;
+	private final IncrementalModuleState incrementalModuleState;
+	private final CompilationProfiler profiler;
 	
 	private final Map<String, ModuleInfoBuilder> moduleBuilders;
 	private final Map<String, Set<Element>> moduleOriginatingElements;
@@ -80,15 +89,18 @@ class ModuleGenerator {
 	
 	private final PluginsExecutor pluginsExecutor;
 	
-	public ModuleGenerator(ProcessingEnvironment processingEnv, GenericCompilerOptions options) {
+	public ModuleGenerator(ProcessingEnvironment processingEnv, GenericCompilerOptions options, CompilationProfiler profiler) {
 		this.processingEnvironment = processingEnv;
 		this.options = options;
-		this.moduleClassGenerator = new ModuleClassGenerator();
+		this.profiler = profiler;
+		this.moduleClassGenerator = new ModuleClassGenerator(this.options.getModuleChunkSize(), this.options.isSwitchBeanFactories());
 		this.moduleDescriptorGenerator = new ModuleDescriptorGenerator();
+		this.incrementalModuleState = new IncrementalModuleState(processingEnv);
 
 		this.generatedModules = new HashMap<>();
 		this.componentModules = new HashMap<>();
 		this.faultyModules = new HashSet<>();
+		this.upToDateModules = new HashSet<>();
 		this.pluginsExecutedModules = new HashMap<>();
 		
 		this.moduleBuilders = new HashMap<>();
@@ -97,7 +109,7 @@ class ModuleGenerator {
 		this.moduleSockets = new HashMap<>();
 		this.componentModuleBuilders = new HashMap<>();
 		
-		this.pluginsExecutor = new PluginsExecutor(this.processingEnvironment, this.options);
+		this.pluginsExecutor = new PluginsExecutor(this.processingEnvironment, this.options, this.profiler);
 	}
 	
 	public PluginsExecutor getPluginsExecutor() {
@@ -204,6 +216,7 @@ class ModuleGenerator {
 		return true;
 	}
 	
+	@SuppressWarnings("try")
 	private ModuleInfo generateModule(ModuleInfoBuilder moduleBuilder, RoundEnvironment roundEnv, Map<String, ModuleInfo> roundModules, Map<String, ModuleInfo> roundGeneratedModules, Set<String> roundFaultyModules, Map<String, PluginsExecutionResult> roundPluginExecutedModules) {
 		String moduleName = moduleBuilder.getQualifiedName().toString();
 		
@@ -243,7 +256,6 @@ class ModuleGenerator {
 				}
 				else if(this.moduleBuilders.containsValue(componentModuleBuilder)) {
 					// Compiling Module
-					generate = false;
 					ModuleInfo componentModule = null;
 					if(roundModules.containsKey(componentModuleName)) {
 						componentModule = roundModules.get(componentModuleName);
@@ -251,6 +263,10 @@ class ModuleGenerator {
 					else {
 						componentModule = this.generateModule(componentModuleBuilder, roundEnv, roundModules, roundGeneratedModules, roundFaultyModules, roundPluginExecutedModules);
 					}
+					if(!this.upToDateModules.contains(componentModuleName)) {
+						// An up to date module class was compiled during a previous compilation and doesn't require an extra round
+						generate = false;
+					}
 					
 					if(componentModule != null) {
 						Arrays.stream(componentModule.getPublicBeans()).forEach(moduleInjectableBeans::add);
@@ -300,51 +316,85 @@ class ModuleGenerator {
 					System.out.println(moduleInfo.accept(this.moduleDescriptorGenerator, ""));
 				}
 				
-				if(this.options.isGenerateModuleDescriptor()) {
-					try {
-						FileObject moduleDescriptorFile;
-						try {
-							// module oriented
-							moduleDescriptorFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, moduleInfo.getQualifiedName().getValue() + "/", "META-INF/inverno/core/" + moduleInfo.getQualifiedName().getValue() + "/module.yml", this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
-						}
-						catch (FilerException e) {
-							// not module oriented after all
-							moduleDescriptorFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/inverno/core/" + moduleInfo.getQualifiedName().getValue() + "module.yml", this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
-						}
-						try (Writer writer = moduleDescriptorFile.openWriter()) {
-							writer.write(moduleInfo.accept(this.moduleDescriptorGenerator, ""));
-							writer.flush();
-						}
-					} 
-					catch (IOException e) {
-						this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Error generating Module descriptor " + moduleInfo.getQualifiedName() + ": " + e.getMessage());
-						if(this.options.isDebug()) {
-							e.printStackTrace();
-						}
+				SourceFragments moduleClass = null;
+				String moduleFingerprint = null;
+				boolean upToDate = false;
+				if(moduleInfo.getBeans().length > 0 || moduleInfo.getModules().length > 0) {
+					// only generate module class when it defines beans or modules
+					try(Measurement measurement = this.profiler.start(moduleName, Phase.CLASS_GENERATION)) {
+						moduleClass = this.moduleClassGenerator.generate(moduleInfo, new ModuleClassGenerationContext(this.processingEnvironment.getTypeUtils(), this.processingEnvironment.getElementUtils(), GenerationMode.MODULE_CLASS));
+					}
+					if(this.options.isIncremental()) {
+						moduleFingerprint = this.incrementalModuleState.fingerprint(moduleClass);
+						upToDate = this.incrementalModuleState.isUpToDate(moduleInfo, moduleFingerprint, this.options.isGenerateModuleDescriptor());
 					}
 				}
 				
-				if(moduleInfo.getBeans().length > 0 || moduleInfo.getModules().length > 0) {
-					// only generate module class when it defines beans or modules
-					try {
-						JavaFileObject moduleSourceFile = this.processingEnvironment.getFiler().createSourceFile(moduleInfo.getQualifiedName().getClassName(), this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
-						try (Writer writer = moduleSourceFile.openWriter()) {
-							writer.write(moduleInfo.accept(this.moduleClassGenerator, new ModuleClassGenerationContext(this.processingEnvironment.getTypeUtils(), this.processingEnvironment.getElementUtils(), GenerationMode.MODULE_CLASS)).toString());
-							writer.flush();
-						}
-
-						if(this.options.isVerbose()) {
-							System.out.println("Module " + moduleInfo.getQualifiedName() + " generated to " + moduleSourceFile.toUri() + "\n");
+				if(upToDate) {
+					// the module class and descriptor from the previous compilation are kept
+					if(this.options.isVerbose()) {
+						System.out.println("Module " + moduleInfo.getQualifiedName() + " is up to date\n");
+					}
+					this.upToDateModules.add(moduleName);
+				}
+				else {
+					if(this.options.isGenerateModuleDescriptor()) {
+						try {
+							String moduleDescriptor;
+							try(Measurement measurement = this.profiler.start(moduleName, Phase.DESCRIPTOR_GENERATION)) {
+								moduleDescriptor = moduleInfo.accept(this.moduleDescriptorGenerator, "");
+							}
+							FileObject moduleDescriptorFile;
+							try {
+								// module oriented
+								moduleDescriptorFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, moduleInfo.getQualifiedName().getValue() + "/", "META-INF/inverno/core/" + moduleInfo.getQualifiedName().getValue() + "/module.yml", this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+							}
+							catch (FilerException e) {
+								// not module oriented after all
+								moduleDescriptorFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/inverno/core/" + moduleInfo.getQualifiedName().getValue() + "module.yml", this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+							}
+							try (Writer writer = moduleDescriptorFile.openWriter()) {
+								writer.write(moduleDescriptor);
+								writer.flush();
+							}
+						} 
+						catch (IOException e) {
+							this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Error generating Module descriptor " + moduleInfo.getQualifiedName() + ": " + e.getMessage());
+							if(this.options.isDebug()) {
+								e.printStackTrace();
+							}
 						}
-						//this.processingEnv.getMessager().printMessage(Kind.NOTE, "Module " + moduleInfo.getQualifiedName() + " generated to " + moduleSourceFile.toUri());
-					} 
-					catch (IOException e) {
-						this.processingEnvironment.getMessager().printMessage(Kind.ERROR, "Error generating Module " + moduleInfo.getQualifiedName() + ": " + e.getMessage());
-						if(this.options.isDebug()) {
-							e.printStackTrace();
+					}
+					
+					if(moduleClass != null) {
+						try {
+							JavaFileObject moduleSourceFile = this.processingEnvironment.getFiler().createSourceFile(moduleInfo.getQualifiedName().getClassName(), this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+							try (Writer writer = moduleSourceFile.openWriter()) {
+								moduleClass.writeTo(writer);
+								writer.flush();
+							}
+							this.generateModuleIndex(moduleInfo);
+							if(moduleFingerprint != null) {
+								this.incrementalModuleState.update(moduleInfo, moduleFingerprint, this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+							}
+	
+							if(this.options.isVerbose()) {
+								System.out.println("Module " + moduleInfo.getQualifiedName() + " generated to " + moduleSourceFile.toUri() + "\n");
+							}
+							//this.processingEnv.getMessager().printMessage(Kind.NOTE, "Module " + moduleInfo.getQualifiedName() + " generated to " + moduleSourceFile.toUri());
+						} 
+						catch (IOException e) {
+							this.processingEnvironment.getMessager().printMessage(Kind.ERROR, "Error generating Module " + moduleInfo.getQualifiedName() + ": " + e.getMessage());
+							if(this.options.isDebug()) {
+								e.printStackTrace();
+							}
 						}
 					}
 				}
+				
+				if(this.profiler.isEnabled()) {
+					this.generateProfileReport(moduleInfo);
+				}
 				roundGeneratedModules.put(moduleName, moduleInfo);
 			}
 		}
@@ -352,6 +402,50 @@ class ModuleGenerator {
 		return moduleInfo;
 	}
 	
+	private void generateModuleIndex(ModuleInfo moduleInfo) throws IOException {
+		String moduleName = moduleInfo.getQualifiedName().getValue();
+		FileObject moduleIndexFile;
+		try {
+			// module oriented
+			moduleIndexFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, moduleName + "/", ModuleIndex.getIndexPath(moduleName), this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+		}
+		catch (FilerException e) {
+			// not module oriented after all
+			moduleIndexFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ModuleIndex.getIndexPath(moduleName), this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+		}
+		try (OutputStream output = moduleIndexFile.openOutputStream()) {
+			ModuleIndex.of(this.processingEnvironment, moduleInfo).write(output);
+		}
+	}
+	
+	private void generateProfileReport(ModuleInfo moduleInfo) {
+		String moduleName = moduleInfo.getQualifiedName().getValue();
+		try {
+			FileObject moduleProfileFile;
+			try {
+				// module oriented
+				moduleProfileFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, moduleName + "/", "META-INF/inverno/core/" + moduleName + "/profile.json", this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+			}
+			catch (FilerException e) {
+				// not module oriented after all
+				moduleProfileFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/inverno/core/" + moduleName + "/profile.json", this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+			}
+			try (Writer writer = moduleProfileFile.openWriter()) {
+				writer.write(this.profiler.report(moduleName));
+				writer.flush();
+			}
+			if(this.options.isVerbose()) {
+				System.out.println("Module " + moduleName + " profile report generated to " + moduleProfileFile.toUri() + "\n");
+			}
+		}
+		catch (IOException e) {
+			this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Error generating Module profile report " + moduleName + ": " + e.getMessage());
+			if(this.options.isDebug()) {
+				e.printStackTrace();
+			}
+		}
+	}
+	
 	private PluginsExecutionResult getPreviousPluginsExecution(ModuleInfoBuilder moduleBuilder, Map<String, PluginsExecutionResult> roundPluginExecutedModules) {
 		PluginsExecutionResult executionResult = this.pluginsExecutedModules.get(moduleBuilder.getQualifiedName().toString());
 		if(executionResult == null) {
@@ -30,6 +30,7 @@ import io.inverno.core.compiler.spi.BeanQualifiedName;
 import io.inverno.core.compiler.spi.ModuleBeanInfo;
 import io.inverno.core.compiler.spi.ModuleBeanSocketInfo;
 import io.inverno.core.compiler.spi.NestedBeanInfo;
+import io.inverno.core.compiler.spi.PoolInfo;
 
 /**
  * <p>
@@ -55,6 +56,10 @@ class CommonModuleBeanInfo extends AbstractBeanInfo implements ModuleBeanInfo {
 	
 	private TypeMirror providedType;
 	
+	private PoolInfo poolInfo;
+	
+	private boolean lazy;
+	
 	public CommonModuleBeanInfo(ProcessingEnvironment processingEnvironment, 
 			Element element, 
 			AnnotationMirror annotation, 
@@ -97,6 +102,16 @@ class CommonModuleBeanInfo extends AbstractBeanInfo implements ModuleBeanInfo {
 		return this.strategy;
 	}
 
+	@Override
+	public PoolInfo getPoolInfo() {
+		return this.poolInfo;
+	}
+
+	@Override
+	public boolean isLazy() {
+		return this.lazy;
+	}
+
 	@Override
 	public Bean.Visibility getVisibility() {
 		return this.visibility;
@@ -127,6 +142,14 @@ class CommonModuleBeanInfo extends AbstractBeanInfo implements ModuleBeanInfo {
 		return this.socketInfos.stream().filter(socketInfo -> socketInfo.isOptional()).toArray(ModuleBeanSocketInfo[]::new);
 	}
 	
+	void setPoolInfo(PoolInfo poolInfo) {
+		this.poolInfo = poolInfo;
+	}
+	
+	void setLazy(boolean lazy) {
+		this.lazy = lazy;
+	}
+	
 	void setNestedBeanInfos(List<? extends NestedBeanInfo> nestedBeanInfos) {
 		this.nestedBeanInfos = nestedBeanInfos != null ? Collections.unmodifiableList(nestedBeanInfos) : Collections.emptyList();
 	}
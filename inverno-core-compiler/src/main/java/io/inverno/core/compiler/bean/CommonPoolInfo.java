@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.compiler.bean;
+
+import io.inverno.core.compiler.spi.PoolInfo;
+
+/**
+ * <p>
+ * Represents a common pool info.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+class CommonPoolInfo implements PoolInfo {
+
+	private final int minSize;
+
+	private final int maxSize;
+
+	private final long idleTimeout;
+
+	private final boolean overflow;
+
+	public CommonPoolInfo(int minSize, int maxSize, long idleTimeout, boolean overflow) {
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.idleTimeout = idleTimeout;
+		this.overflow = overflow;
+	}
+
+	@Override
+	public int getMinSize() {
+		return this.minSize;
+	}
+
+	@Override
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	@Override
+	public long getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	@Override
+	public boolean isOverflow() {
+		return this.overflow;
+	}
+}
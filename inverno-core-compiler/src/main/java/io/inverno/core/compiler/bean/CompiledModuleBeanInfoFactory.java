@@ -21,6 +21,7 @@ import io.inverno.core.annotation.Destroy;
 import io.inverno.core.annotation.Init;
 import io.inverno.core.annotation.Mutator;
 import io.inverno.core.annotation.Overridable;
+import io.inverno.core.annotation.Pool;
 import io.inverno.core.annotation.Provide;
 import io.inverno.core.annotation.Wrapper;
 import io.inverno.core.compiler.InvernoCompiler;
@@ -37,6 +38,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -51,7 +53,9 @@ import javax.lang.model.element.Modifier;
 import javax.lang.model.element.ModuleElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic.Kind;
 
 /**
@@ -64,23 +68,32 @@ import javax.tools.Diagnostic.Kind;
  */
 class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 
+	private static final String BEAN_POOL_CLASS = "io.inverno.core.v1.BeanPool";
+	private static final String THREAD_LOCAL_BEAN_CLASS = "io.inverno.core.v1.ThreadLocalBean";
+
 	private final TypeMirror beanAnnotationType;
 	private final TypeMirror beanSocketAnnotationType;
 	private final TypeMirror provideAnnotationType;
 	private final TypeMirror wrapperAnnotationType;
 	private final TypeMirror overridableAnnotationType;
 	private final TypeMirror mutatorAnnotationType;
+	private final TypeElement poolAnnotationElement;
 	private final TypeMirror supplierType;
 	private final TypeMirror functionType;
+	private final TypeMirror completionStageType;
 	
 	private final NestedBeanInfoFactory nestedBeanFactory;
 	
+	private final boolean lazyBeans;
+	
 	/**
 	 * @param processingEnvironment
 	 * @param moduleElement
+	 * @param lazyBeans             true to make singleton beans lazy by default
 	 */
-	CompiledModuleBeanInfoFactory(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement) {
+	CompiledModuleBeanInfoFactory(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, boolean lazyBeans) {
 		super(processingEnvironment, moduleElement);
+		this.lazyBeans = lazyBeans;
 		
 		this.beanAnnotationType = this.processingEnvironment.getElementUtils().getTypeElement(Bean.class.getCanonicalName()).asType();
 		this.beanSocketAnnotationType = this.processingEnvironment.getElementUtils().getTypeElement(BeanSocket.class.getCanonicalName()).asType();
@@ -88,8 +101,10 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 		this.wrapperAnnotationType = this.processingEnvironment.getElementUtils().getTypeElement(Wrapper.class.getCanonicalName()).asType();
 		this.overridableAnnotationType = this.processingEnvironment.getElementUtils().getTypeElement(Overridable.class.getCanonicalName()).asType();
 		this.mutatorAnnotationType = this.processingEnvironment.getElementUtils().getTypeElement(Mutator.class.getCanonicalName()).asType();
+		this.poolAnnotationElement = this.processingEnvironment.getElementUtils().getTypeElement(Pool.class.getCanonicalName());
 		this.supplierType = this.processingEnvironment.getTypeUtils().erasure(this.processingEnvironment.getElementUtils().getTypeElement(Supplier.class.getCanonicalName()).asType());
 		this.functionType = this.processingEnvironment.getTypeUtils().erasure(this.processingEnvironment.getElementUtils().getTypeElement(Function.class.getCanonicalName()).asType());
+		this.completionStageType = this.processingEnvironment.getTypeUtils().erasure(this.processingEnvironment.getElementUtils().getTypeElement(CompletionStage.class.getCanonicalName()).asType());
 		
 		this.nestedBeanFactory = new NestedBeanInfoFactory(this.processingEnvironment);
 	}
@@ -165,6 +180,28 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 			}
 		}
 		
+		if(strategy == Bean.Strategy.CLEANABLE_PROTOTYPE && wrapperAnnotation.isEmpty()) {
+			beanReporter.error("A cleanable prototype bean must be a wrapper bean");
+			throw new BeanCompilationException();
+		}
+		
+		if(strategy == Bean.Strategy.THREAD && mutatorAnnotation.isPresent()) {
+			beanReporter.error("A mutator socket bean can't be a thread bean");
+			throw new BeanCompilationException();
+		}
+		
+		CommonPoolInfo poolInfo = this.getPoolInfo(typeElement, beanReporter, strategy, mutatorAnnotation.isPresent());
+		boolean lazy = this.isLazy(beanAnnotation.get(), beanReporter, strategy);
+		
+		// Pooled and thread beans provide a handle to obtain bean instances and not the instances themselves
+		String handleClass = null;
+		if(strategy == Bean.Strategy.POOLED) {
+			handleClass = BEAN_POOL_CLASS;
+		}
+		else if(strategy == Bean.Strategy.THREAD) {
+			handleClass = THREAD_LOCAL_BEAN_CLASS;
+		}
+		
 		// Bean qualified name
 		if(name == null || name.equals("")) {
 			name = typeElement.getSimpleName().toString();
@@ -180,11 +217,14 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 			throw new BeanCompilationException();
 		}
 
+		// Asynchronous init and destroy methods are only run concurrently by singleton module beans
+		boolean concurrentLifecycle = strategy == Bean.Strategy.SINGLETON && wrapperAnnotation.isEmpty();
+		
 		// Get Init
-		List<ExecutableElement> initElements = this.getInitMethods(typeElement);
+		List<ExecutableElement> initElements = this.getInitMethods(typeElement, concurrentLifecycle);
 		
 		// Get Destroy
-		List<ExecutableElement> destroyElements = this.getDestroyMethods(typeElement);
+		List<ExecutableElement> destroyElements = this.getDestroyMethods(typeElement, concurrentLifecycle);
 
 		// Get sockets...
 		List<ModuleBeanSocketInfo> beanSocketInfos = new ArrayList<>();
@@ -247,13 +287,21 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 			}
 
 			TypeMirror providedType = this.getProvidedType(typeElement, beanReporter, beanQName, beanType);
+			if(handleClass != null) {
+				providedType = this.getHandleType(handleClass, providedType != null ? providedType : beanType, beanReporter, strategy);
+			}
 			moduleBeanInfo = new CompiledWrapperBeanInfo(this.processingEnvironment, typeElement, beanAnnotation.get(), beanQName, wrapperType, beanType, providedType, visibility, strategy, initElements, destroyElements, beanSocketInfos);
 		}
 		else {
 			TypeMirror providedType = this.getProvidedType(typeElement, beanReporter, beanQName, typeElement.asType());
+			if(handleClass != null) {
+				providedType = this.getHandleType(handleClass, providedType != null ? providedType : typeElement.asType(), beanReporter, strategy);
+			}
 			moduleBeanInfo = new CommonModuleBeanInfo(this.processingEnvironment, typeElement, beanAnnotation.get(), beanQName, typeElement.asType(), providedType, visibility, strategy, initElements, destroyElements, beanSocketInfos);
 		}
 		
+		moduleBeanInfo.setPoolInfo(poolInfo);
+		moduleBeanInfo.setLazy(lazy);
 		ModuleBeanInfo resultModuleBeanInfo = moduleBeanInfo;
 
 		if(overridableAnnotation.isPresent()) {
@@ -261,8 +309,10 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 			resultModuleBeanInfo = new CompiledOverridableBeanInfo(moduleBeanInfo, socketInfo);
 		}
 
-		// Get Nested Beans
-		moduleBeanInfo.setNestedBeanInfos(this.nestedBeanFactory.create(resultModuleBeanInfo));
+		// Get Nested Beans: pooled and thread beans expose a handle and not the bean instances which can then not provide nested beans
+		if(handleClass == null) {
+			moduleBeanInfo.setNestedBeanInfos(this.nestedBeanFactory.create(resultModuleBeanInfo));
+		}
 		
 		if(beanReporter.hasError()) {
 			throw new BeanCompilationException();
@@ -270,6 +320,75 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 		return resultModuleBeanInfo;
 	}
 	
+	private boolean isLazy(AnnotationMirror beanAnnotation, ReporterInfo beanReporter, Bean.Strategy strategy) {
+		// An explicit lazy attribute takes precedence over the module-wide option
+		Boolean lazy = beanAnnotation.getElementValues().entrySet().stream()
+			.filter(value -> value.getKey().getSimpleName().contentEquals("lazy"))
+			.map(value -> (Boolean)value.getValue().getValue())
+			.findFirst()
+			.orElse(null);
+		if(strategy != Bean.Strategy.SINGLETON) {
+			if(lazy != null && lazy) {
+				beanReporter.warning("Ignoring lazy initialization on a bean which is not a singleton");
+			}
+			return false;
+		}
+		return lazy != null ? lazy : this.lazyBeans;
+	}
+	
+	private CommonPoolInfo getPoolInfo(TypeElement typeElement, ReporterInfo beanReporter, Bean.Strategy strategy, boolean mutator) throws BeanCompilationException {
+		Optional<? extends AnnotationMirror> poolAnnotation = typeElement.getAnnotationMirrors().stream().filter(a -> this.processingEnvironment.getTypeUtils().isSameType(a.getAnnotationType(), this.poolAnnotationElement.asType())).findFirst();
+		if(strategy != Bean.Strategy.POOLED) {
+			if(poolAnnotation.isPresent()) {
+				beanReporter.warning("Ignoring pool configuration on a bean which is not pooled");
+			}
+			return null;
+		}
+		if(mutator) {
+			beanReporter.error("A mutator socket bean can't be a pooled bean");
+			throw new BeanCompilationException();
+		}
+		
+		int minSize = 0;
+		int maxSize = 0;
+		long idleTimeout = 0;
+		boolean overflow = true;
+		Map<? extends ExecutableElement, ? extends AnnotationValue> poolValues = poolAnnotation
+			.<Map<? extends ExecutableElement, ? extends AnnotationValue>>map(a -> this.processingEnvironment.getElementUtils().getElementValuesWithDefaults(a))
+			.orElseGet(() -> ElementFilter.methodsIn(this.poolAnnotationElement.getEnclosedElements()).stream().collect(Collectors.toMap(Function.identity(), ExecutableElement::getDefaultValue)));
+		for(Entry<? extends ExecutableElement, ? extends AnnotationValue> value : poolValues.entrySet()) {
+			switch(value.getKey().getSimpleName().toString()) {
+				case "minSize" : minSize = (int)value.getValue().getValue();
+					break;
+				case "maxSize" : maxSize = (int)value.getValue().getValue();
+					break;
+				case "idleTimeout" : idleTimeout = (long)value.getValue().getValue();
+					break;
+				case "overflow" : overflow = (boolean)value.getValue().getValue();
+					break;
+			}
+		}
+		
+		if(minSize < 0) {
+			beanReporter.error("Pool minimum size can't be negative");
+			throw new BeanCompilationException();
+		}
+		if(maxSize > 0 && minSize > maxSize) {
+			beanReporter.error("Pool minimum size can't be greater than pool maximum size");
+			throw new BeanCompilationException();
+		}
+		return new CommonPoolInfo(minSize, maxSize, idleTimeout, overflow);
+	}
+	
+	private TypeMirror getHandleType(String handleClass, TypeMirror beanType, ReporterInfo beanReporter, Bean.Strategy strategy) throws BeanCompilationException {
+		TypeElement handleElement = this.processingEnvironment.getElementUtils().getTypeElement(handleClass);
+		if(handleElement == null) {
+			beanReporter.error("Type " + handleClass + " could not be resolved, " + strategy + " strategy requires io.inverno.core 1.7 or later");
+			throw new BeanCompilationException();
+		}
+		return this.processingEnvironment.getTypeUtils().getDeclaredType(handleElement, beanType);
+	}
+	
 	private TypeMirror getProvidedType(TypeElement typeElement, ReporterInfo beanReporter, BeanQualifiedName beanQName, TypeMirror beanType) throws BeanCompilationException {
 		TypeMirror providedType = null;
 		Optional<? extends AnnotationMirror> provideAnnotation = typeElement.getAnnotationMirrors().stream().filter(a -> this.processingEnvironment.getTypeUtils().isSameType(a.getAnnotationType(), this.provideAnnotationType)).findFirst();
@@ -304,7 +423,7 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 		return providedType;
 	}
 	
-	private List<ExecutableElement> getInitMethods(TypeElement typeElement) {
+	private List<ExecutableElement> getInitMethods(TypeElement typeElement, boolean concurrentLifecycle) {
 		return typeElement.getEnclosedElements().stream()
 			.filter(e -> e.getAnnotation(Init.class) != null)
 			.map(e -> (ExecutableElement)e)
@@ -313,11 +432,14 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Invalid " + Init.class.getSimpleName() + " method which should be a no-argument method, it will be ignored", e);
 					return false;
 				}
+				if(!concurrentLifecycle && this.isAsynchronous(e)) {
+					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Asynchronous " + Init.class.getSimpleName() + " method is only run concurrently on singleton module beans, it will be awaited when the bean instance is created", e);
+				}
 				return true;
 			}).collect(Collectors.toList());
 	}
 	
-	private List<ExecutableElement> getDestroyMethods(TypeElement typeElement) {
+	private List<ExecutableElement> getDestroyMethods(TypeElement typeElement, boolean concurrentLifecycle) {
 		return typeElement.getEnclosedElements().stream()
 			.filter(e -> e.getAnnotation(Destroy.class) != null)
 			.map(e -> (ExecutableElement)e)
@@ -326,10 +448,17 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Invalid " + Destroy.class.getSimpleName() + " method which should be a no-argument method, it will be ignored", e);
 					return false;
 				}
+				if(!concurrentLifecycle && this.isAsynchronous(e)) {
+					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Asynchronous " + Destroy.class.getSimpleName() + " method is only run concurrently on singleton module beans, it will be awaited when the bean instance is destroyed", e);
+				}
 				return true;
 			}).collect(Collectors.toList());
 	}
 	
+	private boolean isAsynchronous(ExecutableElement method) {
+		return method.getReturnType().getKind() == TypeKind.DECLARED && this.processingEnvironment.getTypeUtils().isAssignable(this.processingEnvironment.getTypeUtils().erasure(method.getReturnType()), this.completionStageType);
+	}
+	
 	private List<ModuleBeanSocketInfo> getRequiredBeanSocketInfos(TypeElement typeElement, ReporterInfo beanReporter, ModuleBeanSocketInfoFactory beanSocketFactory, BeanQualifiedName beanQName) {
 		ExecutableElement constructorSocketElement = null;
 		
@@ -26,6 +26,7 @@ import io.inverno.core.compiler.spi.ModuleBeanSocketInfo;
 import io.inverno.core.compiler.spi.NestedBeanInfo;
 import io.inverno.core.compiler.spi.OverridableBeanInfo;
 import io.inverno.core.compiler.spi.OverridingSocketBeanInfo;
+import io.inverno.core.compiler.spi.PoolInfo;
 
 /**
  * <p>
@@ -74,6 +75,16 @@ class CompiledOverridableBeanInfo implements OverridableBeanInfo {
 		return this.overridableBeanInfo.getStrategy();
 	}
 
+	@Override
+	public PoolInfo getPoolInfo() {
+		return this.overridableBeanInfo.getPoolInfo();
+	}
+
+	@Override
+	public boolean isLazy() {
+		return this.overridableBeanInfo.isLazy();
+	}
+
 	@Override
 	public Visibility getVisibility() {
 		return this.overridableBeanInfo.getVisibility();
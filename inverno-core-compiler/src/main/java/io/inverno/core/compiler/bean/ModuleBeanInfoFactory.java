@@ -42,7 +42,11 @@ public abstract class ModuleBeanInfoFactory extends AbstractInfoFactory {
 	}
 
 	public static ModuleBeanInfoFactory create(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement) {
-		return new CompiledModuleBeanInfoFactory(processingEnvironment, moduleElement);
+		return create(processingEnvironment, moduleElement, false);
+	}
+	
+	public static ModuleBeanInfoFactory create(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, boolean lazyBeans) {
+		return new CompiledModuleBeanInfoFactory(processingEnvironment, moduleElement, lazyBeans);
 	}
 	
 	public static ModuleBeanInfoFactory create(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, ModuleElement requiredModuleElement, Supplier<List<? extends SocketBeanInfo>> moduleSocketInfosSupplier, Integer version) {
@@ -75,10 +75,14 @@ public class GenericReporterInfo implements ReporterInfo {
 	public void error(String message) {
 		if(this.element.getKind().equals(ElementKind.MODULE)) {
 			// JDK bug
-			this.processingEnvironment.getMessager().printMessage(Kind.ERROR, message, this.element);
+			synchronized(this.processingEnvironment.getMessager()) {
+				this.processingEnvironment.getMessager().printMessage(Kind.ERROR, message, this.element);
+			}
 		}
 		else {
-			this.processingEnvironment.getMessager().printMessage(Kind.ERROR, message, this.element, this.annotation);
+			synchronized(this.processingEnvironment.getMessager()) {
+				this.processingEnvironment.getMessager().printMessage(Kind.ERROR, message, this.element, this.annotation);
+			}
 		}
 		this.errorCount++;
 	}
@@ -87,10 +91,14 @@ public class GenericReporterInfo implements ReporterInfo {
 	public void warning(String message) {
 		if(this.element.getKind().equals(ElementKind.MODULE)) {
 			// JDK bug
-			this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, message, this.element);
+			synchronized(this.processingEnvironment.getMessager()) {
+				this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, message, this.element);
+			}
 		}
 		else {
-			this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, message, this.element, this.annotation);
+			synchronized(this.processingEnvironment.getMessager()) {
+				this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, message, this.element, this.annotation);
+			}
 		}
 		this.warningCount++;
 	}
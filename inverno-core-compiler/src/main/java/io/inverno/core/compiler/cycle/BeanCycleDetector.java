@@ -15,12 +15,15 @@
  */
 package io.inverno.core.compiler.cycle;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.inverno.core.compiler.spi.BeanInfo;
 import io.inverno.core.compiler.spi.ModuleBeanInfo;
@@ -37,98 +40,249 @@ import io.inverno.core.compiler.spi.SocketInfo;
  * <p>
  * Detects cycles in a graph of beans.
  * </p>
- * 
+ *
+ * <p>
+ * The strongly connected components of the graph are first determined using Tarjan's algorithm in linear time, a bean can only be part of a cycle if it belongs to a component with more than one
+ * bean or if it depends on itself. Cycles are then reported by traversing the graph from the beans that can reach such components, which means that no traversal is performed when the graph is
+ * acyclic. Both steps use explicit stacks so that large graphs can't overflow the thread stack.
+ * </p>
+ *
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  *
  */
 public class BeanCycleDetector {
 
 	private final ModuleQualifiedName moduleQName;
-	
+
 	private final List<BeanInfo> beans;
-	
+
+	private final Map<BeanInfo, BeanNode> nodes;
+
+	private int nextIndex;
+
 	public BeanCycleDetector(ModuleQualifiedName moduleQName, List<BeanInfo> beans) {
 		this.moduleQName = moduleQName;
 		this.beans = beans;
+		this.nodes = new HashMap<>();
 	}
-	
-	public List<List<CycleInfo>> findCycles() {		
-		CycleDetectionContext context = new CycleDetectionContext();
+
+	public List<List<CycleInfo>> findCycles() {
+		List<BeanNode> roots = new ArrayList<>();
 		for(BeanInfo bean : this.beans) {
-			this.visitBean(bean, context);
+			if(bean != null) {
+				BeanNode root = this.getNode(bean);
+				this.findStronglyConnectedComponents(root);
+				roots.add(root);
+			}
+		}
+
+		CycleDetectionContext context = new CycleDetectionContext();
+		for(BeanNode root : roots) {
+			if(root.reachesCycle) {
+				this.visitBean(root, context);
+			}
 		}
 		return context.getCycles();
 	}
-	
-	private void visitBean(BeanInfo bean, CycleDetectionContext context) {
-		if(bean != null && !context.isVisited(bean)) {
-			if(context.isOnStack(bean)) {
-				context.addCycle(bean);
+
+	private BeanNode getNode(BeanInfo bean) {
+		BeanNode node = this.nodes.get(bean);
+		if(node == null) {
+			node = new BeanNode(bean);
+			this.nodes.put(bean, node);
+		}
+		return node;
+	}
+
+	private List<DependencyEdge> getDependencies(BeanNode node) {
+		if(node.dependencies == null) {
+			List<DependencyEdge> dependencies = new ArrayList<>();
+			BeanInfo bean = node.bean;
+			if(bean instanceof NestedBeanInfo) {
+				this.addDependency(dependencies, null, ((NestedBeanInfo)bean).getProvidingBean());
+			}
+			else if(bean instanceof ModuleBeanInfo) {
+				for(SocketInfo socket : ((ModuleBeanInfo)bean).getSockets()) {
+					this.addDependencies(dependencies, socket, socket);
+				}
+				if(bean instanceof OverridableBeanInfo) {
+					OverridingSocketBeanInfo socket = ((OverridableBeanInfo)bean).getOverridingSocket();
+					this.addDependency(dependencies, socket, socket.getBean());
+				}
+			}
+			else if(bean instanceof SocketBeanInfo && !bean.getQualifiedName().getModuleQName().equals(this.moduleQName)) {
+				this.addDependencies(dependencies, (SocketBeanInfo)bean, (SocketBeanInfo)bean);
+			}
+			node.dependencies = dependencies;
+		}
+		return node.dependencies;
+	}
+
+	private void addDependencies(List<DependencyEdge> dependencies, SocketInfo socket, SocketInfo wiredSocket) {
+		if(wiredSocket instanceof SingleSocketInfo) {
+			this.addDependency(dependencies, socket, ((SingleSocketInfo)wiredSocket).getBean());
+		}
+		else if(wiredSocket instanceof MultiSocketInfo) {
+			BeanInfo[] wiredBeans = ((MultiSocketInfo)wiredSocket).getBeans();
+			if(wiredBeans != null) {
+				for(BeanInfo wiredBean : wiredBeans) {
+					this.addDependency(dependencies, socket, wiredBean);
+				}
+			}
+		}
+	}
+
+	private void addDependency(List<DependencyEdge> dependencies, SocketInfo socket, BeanInfo bean) {
+		// Optional unresolved sockets
+		if(bean != null) {
+			dependencies.add(new DependencyEdge(socket, this.getNode(bean)));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Determines the strongly connected components reachable from the specified bean and whether their beans can reach a cycle.
+	 * </p>
+	 *
+	 * <p>
+	 * This is an iterative implementation of Tarjan's algorithm, components are completed in reverse topological order which allows to determine whether a component can reach a cycle from the
+	 * components it depends on.
+	 * </p>
+	 *
+	 * @param root the bean from which to start
+	 */
+	private void findStronglyConnectedComponents(BeanNode root) {
+		if(root.index >= 0) {
+			return;
+		}
+		Deque<BeanNode> componentStack = new ArrayDeque<>();
+		Deque<BeanNode> callStack = new ArrayDeque<>();
+
+		root.index = root.lowLink = this.nextIndex++;
+		componentStack.push(root);
+		root.onComponentStack = true;
+		callStack.push(root);
+
+		while(!callStack.isEmpty()) {
+			BeanNode node = callStack.peek();
+			List<DependencyEdge> dependencies = this.getDependencies(node);
+			if(node.nextDependency < dependencies.size()) {
+				BeanNode dependency = dependencies.get(node.nextDependency++).bean;
+				if(dependency == node) {
+					node.selfDependent = true;
+				}
+				if(dependency.index < 0) {
+					dependency.index = dependency.lowLink = this.nextIndex++;
+					componentStack.push(dependency);
+					dependency.onComponentStack = true;
+					callStack.push(dependency);
+				}
+				else if(dependency.onComponentStack) {
+					node.lowLink = Math.min(node.lowLink, dependency.index);
+				}
 			}
 			else {
-				context.pushBean(bean);
-				if(NestedBeanInfo.class.isAssignableFrom(bean.getClass())) {
-					context.pushSocket(null);
-					this.visitBean(((NestedBeanInfo)bean).getProvidingBean(), context);
-					context.popSocket();
+				callStack.pop();
+				if(!callStack.isEmpty()) {
+					BeanNode parent = callStack.peek();
+					parent.lowLink = Math.min(parent.lowLink, node.lowLink);
 				}
-				else if(ModuleBeanInfo.class.isAssignableFrom(bean.getClass())) {
-					for(SocketInfo socket : ((ModuleBeanInfo)bean).getSockets()) {
-						context.pushSocket(socket);
-						if(SingleSocketInfo.class.isAssignableFrom(socket.getClass())) {
-							this.visitBean(((SingleSocketInfo)socket).getBean(), context);
-						}
-						else if(MultiSocketInfo.class.isAssignableFrom(socket.getClass())) {
-							if(((MultiSocketInfo)socket).getBeans() != null) {
-								Arrays.stream(((MultiSocketInfo)socket).getBeans()).forEach(b -> this.visitBean(b, context));
+				if(node.lowLink == node.index) {
+					// node is the root of a strongly connected component
+					List<BeanNode> component = new ArrayList<>();
+					BeanNode member;
+					do {
+						member = componentStack.pop();
+						member.onComponentStack = false;
+						component.add(member);
+					} while(member != node);
+
+					boolean reachesCycle = component.size() > 1 || node.selfDependent;
+					if(!reachesCycle) {
+						// Dependencies outside the component have already been completed
+						for(DependencyEdge dependency : this.getDependencies(node)) {
+							if(dependency.bean.reachesCycle) {
+								reachesCycle = true;
+								break;
 							}
 						}
-						context.popSocket();
 					}
-					if(OverridableBeanInfo.class.isAssignableFrom(bean.getClass())) {
-						OverridingSocketBeanInfo socket = ((OverridableBeanInfo)bean).getOverridingSocket();
-						context.pushSocket(socket);
-						this.visitBean(socket.getBean(), context);
-						context.popSocket();
+					for(BeanNode componentNode : component) {
+						componentNode.reachesCycle = reachesCycle;
 					}
 				}
-				else if(SocketBeanInfo.class.isAssignableFrom(bean.getClass())) {
-					context.pushSocket((SocketBeanInfo)bean);
-					if(!bean.getQualifiedName().getModuleQName().equals(this.moduleQName)) {
-						if(SingleSocketInfo.class.isAssignableFrom(bean.getClass())) {
-							this.visitBean(((SingleSocketInfo)bean).getBean(), context);
-						}
-						else if(MultiSocketInfo.class.isAssignableFrom(bean.getClass())) {
-							if(((MultiSocketInfo)bean).getBeans() != null) {
-								Arrays.stream(((MultiSocketInfo)bean).getBeans()).forEach(b -> this.visitBean(b, context));
-							}
-						}
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Traverses the graph from the specified bean and reports the cycles encountered.
+	 * </p>
+	 *
+	 * <p>
+	 * A dependency already traversed from a given bean is not traversed again from that bean. Dependencies that can't reach a cycle are skipped altogether.
+	 * </p>
+	 *
+	 * @param root    the bean from which to start
+	 * @param context the cycle detection context
+	 */
+	private void visitBean(BeanNode root, CycleDetectionContext context) {
+		if(context.isVisited(root)) {
+			return;
+		}
+		Deque<VisitFrame> frames = new ArrayDeque<>();
+		context.pushBean(root);
+		frames.push(new VisitFrame(root, this.getDependencies(root)));
+
+		while(!frames.isEmpty()) {
+			VisitFrame frame = frames.peek();
+			if(frame.nextDependency < frame.dependencies.size()) {
+				DependencyEdge dependency = frame.dependencies.get(frame.nextDependency++);
+				if(!dependency.bean.reachesCycle) {
+					continue;
+				}
+				context.pushSocket(dependency.socket);
+				if(!context.isVisited(dependency.bean)) {
+					if(context.isOnStack(dependency.bean)) {
+						context.addCycle(dependency.bean);
+					}
+					else {
+						context.pushBean(dependency.bean);
+						frames.push(new VisitFrame(dependency.bean, this.getDependencies(dependency.bean)));
+						continue;
 					}
-					context.popSocket();
 				}
+				context.popSocket();
+			}
+			else {
+				frames.pop();
 				context.popBean();
-				context.setVisited(bean);
+				context.setVisited(frame.node);
+				if(!frames.isEmpty()) {
+					context.popSocket();
+				}
 			}
-		}		
+		}
 	}
-	
+
 	/**
 	 * <p>Represents a link in bean dependency cycle.</p>
-	 * 
+	 *
 	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
 	 *
 	 */
 	public class CycleInfo {
-		
+
 		private final BeanInfo beanInfo;
-		
+
 		private final SocketInfo socketInfo;
 
 		private CycleInfo(BeanInfo beanInfo, SocketInfo socketInfo) {
 			this.beanInfo = beanInfo;
 			this.socketInfo = socketInfo;
 		}
-		
+
 		public BeanInfo getBeanInfo() {
 			return beanInfo;
 		}
@@ -137,66 +291,109 @@ public class BeanCycleDetector {
 			return socketInfo;
 		}
 	}
-	
+
+	private static class BeanNode {
+
+		private final BeanInfo bean;
+
+		private List<DependencyEdge> dependencies;
+
+		private int index = -1;
+		private int lowLink;
+		private int nextDependency;
+		private boolean onComponentStack;
+		private boolean selfDependent;
+		private boolean reachesCycle;
+
+		public BeanNode(BeanInfo bean) {
+			this.bean = bean;
+		}
+	}
+
+	private static class DependencyEdge {
+
+		private final SocketInfo socket;
+
+		private final BeanNode bean;
+
+		public DependencyEdge(SocketInfo socket, BeanNode bean) {
+			this.socket = socket;
+			this.bean = bean;
+		}
+	}
+
+	private static class VisitFrame {
+
+		private final BeanNode node;
+
+		private final List<DependencyEdge> dependencies;
+
+		private int nextDependency;
+
+		public VisitFrame(BeanNode node, List<DependencyEdge> dependencies) {
+			this.node = node;
+			this.dependencies = dependencies;
+		}
+	}
+
 	private class CycleDetectionContext {
-		
-		private final LinkedList<BeanInfo> beanStack = new LinkedList<>();
-		private final LinkedList<SocketInfo> socketStack = new LinkedList<>();
-		
+
+		private final List<BeanNode> beanStack = new ArrayList<>();
+		private final List<SocketInfo> socketStack = new ArrayList<>();
+		private final Set<BeanNode> beansOnStack = new HashSet<>();
+
 		private final List<List<CycleInfo>> cycles = new ArrayList<>();
-		
-		private final Map<BeanInfo, List<BeanInfo>> visitedBeans = new HashMap<>();
-		
-		public void addCycle(BeanInfo bean) {
+
+		private final Map<BeanNode, Set<BeanNode>> visitedBeans = new HashMap<>();
+
+		public void addCycle(BeanNode bean) {
 			LinkedList<CycleInfo> cycle = new LinkedList<>();
-			for(int i=0;i<this.beanStack.size();i++) {
-				cycle.addFirst(new CycleInfo(this.beanStack.get(i), this.socketStack.get(i)));
-				if(bean.equals(this.beanStack.get(i))) {
+			for(int i = this.beanStack.size() - 1;i >= 0;i--) {
+				BeanNode stackBean = this.beanStack.get(i);
+				cycle.addFirst(new CycleInfo(stackBean.bean, this.socketStack.get(i)));
+				if(bean == stackBean) {
 					break;
 				}
 			}
 			this.cycles.add(cycle);
 		}
-		
+
 		public List<List<CycleInfo>> getCycles() {
 			return this.cycles;
 		}
-		
-		public void pushBean(BeanInfo bean) {
-			this.beanStack.push(bean);
+
+		public void pushBean(BeanNode bean) {
+			this.beanStack.add(bean);
+			this.beansOnStack.add(bean);
 		}
-		
+
 		public void pushSocket(SocketInfo socket) {
-			this.socketStack.push(socket);
+			this.socketStack.add(socket);
 		}
-		
+
 		public void popBean() {
-			this.beanStack.pop();
+			this.beansOnStack.remove(this.beanStack.remove(this.beanStack.size() - 1));
 		}
-		
+
 		public void popSocket() {
-			this.socketStack.pop();
+			this.socketStack.remove(this.socketStack.size() - 1);
 		}
-		
-		public boolean isOnStack(BeanInfo bean) {
-			return this.beanStack.contains(bean);
+
+		public boolean isOnStack(BeanNode bean) {
+			return this.beansOnStack.contains(bean);
 		}
-		
-		public boolean isVisited(BeanInfo bean) {
-			if(this.visitedBeans.containsKey(bean) && !this.beanStack.isEmpty()) {
-				return this.visitedBeans.get(bean).contains(this.beanStack.peek());
+
+		public boolean isVisited(BeanNode bean) {
+			if(!this.beanStack.isEmpty()) {
+				Set<BeanNode> fromBeans = this.visitedBeans.get(bean);
+				return fromBeans != null && fromBeans.contains(this.beanStack.get(this.beanStack.size() - 1));
 			}
 			return false;
 		}
-		
-		public void setVisited(BeanInfo bean) {
+
+		public void setVisited(BeanNode bean) {
 			if(!this.beanStack.isEmpty()) {
-				List<BeanInfo> fromBeans = this.visitedBeans.get(bean);
-				if(fromBeans == null) {
-					fromBeans = new ArrayList<>();
-					this.visitedBeans.put(bean,  fromBeans);
-				}
-				fromBeans.add(this.beanStack.peek());
+				this.visitedBeans.computeIfAbsent(bean, ign -> new HashSet<>()).add(this.beanStack.get(this.beanStack.size() - 1));
 			}
 		}
 	}
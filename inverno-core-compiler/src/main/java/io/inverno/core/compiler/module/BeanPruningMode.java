@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.compiler.module;
+
+/**
+ * <p>
+ * Indicates how private beans which are not reachable from the public beans of a module, from the sockets of its component modules or from beans defining init or destroy methods must be
+ * handled when building a compiled module.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+public enum BeanPruningMode {
+	/**
+	 * Unreachable beans are kept in the module.
+	 */
+	DISABLED,
+	/**
+	 * Unreachable beans are kept in the module and reported as warnings.
+	 */
+	REPORT,
+	/**
+	 * Unreachable beans are omitted from the module and reported as warnings.
+	 */
+	PRUNE;
+}
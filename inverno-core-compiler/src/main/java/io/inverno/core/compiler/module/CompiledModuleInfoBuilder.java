@@ -15,14 +15,19 @@
  */
 package io.inverno.core.compiler.module;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,6 +38,7 @@ import javax.lang.model.element.ModuleElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 
+import io.inverno.core.annotation.Bean;
 import io.inverno.core.annotation.Wire;
 import io.inverno.core.annotation.Wires;
 import io.inverno.core.compiler.common.MutableMultiSocketInfo;
@@ -40,8 +46,12 @@ import io.inverno.core.compiler.common.MutableSingleSocketInfo;
 import io.inverno.core.compiler.common.MutableSocketBeanInfo;
 import io.inverno.core.compiler.cycle.BeanCycleDetector;
 import io.inverno.core.compiler.cycle.BeanCycleDetector.CycleInfo;
+import io.inverno.core.compiler.profiler.CompilationProfiler;
+import io.inverno.core.compiler.profiler.CompilationProfiler.Measurement;
+import io.inverno.core.compiler.profiler.CompilationProfiler.Phase;
 import io.inverno.core.compiler.socket.WirableSocketBeanInfo;
 import io.inverno.core.compiler.spi.BeanInfo;
+import io.inverno.core.compiler.spi.BeanQualifiedName;
 import io.inverno.core.compiler.spi.ModuleBeanInfo;
 import io.inverno.core.compiler.spi.ModuleBeanSocketInfo;
 import io.inverno.core.compiler.spi.ModuleInfo;
@@ -55,6 +65,7 @@ import io.inverno.core.compiler.spi.SingleSocketInfo;
 import io.inverno.core.compiler.spi.SocketBeanInfo;
 import io.inverno.core.compiler.spi.SocketInfo;
 import io.inverno.core.compiler.wire.SocketResolver;
+import io.inverno.core.compiler.wire.TypeWiringStrategy;
 import io.inverno.core.compiler.wire.WireInfo;
 import io.inverno.core.compiler.wire.WireInfoFactory;
 
@@ -70,16 +81,22 @@ class CompiledModuleInfoBuilder extends AbstractModuleInfoBuilder {
 
 	private final ModuleBeanSocketWireResolver moduleSocketWiredBeansResolver;
 	
+	private final CompilationProfiler profiler;
+	
+	private final BeanPruningMode beanPruningMode;
+	
 	private ModuleBeanInfo[] beans;
 	
 	private SocketBeanInfo[] sockets;
 	
 	private ModuleInfo[] modules;
 	
-	public CompiledModuleInfoBuilder(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement) {
+	public CompiledModuleInfoBuilder(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, CompilationProfiler profiler, BeanPruningMode beanPruningMode) {
 		super(processingEnvironment, moduleElement);
 		
 		this.moduleSocketWiredBeansResolver = new ModuleBeanSocketWireResolver();
+		this.profiler = profiler;
+		this.beanPruningMode = beanPruningMode;
 		this.beans = new ModuleBeanInfo[0];
 		this.sockets = new SocketBeanInfo[0];
 		this.modules = new ModuleInfo[0];
@@ -109,6 +126,7 @@ class CompiledModuleInfoBuilder extends AbstractModuleInfoBuilder {
 		return this;
 	}
 
+	@SuppressWarnings("try")
 	@Override
 	public ModuleInfo build() {
 		// let's try to sort beans, sockets and modules so that we have something deterministic
@@ -117,13 +135,28 @@ class CompiledModuleInfoBuilder extends AbstractModuleInfoBuilder {
 		Arrays.sort(this.modules, Comparator.comparing(module -> module.getQualifiedName().getValue()));
 		
 		boolean hasNameConflicts = this.checkNameConflicts();
-		boolean socketsResolved = this.resolveSockets();
-		boolean hasBeanCycles = this.checkBeanCycles();
+		boolean socketsResolved;
+		try(Measurement measurement = this.profiler.start(this.moduleQName.getValue(), Phase.SOCKET_RESOLUTION)) {
+			socketsResolved = this.resolveSockets();
+		}
+		boolean hasBeanCycles;
+		try(Measurement measurement = this.profiler.start(this.moduleQName.getValue(), Phase.CYCLE_DETECTION)) {
+			hasBeanCycles = this.checkBeanCycles();
+		}
+
+		List<ModuleBeanInfo> moduleBeans = Arrays.asList(this.beans);
+		if(this.beanPruningMode != BeanPruningMode.DISABLED && !hasNameConflicts && socketsResolved && !hasBeanCycles) {
+			try(Measurement measurement = this.profiler.start(this.moduleQName.getValue(), Phase.BEAN_PRUNING)) {
+				moduleBeans = this.pruneUnreachableBeans();
+			}
+		}
 
-		CompiledModuleInfo moduleInfo = new CompiledModuleInfo(this.processingEnvironment, this.moduleElement, this.moduleAnnotation, this.moduleQName, this.version, Arrays.asList(this.beans), Arrays.asList(this.sockets), Arrays.asList(this.modules));
+		CompiledModuleInfo moduleInfo = new CompiledModuleInfo(this.processingEnvironment, this.moduleElement, this.moduleAnnotation, this.moduleQName, this.version, moduleBeans, Arrays.asList(this.sockets), Arrays.asList(this.modules));
 		moduleInfo.setFaulty(hasNameConflicts || hasBeanCycles || !socketsResolved);
 		if(!hasBeanCycles) {
-			moduleInfo.accept(this.moduleSocketWiredBeansResolver, null);
+			try(Measurement measurement = this.profiler.start(this.moduleQName.getValue(), Phase.SOCKET_RESOLUTION)) {
+				moduleInfo.accept(this.moduleSocketWiredBeansResolver, null);
+			}
 		}
 		this.reportUnwiredSockets();
 		
@@ -220,7 +253,9 @@ class CompiledModuleInfoBuilder extends AbstractModuleInfoBuilder {
 			.collect(Collectors.toList())
 		);
 		
-		SocketResolver socketResolver = new SocketResolver(this.processingEnvironment, this.moduleQName, resolverBeans);
+		// Assignability results are shared by all socket resolvers
+		TypeWiringStrategy typeWiringStrategy = new TypeWiringStrategy(this.processingEnvironment, this.moduleQName);
+		SocketResolver socketResolver = new SocketResolver(this.processingEnvironment, this.moduleQName, resolverBeans, typeWiringStrategy);
 		
 		BiConsumer<BeanInfo, SocketInfo> resolvedBeanPostProcessor = (beanInfo, socketInfo) -> {
 			if(beanInfo != null) {
@@ -280,7 +315,7 @@ class CompiledModuleInfoBuilder extends AbstractModuleInfoBuilder {
 				.collect(Collectors.toList())
 			);
 			
-			socketResolver = new SocketResolver(this.processingEnvironment, this.moduleQName, resolverBeans);
+			socketResolver = new SocketResolver(this.processingEnvironment, this.moduleQName, resolverBeans, typeWiringStrategy);
 			
 			for(SocketBeanInfo socket : moduleInfo.getSockets()) {	
 				if(MultiSocketInfo.class.isAssignableFrom(socket.getClass())) {
@@ -314,6 +349,67 @@ class CompiledModuleInfoBuilder extends AbstractModuleInfoBuilder {
 			});
 	}
 	
+	private List<ModuleBeanInfo> pruneUnreachableBeans() {
+		Map<BeanQualifiedName, ModuleBeanInfo> beansByQName = Arrays.stream(this.beans).collect(Collectors.toMap(BeanInfo::getQualifiedName, Function.identity()));
+		Set<BeanQualifiedName> reachableBeans = new HashSet<>();
+		Deque<ModuleBeanInfo> pendingBeans = new ArrayDeque<>();
+		
+		// Public beans are exposed by the module and beans with init or destroy methods might have side effects
+		Arrays.stream(this.beans)
+			.filter(beanInfo -> beanInfo.getVisibility() == Bean.Visibility.PUBLIC || beanInfo.getInitElements().length > 0 || beanInfo.getDestroyElements().length > 0)
+			.forEach(beanInfo -> this.reach(beanInfo, beansByQName, reachableBeans, pendingBeans));
+		
+		// Beans wired into the sockets of component modules
+		Arrays.stream(this.modules)
+			.flatMap(moduleInfo -> Arrays.stream(moduleInfo.getSockets()))
+			.flatMap(this::getResolvedBeans)
+			.forEach(beanInfo -> this.reach(beanInfo, beansByQName, reachableBeans, pendingBeans));
+		
+		while(!pendingBeans.isEmpty()) {
+			Arrays.stream(pendingBeans.poll().getSockets())
+				.flatMap(this::getResolvedBeans)
+				.forEach(beanInfo -> this.reach(beanInfo, beansByQName, reachableBeans, pendingBeans));
+		}
+		
+		List<ModuleBeanInfo> moduleBeans = new ArrayList<>();
+		for(ModuleBeanInfo beanInfo : this.beans) {
+			if(reachableBeans.contains(beanInfo.getQualifiedName())) {
+				moduleBeans.add(beanInfo);
+			}
+			else if(this.beanPruningMode == BeanPruningMode.PRUNE) {
+				beanInfo.warning("Pruning bean which is not reachable from any public bean, component module or bean with init or destroy methods");
+			}
+			else {
+				beanInfo.warning("Bean is not reachable from any public bean, component module or bean with init or destroy methods");
+				moduleBeans.add(beanInfo);
+			}
+		}
+		return moduleBeans;
+	}
+	
+	private void reach(BeanInfo beanInfo, Map<BeanQualifiedName, ModuleBeanInfo> beansByQName, Set<BeanQualifiedName> reachableBeans, Deque<ModuleBeanInfo> pendingBeans) {
+		// A nested bean is provided by a module bean which must then be reachable as well
+		while(beanInfo instanceof NestedBeanInfo) {
+			beanInfo = ((NestedBeanInfo)beanInfo).getProvidingBean();
+		}
+		// Socket beans and beans from component modules are ignored
+		ModuleBeanInfo moduleBeanInfo = beansByQName.get(beanInfo.getQualifiedName());
+		if(moduleBeanInfo != null && reachableBeans.add(moduleBeanInfo.getQualifiedName())) {
+			pendingBeans.add(moduleBeanInfo);
+		}
+	}
+	
+	private Stream<BeanInfo> getResolvedBeans(SocketInfo socketInfo) {
+		if(socketInfo instanceof MultiSocketInfo) {
+			BeanInfo[] resolvedBeans = ((MultiSocketInfo)socketInfo).getBeans();
+			return resolvedBeans != null ? Arrays.stream(resolvedBeans) : Stream.empty();
+		}
+		else if(socketInfo instanceof SingleSocketInfo) {
+			return Stream.ofNullable(((SingleSocketInfo)socketInfo).getBean());
+		}
+		return Stream.empty();
+	}
+	
 	private boolean checkBeanCycles() {
 		BeanCycleDetector detector = new BeanCycleDetector(this.moduleQName, Stream.concat(Arrays.stream(this.beans), Arrays.stream(this.sockets)).collect(Collectors.toList()));
 		List<List<CycleInfo>> beanCycles = detector.findCycles();
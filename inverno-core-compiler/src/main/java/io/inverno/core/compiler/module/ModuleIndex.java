@@ -0,0 +1,434 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.compiler.module;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import io.inverno.core.compiler.spi.BeanQualifiedName;
+import io.inverno.core.compiler.spi.ModuleBeanInfo;
+import io.inverno.core.compiler.spi.ModuleInfo;
+import io.inverno.core.compiler.spi.MutatorBeanInfo;
+import io.inverno.core.compiler.spi.SocketBeanInfo;
+
+/**
+ * <p>
+ * A compact binary index describing the public beans and the sockets of a generated module class.
+ * </p>
+ *
+ * <p>
+ * The index is written in the class output next to the module descriptor when a module class is generated, it is then read when the module is required as a component module in another
+ * compilation in order to avoid extracting socket names and wiring from the {@code @Socket} annotations of the module class constructor and to directly select the public bean accessors of the
+ * module class. Types can't be persisted and are still resolved from the module class elements, the erased type of each public bean is stored in order to detect an index which is not consistent
+ * with the module class.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+public final class ModuleIndex {
+
+	/**
+	 * The version of the index format.
+	 */
+	public static final short FORMAT_VERSION = 1;
+
+	private static final int MAGIC = 0x494E564D;
+
+	/**
+	 * The locations where component modules are looked up.
+	 */
+	private static final List<StandardLocation> INDEX_LOCATIONS = List.of(StandardLocation.MODULE_PATH, StandardLocation.CLASS_OUTPUT);
+
+	private final String moduleName;
+
+	private final String className;
+
+	private final List<Socket> sockets;
+
+	private final List<Bean> beans;
+
+	/**
+	 * <p>
+	 * A socket entry in a module index.
+	 * </p>
+	 *
+	 * <p>
+	 * Socket entries are stored in the order of the parameters of the module class constructor.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 */
+	public static final class Socket {
+
+		private final String name;
+
+		private final boolean selectors;
+
+		private final List<String> wiredBeans;
+
+		private Socket(String name, boolean selectors, List<String> wiredBeans) {
+			this.name = name;
+			this.selectors = selectors;
+			this.wiredBeans = wiredBeans;
+		}
+
+		/**
+		 * <p>
+		 * Returns the name of the socket.
+		 * </p>
+		 *
+		 * @return the socket name
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * <p>
+		 * Determines whether the socket defines selectors.
+		 * </p>
+		 *
+		 * @return true if the socket parameter is annotated with selectors, false otherwise
+		 */
+		public boolean hasSelectors() {
+			return this.selectors;
+		}
+
+		/**
+		 * <p>
+		 * Returns the names of the beans the socket is wired to.
+		 * </p>
+		 *
+		 * @return a list of bean names
+		 */
+		public List<String> getWiredBeans() {
+			return this.wiredBeans;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A public bean entry in a module index.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 */
+	public static final class Bean {
+
+		private final String name;
+
+		private final String type;
+
+		private Bean(String name, String type) {
+			this.name = name;
+			this.type = type;
+		}
+
+		/**
+		 * <p>
+		 * Returns the name of the bean which is also the name of its accessor in the module class.
+		 * </p>
+		 *
+		 * @return the bean name
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * <p>
+		 * Returns the erased type returned by the bean accessor.
+		 * </p>
+		 *
+		 * @return the canonical name of the bean type
+		 */
+		public String getType() {
+			return this.type;
+		}
+	}
+
+	private ModuleIndex(String moduleName, String className, List<Socket> sockets, List<Bean> beans) {
+		this.moduleName = moduleName;
+		this.className = className;
+		this.sockets = Collections.unmodifiableList(sockets);
+		this.beans = Collections.unmodifiableList(beans);
+	}
+
+	/**
+	 * <p>
+	 * Creates the index of the module class generated for the specified module.
+	 * </p>
+	 *
+	 * @param processingEnvironment the processing environment
+	 * @param moduleInfo            the module
+	 *
+	 * @return a module index
+	 */
+	public static ModuleIndex of(ProcessingEnvironment processingEnvironment, ModuleInfo moduleInfo) {
+		List<Socket> sockets = new ArrayList<>();
+		for(SocketBeanInfo socketBeanInfo : moduleInfo.getSockets()) {
+			if(socketBeanInfo.isWired()) {
+				sockets.add(new Socket(socketBeanInfo.getQualifiedName().normalize(), socketBeanInfo.getSelectors().length > 0, Arrays.stream(socketBeanInfo.getWiredBeans()).map(BeanQualifiedName::getSimpleValue).toList()));
+			}
+		}
+
+		List<Bean> beans = new ArrayList<>();
+		for(ModuleBeanInfo moduleBeanInfo : moduleInfo.getBeans()) {
+			if(!moduleBeanInfo.getVisibility().equals(io.inverno.core.annotation.Bean.Visibility.PUBLIC)) {
+				continue;
+			}
+			String beanType = erasure(processingEnvironment, moduleBeanInfo.getProvidedType() != null ? moduleBeanInfo.getProvidedType() : moduleBeanInfo.getType());
+			if(moduleBeanInfo instanceof MutatorBeanInfo) {
+				SocketBeanInfo mutatingSocket = ((MutatorBeanInfo)moduleBeanInfo).getMutatingSocket();
+				if(!mutatingSocket.isWired()) {
+					// no accessor is generated
+					continue;
+				}
+				else if(mutatingSocket.isOptional()) {
+					beanType = Optional.class.getCanonicalName();
+				}
+			}
+			beans.add(new Bean(moduleBeanInfo.getQualifiedName().normalize(), beanType));
+		}
+		return new ModuleIndex(moduleInfo.getQualifiedName().getValue(), moduleInfo.getQualifiedName().getClassName(), sockets, beans);
+	}
+
+	/**
+	 * <p>
+	 * Loads the index of the specified component module.
+	 * </p>
+	 *
+	 * <p>
+	 * A component module is usually resolved from the module path but it can also be resolved from the class output when modules are compiled in multi-module mode and the component module was
+	 * compiled in a previous compilation. The index is looked up in each of these locations, any failure resolving or reading the index results in an empty optional so that the component module
+	 * is processed from its elements.
+	 * </p>
+	 *
+	 * @param processingEnvironment the processing environment
+	 * @param moduleName            the name of the component module
+	 *
+	 * @return an optional returning the module index or an empty optional if the module provides no index or if the index is not valid
+	 */
+	public static Optional<ModuleIndex> load(ProcessingEnvironment processingEnvironment, String moduleName) {
+		for(StandardLocation location : INDEX_LOCATIONS) {
+			Optional<ModuleIndex> moduleIndex = load(processingEnvironment, location, moduleName);
+			if(moduleIndex.isPresent()) {
+				return moduleIndex;
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * <p>
+	 * Loads the index of the specified component module from the specified module-oriented location.
+	 * </p>
+	 *
+	 * @param processingEnvironment the processing environment
+	 * @param location              a module-oriented location
+	 * @param moduleName            the name of the component module
+	 *
+	 * @return an optional returning the module index or an empty optional if the index could not be found in the location or if the index is not valid
+	 */
+	private static Optional<ModuleIndex> load(ProcessingEnvironment processingEnvironment, StandardLocation location, String moduleName) {
+		FileObject indexResource;
+		try {
+			indexResource = processingEnvironment.getFiler().getResource(location, moduleName + "/", getIndexPath(moduleName));
+		}
+		catch(IOException | RuntimeException e) {
+			// The module is not in that location: javac reports a FilerException or even fails with a NullPointerException when the module location can't be resolved
+			return Optional.empty();
+		}
+		try(InputStream input = indexResource.openInputStream()) {
+			ModuleIndex moduleIndex = read(input);
+			if(!moduleIndex.getModuleName().equals(moduleName)) {
+				return Optional.empty();
+			}
+			return Optional.of(moduleIndex);
+		}
+		catch(IOException | RuntimeException e) {
+			// No index or invalid index
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Reads a module index.
+	 * </p>
+	 *
+	 * @param input the input stream to read
+	 *
+	 * @return a module index
+	 *
+	 * @throws IOException if the index is not valid or if there was an error reading the input stream
+	 */
+	public static ModuleIndex read(InputStream input) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+		if(data.readInt() != MAGIC) {
+			throw new IOException("Not a module index");
+		}
+		short formatVersion = data.readShort();
+		if(formatVersion != FORMAT_VERSION) {
+			throw new IOException("Unsupported module index version: " + formatVersion);
+		}
+		String moduleName = data.readUTF();
+		String className = data.readUTF();
+
+		int socketCount = data.readInt();
+		List<Socket> sockets = new ArrayList<>(socketCount);
+		for(int i=0;i<socketCount;i++) {
+			String name = data.readUTF();
+			boolean selectors = data.readBoolean();
+			int wiredBeanCount = data.readInt();
+			List<String> wiredBeans = new ArrayList<>(wiredBeanCount);
+			for(int j=0;j<wiredBeanCount;j++) {
+				wiredBeans.add(data.readUTF());
+			}
+			sockets.add(new Socket(name, selectors, Collections.unmodifiableList(wiredBeans)));
+		}
+
+		int beanCount = data.readInt();
+		List<Bean> beans = new ArrayList<>(beanCount);
+		for(int i=0;i<beanCount;i++) {
+			beans.add(new Bean(data.readUTF(), data.readUTF()));
+		}
+		return new ModuleIndex(moduleName, className, sockets, beans);
+	}
+
+	/**
+	 * <p>
+	 * Writes the index to the specified output stream.
+	 * </p>
+	 *
+	 * @param output the output stream
+	 *
+	 * @throws IOException if there was an error writing the index
+	 */
+	public void write(OutputStream output) throws IOException {
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output));
+		data.writeInt(MAGIC);
+		data.writeShort(FORMAT_VERSION);
+		data.writeUTF(this.moduleName);
+		data.writeUTF(this.className);
+
+		data.writeInt(this.sockets.size());
+		for(Socket socket : this.sockets) {
+			data.writeUTF(socket.name);
+			data.writeBoolean(socket.selectors);
+			data.writeInt(socket.wiredBeans.size());
+			for(String wiredBean : socket.wiredBeans) {
+				data.writeUTF(wiredBean);
+			}
+		}
+
+		data.writeInt(this.beans.size());
+		for(Bean bean : this.beans) {
+			data.writeUTF(bean.name);
+			data.writeUTF(bean.type);
+		}
+		data.flush();
+	}
+
+	/**
+	 * <p>
+	 * Returns the name of the indexed module.
+	 * </p>
+	 *
+	 * @return the module name
+	 */
+	public String getModuleName() {
+		return this.moduleName;
+	}
+
+	/**
+	 * <p>
+	 * Returns the canonical name of the module class.
+	 * </p>
+	 *
+	 * @return the module class name
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sockets of the module in the order of the parameters of the module class constructor.
+	 * </p>
+	 *
+	 * @return a list of sockets
+	 */
+	public List<Socket> getSockets() {
+		return this.sockets;
+	}
+
+	/**
+	 * <p>
+	 * Returns the public beans of the module.
+	 * </p>
+	 *
+	 * @return a list of beans
+	 */
+	public List<Bean> getBeans() {
+		return this.beans;
+	}
+
+	/**
+	 * <p>
+	 * Returns the path of the index of the specified module relative to the module output.
+	 * </p>
+	 *
+	 * @param moduleName a module name
+	 *
+	 * @return a relative path
+	 */
+	public static String getIndexPath(String moduleName) {
+		return "META-INF/inverno/core/" + moduleName + "/module.idx";
+	}
+
+	/**
+	 * <p>
+	 * Returns the erased type name of a type as stored in the index.
+	 * </p>
+	 *
+	 * @param processingEnvironment the processing environment
+	 * @param type                  a type
+	 *
+	 * @return the erased type name
+	 */
+	public static String erasure(ProcessingEnvironment processingEnvironment, TypeMirror type) {
+		return processingEnvironment.getTypeUtils().erasure(type).toString();
+	}
+}
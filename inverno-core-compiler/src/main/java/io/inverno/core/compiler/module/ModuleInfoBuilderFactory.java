@@ -18,6 +18,7 @@ package io.inverno.core.compiler.module;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.ModuleElement;
 
+import io.inverno.core.compiler.profiler.CompilationProfiler;
 import io.inverno.core.compiler.spi.ModuleInfoBuilder;
 
 /**
@@ -31,7 +32,15 @@ import io.inverno.core.compiler.spi.ModuleInfoBuilder;
 public abstract class ModuleInfoBuilderFactory {
 
 	public static ModuleInfoBuilder createModuleBuilder(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement) {
-		return new CompiledModuleInfoBuilder(processingEnvironment, moduleElement);
+		return new CompiledModuleInfoBuilder(processingEnvironment, moduleElement, new CompilationProfiler(false), BeanPruningMode.DISABLED);
+	}
+	
+	public static ModuleInfoBuilder createModuleBuilder(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, CompilationProfiler profiler) {
+		return new CompiledModuleInfoBuilder(processingEnvironment, moduleElement, profiler, BeanPruningMode.DISABLED);
+	}
+	
+	public static ModuleInfoBuilder createModuleBuilder(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, CompilationProfiler profiler, BeanPruningMode beanPruningMode) {
+		return new CompiledModuleInfoBuilder(processingEnvironment, moduleElement, profiler, beanPruningMode);
 	}
 	
 	public static ModuleInfoBuilder createModuleBuilder(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, ModuleElement requiredModuleElement, Integer version) {
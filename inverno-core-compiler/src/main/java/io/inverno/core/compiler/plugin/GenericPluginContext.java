@@ -15,6 +15,9 @@
  */
 package io.inverno.core.compiler.plugin;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
@@ -34,11 +37,49 @@ class GenericPluginContext implements PluginContext {
 	private final ProcessingEnvironment processingEnvironment;
 	private final GenericCompilerOptions options;
 	
+	private final Elements elementUtils;
+	private final Types typeUtils;
+	
 	private DocTrees docTrees;
 	
-	public GenericPluginContext(ProcessingEnvironment processingEnvironment, GenericCompilerOptions options) {
+	public GenericPluginContext(ProcessingEnvironment processingEnvironment, GenericCompilerOptions options, boolean serializeModelAccess) {
 		this.processingEnvironment = processingEnvironment;
 		this.options = options;
+		if(serializeModelAccess) {
+			Object modelLock = modelLock(processingEnvironment);
+			this.elementUtils = serialized(Elements.class, processingEnvironment.getElementUtils(), modelLock);
+			this.typeUtils = serialized(Types.class, processingEnvironment.getTypeUtils(), modelLock);
+		}
+		else {
+			this.elementUtils = processingEnvironment.getElementUtils();
+			this.typeUtils = processingEnvironment.getTypeUtils();
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Returns the lock used to serialize accesses to the language model from concurrently executed plugins.
+	 * </p>
+	 * 
+	 * @param processingEnvironment the processing environment
+	 * 
+	 * @return the model lock
+	 */
+	static Object modelLock(ProcessingEnvironment processingEnvironment) {
+		return processingEnvironment.getElementUtils();
+	}
+	
+	private static <T> T serialized(Class<T> utilsType, T utils, Object lock) {
+		return utilsType.cast(Proxy.newProxyInstance(utilsType.getClassLoader(), new Class<?>[] { utilsType }, (proxy, method, args) -> {
+			synchronized(lock) {
+				try {
+					return method.invoke(utils, args);
+				}
+				catch(InvocationTargetException e) {
+					throw e.getCause();
+				}
+			}
+		}));
 	}
 
 	@Override
@@ -48,12 +89,12 @@ class GenericPluginContext implements PluginContext {
 	
 	@Override
 	public Elements getElementUtils() {
-		return this.processingEnvironment.getElementUtils();
+		return this.elementUtils;
 	}
 
 	@Override
 	public Types getTypeUtils() {
-		return this.processingEnvironment.getTypeUtils();
+		return this.typeUtils;
 	}
 	
 	@Override
@@ -122,17 +122,21 @@ class GenericPluginExecution implements PluginExecution {
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T extends Element> Set<T> getElementsAnnotatedWith(Class<? extends Annotation> a) {
-		return (Set<T>) this.elements.stream().filter(element -> element.getAnnotation(a) != null).collect(Collectors.toSet());
+		synchronized(GenericPluginContext.modelLock(this.processingEnvironment)) {
+			return (Set<T>) this.elements.stream().filter(element -> element.getAnnotation(a) != null).collect(Collectors.toSet());
+		}
 	}
 	
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T extends Element> Set<T> getElementsAnnotatedWith(TypeElement a) {
-		if(a.getKind() != ElementKind.ANNOTATION_TYPE) {
-			throw new IllegalArgumentException(a + " is not an annotation type");
+		synchronized(GenericPluginContext.modelLock(this.processingEnvironment)) {
+			if(a.getKind() != ElementKind.ANNOTATION_TYPE) {
+				throw new IllegalArgumentException(a + " is not an annotation type");
+			}
+			TypeMirror annotationType = a.asType();
+			return (Set<T>) this.elements.stream().filter(element -> element.getAnnotationMirrors().stream().anyMatch(anno -> this.processingEnvironment.getTypeUtils().isSameType(anno.getAnnotationType(), annotationType))).collect(Collectors.toSet());
 		}
-		TypeMirror annotationType = a.asType();
-		return (Set<T>) this.elements.stream().filter(element -> element.getAnnotationMirrors().stream().anyMatch(anno -> this.processingEnvironment.getTypeUtils().isSameType(anno.getAnnotationType(), annotationType))).collect(Collectors.toSet());
 	}
 	
 	@Override
@@ -161,28 +165,39 @@ class GenericPluginExecution implements PluginExecution {
 
 	@Override
 	public void createSourceFile(String name, Element[] originatingElements, Supplier<String> source) throws IOException {
-		JavaFileObject sourceFile = this.processingEnvironment.getFiler().createSourceFile(name, originatingElements);
-		try(Writer writer = sourceFile.openWriter()) {
-			writer.write(source.get());
-			writer.flush();
+		// The source is generated outside the lock so that thread-safe plugins can generate sources concurrently
+		String content = source.get();
+		JavaFileObject sourceFile;
+		// The Filer is not thread-safe
+		synchronized(this.processingEnvironment.getFiler()) {
+			sourceFile = this.processingEnvironment.getFiler().createSourceFile(name, originatingElements);
+			try(Writer writer = sourceFile.openWriter()) {
+				writer.write(content);
+				writer.flush();
+			}
 		}
 		this.generatedSourceFiles.add(sourceFile);
 	}
 	
 	@Override
 	public void createResourceFile(String path, Element[] originatingElements, Supplier<String> resource) throws IOException {
+		// The resource is generated outside the lock so that thread-safe plugins can generate resources concurrently
+		String content = resource.get();
 		FileObject resourceFile;
-		try {
-			// module oriented
-			resourceFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, this.moduleQualifiedName.getValue() + "/", path, originatingElements);
-		}
-		catch (FilerException e) {
-			// not module oriented after all
-			resourceFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path, originatingElements);
-		}
-		try(Writer writer = resourceFile.openWriter()) {
-			writer.write(resource.get());
-			writer.flush();
+		// The Filer is not thread-safe
+		synchronized(this.processingEnvironment.getFiler()) {
+			try {
+				// module oriented
+				resourceFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, this.moduleQualifiedName.getValue() + "/", path, originatingElements);
+			}
+			catch (FilerException e) {
+				// not module oriented after all
+				resourceFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path, originatingElements);
+			}
+			try(Writer writer = resourceFile.openWriter()) {
+				writer.write(content);
+				writer.flush();
+			}
 		}
 		this.generatedResourceFiles.add(resourceFile);
 	}
@@ -190,13 +205,16 @@ class GenericPluginExecution implements PluginExecution {
 	@Override
 	public Path getModuleSourceDir() throws IOException {
 		FileObject dummy;
-		try {
-			// module oriented
-			dummy = this.processingEnvironment.getFiler().getResource(StandardLocation.SOURCE_PATH, this.moduleQualifiedName.getValue() + "/", "module-info.java");
-		}
-		catch (FilerException e) {
-			// not module oriented after all
-			dummy = this.processingEnvironment.getFiler().getResource(StandardLocation.SOURCE_PATH, "", "module-info.java");
+		// The Filer is not thread-safe
+		synchronized(this.processingEnvironment.getFiler()) {
+			try {
+				// module oriented
+				dummy = this.processingEnvironment.getFiler().getResource(StandardLocation.SOURCE_PATH, this.moduleQualifiedName.getValue() + "/", "module-info.java");
+			}
+			catch (FilerException e) {
+				// not module oriented after all
+				dummy = this.processingEnvironment.getFiler().getResource(StandardLocation.SOURCE_PATH, "", "module-info.java");
+			}
 		}
 		// If there's no module-info.java file in the source path this method throws a FileNotFoundException
 		// This should actually never happen since if we get there it means we are compiling an Inverno module
@@ -15,13 +15,18 @@
  */
 package io.inverno.core.compiler.plugin;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.function.Function;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import javax.annotation.processing.ProcessingEnvironment;
@@ -32,6 +37,9 @@ import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic.Kind;
 
 import io.inverno.core.compiler.GenericCompilerOptions;
+import io.inverno.core.compiler.profiler.CompilationProfiler;
+import io.inverno.core.compiler.profiler.CompilationProfiler.Measurement;
+import io.inverno.core.compiler.profiler.CompilationProfiler.Phase;
 import io.inverno.core.compiler.spi.BeanInfo;
 import io.inverno.core.compiler.spi.ModuleInfo;
 import io.inverno.core.compiler.spi.ModuleQualifiedName;
@@ -58,14 +66,22 @@ public class PluginsExecutionTask implements Callable<PluginsExecutionResult> {
 	
 	private final Map<CompilerPlugin, Set<Element>> elementsByPlugins;
 	
-	PluginsExecutionTask(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, ModuleQualifiedName module, GenericCompilerOptions options, Set<? extends CompilerPlugin> plugins, List<? extends BeanInfo> beans, List<? extends ModuleInfo> modules) {
+	private final ExecutorService executorService;
+	
+	private final CompilationProfiler profiler;
+	
+	PluginsExecutionTask(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, ModuleQualifiedName module, GenericCompilerOptions options, Set<? extends CompilerPlugin> plugins, List<? extends BeanInfo> beans, List<? extends ModuleInfo> modules, ExecutorService executorService, CompilationProfiler profiler) {
 		this.processingEnvironment = processingEnvironment;
 		this.moduleElement = moduleElement;
 		this.moduleQualifiedName = module;
 		this.beans = beans;
 		this.modules = modules;
 		this.options = options;
-		this.elementsByPlugins = plugins.stream().collect(Collectors.toMap(Function.identity(), plugin -> new HashSet<>()));
+		this.executorService = executorService;
+		this.profiler = profiler;
+		// Plugins are sorted to get deterministic results whatever the order in which they are executed
+		this.elementsByPlugins = new LinkedHashMap<>();
+		plugins.stream().sorted(Comparator.comparing(plugin -> plugin.getClass().getName())).forEach(plugin -> this.elementsByPlugins.put(plugin, new HashSet<>()));
 	}
 
 	public ModuleQualifiedName getModule() {
@@ -107,65 +123,114 @@ public class PluginsExecutionTask implements Callable<PluginsExecutionResult> {
 		if(this.options.isVerbose()) {
 			System.out.println("Executing plugins for module " + this.moduleQualifiedName + "...");
 		}
-		PluginsExecutionResult result = new PluginsExecutionResult(this.elementsByPlugins.entrySet().stream()
-			.map(entry -> {
-				if(this.options.isVerbose()) {
-					System.out.print(" - " + entry.getKey().getClass().getCanonicalName() + " (" + entry.getValue().size() + " elements)... ");
+		
+		List<StringBuilder> executionLogs = new ArrayList<>(this.elementsByPlugins.size());
+		List<GenericPluginExecution> executions = new ArrayList<>(this.elementsByPlugins.size());
+		for(Map.Entry<CompilerPlugin, Set<Element>> entry : this.elementsByPlugins.entrySet()) {
+			StringBuilder executionLog = new StringBuilder();
+			executionLogs.add(executionLog);
+			// Other plugins are executed first in the compiler thread, they must never overlap with thread-safe plugins since the language model is not thread-safe
+			if(this.executorService != null && entry.getKey().isThreadSafe()) {
+				executions.add(null);
+			}
+			else {
+				executions.add(this.execute(entry.getKey(), entry.getValue(), executionLog));
+			}
+		}
+		
+		List<Future<GenericPluginExecution>> concurrentExecutions = new ArrayList<>(this.elementsByPlugins.size());
+		int index = 0;
+		for(Map.Entry<CompilerPlugin, Set<Element>> entry : this.elementsByPlugins.entrySet()) {
+			if(this.executorService != null && entry.getKey().isThreadSafe()) {
+				StringBuilder executionLog = executionLogs.get(index);
+				concurrentExecutions.add(this.executorService.submit(() -> this.execute(entry.getKey(), entry.getValue(), executionLog)));
+			}
+			else {
+				concurrentExecutions.add(null);
+			}
+			index++;
+		}
+		
+		for(index = 0;index < executions.size();index++) {
+			Future<GenericPluginExecution> concurrentExecution = concurrentExecutions.get(index);
+			if(concurrentExecution != null) {
+				try {
+					executions.set(index, concurrentExecution.get());
 				}
-				if(entry.getKey().canExecute(this.moduleElement)) {
-					GenericPluginExecution execution = new GenericPluginExecution(this.processingEnvironment, this.moduleElement, this.moduleQualifiedName, entry.getValue(), this.beans, this.modules);
-					try {
-						// We want to execute a plugin even if annotated elements are not considered since we also want to process module beans
-						entry.getKey().execute(execution);
-						if(this.options.isVerbose()) {
-							if(execution.hasError()) {
-								System.out.println("[  KO  ]");
-							}
-							else {
-								System.out.println("[  OK  ]");
-							}
-							if(execution.hasGeneratedSourceFiles()) {
-								System.out.println(execution.getGeneratedSourceFiles().stream().map(source -> "     - " + source.toUri().toString()).collect(Collectors.joining("\n")));
-							}
-							if(execution.hasGeneratedResourceFiles()) {
-								System.out.println(execution.getGeneratedResourceFiles().stream().map(source -> "     - " + source.toUri().toString()).collect(Collectors.joining("\n")));
-							}
-						}
-					}
-					catch (PluginExecutionException e) {
-						execution.setFailed(true);
-						if(this.options.isVerbose()) {
-							System.out.println("[  KO  ]");
-						}
-						this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Error executing plugin " + entry.getKey().getClass() + " for module " + this.moduleQualifiedName + ": " + e.getMessage());
-						if(this.options.isDebug()) {
-							e.printStackTrace();
-						}
-					}
-					catch (Throwable t) {
-						execution.setFailed(true);
-						if(this.options.isVerbose()) {
-							System.out.println("[  KO  ]");
-						}
-						this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Fatal error executing plugin " + entry.getKey().getClass() + " for module " + this.moduleQualifiedName);
-						t.printStackTrace();
-					}
-					return execution;
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while executing plugins for module " + this.moduleQualifiedName, e);
 				}
-				else {
-					if(this.options.isVerbose()) {
-						System.out.println("[ SKIP ]");
-					}
-					return null;
+				catch (ExecutionException e) {
+					throw new IllegalStateException("Error executing plugins for module " + this.moduleQualifiedName, e.getCause());
 				}
-				
-			})
-			.filter(Objects::nonNull)
-			.collect(Collectors.toList())
-		);
+			}
+			if(this.options.isVerbose()) {
+				System.out.print(executionLogs.get(index));
+			}
+		}
+		
+		PluginsExecutionResult result = new PluginsExecutionResult(executions.stream().filter(Objects::nonNull).collect(Collectors.toList()));
 		if(this.options.isVerbose()) {
 			System.out.println();
 		}
 		return result;
 	}
+	
+	@SuppressWarnings("try")
+	private GenericPluginExecution execute(CompilerPlugin plugin, Set<Element> elements, StringBuilder executionLog) {
+		if(this.options.isVerbose()) {
+			executionLog.append(" - ").append(plugin.getClass().getCanonicalName()).append(" (").append(elements.size()).append(" elements)... ");
+		}
+		if(plugin.canExecute(this.moduleElement)) {
+			GenericPluginExecution execution = new GenericPluginExecution(this.processingEnvironment, this.moduleElement, this.moduleQualifiedName, elements, this.beans, this.modules);
+			try(Measurement measurement = this.profiler.start(this.moduleQualifiedName.getValue(), Phase.PLUGIN_EXECUTION, plugin.getClass().getCanonicalName())) {
+				// We want to execute a plugin even if annotated elements are not considered since we also want to process module beans
+				plugin.execute(execution);
+				if(this.options.isVerbose()) {
+					if(execution.hasError()) {
+						executionLog.append("[  KO  ]").append(System.lineSeparator());
+					}
+					else {
+						executionLog.append("[  OK  ]").append(System.lineSeparator());
+					}
+					if(execution.hasGeneratedSourceFiles()) {
+						executionLog.append(execution.getGeneratedSourceFiles().stream().map(source -> "     - " + source.toUri().toString()).collect(Collectors.joining("\n"))).append(System.lineSeparator());
+					}
+					if(execution.hasGeneratedResourceFiles()) {
+						executionLog.append(execution.getGeneratedResourceFiles().stream().map(source -> "     - " + source.toUri().toString()).collect(Collectors.joining("\n"))).append(System.lineSeparator());
+					}
+				}
+			}
+			catch (PluginExecutionException e) {
+				execution.setFailed(true);
+				if(this.options.isVerbose()) {
+					executionLog.append("[  KO  ]").append(System.lineSeparator());
+				}
+				synchronized(this.processingEnvironment.getMessager()) {
+					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Error executing plugin " + plugin.getClass() + " for module " + this.moduleQualifiedName + ": " + e.getMessage());
+				}
+				if(this.options.isDebug()) {
+					e.printStackTrace();
+				}
+			}
+			catch (Throwable t) {
+				execution.setFailed(true);
+				if(this.options.isVerbose()) {
+					executionLog.append("[  KO  ]").append(System.lineSeparator());
+				}
+				synchronized(this.processingEnvironment.getMessager()) {
+					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Fatal error executing plugin " + plugin.getClass() + " for module " + this.moduleQualifiedName);
+				}
+				t.printStackTrace();
+			}
+			return execution;
+		}
+		else {
+			if(this.options.isVerbose()) {
+				executionLog.append("[ SKIP ]").append(System.lineSeparator());
+			}
+			return null;
+		}
+	}
 }
@@ -21,6 +21,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.annotation.processing.ProcessingEnvironment;
@@ -28,6 +32,7 @@ import javax.lang.model.element.ModuleElement;
 
 import io.inverno.core.compiler.GenericCompilerOptions;
 import io.inverno.core.compiler.InvernoCompiler;
+import io.inverno.core.compiler.profiler.CompilationProfiler;
 import io.inverno.core.compiler.spi.BeanInfo;
 import io.inverno.core.compiler.spi.ModuleInfo;
 import io.inverno.core.compiler.spi.ModuleQualifiedName;
@@ -43,13 +48,18 @@ public class PluginsExecutor {
 	
 	private final GenericCompilerOptions options;
 	
+	private final CompilationProfiler profiler;
+	
 	private Set<CompilerPlugin> plugins;
 	
 	private Map<ModuleQualifiedName, PluginsExecutionTask> executionByModule;
 	
-	public PluginsExecutor(ProcessingEnvironment processingEnvironment, GenericCompilerOptions options) {
+	private ThreadPoolExecutor executorService;
+	
+	public PluginsExecutor(ProcessingEnvironment processingEnvironment, GenericCompilerOptions options, CompilationProfiler profiler) {
 		this.processingEnvironment = processingEnvironment;
 		this.options = options;
+		this.profiler = profiler;
 		this.executionByModule = new HashMap<>();
 		
 		this.loadPlugins();
@@ -67,13 +77,49 @@ public class PluginsExecutor {
 			loader = ServiceLoader.load(CompilerPlugin.class, PluginsExecutor.class.getClassLoader());
 		}
 		
-		this.plugins = loader.stream().map(provider -> {
-			CompilerPlugin plugin = provider.get();
-			plugin.init(new GenericPluginContext(this.processingEnvironment, this.options.withFilter(name -> plugin.getSupportedOptions() != null && plugin.getSupportedOptions().contains(name))));
-			return plugin;
-		})
-		.filter(Objects::nonNull)
-		.collect(Collectors.toSet());
+		this.plugins = loader.stream().map(ServiceLoader.Provider::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+		
+		this.createExecutorService();
+		
+		// Plugins executed concurrently must access the language model through serialized utilities
+		boolean serializeModelAccess = this.executorService != null;
+		for(CompilerPlugin plugin : this.plugins) {
+			plugin.init(new GenericPluginContext(this.processingEnvironment, this.options.withFilter(name -> plugin.getSupportedOptions() != null && plugin.getSupportedOptions().contains(name)), serializeModelAccess));
+		}
+	}
+	
+	private void createExecutorService() {
+		// Thread-safe plugins are only executed concurrently when there are at least two of them
+		int threadSafePluginsCount = (int)this.plugins.stream().filter(CompilerPlugin::isThreadSafe).count();
+		if(threadSafePluginsCount > 1) {
+			int poolSize = Math.min(threadSafePluginsCount, Runtime.getRuntime().availableProcessors());
+			AtomicInteger threadIndex = new AtomicInteger();
+			this.executorService = new ThreadPoolExecutor(poolSize, poolSize, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				// Daemon threads do not prevent the compiler from exiting
+				Thread thread = new Thread(runnable, "inverno-compiler-plugin-" + threadIndex.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			// Idle threads are released between rounds and when the compiler is embedded in a long-running process
+			this.executorService.allowCoreThreadTimeOut(true);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Shuts down the pool of threads used to execute thread-safe plugins.
+	 * </p>
+	 * 
+	 * <p>
+	 * This must be invoked when processing is over, plugins can no longer be executed afterwards.
+	 * </p>
+	 */
+	public void shutdown() {
+		if(this.executorService != null) {
+			this.executorService.shutdown();
+		}
 	}
 	
 	public Set<CompilerPlugin> getPlugins() {
@@ -82,7 +128,7 @@ public class PluginsExecutor {
 	
 	public PluginsExecutionTask getTask(ModuleElement moduleElement, ModuleQualifiedName moduleQualifiedName, List<? extends BeanInfo> beans, List<? extends ModuleInfo> modules) {
 		if(!this.executionByModule.containsKey(moduleQualifiedName)) {
-			this.executionByModule.put(moduleQualifiedName, new PluginsExecutionTask(this.processingEnvironment, moduleElement, moduleQualifiedName, this.options, this.plugins, beans, modules));
+			this.executionByModule.put(moduleQualifiedName, new PluginsExecutionTask(this.processingEnvironment, moduleElement, moduleQualifiedName, this.options, this.plugins, beans, modules, this.executorService, this.profiler));
 		}
 		return this.executionByModule.get(moduleQualifiedName);
 	}
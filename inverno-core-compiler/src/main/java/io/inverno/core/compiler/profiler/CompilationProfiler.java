@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.compiler.profiler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * A compilation profiler records the wall time and the memory allocated by the compiler thread during each phase of the compilation of a module.
+ * </p>
+ *
+ * <p>
+ * Measurements of the same phase are accumulated, for instance the extraction time of all the beans of a module is recorded under the {@link Phase#BEAN_EXTRACTION} phase. Plugin executions are
+ * recorded separately for each plugin. Allocated memory is only reported when the current JVM supports thread allocated memory measurement, it is reported as {@code -1} otherwise.
+ * </p>
+ *
+ * <p>
+ * A profiler is thread-safe and can record phases executed concurrently such as the executions of thread-safe compiler plugins.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+public class CompilationProfiler {
+
+	/**
+	 * <p>
+	 * The phases of the compilation of a module.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 */
+	public enum Phase {
+		/**
+		 * Extraction of module bean and socket bean info from compiled elements.
+		 */
+		BEAN_EXTRACTION("beanExtraction"),
+		/**
+		 * Resolution of the beans wired to the sockets of the module.
+		 */
+		SOCKET_RESOLUTION("socketResolution"),
+		/**
+		 * Detection of cycles in the bean dependency graph.
+		 */
+		CYCLE_DETECTION("cycleDetection"),
+		/**
+		 * Pruning of the private beans which are not reachable.
+		 */
+		BEAN_PRUNING("beanPruning"),
+		/**
+		 * Execution of a compiler plugin.
+		 */
+		PLUGIN_EXECUTION("pluginExecution"),
+		/**
+		 * Generation of the module class.
+		 */
+		CLASS_GENERATION("classGeneration"),
+		/**
+		 * Generation of the module descriptor.
+		 */
+		DESCRIPTOR_GENERATION("descriptorGeneration");
+
+		private final String name;
+
+		Phase(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return this.name;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A measurement of a phase which is recorded when it is closed.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 */
+	public interface Measurement extends AutoCloseable {
+
+		@Override
+		void close();
+	}
+
+	private static final Measurement NOOP_MEASUREMENT = () -> {};
+
+	private static final ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+	private final boolean enabled;
+
+	private final Map<String, Map<PhaseKey, PhaseStatistics>> statisticsByModule;
+
+	/**
+	 * <p>
+	 * Creates a compilation profiler.
+	 * </p>
+	 *
+	 * @param enabled true to record measurements, false to ignore them
+	 */
+	public CompilationProfiler(boolean enabled) {
+		this.enabled = enabled;
+		this.statisticsByModule = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * <p>
+	 * Determines whether the profiler records measurements.
+	 * </p>
+	 *
+	 * @return true if the profiler is enabled, false otherwise
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * <p>
+	 * Starts measuring a phase of the compilation of a module.
+	 * </p>
+	 *
+	 * @param moduleName the name of the compiled module
+	 * @param phase      the compilation phase
+	 *
+	 * @return a measurement to close when the phase completes
+	 */
+	public Measurement start(String moduleName, Phase phase) {
+		return this.start(moduleName, phase, null);
+	}
+
+	/**
+	 * <p>
+	 * Starts measuring a phase of the compilation of a module.
+	 * </p>
+	 *
+	 * @param moduleName the name of the compiled module
+	 * @param phase      the compilation phase
+	 * @param detail     a detail identifying the phase (eg. the plugin class name) or null
+	 *
+	 * @return a measurement to close when the phase completes
+	 */
+	public Measurement start(String moduleName, Phase phase, String detail) {
+		if(!this.enabled) {
+			return NOOP_MEASUREMENT;
+		}
+		long startTime = System.nanoTime();
+		long startAllocatedBytes = getCurrentThreadAllocatedBytes();
+		return () -> {
+			long time = System.nanoTime() - startTime;
+			long allocatedBytes = startAllocatedBytes >= 0 ? getCurrentThreadAllocatedBytes() - startAllocatedBytes : -1;
+			this.statisticsByModule.computeIfAbsent(moduleName, ign -> new ConcurrentHashMap<>())
+				.computeIfAbsent(new PhaseKey(phase, detail), PhaseStatistics::new)
+				.add(time, allocatedBytes);
+		};
+	}
+
+	/**
+	 * <p>
+	 * Returns the JSON report of the phases recorded for the specified module.
+	 * </p>
+	 *
+	 * <p>
+	 * Phases are reported in the order in which they are executed during the compilation, times are expressed in milliseconds and allocated memory in bytes.
+	 * </p>
+	 *
+	 * @param moduleName the name of the compiled module
+	 *
+	 * @return a JSON report
+	 */
+	public String report(String moduleName) {
+		List<PhaseStatistics> phases = this.statisticsByModule.getOrDefault(moduleName, Map.of()).values().stream()
+			.sorted(Comparator.comparing((PhaseStatistics statistics) -> statistics.key.phase).thenComparing(statistics -> statistics.key.detail != null ? statistics.key.detail : ""))
+			.collect(Collectors.toList());
+
+		StringBuilder report = new StringBuilder();
+		report.append("{\n");
+		report.append("\t\"module\": \"").append(moduleName).append("\",\n");
+		report.append("\t\"phases\": [");
+		for(int i = 0;i < phases.size();i++) {
+			report.append(i > 0 ? ",\n" : "\n");
+			phases.get(i).report(report, "\t\t");
+		}
+		report.append(phases.isEmpty() ? "]\n" : "\n\t]\n");
+		report.append("}\n");
+		return report.toString();
+	}
+
+	private static ThreadMXBean getThreadMXBean() {
+		try {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if(threadMXBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean)threadMXBean).isThreadAllocatedMemorySupported()) {
+				return threadMXBean;
+			}
+		}
+		catch(LinkageError e) {
+			// jdk.management might not be available in the module layer in which the compiler is executed
+		}
+		return null;
+	}
+
+	private static long getCurrentThreadAllocatedBytes() {
+		if(THREAD_MX_BEAN == null) {
+			return -1;
+		}
+		return ((com.sun.management.ThreadMXBean)THREAD_MX_BEAN).getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * <p>
+	 * Identifies a recorded phase.
+	 * </p>
+	 */
+	private static class PhaseKey {
+
+		private final Phase phase;
+
+		private final String detail;
+
+		public PhaseKey(Phase phase, String detail) {
+			this.phase = phase;
+			this.detail = detail;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.phase, this.detail);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(this == obj) {
+				return true;
+			}
+			if(obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			PhaseKey other = (PhaseKey) obj;
+			return this.phase == other.phase && Objects.equals(this.detail, other.detail);
+		}
+	}
+
+	/**
+	 * <p>
+	 * The statistics accumulated for a phase.
+	 * </p>
+	 */
+	private static class PhaseStatistics {
+
+		private final PhaseKey key;
+
+		private int count;
+
+		private long time;
+
+		private long allocatedBytes;
+
+		public PhaseStatistics(PhaseKey key) {
+			this.key = key;
+		}
+
+		public synchronized void add(long time, long allocatedBytes) {
+			this.count++;
+			this.time += time;
+			this.allocatedBytes = this.allocatedBytes >= 0 && allocatedBytes >= 0 ? this.allocatedBytes + allocatedBytes : -1;
+		}
+
+		public synchronized void report(StringBuilder report, String indent) {
+			report.append(indent).append("{\n");
+			report.append(indent).append("\t\"phase\": \"").append(this.key.phase).append("\",\n");
+			if(this.key.detail != null) {
+				report.append(indent).append("\t\"detail\": \"").append(this.key.detail).append("\",\n");
+			}
+			report.append(indent).append("\t\"count\": ").append(this.count).append(",\n");
+			report.append(indent).append("\t\"time\": ").append(String.format(Locale.ROOT, "%.3f", this.time / 1000000.0)).append(",\n");
+			report.append(indent).append("\t\"allocated\": ").append(this.allocatedBytes).append("\n");
+			report.append(indent).append("}");
+		}
+	}
+}
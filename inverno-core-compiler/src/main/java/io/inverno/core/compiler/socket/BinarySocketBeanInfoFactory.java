@@ -37,6 +37,7 @@ import javax.lang.model.type.TypeMirror;
 
 import io.inverno.core.annotation.Selector;
 import io.inverno.core.compiler.InvernoCompiler;
+import io.inverno.core.compiler.module.ModuleIndex;
 import io.inverno.core.compiler.spi.BeanQualifiedName;
 import io.inverno.core.compiler.spi.MultiSocketType;
 import io.inverno.core.compiler.spi.SocketBeanInfo;
@@ -60,14 +61,19 @@ class BinarySocketBeanInfoFactory extends SocketBeanInfoFactory {
 	
 	private final TypeMirror socketAnnotationType;
 	
+	private final ModuleIndex moduleIndex;
+	
 	/**
 	 * @param processingEnvironment
 	 * @param moduleElement
+	 * @param compiledModuleElement
+	 * @param moduleIndex
 	 */
-	public BinarySocketBeanInfoFactory(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, ModuleElement compiledModuleElement) {
+	public BinarySocketBeanInfoFactory(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, ModuleElement compiledModuleElement, ModuleIndex moduleIndex) {
 		super(processingEnvironment, moduleElement);
 		
 		this.compiledModuleElement = compiledModuleElement;
+		this.moduleIndex = moduleIndex;
 		this.supplierType = this.processingEnvironment.getTypeUtils().erasure(this.processingEnvironment.getElementUtils().getTypeElement(Supplier.class.getCanonicalName()).asType());
 		this.optionalType = this.processingEnvironment.getTypeUtils().erasure(this.processingEnvironment.getElementUtils().getTypeElement(Optional.class.getCanonicalName()).asType());
 		this.socketAnnotationType = this.processingEnvironment.getElementUtils().getTypeElement("io.inverno.core.v1.Module.Socket").asType();
@@ -99,19 +105,29 @@ class BinarySocketBeanInfoFactory extends SocketBeanInfoFactory {
 			throw new IllegalArgumentException("A socket bean must be an interface");
 		}
 		
-		Optional<? extends AnnotationMirror> socketAnnotation = variableElement.getAnnotationMirrors().stream().filter(a -> this.processingEnvironment.getTypeUtils().isSameType(a.getAnnotationType(), this.socketAnnotationType)).findFirst();
-		if(!socketAnnotation.isPresent()) {
-			throw new IllegalArgumentException("The specified element does not provide socket information");
-		}
-		
 		String socketName = null;
 		Set<BeanQualifiedName> wiredBeanQNames = Set.of();
-		for(Entry<? extends ExecutableElement, ? extends AnnotationValue> value : this.processingEnvironment.getElementUtils().getElementValuesWithDefaults(socketAnnotation.get()).entrySet()) {
-			switch(value.getKey().getSimpleName().toString()) {
-				case "name" : socketName = (String)value.getValue().getValue();
-					break;
-				case "wiredTo" : wiredBeanQNames = ((List<AnnotationValue>)value.getValue().getValue()).stream().map(v -> (String)v.getValue()).map(name -> new BeanQualifiedName(this.moduleQName, name)).collect(Collectors.toSet());
-					break;
+		boolean hasSelectors = true;
+		if(this.moduleIndex != null) {
+			// Socket information are directly provided by the index of the module
+			ModuleIndex.Socket indexedSocket = this.moduleIndex.getSockets().get(socketElement.getParameters().indexOf(variableElement));
+			socketName = indexedSocket.getName();
+			wiredBeanQNames = indexedSocket.getWiredBeans().stream().map(name -> new BeanQualifiedName(this.moduleQName, name)).collect(Collectors.toSet());
+			hasSelectors = indexedSocket.hasSelectors();
+		}
+		else {
+			Optional<? extends AnnotationMirror> socketAnnotation = variableElement.getAnnotationMirrors().stream().filter(a -> this.processingEnvironment.getTypeUtils().isSameType(a.getAnnotationType(), this.socketAnnotationType)).findFirst();
+			if(!socketAnnotation.isPresent()) {
+				throw new IllegalArgumentException("The specified element does not provide socket information");
+			}
+			
+			for(Entry<? extends ExecutableElement, ? extends AnnotationValue> value : this.processingEnvironment.getElementUtils().getElementValuesWithDefaults(socketAnnotation.get()).entrySet()) {
+				switch(value.getKey().getSimpleName().toString()) {
+					case "name" : socketName = (String)value.getValue().getValue();
+						break;
+					case "wiredTo" : wiredBeanQNames = ((List<AnnotationValue>)value.getValue().getValue()).stream().map(v -> (String)v.getValue()).map(name -> new BeanQualifiedName(this.moduleQName, name)).collect(Collectors.toSet());
+						break;
+				}
 			}
 		}
 		
@@ -147,7 +163,7 @@ class BinarySocketBeanInfoFactory extends SocketBeanInfoFactory {
 		// This should never throw a QualifiedNameFormatException as it should have already been tested when the module was compiled
 		BeanQualifiedName socketQName = new BeanQualifiedName(this.moduleQName, socketName);
 
-		AnnotationMirror[] selectors = element.getAnnotationMirrors().stream().filter(a -> a.getAnnotationType().asElement().getAnnotation(Selector.class) != null).toArray(AnnotationMirror[]::new);
+		AnnotationMirror[] selectors = hasSelectors ? element.getAnnotationMirrors().stream().filter(a -> a.getAnnotationType().asElement().getAnnotation(Selector.class) != null).toArray(AnnotationMirror[]::new) : new AnnotationMirror[0];
 		
 		MultiSocketType multiType = this.getMultiType(beanType);
 		final AbstractSocketBeanInfo moduleSocketInfo;
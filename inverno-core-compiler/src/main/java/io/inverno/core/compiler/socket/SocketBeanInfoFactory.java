@@ -21,6 +21,7 @@ import javax.lang.model.element.ModuleElement;
 
 import io.inverno.core.compiler.InvernoCompiler;
 import io.inverno.core.compiler.common.AbstractSocketInfoFactory;
+import io.inverno.core.compiler.module.ModuleIndex;
 
 /**
  * <p>
@@ -45,6 +46,26 @@ public abstract class SocketBeanInfoFactory extends AbstractSocketInfoFactory {
 	}
 	
 	public static SocketBeanInfoFactory create(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, ModuleElement requiredModuleElement, Integer version) {
+		return create(processingEnvironment, moduleElement, requiredModuleElement, null, version);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a socket bean info factory for a required binary module whose socket names and wiring are provided by the specified module index instead of the {@code @Socket} annotations of the
+	 * module class constructor.
+	 * </p>
+	 * 
+	 * @param processingEnvironment the processing environment
+	 * @param moduleElement         the module element
+	 * @param requiredModuleElement the required module element
+	 * @param moduleIndex           the index of the required module or null to extract socket information from the module class constructor
+	 * @param version               the version of the required module
+	 * 
+	 * @return a socket bean info factory
+	 * 
+	 * @since 1.7
+	 */
+	public static SocketBeanInfoFactory create(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, ModuleElement requiredModuleElement, ModuleIndex moduleIndex, Integer version) {
 		if(moduleElement.getDirectives().stream().noneMatch(directive -> directive.getKind().equals(ModuleElement.DirectiveKind.REQUIRES) && ((ModuleElement.RequiresDirective)directive).getDependency().equals(requiredModuleElement))) {
 			throw new IllegalArgumentException("The specified element is not required in module " + moduleElement.getQualifiedName().toString());
 		}
@@ -53,7 +74,7 @@ public abstract class SocketBeanInfoFactory extends AbstractSocketInfoFactory {
 			throw new IllegalStateException("Version of required module can't be null");			
 		}
 		switch(version) {
-			case 1: return new BinarySocketBeanInfoFactory(processingEnvironment, requiredModuleElement, moduleElement);
+			case 1: return new BinarySocketBeanInfoFactory(processingEnvironment, requiredModuleElement, moduleElement, moduleIndex);
 			default: throw new IllegalStateException("Unsupported version: " + version);
 		}
 	}
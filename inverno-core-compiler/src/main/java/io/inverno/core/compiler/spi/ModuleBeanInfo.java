@@ -48,6 +48,36 @@ public interface ModuleBeanInfo extends BeanInfo {
 	 */
 	Bean.Strategy getStrategy();
 
+	/**
+	 * <p>
+	 * Returns the configuration of the pool of a {@link Bean.Strategy#POOLED} bean.
+	 * </p>
+	 *
+	 * <p>
+	 * The type provided by a pooled bean is a {@code io.inverno.core.v1.BeanPool} of the actual bean type or of the type explicitly provided by the bean.
+	 * </p>
+	 *
+	 * @return a pool info or null if the bean is not pooled
+	 * 
+	 * @since 1.7
+	 */
+	PoolInfo getPoolInfo();
+
+	/**
+	 * <p>
+	 * Determines whether the bean is lazy.
+	 * </p>
+	 *
+	 * <p>
+	 * A lazy {@link Bean.Strategy#SINGLETON} bean is not created when the module is started but the first time it is requested.
+	 * </p>
+	 *
+	 * @return true if the bean is lazy, false otherwise
+	 *
+	 * @since 1.7
+	 */
+	boolean isLazy();
+
 	/**
 	 * <p>
 	 * Returns the visibility of the bean.
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.compiler.spi;
+
+import io.inverno.core.annotation.Bean;
+
+/**
+ * <p>
+ * A pool info holds the configuration of the pool of a {@link Bean.Strategy#POOLED} bean.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+public interface PoolInfo {
+
+	/**
+	 * <p>
+	 * Returns the minimum size of the pool.
+	 * </p>
+	 *
+	 * @return the minimum size
+	 */
+	int getMinSize();
+
+	/**
+	 * <p>
+	 * Returns the maximum size of the pool.
+	 * </p>
+	 *
+	 * @return the maximum size, a negative or zero value designates the default maximum size
+	 */
+	int getMaxSize();
+
+	/**
+	 * <p>
+	 * Returns the time in milliseconds after which an idle instance is evicted from the pool.
+	 * </p>
+	 *
+	 * @return the idle timeout in milliseconds, a negative or zero value indicates that idle instances are never evicted
+	 */
+	long getIdleTimeout();
+
+	/**
+	 * <p>
+	 * Determines whether overflow instances are created when the pool is exhausted.
+	 * </p>
+	 *
+	 * @return true to create overflow instances when the pool is exhausted, false to fail
+	 */
+	boolean isOverflow();
+}
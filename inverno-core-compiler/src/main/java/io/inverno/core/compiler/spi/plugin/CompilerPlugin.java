@@ -92,6 +92,32 @@ public interface CompilerPlugin {
 	 */
 	boolean canExecute(ModuleElement moduleElement);
 	
+	/**
+	 * <p>
+	 * Determines whether the plugin can be executed concurrently with other plugins.
+	 * </p>
+	 * 
+	 * <p>
+	 * Plugins which are not thread-safe are executed first and sequentially in the compiler thread, thread-safe plugins are then executed in parallel on a bounded pool of threads. The two groups
+	 * never overlap. Files created and messages reported through the {@link PluginExecution} are serialized, a thread-safe plugin must however not share mutable state with other plugins.
+	 * </p>
+	 * 
+	 * <p>
+	 * The language model API of the compiler is not thread-safe. While thread-safe plugins are executing, calls to the {@link PluginContext#getElementUtils() element utilities} and to the
+	 * {@link PluginContext#getTypeUtils() type utilities} are serialized between them but methods invoked directly on elements and types are not, neither are calls to the
+	 * {@link PluginContext#getDocUtils() doc utilities}. A thread-safe plugin should then restrict itself to inspecting the elements and beans provided in the {@link PluginExecution}, which are
+	 * completed by the compiler before plugins are executed, and go through the utilities for anything else. A plugin that needs to navigate arbitrary types or documentation must not be
+	 * thread-safe, it is then executed alone in the compiler thread.
+	 * </p>
+	 * 
+	 * @return true if the plugin can be executed concurrently with other plugins, false otherwise
+	 * 
+	 * @since 1.7
+	 */
+	default boolean isThreadSafe() {
+		return false;
+	}
+	
 	/**
 	 * <p>
 	 * Executes the plugin.
@@ -23,6 +23,7 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.IntersectionType;
@@ -96,6 +97,20 @@ public abstract class AbstractSourceGenerationContext<A extends AbstractSourceGe
 	 */
 	protected Map<QualifiedName, String> fieldNames;
 	
+	/**
+	 * The map of type elements resolved by canonical name.
+	 * 
+	 * @since 1.7
+	 */
+	protected final Map<String, TypeElement> typeElements;
+	
+	/**
+	 * The map of erased types resolved by canonical name.
+	 * 
+	 * @since 1.7
+	 */
+	protected final Map<String, TypeMirror> erasedTypes;
+	
 	/**
 	 * <p>
 	 * Creates a source generation context.
@@ -127,6 +142,8 @@ public abstract class AbstractSourceGenerationContext<A extends AbstractSourceGe
 		this.mode = mode;
 		this.setIndent(indent);
 		this.fieldNames = new HashMap<>();
+		this.typeElements = new HashMap<>();
+		this.erasedTypes = new HashMap<>();
 	}
 	
 	/**
@@ -146,6 +163,8 @@ public abstract class AbstractSourceGenerationContext<A extends AbstractSourceGe
 		this.indentDepth = parentGeneration.indentDepth;
 		this.moduleQualifiedName = parentGeneration.moduleQualifiedName;
 		this.fieldNames = parentGeneration.fieldNames;
+		this.typeElements = parentGeneration.typeElements;
+		this.erasedTypes = parentGeneration.erasedTypes;
 	}
 	
 	/**
@@ -170,11 +189,7 @@ public abstract class AbstractSourceGenerationContext<A extends AbstractSourceGe
 	 * @return an indent
 	 */
 	public String indent(int depth) {
-		String repeatIndent = "";
-		for(int i=0;i<this.indentDepth + depth;i++) {
-			repeatIndent += this.indent;
-		}
-		return repeatIndent;
+		return this.indent.repeat(Math.max(0, this.indentDepth + depth));
 	}
 	
 	/**
@@ -298,6 +313,72 @@ public abstract class AbstractSourceGenerationContext<A extends AbstractSourceGe
 		return this.elementUtils;
 	}
 	
+	/**
+	 * <p>
+	 * Returns the type element corresponding to the specified canonical name.
+	 * </p>
+	 * 
+	 * <p>
+	 * Type elements are resolved once and shared by all generation contexts created from the same root context.
+	 * </p>
+	 * 
+	 * @param canonicalName a canonical name
+	 * 
+	 * @return a type element or null if no type element could be found
+	 * 
+	 * @since 1.7
+	 */
+	public TypeElement getTypeElement(String canonicalName) {
+		TypeElement typeElement = this.typeElements.get(canonicalName);
+		if(typeElement == null) {
+			typeElement = this.elementUtils.getTypeElement(canonicalName);
+			if(typeElement != null) {
+				this.typeElements.put(canonicalName, typeElement);
+			}
+		}
+		return typeElement;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the erasure of the type corresponding to the specified canonical name.
+	 * </p>
+	 * 
+	 * <p>
+	 * Erased types are resolved once and shared by all generation contexts created from the same root context.
+	 * </p>
+	 * 
+	 * @param canonicalName a canonical name
+	 * 
+	 * @return an erased type
+	 * 
+	 * @since 1.7
+	 */
+	public TypeMirror getErasedType(String canonicalName) {
+		TypeMirror erasedType = this.erasedTypes.get(canonicalName);
+		if(erasedType == null) {
+			erasedType = this.typeUtils.erasure(this.getTypeElement(canonicalName).asType());
+			this.erasedTypes.put(canonicalName, erasedType);
+		}
+		return erasedType;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the declared type corresponding to the specified canonical name and type arguments.
+	 * </p>
+	 * 
+	 * @param canonicalName a canonical name
+	 * @param typeArgs      the type arguments
+	 * 
+	 * @return a declared type
+	 * 
+	 * @since 1.7
+	 */
+	public DeclaredType getDeclaredType(String canonicalName, TypeMirror... typeArgs) {
+		return this.typeUtils.getDeclaredType(this.getTypeElement(canonicalName), typeArgs);
+	}
+	
 	/**
 	 * <p>
 	 * Adds the specified import to the context.
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.compiler.spi.support;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <p>
+ * An ordered sequence of generated source fragments which can be written to a {@link Writer} without being concatenated first.
+ * </p>
+ *
+ * <p>
+ * Large generated sources are usually made of a few large fragments (fields, constructor, methods...) which are generated separately. Appending these fragments to a single {@link StringBuilder}
+ * before writing the resulting source to a source file requires several copies of the whole source in memory. Source fragments are instead kept as is and written one after the other.
+ * </p>
+ *
+ * <p>
+ * Fragments are not copied when appended, they must not be modified afterwards.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+public class SourceFragments implements Iterable<CharSequence> {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final List<CharSequence> fragments;
+
+	private int length;
+
+	/**
+	 * <p>
+	 * Creates empty source fragments.
+	 * </p>
+	 */
+	public SourceFragments() {
+		this.fragments = new ArrayList<>();
+	}
+
+	/**
+	 * <p>
+	 * Appends the specified fragment.
+	 * </p>
+	 *
+	 * @param fragment a source fragment
+	 *
+	 * @return these source fragments
+	 */
+	public SourceFragments append(CharSequence fragment) {
+		if(fragment.length() > 0) {
+			this.fragments.add(fragment);
+			this.length += fragment.length();
+		}
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Appends the fragments of the specified source fragments.
+	 * </p>
+	 *
+	 * @param fragments source fragments
+	 *
+	 * @return these source fragments
+	 */
+	public SourceFragments append(SourceFragments fragments) {
+		fragments.fragments.forEach(this::append);
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Returns the total length of the source.
+	 * </p>
+	 *
+	 * @return the number of characters in all fragments
+	 */
+	public int length() {
+		return this.length;
+	}
+
+	@Override
+	public Iterator<CharSequence> iterator() {
+		return Collections.unmodifiableList(this.fragments).iterator();
+	}
+
+	/**
+	 * <p>
+	 * Writes the source to the specified writer.
+	 * </p>
+	 *
+	 * @param writer a writer
+	 *
+	 * @throws IOException if there was an error writing the source
+	 */
+	public void writeTo(Writer writer) throws IOException {
+		char[] buffer = null;
+		for(CharSequence fragment : this.fragments) {
+			if(fragment instanceof String) {
+				writer.write((String)fragment);
+			}
+			else {
+				if(buffer == null) {
+					buffer = new char[BUFFER_SIZE];
+				}
+				for(int start = 0;start < fragment.length();start += BUFFER_SIZE) {
+					int end = Math.min(start + BUFFER_SIZE, fragment.length());
+					if(fragment instanceof StringBuilder) {
+						((StringBuilder)fragment).getChars(start, end, buffer, 0);
+					}
+					else {
+						for(int i=start;i<end;i++) {
+							buffer[i - start] = fragment.charAt(i);
+						}
+					}
+					writer.write(buffer, 0, end - start);
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder source = new StringBuilder(this.length);
+		this.fragments.forEach(source::append);
+		return source.toString();
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.compiler.wire;
+
+import io.inverno.core.compiler.spi.BeanInfo;
+import io.inverno.core.compiler.spi.MultiSocketInfo;
+import io.inverno.core.compiler.spi.SocketInfo;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+
+/**
+ * <p>
+ * An index of beans by type used to select the beans that might be wired into a socket.
+ * </p>
+ *
+ * <p>
+ * Beans are bucketed by the erasures of their wiring type and of all its supertypes, a bean can only be assigned to a socket if the erasure of the socket type is one of them. Candidate beans are
+ * then obtained by looking up the socket type instead of scanning all beans. Beans whose wiring type is not a declared type (eg. arrays) are always considered as candidates, so are all beans when
+ * the socket type can't be looked up (eg. lower bounded wildcard).
+ * </p>
+ *
+ * <p>
+ * Candidates are returned in the order in which the beans were indexed, the index is just a filter and candidates must still be checked by the wiring strategies.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+class BeanTypeIndex {
+
+	private static final String COLLECTION_TYPE_NAME = Collection.class.getCanonicalName();
+
+	private final List<? extends BeanInfo> beans;
+
+	private final Map<String, BitSet> beansByErasedType;
+
+	private final BitSet undeclaredBeans;
+
+	private final BitSet allBeans;
+
+	/**
+	 * <p>
+	 * Creates a bean type index.
+	 * </p>
+	 *
+	 * @param typeWiringStrategy the type wiring strategy used to determine the wiring type of the beans
+	 * @param beans              the beans to index
+	 */
+	public BeanTypeIndex(TypeWiringStrategy typeWiringStrategy, List<? extends BeanInfo> beans) {
+		this.beans = beans;
+		this.beansByErasedType = new HashMap<>();
+		this.undeclaredBeans = new BitSet(beans.size());
+		this.allBeans = new BitSet(beans.size());
+		this.allBeans.set(0, beans.size());
+
+		int index = 0;
+		for(BeanInfo bean : beans) {
+			TypeMirror wiringType = unwrapWildcard(typeWiringStrategy.getWiringType(bean));
+			if(wiringType != null && wiringType.getKind().equals(TypeKind.DECLARED)) {
+				for(String erasedType : typeWiringStrategy.getErasedSupertypes((DeclaredType)wiringType)) {
+					this.beansByErasedType.computeIfAbsent(erasedType, ign -> new BitSet()).set(index);
+				}
+			}
+			else {
+				this.undeclaredBeans.set(index);
+			}
+			index++;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Invokes the specified action on the beans that might be wired into the specified socket.
+	 * </p>
+	 *
+	 * @param socket a socket
+	 * @param action the action to invoke on each candidate bean
+	 */
+	public void forEachCandidate(SocketInfo socket, Consumer<BeanInfo> action) {
+		BitSet candidates;
+		TypeMirror socketType = unwrapWildcard(socket.getType());
+		if(socketType != null && socketType.getKind().equals(TypeKind.DECLARED)) {
+			candidates = (BitSet)this.undeclaredBeans.clone();
+			this.lookup(candidates, (DeclaredType)socketType);
+			if(MultiSocketInfo.class.isAssignableFrom(socket.getClass())) {
+				// A collection of beans can be wired into a multi socket
+				BitSet collectionBeans = this.beansByErasedType.get(COLLECTION_TYPE_NAME);
+				if(collectionBeans != null) {
+					candidates.or(collectionBeans);
+				}
+			}
+		}
+		else {
+			candidates = this.allBeans;
+		}
+
+		for(int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			action.accept(this.beans.get(i));
+		}
+	}
+
+	private void lookup(BitSet candidates, DeclaredType type) {
+		BitSet typeBeans = this.beansByErasedType.get(((TypeElement)type.asElement()).getQualifiedName().toString());
+		if(typeBeans != null) {
+			candidates.or(typeBeans);
+		}
+	}
+
+	private static TypeMirror unwrapWildcard(TypeMirror type) {
+		if(type.getKind().equals(TypeKind.WILDCARD)) {
+			// Beans or sockets defined with a lower bounded or an unbounded wildcard can't be looked up
+			return ((WildcardType)type).getExtendsBound();
+		}
+		return type;
+	}
+}
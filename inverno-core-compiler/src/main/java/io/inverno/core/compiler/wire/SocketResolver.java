@@ -39,6 +39,10 @@ import io.inverno.core.compiler.spi.WiringStrategy;
  * Resolves single and multiple sockets in a list of beans. The socket resolver is at the heart of Inverno dependency injection mechanism.
  * </p>
  * 
+ * <p>
+ * When autowiring a socket, beans are first selected by type using a {@link BeanTypeIndex} built once for all sockets, only these candidates are then checked against the wiring strategies.
+ * </p>
+ * 
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  *
  */
@@ -48,26 +52,61 @@ public class SocketResolver {
 	
 	private final ModuleQualifiedName moduleQName;
 
-	private final List<? extends BeanInfo> beans;
-	
 	private final Map<BeanQualifiedName, List<BeanInfo>> beansByQName;
 	
 	private final List<WiringStrategy> selectorWiringStrategies;
 	
+	private final BeanTypeIndex beanTypeIndex;
+	
 	public SocketResolver(ProcessingEnvironment processingEnvironment, ModuleQualifiedName moduleQName, List<? extends BeanInfo> beans) {
+		this(processingEnvironment, moduleQName, beans, new TypeWiringStrategy(processingEnvironment, moduleQName));
+	}
+	
+	/**
+	 * <p>
+	 * Creates a socket resolver using the specified type wiring strategy.
+	 * </p>
+	 * 
+	 * <p>
+	 * Sharing the type wiring strategy among the socket resolvers of a module allows to reuse memoized assignability results.
+	 * </p>
+	 * 
+	 * @param processingEnvironment the processing environment
+	 * @param moduleQName           the name of the module
+	 * @param beans                 the beans to wire
+	 * @param typeWiringStrategy    the type wiring strategy
+	 * 
+	 * @since 1.7
+	 */
+	public SocketResolver(ProcessingEnvironment processingEnvironment, ModuleQualifiedName moduleQName, List<? extends BeanInfo> beans, TypeWiringStrategy typeWiringStrategy) {
 		this.processingEnvironment = processingEnvironment;
 		this.moduleQName = moduleQName;
-		this.beans = beans;
 		this.beansByQName = beans.stream().collect(Collectors.groupingBy(bean -> bean.getQualifiedName()));
 		
 		this.selectorWiringStrategies = List.of(
-			new TypeWiringStrategy(this.processingEnvironment, this.moduleQName), 
+			typeWiringStrategy, 
 			new AnnotationSelectorWiringStrategy(this.processingEnvironment)
 		);
+		this.beanTypeIndex = new BeanTypeIndex(typeWiringStrategy, beans);
 	}
 	
 	private boolean isWirable(BeanInfo bean, SocketInfo socket) {
-		return this.selectorWiringStrategies.stream().allMatch(strategy -> strategy.isWirable(bean, socket));
+		for(WiringStrategy strategy : this.selectorWiringStrategies) {
+			if(!strategy.isWirable(bean, socket)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private List<BeanInfo> findWirableBeans(SocketInfo socket) {
+		List<BeanInfo> wirableBeans = new ArrayList<>();
+		this.beanTypeIndex.forEachCandidate(socket, bean -> {
+			if(this.isWirable(bean, socket)) {
+				wirableBeans.add(bean);
+			}
+		});
+		return wirableBeans;
 	}
 	
 	private BeanInfo[] resolveByExplicitWiring(SocketInfo socket, WireInfo<?> wire) {
@@ -126,9 +165,7 @@ public class SocketResolver {
 		
 		if(result == null) {
 			// Autowiring for a multi socket
-			List<BeanInfo> matchingBeans = this.beans.stream()
-				.filter(beanInfo -> this.isWirable(beanInfo, socket))
-				.collect(Collectors.toList());
+			List<BeanInfo> matchingBeans = this.findWirableBeans(socket);
 			
 			if(matchingBeans.isEmpty()) {
 				if(!socket.isOptional()) {
@@ -228,9 +265,11 @@ public class SocketResolver {
 		
 		if(result == null) {
 			// Autowiring for a single socket
-			List<BeanInfo> matchingBeans = beans.stream()
-				.filter(beanInfo -> this.isWirable(beanInfo, socket) && (!(socket instanceof ModuleBeanSocketInfo) ||  !beanInfo.getQualifiedName().equals(((ModuleBeanSocketInfo)socket).getQualifiedName().getBeanQName())))
-				.collect(Collectors.toList());
+			List<BeanInfo> matchingBeans = this.findWirableBeans(socket);
+			if(socket instanceof ModuleBeanSocketInfo) {
+				// Filter out self
+				matchingBeans.removeIf(beanInfo -> beanInfo.getQualifiedName().equals(((ModuleBeanSocketInfo)socket).getQualifiedName().getBeanQName()));
+			}
 		
 			if(matchingBeans.isEmpty()) {
 				if(!socket.isOptional()) {
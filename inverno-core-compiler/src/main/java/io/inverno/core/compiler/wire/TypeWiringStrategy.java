@@ -15,6 +15,7 @@
  */
 package io.inverno.core.compiler.wire;
 
+import io.inverno.core.annotation.Bean;
 import io.inverno.core.compiler.spi.BeanInfo;
 import io.inverno.core.compiler.spi.ModuleBeanInfo;
 import io.inverno.core.compiler.spi.ModuleQualifiedName;
@@ -23,7 +24,12 @@ import io.inverno.core.compiler.spi.OverridableBeanInfo;
 import io.inverno.core.compiler.spi.SocketInfo;
 import io.inverno.core.compiler.spi.WiringStrategy;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
@@ -35,6 +41,10 @@ import javax.lang.model.type.WildcardType;
  * {@link WiringStrategy} implementation used to determine if a bean is wirable to a socket based on its type.
  * </p>
  * 
+ * <p>
+ * Assignability results are memoized by bean type and socket type so that a strategy should be shared by the socket resolvers of a module.
+ * </p>
+ * 
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  *
  */
@@ -44,25 +54,118 @@ public class TypeWiringStrategy implements WiringStrategy {
 	
 	private final ModuleQualifiedName moduleQName;
 	
+	private final Map<String, Boolean> assignableCache;
+	
+	private final Map<String, Set<String>> erasedSupertypesCache;
+	
 	public TypeWiringStrategy(ProcessingEnvironment processingEnvironment, ModuleQualifiedName moduleQName) {
 		this.processingEnvironment = processingEnvironment;
 		this.moduleQName = moduleQName;
+		this.assignableCache = new HashMap<>();
+		this.erasedSupertypesCache = new HashMap<>();
 	}
 	
 	@Override
 	public boolean isWirable(BeanInfo bean, SocketInfo socket) {
+		return this.isAssignable(this.getWiringType(bean), socket);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the type of the specified bean as seen by the sockets of the module.
+	 * </p>
+	 * 
+	 * @param bean a bean
+	 * 
+	 * @return the type to consider when wiring the bean
+	 */
+	public TypeMirror getWiringType(BeanInfo bean) {
 		if(OverridableBeanInfo.class.isAssignableFrom(bean.getClass()) && ((OverridableBeanInfo)bean).getProvidedType() != null) {
-			return this.isAssignable(((ModuleBeanInfo)bean).getProvidedType(), socket);
+			return ((ModuleBeanInfo)bean).getProvidedType();
 		}
 		else if(ModuleBeanInfo.class.isAssignableFrom(bean.getClass()) && !bean.getQualifiedName().getModuleQName().equals(this.moduleQName) && ((ModuleBeanInfo)bean).getProvidedType() != null) {
-			return this.isAssignable(((ModuleBeanInfo)bean).getProvidedType(), socket);
+			return ((ModuleBeanInfo)bean).getProvidedType();
+		}
+		else if(ModuleBeanInfo.class.isAssignableFrom(bean.getClass()) && (((ModuleBeanInfo)bean).getStrategy() == Bean.Strategy.POOLED || ((ModuleBeanInfo)bean).getStrategy() == Bean.Strategy.THREAD)) {
+			// Inside the module, pooled and thread beans provide a handle (ie. a pool or a thread local bean) of the actual bean type
+			TypeElement handleElement = (TypeElement)((DeclaredType)((ModuleBeanInfo)bean).getProvidedType()).asElement();
+			return this.processingEnvironment.getTypeUtils().getDeclaredType(handleElement, bean.getType());
 		}
 		else {
-			return this.isAssignable(bean.getType(), socket);
+			return bean.getType();
 		}
 	}
+	
+	/**
+	 * <p>
+	 * Returns the qualified names of the erasures of the specified declared type and of all its supertypes.
+	 * </p>
+	 * 
+	 * <p>
+	 * A type can only be assigned to a declared type whose erasure is returned by this method.
+	 * </p>
+	 * 
+	 * @param type a declared type
+	 * 
+	 * @return a set of qualified names
+	 */
+	public Set<String> getErasedSupertypes(DeclaredType type) {
+		TypeElement typeElement = (TypeElement)type.asElement();
+		String typeName = typeElement.getQualifiedName().toString();
+		Set<String> erasedSupertypes = this.erasedSupertypesCache.get(typeName);
+		if(erasedSupertypes == null) {
+			erasedSupertypes = new HashSet<>();
+			erasedSupertypes.add(typeName);
+			for(TypeMirror supertype : this.processingEnvironment.getTypeUtils().directSupertypes(this.processingEnvironment.getTypeUtils().erasure(typeElement.asType()))) {
+				if(supertype.getKind().equals(TypeKind.DECLARED)) {
+					erasedSupertypes.addAll(this.getErasedSupertypes((DeclaredType)supertype));
+				}
+			}
+			this.erasedSupertypesCache.put(typeName, erasedSupertypes);
+		}
+		return erasedSupertypes;
+	}
 
 	public boolean isAssignable(TypeMirror type, SocketInfo socket) {
+		boolean multi = MultiSocketInfo.class.isAssignableFrom(socket.getClass());
+		if(!isMemoizable(type) || !isMemoizable(socket.getType())) {
+			return this.doIsAssignable(type, socket);
+		}
+		// Types are uniquely identified by their string representation as long as they don't refer to type variables
+		String key = type.toString() + (multi ? " -> " : " => ") + socket.getType().toString();
+		Boolean assignable = this.assignableCache.get(key);
+		if(assignable == null) {
+			assignable = this.doIsAssignable(type, socket);
+			this.assignableCache.put(key, assignable);
+		}
+		return assignable;
+	}
+	
+	private static boolean isMemoizable(TypeMirror type) {
+		switch(type.getKind()) {
+			case DECLARED: {
+				DeclaredType declaredType = (DeclaredType)type;
+				if(!isMemoizable(declaredType.getEnclosingType())) {
+					return false;
+				}
+				for(TypeMirror typeArgument : declaredType.getTypeArguments()) {
+					if(!isMemoizable(typeArgument)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			case ARRAY: return isMemoizable(((ArrayType)type).getComponentType());
+			case WILDCARD: {
+				WildcardType wildcardType = (WildcardType)type;
+				return (wildcardType.getExtendsBound() == null || isMemoizable(wildcardType.getExtendsBound())) && (wildcardType.getSuperBound() == null || isMemoizable(wildcardType.getSuperBound()));
+			}
+			case NONE: return true;
+			default: return type.getKind().isPrimitive();
+		}
+	}
+	
+	private boolean doIsAssignable(TypeMirror type, SocketInfo socket) {
 		if(type.getKind().equals(TypeKind.WILDCARD)) {
 			WildcardType wildcardType = (WildcardType)type;
 			if(wildcardType.getExtendsBound() != null) {
@@ -33,6 +33,7 @@ module io.inverno.core.compiler {
 	requires transitive java.compiler;
 	requires transitive jdk.compiler;
 	requires transitive io.inverno.core.annotation;
+	requires static jdk.management;
 	
 	exports io.inverno.core.compiler.spi;
 	exports io.inverno.core.compiler.spi.plugin;
@@ -16,6 +16,10 @@
 package io.inverno.core.test;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -77,4 +81,165 @@ public class TestBeanStrategy extends AbstractCoreInvernoTest {
 			this.strategyModuleProxy.stop();
 		}
 	}
+	
+	@Test
+	public void testPooledStrategy() throws Exception {
+		Supplier<?> lease1 = null, lease2 = null, lease3 = null;
+		AtomicInteger initCount = null, destroyCount = null;
+		try {
+			this.strategyModuleProxy.start();
+			Object pool = this.strategyModuleProxy.getBean("pooledStrategyBean");
+			Assertions.assertNotNull(pool);
+			Assertions.assertEquals(pool, this.strategyModuleProxy.getBean("pooledStrategyBean"));
+			
+			// The pool is injected in dependent beans
+			Object client = this.strategyModuleProxy.getBean("pooledStrategyClient");
+			Assertions.assertEquals(pool, client.getClass().getMethod("getPool").invoke(client));
+			
+			Method borrow = client.getClass().getMethod("borrow");
+			lease1 = (Supplier<?>)borrow.invoke(client);
+			initCount = (AtomicInteger)lease1.get().getClass().getField("initCount").get(null);
+			destroyCount = (AtomicInteger)lease1.get().getClass().getField("destroyCount").get(null);
+			
+			// minSize = 1: the first instance was created with the pool
+			Assertions.assertEquals(1, initCount.get());
+			
+			lease2 = (Supplier<?>)borrow.invoke(client);
+			// maxSize = 2: the third instance is an overflow instance destroyed when returned
+			lease3 = (Supplier<?>)borrow.invoke(client);
+			Assertions.assertEquals(3, initCount.get());
+			Assertions.assertNotEquals(lease1.get(), lease2.get());
+			Assertions.assertNotEquals(lease2.get(), lease3.get());
+			
+			((AutoCloseable)lease3).close();
+			Assertions.assertEquals(1, destroyCount.get());
+			
+			// Returned instances are reused
+			Object instance1 = lease1.get();
+			((AutoCloseable)lease1).close();
+			((AutoCloseable)lease1).close();
+			lease1 = (Supplier<?>)borrow.invoke(client);
+			Assertions.assertEquals(instance1, lease1.get());
+			Assertions.assertEquals(3, initCount.get());
+			Assertions.assertEquals(1, destroyCount.get());
+		}
+		finally {
+			this.strategyModuleProxy.stop();
+		}
+		
+		// Borrowed and idle instances are destroyed when the module is stopped
+		Assertions.assertEquals(3, destroyCount.get());
+		((AutoCloseable)lease2).close();
+		Assertions.assertEquals(3, destroyCount.get());
+	}
+	
+	@Test
+	public void testBoundedPooledStrategy() throws Exception {
+		Supplier<?> lease1 = null;
+		AtomicInteger initCount = null, destroyCount = null;
+		try {
+			this.strategyModuleProxy.start();
+			Object client = this.strategyModuleProxy.getBean("boundedPooledStrategyClient");
+			Method borrow = client.getClass().getMethod("borrow");
+			
+			lease1 = (Supplier<?>)borrow.invoke(client);
+			initCount = (AtomicInteger)lease1.get().getClass().getField("initCount").get(null);
+			destroyCount = (AtomicInteger)lease1.get().getClass().getField("destroyCount").get(null);
+			Assertions.assertEquals(1, initCount.get());
+			
+			// maxSize = 1 and overflow = false: borrowing from the exhausted pool fails
+			try {
+				borrow.invoke(client);
+				Assertions.fail("Should throw an IllegalStateException");
+			}
+			catch(InvocationTargetException e) {
+				Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+			}
+			Assertions.assertEquals(1, initCount.get());
+			
+			// The instance can be borrowed again once returned
+			Object instance1 = lease1.get();
+			((AutoCloseable)lease1).close();
+			lease1 = (Supplier<?>)borrow.invoke(client);
+			Assertions.assertEquals(instance1, lease1.get());
+			Assertions.assertEquals(1, initCount.get());
+			Assertions.assertEquals(0, destroyCount.get());
+		}
+		finally {
+			this.strategyModuleProxy.stop();
+		}
+		
+		Assertions.assertEquals(1, destroyCount.get());
+	}
+	
+	@Test
+	public void testThreadStrategy() throws Exception {
+		Object client = null;
+		AtomicInteger initCount = null, destroyCount = null;
+		try {
+			this.strategyModuleProxy.start();
+			Object threadLocalBean = this.strategyModuleProxy.getBean("threadStrategyBean");
+			Assertions.assertNotNull(threadLocalBean);
+			Assertions.assertEquals(threadLocalBean, this.strategyModuleProxy.getBean("threadStrategyBean"));
+			
+			// The thread local bean is injected in dependent beans
+			client = this.strategyModuleProxy.getBean("threadStrategyClient");
+			Method get = client.getClass().getMethod("get");
+			Assertions.assertEquals(threadLocalBean, client.getClass().getMethod("getThreadLocalBean").invoke(client));
+			
+			Object instance = get.invoke(client);
+			initCount = (AtomicInteger)instance.getClass().getField("initCount").get(null);
+			destroyCount = (AtomicInteger)instance.getClass().getField("destroyCount").get(null);
+			
+			// A thread always gets the same instance
+			Assertions.assertEquals(instance, get.invoke(client));
+			Assertions.assertEquals(1, initCount.get());
+			
+			// Another thread gets a distinct instance
+			Object[] otherInstance = new Object[1];
+			Object finalClient = client;
+			Thread thread = new Thread(() -> {
+				try {
+					otherInstance[0] = get.invoke(finalClient);
+				} 
+				catch (ReflectiveOperationException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			thread.start();
+			thread.join();
+			Assertions.assertNotNull(otherInstance[0]);
+			Assertions.assertNotEquals(instance, otherInstance[0]);
+			Assertions.assertEquals(2, initCount.get());
+			
+			// The instance of a terminated thread is recycled, many short-lived virtual threads don't result in many instances
+			for(int i=0;i<100;i++) {
+				Object[] virtualInstance = new Object[1];
+				Thread.ofVirtual().start(() -> {
+					try {
+						virtualInstance[0] = get.invoke(finalClient);
+					} 
+					catch (ReflectiveOperationException e) {
+						throw new RuntimeException(e);
+					}
+				}).join();
+				Assertions.assertEquals(otherInstance[0], virtualInstance[0]);
+			}
+			Assertions.assertEquals(2, initCount.get());
+			Assertions.assertEquals(0, destroyCount.get());
+		}
+		finally {
+			this.strategyModuleProxy.stop();
+		}
+		
+		// All instances are destroyed when the module is stopped
+		Assertions.assertEquals(2, destroyCount.get());
+		try {
+			client.getClass().getMethod("get").invoke(client);
+			Assertions.fail("Should throw an IllegalStateException");
+		}
+		catch(InvocationTargetException e) {
+			Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
 }
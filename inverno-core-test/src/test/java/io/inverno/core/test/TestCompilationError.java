@@ -45,6 +45,9 @@ public class TestCompilationError extends AbstractCoreInvernoTest {
 	private static final String MODULEJ = "io.inverno.core.test.error.moduleJ";
 	private static final String MODULEK = "io.inverno.core.test.error.moduleK";
 	private static final String MODULEL = "io.inverno.core.test.error.moduleL";
+	private static final String MODULEM = "io.inverno.core.test.error.moduleM";
+	private static final String MODULEN = "io.inverno.core.test.error.moduleN";
+	private static final String MODULEO = "io.inverno.core.test.error.moduleO";
 	
 	@Test
 	public void testBeanConcreteClass() throws IOException {
@@ -219,4 +222,50 @@ public class TestCompilationError extends AbstractCoreInvernoTest {
 			Assertions.assertTrue(e.getDiagnostics().stream().map(d -> d.getMessage(Locale.getDefault())).collect(Collectors.toList()).containsAll(List.of(multipleSocketConstructorsError)));
 		}
 	}
+	
+	@Test
+	public void testCleanableModuleBean() throws IOException {
+		try {
+			this.getInvernoCompiler().compile(MODULEM);
+			Assertions.fail("Should throw an InvernoCompilationException");
+		}
+		catch(InvernoCompilationException e) {
+			Assertions.assertEquals(1, e.getDiagnostics().size());
+			
+			String cleanableModuleBeanError = "A cleanable prototype bean must be a wrapper bean";
+			
+			Assertions.assertTrue(e.getDiagnostics().stream().map(d -> d.getMessage(Locale.getDefault())).collect(Collectors.toList()).containsAll(List.of(cleanableModuleBeanError)));
+		}
+	}
+	
+	@Test
+	public void testPooledBean() throws IOException {
+		try {
+			this.getInvernoCompiler().compile(MODULEN);
+			Assertions.fail("Should throw an InvernoCompilationException");
+		}
+		catch(InvernoCompilationException e) {
+			Assertions.assertEquals(2, e.getDiagnostics().size());
+			
+			String poolSizeError = "Pool minimum size can't be greater than pool maximum size";
+			String pooledMutatorError = "A mutator socket bean can't be a pooled bean";
+			
+			Assertions.assertTrue(e.getDiagnostics().stream().map(d -> d.getMessage(Locale.getDefault())).collect(Collectors.toList()).containsAll(List.of(poolSizeError, pooledMutatorError)));
+		}
+	}
+	
+	@Test
+	public void testThreadBean() throws IOException {
+		try {
+			this.getInvernoCompiler().compile(MODULEO);
+			Assertions.fail("Should throw an InvernoCompilationException");
+		}
+		catch(InvernoCompilationException e) {
+			Assertions.assertEquals(1, e.getDiagnostics().size());
+			
+			String threadMutatorError = "A mutator socket bean can't be a thread bean";
+			
+			Assertions.assertEquals(threadMutatorError, e.getDiagnostics().get(0).getMessage(Locale.getDefault()));
+		}
+	}
 }
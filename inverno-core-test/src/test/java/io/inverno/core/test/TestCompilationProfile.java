@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+
+/**
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestCompilationProfile extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.generics";
+
+	@Test
+	public void testProfileReport() throws IOException, InvernoCompilationException {
+		this.getInvernoCompiler().cleanModuleTarget(MODULE);
+		this.getInvernoCompiler().compile(Map.of("inverno.profile", "true"), MODULE);
+
+		Path profilePath = this.getProfilePath();
+		Assertions.assertTrue(Files.exists(profilePath));
+
+		String profile = Files.readString(profilePath);
+		Assertions.assertTrue(profile.contains("\"module\": \"" + MODULE + "\""));
+
+		// Phases are reported in the order in which they are executed
+		int previousIndex = -1;
+		for(String phase : List.of("beanExtraction", "socketResolution", "cycleDetection", "classGeneration", "descriptorGeneration")) {
+			int index = profile.indexOf("\"phase\": \"" + phase + "\"");
+			Assertions.assertTrue(index > previousIndex, "Missing or misplaced phase " + phase + " in " + profile);
+			previousIndex = index;
+		}
+		Assertions.assertTrue(profile.contains("\"count\": "));
+		Assertions.assertTrue(profile.contains("\"time\": "));
+		Assertions.assertTrue(profile.contains("\"allocated\": "));
+	}
+
+	@Test
+	public void testNoProfileReport() throws IOException, InvernoCompilationException {
+		this.getInvernoCompiler().cleanModuleTarget(MODULE);
+		this.getInvernoCompiler().compile(MODULE);
+
+		Assertions.assertFalse(Files.exists(this.getProfilePath()));
+	}
+
+	private Path getProfilePath() {
+		return this.getInvernoCompiler().getModuleOutputPath().resolve(MODULE).resolve("META-INF/inverno/core/" + MODULE + "/profile.json");
+	}
+}
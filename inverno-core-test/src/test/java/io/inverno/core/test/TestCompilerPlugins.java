@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ModuleElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.core.compiler.spi.CompilerOptions;
+import io.inverno.core.compiler.spi.plugin.CompilerPlugin;
+import io.inverno.core.compiler.spi.plugin.PluginContext;
+import io.inverno.core.compiler.spi.plugin.PluginExecution;
+import io.inverno.core.compiler.spi.plugin.PluginExecutionException;
+import io.inverno.test.InvernoCompilationException;
+
+/**
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestCompilerPlugins extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.generics";
+
+	private static final String OPTION_CONCURRENT_PLUGINS = "inverno.test.concurrentPlugins";
+
+	private static final int RESOURCES_PER_PLUGIN = 25;
+
+	private static final String SEQUENTIAL_RESOURCE = "META-INF/inverno/test/plugins/SequentialPlugin.txt";
+
+	private static final AtomicInteger RUNNING_CONCURRENT_PLUGINS = new AtomicInteger();
+
+	@Test
+	public void testConcurrentPlugins() throws IOException, InvernoCompilationException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream stdout = System.out;
+		System.setOut(new PrintStream(output, true));
+		try {
+			this.getInvernoCompiler().compile(Map.of(OPTION_CONCURRENT_PLUGINS, "true"), MODULE);
+		}
+		finally {
+			System.setOut(stdout);
+		}
+
+		// Results are reported in a deterministic order although plugin A completes after plugin B
+		List<String> pluginLogs = output.toString().lines().filter(line -> line.startsWith(" - " + TestCompilerPlugins.class.getCanonicalName())).collect(Collectors.toList());
+		Assertions.assertEquals(3, pluginLogs.size());
+		Assertions.assertTrue(pluginLogs.get(0).startsWith(" - " + ConcurrentPluginA.class.getCanonicalName() + " ") && pluginLogs.get(0).endsWith("[  OK  ]"));
+		Assertions.assertTrue(pluginLogs.get(1).startsWith(" - " + ConcurrentPluginB.class.getCanonicalName() + " ") && pluginLogs.get(1).endsWith("[  OK  ]"));
+		Assertions.assertTrue(pluginLogs.get(2).startsWith(" - " + SequentialPlugin.class.getCanonicalName() + " ") && pluginLogs.get(2).endsWith("[  OK  ]"));
+
+		Path moduleOutputPath = this.getInvernoCompiler().getModuleOutputPath().resolve(MODULE);
+
+		// Plugins which are not thread-safe never overlap with thread-safe plugins
+		Assertions.assertEquals(List.of("0", "0"), Files.readAllLines(moduleOutputPath.resolve(SEQUENTIAL_RESOURCE)));
+
+		// Files created concurrently through the Filer are all generated
+		for(String pluginName : List.of(ConcurrentPluginA.class.getSimpleName(), ConcurrentPluginB.class.getSimpleName())) {
+			for(int i=0;i<RESOURCES_PER_PLUGIN;i++) {
+				Path resource = moduleOutputPath.resolve(AbstractConcurrentPlugin.resourcePath(pluginName, i));
+				Assertions.assertTrue(Files.exists(resource), "Missing resource " + resource);
+				List<String> lines = Files.readAllLines(resource);
+				Assertions.assertTrue(lines.get(0).startsWith("inverno-compiler-plugin-"), "Plugin was not executed concurrently: " + lines.get(0));
+				Assertions.assertEquals(List.of("io.inverno.core.test.generics.BeanA", "io.inverno.core.test.generics.ServiceA"), lines.subList(1, lines.size()).stream().filter(line -> line.endsWith("BeanA") || line.endsWith("ServiceA")).collect(Collectors.toList()));
+			}
+		}
+	}
+
+	private static abstract class AbstractConcurrentPlugin implements CompilerPlugin {
+
+		private CompilerOptions options;
+
+		private Elements elementUtils;
+
+		static String resourcePath(String pluginName, int index) {
+			return "META-INF/inverno/test/plugins/" + pluginName + "-" + index + ".txt";
+		}
+
+		@Override
+		public Set<String> getSupportedAnnotationTypes() {
+			return Set.of("io.inverno.core.annotation.Bean");
+		}
+
+		@Override
+		public Set<String> getSupportedOptions() {
+			return Set.of(OPTION_CONCURRENT_PLUGINS);
+		}
+
+		@Override
+		public void init(PluginContext pluginContext) {
+			this.options = pluginContext.getOptions();
+			this.elementUtils = pluginContext.getElementUtils();
+		}
+
+		@Override
+		public boolean canExecute(ModuleElement moduleElement) {
+			return this.options.isOptionActivated(OPTION_CONCURRENT_PLUGINS, false);
+		}
+
+		@Override
+		public boolean isThreadSafe() {
+			return true;
+		}
+
+		protected void generate(PluginExecution execution) throws PluginExecutionException {
+			String threadName = Thread.currentThread().getName();
+			Set<Element> elements = execution.getElements();
+			String beans = elements.stream()
+				.map(element -> this.elementUtils.getBinaryName((TypeElement)element).toString())
+				.sorted()
+				.collect(Collectors.joining(System.lineSeparator()));
+
+			for(int i=0;i<RESOURCES_PER_PLUGIN;i++) {
+				try {
+					execution.createResourceFile(resourcePath(this.getClass().getSimpleName(), i), elements.stream().toArray(Element[]::new), () -> threadName + System.lineSeparator() + beans);
+				}
+				catch (IOException e) {
+					throw new PluginExecutionException(e);
+				}
+			}
+		}
+	}
+
+	public static class ConcurrentPluginA extends AbstractConcurrentPlugin {
+
+		@Override
+		public void execute(PluginExecution execution) throws PluginExecutionException {
+			RUNNING_CONCURRENT_PLUGINS.incrementAndGet();
+			try {
+				Thread.sleep(200);
+				this.generate(execution);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new PluginExecutionException(e);
+			}
+			finally {
+				RUNNING_CONCURRENT_PLUGINS.decrementAndGet();
+			}
+		}
+	}
+
+	public static class ConcurrentPluginB extends AbstractConcurrentPlugin {
+
+		@Override
+		public void execute(PluginExecution execution) throws PluginExecutionException {
+			RUNNING_CONCURRENT_PLUGINS.incrementAndGet();
+			try {
+				this.generate(execution);
+			}
+			finally {
+				RUNNING_CONCURRENT_PLUGINS.decrementAndGet();
+			}
+		}
+	}
+
+	public static class SequentialPlugin implements CompilerPlugin {
+
+		private CompilerOptions options;
+
+		@Override
+		public Set<String> getSupportedAnnotationTypes() {
+			return Set.of("io.inverno.core.annotation.Bean");
+		}
+
+		@Override
+		public Set<String> getSupportedOptions() {
+			return Set.of(OPTION_CONCURRENT_PLUGINS);
+		}
+
+		@Override
+		public void init(PluginContext pluginContext) {
+			this.options = pluginContext.getOptions();
+		}
+
+		@Override
+		public boolean canExecute(ModuleElement moduleElement) {
+			return this.options.isOptionActivated(OPTION_CONCURRENT_PLUGINS, false);
+		}
+
+		@Override
+		public void execute(PluginExecution execution) throws PluginExecutionException {
+			// Records the number of thread-safe plugins running while this plugin executes
+			int runningAtStart = RUNNING_CONCURRENT_PLUGINS.get();
+			try {
+				Thread.sleep(100);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new PluginExecutionException(e);
+			}
+			int runningAtEnd = RUNNING_CONCURRENT_PLUGINS.get();
+			try {
+				execution.createResourceFile(SEQUENTIAL_RESOURCE, execution.getElements().stream().toArray(Element[]::new), () -> runningAtStart + System.lineSeparator() + runningAtEnd);
+			}
+			catch (IOException e) {
+				throw new PluginExecutionException(e);
+			}
+		}
+	}
+}
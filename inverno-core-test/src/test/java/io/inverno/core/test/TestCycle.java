@@ -16,12 +16,15 @@
 package io.inverno.core.test;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Locale;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoTestCompiler;
 
 /**
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
@@ -32,6 +35,14 @@ public class TestCycle extends AbstractCoreInvernoTest {
 	private static final String MODULEA = "io.inverno.core.test.cycle.moduleA";
 	private static final String MODULEB = "io.inverno.core.test.cycle.moduleB";
 	private static final String MODULEC = "io.inverno.core.test.cycle.moduleC";
+	// Same length as moduleA so that cycles are rendered identically
+	private static final String MODULED = "io.inverno.core.test.cycle.moduleD";
+	
+	private static final int CHAIN_LENGTH = 10000;
+	
+	private static final Path DEEP_MODULE_SOURCE_PATH = Path.of("target/inverno-test-compiler/deepcycle/mods-sources");
+	private static final Path DEEP_GENERATED_SOURCE_PATH = Path.of("target/inverno-test-compiler/deepcycle/generated-test-sources");
+	private static final Path DEEP_MODULE_TARGET_PATH = Path.of("target/inverno-test-compiler/deepcycle/mods");
 
 	@Test
 	public void testCycle() throws IOException {
@@ -310,4 +321,79 @@ public class TestCycle extends AbstractCoreInvernoTest {
 			Assertions.assertEquals(cycleMessage3, e.getDiagnostics().get(2).getMessage(Locale.getDefault()));
 		}
 	}
+	
+	@Test
+	public void testCycleAfterDeepChain() throws IOException {
+		// chain0 -> chain1 -> ... -> chain9999 -> beanA -> beanB -> beanC -> beanA
+		Path packagePath = DEEP_MODULE_SOURCE_PATH.resolve(MODULED).resolve(MODULED.replace('.', '/'));
+		Files.createDirectories(packagePath);
+		
+		Files.writeString(DEEP_MODULE_SOURCE_PATH.resolve(MODULED).resolve("module-info.java"),
+			"@io.inverno.core.annotation.Module\n" +
+			"module " + MODULED + " {\n" +
+			"\trequires io.inverno.core;\n" +
+			"\trequires io.inverno.core.annotation;\n" +
+			"\texports " + MODULED + ";\n" +
+			"}\n"
+		);
+		
+		for(int i=0;i<CHAIN_LENGTH;i++) {
+			String dependency = i < CHAIN_LENGTH - 1 ? "Chain" + (i + 1) : "BeanA";
+			Files.writeString(packagePath.resolve("Chain" + i + ".java"), bean(MODULED, "Chain" + i, dependency));
+		}
+		Files.writeString(packagePath.resolve("BeanA.java"), bean(MODULED, "BeanA", "BeanB"));
+		Files.writeString(packagePath.resolve("BeanB.java"), bean(MODULED, "BeanB", "BeanC"));
+		Files.writeString(packagePath.resolve("BeanC.java"), bean(MODULED, "BeanC", "BeanA"));
+		
+		InvernoTestCompiler deepCycleCompiler = InvernoTestCompiler.builder()
+			.moduleSourcePath(DEEP_MODULE_SOURCE_PATH)
+			.generatedSourcePath(DEEP_GENERATED_SOURCE_PATH)
+			.moduleTargetPath(DEEP_MODULE_TARGET_PATH)
+			.moduleOverride(this.getModuleOverride())
+			.annotationProcessorModuleOverride(this.getAnnotationProcessorModuleOverride())
+			.build();
+		deepCycleCompiler.cleanModuleTarget();
+		
+		try {
+			deepCycleCompiler.compile(MODULED);
+			Assertions.fail("Should throw an InvernoCompilationException");
+		}
+		catch(InvernoCompilationException e) {
+			// Only the beans forming the cycle are reported, exactly as in moduleA
+			Assertions.assertEquals(3, e.getDiagnostics().size());
+			for(int i=0;i<3;i++) {
+				String bean = "bean" + (char)('A' + i);
+				String cycleMessage = "Bean " + MODULED + ":" + bean + " forms a cycle in module " + MODULED + "\n" + 
+					"  ┌────────────────────────┐\n" + 
+					"  │                        │\n" + 
+					"  │    " + MODULED + ":beanA\n" + 
+					"  │                        │\n" + 
+					"  │                        │ " + MODULED + ":beanA:beanB\n" + 
+					"  │                        │\n" + 
+					"  │                        ▼\n" + 
+					"  │    " + MODULED + ":beanB\n" + 
+					"  ▲                        │\n" + 
+					"  │                        │ " + MODULED + ":beanB:beanC\n" + 
+					"  │                        │\n" + 
+					"  │                        ▼\n" + 
+					"  │    " + MODULED + ":beanC\n" + 
+					"  │                        │\n" + 
+					"  │                        │ " + MODULED + ":beanC:beanA\n" + 
+					"  │                        │\n" + 
+					"  └────────────────────────┘ ";
+				
+				Assertions.assertEquals(cycleMessage, e.getDiagnostics().get(i).getMessage(Locale.getDefault()));
+			}
+		}
+	}
+	
+	private static String bean(String module, String name, String dependency) {
+		String socket = Character.toLowerCase(dependency.charAt(0)) + dependency.substring(1);
+		return "package " + module + ";\n\n" +
+			"@io.inverno.core.annotation.Bean\n" +
+			"public class " + name + " {\n\n" +
+			"\tpublic " + dependency + " " + socket + ";\n\n" +
+			"\tpublic " + name + "(" + dependency + " " + socket + ") {\n\t\tthis." + socket + " = " + socket + ";\n\t}\n" +
+			"}\n";
+	}
 }
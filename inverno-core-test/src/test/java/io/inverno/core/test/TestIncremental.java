@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestIncremental extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.wrapperbean";
+
+	private static final Map<String, String> INCREMENTAL_OPTIONS = Map.of("inverno.incremental", "true");
+
+	@Test
+	public void testUpToDateModule() throws IOException, InvernoCompilationException {
+		this.getInvernoCompiler().cleanModuleTarget(MODULE);
+		Path moduleOutputPath = this.getInvernoCompiler().getModuleOutputPath().resolve(MODULE);
+		Path moduleClassPath = moduleOutputPath.resolve("io/inverno/core/test/wrapperbean/Wrapperbean.class");
+		Path fingerprintPath = moduleOutputPath.resolve("META-INF/inverno/core/" + MODULE + "/module.sha256");
+
+		ByteArrayOutputStream firstOutput = new ByteArrayOutputStream();
+		this.compile(firstOutput);
+		Assertions.assertFalse(firstOutput.toString().contains("Module " + MODULE + " is up to date"));
+		Assertions.assertTrue(firstOutput.toString().contains("Module " + MODULE + " generated to "));
+		Assertions.assertTrue(Files.exists(moduleClassPath));
+		Assertions.assertTrue(Files.exists(fingerprintPath));
+		FileTime moduleClassLastModified = Files.getLastModifiedTime(moduleClassPath);
+		String fingerprint = Files.readString(fingerprintPath);
+
+		// Nothing changed, the module class compiled by the first compilation is kept
+		ByteArrayOutputStream secondOutput = new ByteArrayOutputStream();
+		InvernoModuleLoader moduleLoader = this.compile(secondOutput);
+		Assertions.assertTrue(secondOutput.toString().contains("Module " + MODULE + " is up to date"));
+		Assertions.assertFalse(secondOutput.toString().contains("Module " + MODULE + " generated to "));
+		Assertions.assertEquals(moduleClassLastModified, Files.getLastModifiedTime(moduleClassPath));
+		Assertions.assertEquals(fingerprint, Files.readString(fingerprintPath));
+
+		// The kept module class is still usable
+		InvernoModuleProxy moduleProxy = moduleLoader.load(MODULE).build();
+		moduleProxy.start();
+		try {
+			Assertions.assertTrue(moduleProxy.getBean("beanA") instanceof Runnable);
+		}
+		finally {
+			moduleProxy.stop();
+		}
+	}
+
+	private InvernoModuleLoader compile(ByteArrayOutputStream output) throws IOException, InvernoCompilationException {
+		PrintStream stdout = System.out;
+		System.setOut(new PrintStream(output, true));
+		try {
+			return this.getInvernoCompiler().compile(INCREMENTAL_OPTIONS, MODULE);
+		}
+		finally {
+			System.setOut(stdout);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+import io.inverno.test.InvernoTestCompiler;
+
+/**
+ * <p>
+ * Compiles a synthetic module defining more beans than can be registered in a single method, bean registrations must then be partitioned into multiple chunks in the generated module class.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestLargeModule extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.large";
+
+	private static final int BEAN_COUNT = 5000;
+
+	private static final Path MODULE_SOURCE_PATH = Path.of("target/inverno-test-compiler/large/mods-sources");
+	private static final Path GENERATED_SOURCE_PATH = Path.of("target/inverno-test-compiler/large/generated-test-sources");
+	private static final Path MODULE_TARGET_PATH = Path.of("target/inverno-test-compiler/large/mods");
+
+	private InvernoTestCompiler largeModuleCompiler;
+
+	@BeforeEach
+	public void init() throws IOException {
+		Path packagePath = MODULE_SOURCE_PATH.resolve(MODULE).resolve(MODULE.replace('.', '/'));
+		Files.createDirectories(packagePath);
+
+		Files.writeString(MODULE_SOURCE_PATH.resolve(MODULE).resolve("module-info.java"),
+			"@io.inverno.core.annotation.Module\n" +
+			"module " + MODULE + " {\n" +
+			"\trequires io.inverno.core;\n" +
+			"\trequires io.inverno.core.annotation;\n" +
+			"\texports " + MODULE + ";\n" +
+			"}\n"
+		);
+
+		Files.writeString(packagePath.resolve("Events.java"),
+			"package " + MODULE + ";\n\n" +
+			"public final class Events {\n\n" +
+			"\tpublic static final java.util.List<String> INIT = java.util.Collections.synchronizedList(new java.util.ArrayList<>());\n\n" +
+			"\tpublic static final java.util.List<String> DESTROY = java.util.Collections.synchronizedList(new java.util.ArrayList<>());\n" +
+			"}\n"
+		);
+
+		Files.writeString(packagePath.resolve("NameSocket.java"),
+			"package " + MODULE + ";\n\n" +
+			"@io.inverno.core.annotation.Bean\n" +
+			"public interface NameSocket extends java.util.function.Supplier<String> {\n" +
+			"}\n"
+		);
+
+		// Beans form a binary tree so that dependencies are spread across all chunks
+		for(int i=0;i<BEAN_COUNT;i++) {
+			StringBuilder bean = new StringBuilder();
+			bean.append("package ").append(MODULE).append(";\n\n");
+			bean.append("@io.inverno.core.annotation.Bean\n");
+			bean.append("public class Bean").append(i).append(" {\n\n");
+			if(i == 0) {
+				bean.append("\tpublic final String name;\n\n");
+				bean.append("\tpublic Bean0(String name) {\n\t\tthis.name = name;\n\t}\n\n");
+			}
+			else {
+				bean.append("\tpublic final Bean").append((i - 1) / 2).append(" parent;\n\n");
+				bean.append("\tpublic Bean").append(i).append("(Bean").append((i - 1) / 2).append(" parent) {\n\t\tthis.parent = parent;\n\t}\n\n");
+			}
+			bean.append("\t@io.inverno.core.annotation.Init\n");
+			bean.append("\tpublic void init() {\n\t\tEvents.INIT.add(\"bean").append(i).append("\");\n\t}\n\n");
+			bean.append("\t@io.inverno.core.annotation.Destroy\n");
+			bean.append("\tpublic void destroy() {\n\t\tEvents.DESTROY.add(\"bean").append(i).append("\");\n\t}\n");
+			bean.append("}\n");
+
+			Files.writeString(packagePath.resolve("Bean" + i + ".java"), bean);
+		}
+
+		this.largeModuleCompiler = InvernoTestCompiler.builder()
+			.moduleSourcePath(MODULE_SOURCE_PATH)
+			.generatedSourcePath(GENERATED_SOURCE_PATH)
+			.moduleTargetPath(MODULE_TARGET_PATH)
+			.moduleOverride(this.getModuleOverride())
+			.annotationProcessorModuleOverride(this.getAnnotationProcessorModuleOverride())
+			.build();
+		this.largeModuleCompiler.cleanModuleTarget();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLargeModule() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoModuleLoader moduleLoader = this.largeModuleCompiler.compile(MODULE);
+
+		Path moduleClassesPath = MODULE_TARGET_PATH.resolve(MODULE).resolve(MODULE.replace('.', '/'));
+		Assertions.assertTrue(Files.exists(moduleClassesPath.resolve("Large$BeanChunk0.class")));
+		Assertions.assertTrue(Files.exists(moduleClassesPath.resolve("Large$BeanChunk49.class")));
+		Assertions.assertFalse(Files.exists(moduleClassesPath.resolve("Large$BeanChunk50.class")));
+
+		Class<?> eventsClass = moduleLoader.loadClass(MODULE, MODULE + ".Events");
+		List<String> initEvents = (List<String>)eventsClass.getField("INIT").get(null);
+		List<String> destroyEvents = (List<String>)eventsClass.getField("DESTROY").get(null);
+
+		InvernoModuleProxy largeModuleProxy = moduleLoader.load(MODULE).dependencies("large").build();
+		largeModuleProxy.start();
+		try {
+			Object bean = largeModuleProxy.getBean("bean" + (BEAN_COUNT - 1));
+			for(int i=BEAN_COUNT - 1;i > 0;i = (i - 1) / 2) {
+				Object parent = bean.getClass().getField("parent").get(bean);
+				Assertions.assertSame(largeModuleProxy.getBean("bean" + (i - 1) / 2), parent);
+				bean = parent;
+			}
+			Assertions.assertEquals("large", bean.getClass().getField("name").get(bean));
+
+			Assertions.assertEquals(BEAN_COUNT, initEvents.size());
+			Map<String, Integer> initOrder = new HashMap<>();
+			for(int i=0;i<initEvents.size();i++) {
+				initOrder.put(initEvents.get(i), i);
+			}
+			for(int i=1;i<BEAN_COUNT;i++) {
+				Assertions.assertTrue(initOrder.get("bean" + (i - 1) / 2) < initOrder.get("bean" + i));
+			}
+		}
+		finally {
+			largeModuleProxy.stop();
+		}
+
+		Assertions.assertEquals(BEAN_COUNT, destroyEvents.size());
+		Map<String, Integer> destroyOrder = new HashMap<>();
+		for(int i=0;i<destroyEvents.size();i++) {
+			destroyOrder.put(destroyEvents.get(i), i);
+		}
+		for(int i=1;i<BEAN_COUNT;i++) {
+			Assertions.assertTrue(destroyOrder.get("bean" + i) < destroyOrder.get("bean" + (i - 1) / 2));
+		}
+	}
+}
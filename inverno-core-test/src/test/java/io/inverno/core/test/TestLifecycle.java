@@ -16,11 +16,32 @@
 package io.inverno.core.test;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
 import io.inverno.test.InvernoModuleProxy;
 
 /**
@@ -33,6 +54,12 @@ public class TestLifecycle extends AbstractCoreInvernoTest {
 	private static final String MODULEA = "io.inverno.core.test.lifecycle.moduleA";
 	private static final String MODULEB = "io.inverno.core.test.lifecycle.moduleB";
 	private static final String MODULEC = "io.inverno.core.test.lifecycle.moduleC";
+	private static final String MODULED = "io.inverno.core.test.lifecycle.moduleD";
+	private static final String MODULEE = "io.inverno.core.test.lifecycle.moduleE";
+	private static final String MODULEF = "io.inverno.core.test.lifecycle.moduleF";
+	private static final String MODULEG = "io.inverno.core.test.lifecycle.moduleG";
+	private static final String MODULEH = "io.inverno.core.test.lifecycle.moduleH";
+	private static final String MODULEJ = "io.inverno.core.test.lifecycle.moduleJ";
 	
 	@Test
 	public void testInitDestroy() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, InterruptedException {
@@ -98,6 +125,87 @@ public class TestLifecycle extends AbstractCoreInvernoTest {
 		}
 	}
 	
+	@Test
+	public void testCleanableDestroyWrapper() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, InterruptedException {
+		InvernoModuleProxy moduleD = this.getInvernoCompiler().compile(MODULED).load(MODULED).build();
+		
+		Object cleanableBean1 = null, cleanableBean2 = null;
+		AtomicInteger globalInitCount = null, globalDestroyCount = null;
+		try {
+			moduleD.start();
+			
+			cleanableBean1 = moduleD.getBean("cleanableStrategyWrapperBean");
+			cleanableBean2 = moduleD.getBean("cleanableStrategyWrapperBean");
+			moduleD.getBean("cleanableStrategyWrapperBean");
+			
+			globalInitCount = (AtomicInteger)cleanableBean1.getClass().getField("globalInitCount").get(null);
+			globalDestroyCount = (AtomicInteger)cleanableBean1.getClass().getField("globalDestroyCount").get(null);
+			
+			// The third instance is no longer referenced, it must be destroyed by the cleaner before the module is stopped
+			for(int i = 0; i < 100 && globalDestroyCount.get() == 0; i++) {
+				System.gc();
+				Thread.sleep(50);
+			}
+			
+			Assertions.assertEquals(3, globalInitCount.get());
+			Assertions.assertEquals(1, globalDestroyCount.get());
+		}
+		finally {
+			moduleD.stop();
+			// Remaining instances are destroyed when the module is stopped
+			Assertions.assertEquals(3, globalDestroyCount.get());
+			
+			cleanableBean1 = cleanableBean2 = null;
+			System.gc();
+			Thread.sleep(100);
+			// Instances already destroyed are not destroyed twice
+			Assertions.assertEquals(3, globalDestroyCount.get());
+		}
+	}
+	
+	@Test
+	public void testCleanableNullWrapperInstance() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, ClassNotFoundException {
+		InvernoModuleProxy moduleD = this.getInvernoCompiler().compile(MODULED).load(MODULED).build();
+		
+		moduleD.start();
+		try {
+			Assertions.assertNull(moduleD.getBean("nullCleanableStrategyWrapperBean"));
+			
+			Class<?> beanClass = moduleD.getBean("cleanableStrategyWrapperBean").getClass().getClassLoader().loadClass("io.inverno.core.test.lifecycle.moduleD.NullCleanableStrategyWrapperBean");
+			AtomicInteger globalInitCount = (AtomicInteger)beanClass.getField("globalInitCount").get(null);
+			AtomicInteger globalDestroyCount = (AtomicInteger)beanClass.getField("globalDestroyCount").get(null);
+			
+			// The wrapper is destroyed right away since there's no instance to track
+			Assertions.assertEquals(1, globalInitCount.get());
+			Assertions.assertEquals(1, globalDestroyCount.get());
+		}
+		finally {
+			moduleD.stop();
+		}
+	}
+	
+	@Test
+	public void testPrototypeNullWrapperInstance() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, ClassNotFoundException {
+		InvernoModuleProxy moduleD = this.getInvernoCompiler().compile(MODULED).load(MODULED).build();
+		
+		moduleD.start();
+		try {
+			Assertions.assertNull(moduleD.getBean("nullPrototypeStrategyWrapperBean"));
+			Assertions.assertNull(moduleD.getBean("nullPrototypeStrategyWrapperBean"));
+			
+			Class<?> beanClass = moduleD.getBean("cleanableStrategyWrapperBean").getClass().getClassLoader().loadClass("io.inverno.core.test.lifecycle.moduleD.NullPrototypeStrategyWrapperBean");
+			AtomicInteger globalInitCount = (AtomicInteger)beanClass.getField("globalInitCount").get(null);
+			AtomicInteger globalDestroyCount = (AtomicInteger)beanClass.getField("globalDestroyCount").get(null);
+			
+			// Wrappers are destroyed right away since there's no instance to track
+			Assertions.assertEquals(2, globalInitCount.get());
+			Assertions.assertEquals(2, globalDestroyCount.get());
+		}
+		finally {
+			moduleD.stop();
+		}
+	}
+	
 	@Test
 	public void testInitAfterDI() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
 		InvernoModuleProxy moduleA = this.getInvernoCompiler().compile(MODULEA).load(MODULEA).build();
@@ -153,4 +261,313 @@ public class TestLifecycle extends AbstractCoreInvernoTest {
 			Assertions.assertTrue(beanE.getClass().getField("destroyed").getBoolean(beanE));
 		}
 	}
+
+	@Test
+	public void testParallelStart() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleJ = this.getInvernoCompiler().compile(MODULEJ).load(MODULEJ).build();
+		
+		ForkJoinPool executor = new ForkJoinPool(4);
+		Object beanA = null, beanB = null, beanC = null, beanD = null, beanE = null;
+		try {
+			moduleJ.start(executor);
+			
+			beanA = moduleJ.getBean("beanA");
+			beanB = moduleJ.getBean("beanB");
+			beanC = moduleJ.getBean("beanC");
+			beanD = moduleJ.getBean("beanD");
+			beanE = moduleJ.getBean("beanE");
+
+			Assertions.assertNotNull(beanA);
+			Assertions.assertNotNull(beanB);
+			Assertions.assertNotNull(beanC);
+			Assertions.assertNotNull(beanD);
+			Assertions.assertNotNull(beanE);
+			
+			// Beans are initialized after their dependencies
+			int beanAInitOrder = beanA.getClass().getField("initOrder").getInt(beanA);
+			int beanBInitOrder = beanB.getClass().getField("initOrder").getInt(beanB);
+			int beanCInitOrder = beanC.getClass().getField("initOrder").getInt(beanC);
+			int beanDInitOrder = beanD.getClass().getField("initOrder").getInt(beanD);
+			int beanEInitOrder = beanE.getClass().getField("initOrder").getInt(beanE);
+			Assertions.assertTrue(beanAInitOrder < beanCInitOrder);
+			Assertions.assertTrue(beanCInitOrder < beanBInitOrder);
+			Assertions.assertTrue(beanCInitOrder < beanDInitOrder);
+			Assertions.assertTrue(beanBInitOrder < beanEInitOrder);
+			
+			// beanB and beanD are independent, they wait for each other and can only both proceed when initialized concurrently
+			Assertions.assertTrue(beanB.getClass().getField("initOverlapped").getBoolean(beanB));
+			Assertions.assertTrue(beanD.getClass().getField("initOverlapped").getBoolean(beanD));
+		} 
+		finally {
+			moduleJ.stop();
+			executor.shutdown();
+			Assertions.assertFalse(beanA.getClass().getField("destroyFailed").getBoolean(beanA));
+			Assertions.assertTrue(beanA.getClass().getField("destroyed").getBoolean(beanA));
+			Assertions.assertFalse(beanB.getClass().getField("destroyFailed").getBoolean(beanB));
+			Assertions.assertTrue(beanB.getClass().getField("destroyed").getBoolean(beanB));
+			Assertions.assertFalse(beanC.getClass().getField("destroyFailed").getBoolean(beanC));
+			Assertions.assertTrue(beanC.getClass().getField("destroyed").getBoolean(beanC));
+			Assertions.assertFalse(beanD.getClass().getField("destroyFailed").getBoolean(beanD));
+			Assertions.assertTrue(beanD.getClass().getField("destroyed").getBoolean(beanD));
+			Assertions.assertFalse(beanE.getClass().getField("destroyFailed").getBoolean(beanE));
+			Assertions.assertTrue(beanE.getClass().getField("destroyed").getBoolean(beanE));
+		}
+	}
+
+	@Test
+	public void testStartupProfiler() throws IllegalArgumentException, IllegalAccessException, NoSuchMethodException, SecurityException, InvocationTargetException, IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleE = this.getInvernoCompiler().compile(MODULEE).load(MODULEE).build();
+		
+		try {
+			Object profiler = moduleE.startProfiled(null);
+			Object report = invoke(profiler, "getReport");
+			
+			List<?> beans = (List<?>)invoke(report, "getBeans");
+			Assertions.assertEquals(4, beans.size());
+			Assertions.assertEquals(List.of(MODULEE + ":beanA", MODULEE + ":beanB", MODULEE + ":beanD"), ((List<?>)invoke(report, "getCriticalPath")).stream().map(Object::toString).toList());
+			Assertions.assertTrue(((Duration)invoke(report, "getCriticalPathTime")).toMillis() >= 80);
+			
+			Object beanA = getBeanProfile(beans, "beanA");
+			List<?> beanAInitTimes = (List<?>)invoke(beanA, "getInitTimes");
+			Assertions.assertEquals(1, beanAInitTimes.size());
+			Assertions.assertTrue(((Duration)beanAInitTimes.get(0)).toMillis() >= 50);
+			Assertions.assertTrue(((Duration)invoke(beanA, "getConstructionTime")).toMillis() < 50);
+			
+			Object beanB = getBeanProfile(beans, "beanB");
+			Assertions.assertTrue(((Duration)invoke(beanB, "getConstructionTime")).toMillis() >= 30);
+			Assertions.assertTrue((boolean)invoke(beanB, "isCritical"));
+			
+			Object beanC = getBeanProfile(beans, "beanC");
+			Assertions.assertFalse((boolean)invoke(beanC, "isCritical"));
+			
+			Object beanD = getBeanProfile(beans, "beanD");
+			Assertions.assertEquals(2, ((List<?>)invoke(beanD, "getInitTimes")).size());
+			Assertions.assertEquals(List.of(MODULEE + ":beanB", MODULEE + ":beanC"), ((List<?>)invoke(beanD, "getDependencies")).stream().map(Object::toString).sorted().toList());
+			
+			String json = (String)invoke(report, "toJson");
+			Assertions.assertTrue(json.contains("\"criticalPath\": [\"" + MODULEE + ":beanA\", \"" + MODULEE + ":beanB\", \"" + MODULEE + ":beanD\"]"));
+			
+			String tree = (String)invoke(report, "toTree");
+			Assertions.assertTrue(tree.startsWith("Module " + MODULEE + " started in "));
+			Assertions.assertTrue(tree.contains(MODULEE + ":beanB"));
+		}
+		finally {
+			moduleE.stop();
+		}
+	}
+	
+	@Test
+	public void testParallelStartupProfiler() throws IllegalArgumentException, IllegalAccessException, NoSuchMethodException, SecurityException, InvocationTargetException, IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleE = this.getInvernoCompiler().compile(MODULEE).load(MODULEE).build();
+		
+		ForkJoinPool executor = new ForkJoinPool(4);
+		try {
+			Object profiler = moduleE.startProfiled(executor);
+			Object report = invoke(profiler, "getReport");
+			
+			List<?> beans = (List<?>)invoke(report, "getBeans");
+			Assertions.assertEquals(4, beans.size());
+			Assertions.assertEquals(List.of(MODULEE + ":beanA", MODULEE + ":beanB", MODULEE + ":beanD"), ((List<?>)invoke(report, "getCriticalPath")).stream().map(Object::toString).toList());
+			
+			// beanD is only created once beanB, which waited for beanA, has been created
+			Assertions.assertTrue(((Duration)invoke(getBeanProfile(beans, "beanD"), "getDependencyWaitTime")).toMillis() >= 80);
+			Assertions.assertTrue(((Duration)invoke(getBeanProfile(beans, "beanB"), "getDependencyWaitTime")).toMillis() >= 50);
+		}
+		finally {
+			moduleE.stop();
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testLazyBean() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, ClassNotFoundException, InterruptedException, ExecutionException {
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(MODULEF);
+		InvernoModuleProxy moduleF = moduleLoader.load(MODULEF).build();
+		
+		AtomicInteger lazyInitCount = (AtomicInteger)moduleLoader.loadClass(MODULEF, "io.inverno.core.test.lifecycle.moduleF.LazyBean").getField("initCount").get(null);
+		AtomicInteger lazyDependencyInitCount = (AtomicInteger)moduleLoader.loadClass(MODULEF, "io.inverno.core.test.lifecycle.moduleF.LazyDependencyBean").getField("initCount").get(null);
+		AtomicInteger unusedLazyInitCount = (AtomicInteger)moduleLoader.loadClass(MODULEF, "io.inverno.core.test.lifecycle.moduleF.UnusedLazyBean").getField("initCount").get(null);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		Object lazyBean = null;
+		try {
+			moduleF.start();
+			
+			// A lazy bean required by an eager bean is created when the module is started
+			Assertions.assertEquals(1, lazyDependencyInitCount.get());
+			Assertions.assertEquals(0, lazyInitCount.get());
+			
+			List<Future<Object>> requests = new ArrayList<>();
+			for(int i = 0; i < 8; i++) {
+				requests.add(executor.submit(() -> moduleF.getBean("lazyBean")));
+			}
+			lazyBean = requests.get(0).get();
+			for(Future<Object> request : requests) {
+				Assertions.assertSame(lazyBean, request.get());
+			}
+			Assertions.assertEquals(1, lazyInitCount.get());
+			Assertions.assertEquals(0, unusedLazyInitCount.get());
+		}
+		finally {
+			moduleF.stop();
+			executor.shutdown();
+			Assertions.assertTrue(lazyBean.getClass().getField("destroyed").getBoolean(lazyBean));
+			Assertions.assertFalse(lazyBean.getClass().getField("destroyFailed").getBoolean(lazyBean));
+		}
+	}
+	
+	@Test
+	public void testParallelLazyBean() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, ClassNotFoundException {
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(MODULEF);
+		InvernoModuleProxy moduleF = moduleLoader.load(MODULEF).build();
+		
+		AtomicInteger lazyInitCount = (AtomicInteger)moduleLoader.loadClass(MODULEF, "io.inverno.core.test.lifecycle.moduleF.LazyBean").getField("initCount").get(null);
+		AtomicInteger lazyDependencyInitCount = (AtomicInteger)moduleLoader.loadClass(MODULEF, "io.inverno.core.test.lifecycle.moduleF.LazyDependencyBean").getField("initCount").get(null);
+		AtomicInteger unusedLazyInitCount = (AtomicInteger)moduleLoader.loadClass(MODULEF, "io.inverno.core.test.lifecycle.moduleF.UnusedLazyBean").getField("initCount").get(null);
+		
+		ForkJoinPool executor = new ForkJoinPool(4);
+		Object lazyBean = null;
+		try {
+			moduleF.start(executor);
+			
+			Assertions.assertEquals(1, lazyDependencyInitCount.get());
+			Assertions.assertEquals(0, lazyInitCount.get());
+			
+			lazyBean = moduleF.getBean("lazyBean");
+			Assertions.assertSame(lazyBean, moduleF.getBean("lazyBean"));
+			Assertions.assertEquals(1, lazyInitCount.get());
+			Assertions.assertEquals(0, unusedLazyInitCount.get());
+		}
+		finally {
+			moduleF.stop();
+			executor.shutdown();
+			Assertions.assertTrue(lazyBean.getClass().getField("destroyed").getBoolean(lazyBean));
+			Assertions.assertFalse(lazyBean.getClass().getField("destroyFailed").getBoolean(lazyBean));
+		}
+	}
+	
+	@Test
+	public void testAsyncInitDestroy() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(MODULEG);
+		
+		List<String> warnings = moduleLoader.getDiagnotics().stream()
+			.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.MANDATORY_WARNING)
+			.map(diagnostic -> diagnostic.getMessage(Locale.getDefault()))
+			.collect(Collectors.toList());
+		Assertions.assertEquals(List.of("Asynchronous Init method is only run concurrently on singleton module beans, it will be awaited when the bean instance is created"), warnings);
+		
+		this.assertAsyncInitDestroy(moduleLoader.load(MODULEG).build(), null);
+	}
+	
+	@Test
+	public void testParallelAsyncInitDestroy() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		ForkJoinPool executor = new ForkJoinPool(4);
+		try {
+			this.assertAsyncInitDestroy(this.getInvernoCompiler().compile(MODULEG).load(MODULEG).build(), executor);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void assertAsyncInitDestroy(InvernoModuleProxy moduleG, ForkJoinPool executor) throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		List<String> events = null;
+		try {
+			// Initializations of independent beans wait for each other, the module can only start if they are run concurrently
+			if(executor != null) {
+				moduleG.start(executor);
+			}
+			else {
+				moduleG.start();
+			}
+			Object latches = moduleG.getBean("latches");
+			events = (List<String>)latches.getClass().getField("events").get(latches);
+			
+			Assertions.assertTrue(events.contains("a.init"));
+			Assertions.assertTrue(events.contains("b.init"));
+			// The dependent bean is created once the initializations of its dependencies have completed
+			Assertions.assertEquals("dependent.create", events.get(events.size() - 1));
+			
+			Object prototypeBean = moduleG.getBean("asyncPrototypeBean");
+			Assertions.assertTrue(prototypeBean.getClass().getField("initialized").getBoolean(prototypeBean));
+		}
+		finally {
+			moduleG.stop();
+		}
+		
+		// Destructions of independent beans wait for each other, the module can only stop if they are run concurrently
+		Assertions.assertTrue(events.contains("a.destroy"));
+		Assertions.assertTrue(events.contains("b.destroy"));
+		// The dependencies are destroyed once the destruction of the dependent bean has completed
+		int dependentDestroy = events.indexOf("dependent.destroy");
+		Assertions.assertTrue(dependentDestroy >= 0);
+		Assertions.assertTrue(dependentDestroy < events.indexOf("a.destroy.start"));
+		Assertions.assertTrue(dependentDestroy < events.indexOf("b.destroy.start"));
+	}
+	
+	@Test
+	public void testParallelStopBeanTimeout() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		this.assertParallelStop(Duration.ofSeconds(5), Duration.ofMillis(200));
+	}
+	
+	@Test
+	public void testParallelStopTimeout() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		this.assertParallelStop(Duration.ofMillis(300), null);
+	}
+	
+	@Test
+	public void testParallelStopRejected() throws IOException, InvernoCompilationException, InterruptedException, ExecutionException, TimeoutException {
+		InvernoModuleProxy moduleA = this.getInvernoCompiler().compile(MODULEA).load(MODULEA).build();
+		
+		moduleA.start();
+		
+		// Stopping the module must not block when destructions are rejected, even without timeout
+		Executor rejectingExecutor = command -> {
+			throw new RejectedExecutionException();
+		};
+		List<String> notDestroyed = CompletableFuture.supplyAsync(() -> moduleA.stop(rejectingExecutor, null, null)).get(4, TimeUnit.SECONDS);
+		
+		Assertions.assertEquals(Set.of(MODULEA + ":singletonStrategyBean", MODULEA + ":prototypeStrategyBean", MODULEA + ":injectedBean"), Set.copyOf(notDestroyed));
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void assertParallelStop(Duration timeout, Duration beanTimeout) throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleH = this.getInvernoCompiler().compile(MODULEH).load(MODULEH).build();
+		
+		ForkJoinPool executor = new ForkJoinPool(4);
+		Object latches = null;
+		try {
+			moduleH.start();
+			latches = moduleH.getBean("latches");
+			Object independentBeanA = moduleH.getBean("independentBeanA");
+			Object independentBeanB = moduleH.getBean("independentBeanB");
+			Object blockedDependencyBean = moduleH.getBean("blockedDependencyBean");
+			
+			// The blocked bean is never destroyed, the beans it depends on must not be destroyed
+			long t0 = System.nanoTime();
+			List<String> notDestroyed = moduleH.stop(executor, timeout, beanTimeout);
+			Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - t0).compareTo(Duration.ofSeconds(4)) < 0);
+			
+			Assertions.assertEquals(Set.of(MODULEH + ":blockedBean", MODULEH + ":blockedDependencyBean", MODULEH + ":latches"), Set.copyOf(notDestroyed));
+			Assertions.assertFalse(blockedDependencyBean.getClass().getField("destroyed").getBoolean(blockedDependencyBean));
+			// Independent beans wait for each other, they can only be destroyed concurrently
+			Assertions.assertTrue(independentBeanA.getClass().getField("destroyed").getBoolean(independentBeanA));
+			Assertions.assertTrue(independentBeanB.getClass().getField("destroyed").getBoolean(independentBeanB));
+		}
+		finally {
+			if(latches != null) {
+				((CompletableFuture<Void>)latches.getClass().getField("release").get(latches)).complete(null);
+			}
+			executor.shutdown();
+		}
+	}
+	
+	private static Object invoke(Object object, String method) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
+		return object.getClass().getMethod(method).invoke(object);
+	}
+	
+	private static Object getBeanProfile(List<?> beans, String beanName) {
+		return beans.stream().filter(bean -> bean.toString().equals(MODULEE + ":" + beanName)).findFirst().orElseThrow();
+	}
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleProxy;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestLifecycleEvents extends AbstractCoreInvernoTest {
+
+	private static final String MODULEA = "io.inverno.core.test.lifecycle.moduleA";
+
+	@Test
+	public void testLifecycleEvents() throws IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleA = this.getInvernoCompiler().compile(MODULEA).load(MODULEA).build();
+
+		List<RecordedEvent> events;
+		Path recordingPath = Files.createTempFile("inverno-lifecycle-", ".jfr");
+		try(Recording recording = new Recording()) {
+			for(String event : List.of("ModuleStart", "ModuleStop", "BeanCreate", "BeanInit", "BeanDestroy", "BeanInstantiation")) {
+				recording.enable("io.inverno.core." + event).withThreshold(Duration.ZERO);
+			}
+			recording.start();
+
+			moduleA.start();
+			try {
+				Object prototypeBean1 = moduleA.getBean("prototypeStrategyBean");
+				Object prototypeBean2 = moduleA.getBean("prototypeStrategyBean");
+				Assertions.assertNotSame(prototypeBean1, prototypeBean2);
+			}
+			finally {
+				moduleA.stop();
+			}
+
+			recording.stop();
+			recording.dump(recordingPath);
+			events = RecordingFile.readAllEvents(recordingPath);
+		}
+		finally {
+			Files.deleteIfExists(recordingPath);
+		}
+
+		List<RecordedEvent> moduleStarts = this.getEvents(events, "ModuleStart");
+		Assertions.assertEquals(1, moduleStarts.size());
+		Assertions.assertEquals(MODULEA, moduleStarts.get(0).getString("moduleName"));
+		Assertions.assertFalse(moduleStarts.get(0).getBoolean("concurrent"));
+
+		Assertions.assertEquals(List.of("injectedBean:SINGLETON", "singletonStrategyBean:SINGLETON"), this.getBeans(events, "BeanCreate").stream().sorted().collect(Collectors.toList()));
+		Assertions.assertTrue(this.getEvents(events, "BeanCreate").stream().allMatch(event -> event.getString("moduleName").equals(MODULEA) && event.getThread() != null));
+
+		Assertions.assertEquals(List.of("prototypeStrategyBean:PROTOTYPE", "prototypeStrategyBean:PROTOTYPE", "singletonStrategyBean:SINGLETON"), this.getBeans(events, "BeanInit").stream().sorted().collect(Collectors.toList()));
+		Assertions.assertEquals(List.of("prototypeStrategyBean:PROTOTYPE", "prototypeStrategyBean:PROTOTYPE"), this.getBeans(events, "BeanInstantiation"));
+		Assertions.assertTrue(this.getBeans(events, "BeanDestroy").contains("singletonStrategyBean:SINGLETON"));
+
+		List<RecordedEvent> moduleStops = this.getEvents(events, "ModuleStop");
+		Assertions.assertEquals(1, moduleStops.size());
+		Assertions.assertEquals(MODULEA, moduleStops.get(0).getString("moduleName"));
+		Assertions.assertEquals(0, moduleStops.get(0).getInt("notDestroyed"));
+	}
+
+	private List<RecordedEvent> getEvents(List<RecordedEvent> events, String name) {
+		return events.stream().filter(event -> event.getEventType().getName().equals("io.inverno.core." + name)).collect(Collectors.toList());
+	}
+
+	private List<String> getBeans(List<RecordedEvent> events, String name) {
+		return this.getEvents(events, name).stream().map(event -> event.getString("beanName") + ":" + event.getString("strategy")).collect(Collectors.toList());
+	}
+}
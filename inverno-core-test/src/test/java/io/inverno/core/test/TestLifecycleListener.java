@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.core.v1.BeanLifecycleListener;
+import io.inverno.core.v1.ModuleLifecycleListener;
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestLifecycleListener extends AbstractCoreInvernoTest {
+
+	private static final String MODULEA = "io.inverno.core.test.lifecycle.moduleA";
+
+	private static final String MODULEI = "io.inverno.core.test.lifecycle.moduleI";
+
+	private static class RecordingListener implements ModuleLifecycleListener, BeanLifecycleListener {
+
+		private final List<String> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void moduleStarting(String moduleName) {
+			this.events.add("moduleStarting " + moduleName);
+		}
+
+		@Override
+		public void moduleStarted(String moduleName, long duration) {
+			this.events.add("moduleStarted " + moduleName);
+		}
+
+		@Override
+		public void moduleStopping(String moduleName) {
+			this.events.add("moduleStopping " + moduleName);
+		}
+
+		@Override
+		public void moduleStopped(String moduleName, long duration, List<String> notDestroyed) {
+			this.events.add("moduleStopped " + moduleName + " " + notDestroyed);
+		}
+
+		@Override
+		public void beanCreating(String moduleName, String beanName, String strategy, boolean overridden) {
+			this.events.add("beanCreating " + moduleName + ":" + beanName + " " + strategy);
+		}
+
+		@Override
+		public void beanCreated(String moduleName, String beanName) {
+			this.events.add("beanCreated " + moduleName + ":" + beanName);
+		}
+
+		@Override
+		public void beanInitFailed(String moduleName, String beanName, Throwable error) {
+			this.events.add("beanInitFailed " + moduleName + ":" + beanName + " " + error.getMessage());
+		}
+
+		@Override
+		public void beanDestroyed(String moduleName, String beanName, long duration) {
+			this.events.add("beanDestroyed " + moduleName + ":" + beanName);
+		}
+	}
+
+	@Test
+	public void testLifecycleListener() throws IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleA = this.getInvernoCompiler().compile(MODULEA).load(MODULEA).build();
+
+		RecordingListener listener = new RecordingListener();
+		moduleA.setModuleLifecycleListener(listener);
+		moduleA.setBeanLifecycleListener(listener);
+
+		moduleA.start();
+		try {
+			moduleA.getBean("prototypeStrategyBean");
+			moduleA.getBean("prototypeStrategyBean");
+		}
+		finally {
+			moduleA.stop();
+		}
+
+		List<String> events = listener.events;
+		Assertions.assertEquals("moduleStarting " + MODULEA, events.get(0));
+		Assertions.assertTrue(events.contains("beanCreating " + MODULEA + ":singletonStrategyBean SINGLETON"));
+		Assertions.assertTrue(events.contains("beanCreating " + MODULEA + ":prototypeStrategyBean PROTOTYPE"));
+		Assertions.assertTrue(events.indexOf("beanCreating " + MODULEA + ":singletonStrategyBean SINGLETON") < events.indexOf("beanCreated " + MODULEA + ":singletonStrategyBean"));
+		// dependencies are created first
+		Assertions.assertTrue(events.indexOf("beanCreated " + MODULEA + ":injectedBean") < events.indexOf("beanCreated " + MODULEA + ":singletonStrategyBean"));
+		Assertions.assertTrue(events.indexOf("moduleStarted " + MODULEA) < events.indexOf("moduleStopping " + MODULEA));
+		// beans are destroyed in the reverse order
+		Assertions.assertTrue(events.indexOf("beanDestroyed " + MODULEA + ":singletonStrategyBean") < events.indexOf("beanDestroyed " + MODULEA + ":injectedBean"));
+		Assertions.assertEquals("moduleStopped " + MODULEA + " []", events.get(events.size() - 1));
+		Assertions.assertEquals(3, events.stream().filter(event -> event.startsWith("beanCreating")).count());
+		Assertions.assertEquals(3, events.stream().filter(event -> event.startsWith("beanCreated")).count());
+		Assertions.assertEquals(3, events.stream().filter(event -> event.startsWith("beanDestroyed")).count());
+	}
+
+	@Test
+	public void testInitFailed() throws IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleI = this.getInvernoCompiler().compile(MODULEI).load(MODULEI).build();
+
+		RecordingListener listener = new RecordingListener();
+		moduleI.setBeanLifecycleListener(listener);
+
+		try {
+			moduleI.start();
+			Assertions.fail("Should throw an InvernoModuleException");
+		}
+		catch(InvernoModuleException e) {
+			Assertions.assertEquals("Error initializing bean failingBean", e.getCause().getMessage());
+		}
+		Assertions.assertTrue(listener.events.contains("beanInitFailed " + MODULEI + ":failingBean Init failed"));
+	}
+
+	@Test
+	public void testNoListener() throws IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleA = this.getInvernoCompiler().compile(MODULEA).load(MODULEA).build();
+
+		RecordingListener listener = new RecordingListener();
+		moduleA.setModuleLifecycleListener(listener);
+		moduleA.setBeanLifecycleListener(listener);
+		moduleA.setModuleLifecycleListener(null);
+		moduleA.setBeanLifecycleListener(null);
+
+		moduleA.start();
+		moduleA.stop();
+
+		Assertions.assertTrue(listener.events.isEmpty());
+	}
+}
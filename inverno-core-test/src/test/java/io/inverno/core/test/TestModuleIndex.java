@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+import io.inverno.test.InvernoTestCompiler;
+
+/**
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestModuleIndex extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.multi.moduleE";
+
+	private static final String MODULEA = "io.inverno.core.test.multi.moduleA";
+
+	private static final String MODULED = "io.inverno.core.test.multi.moduleD";
+
+	private static final String MODULEF = "io.inverno.core.test.multi.moduleF";
+
+	@Test
+	public void testModuleIndex() throws IOException, InvernoCompilationException {
+		InvernoTestCompiler invernoCompiler = this.getInvernoCompiler();
+		invernoCompiler.compile(MODULE);
+
+		Path moduleIndexPath = invernoCompiler.getModuleOutputPath().resolve(MODULE).resolve("META-INF/inverno/core/" + MODULE + "/module.idx");
+		Assertions.assertTrue(Files.exists(moduleIndexPath));
+
+		try(DataInputStream data = new DataInputStream(Files.newInputStream(moduleIndexPath))) {
+			// header
+			Assertions.assertEquals(0x494E564D, data.readInt());
+			Assertions.assertEquals(1, data.readShort());
+			Assertions.assertEquals(MODULE, data.readUTF());
+			Assertions.assertEquals(MODULE + ".ModuleE", data.readUTF());
+
+			// sockets
+			Assertions.assertEquals(1, data.readInt());
+			Assertions.assertEquals("runnableSocket", data.readUTF());
+			Assertions.assertFalse(data.readBoolean());
+			Assertions.assertEquals(1, data.readInt());
+			Assertions.assertEquals("beanE", data.readUTF());
+
+			// beans
+			Assertions.assertEquals(1, data.readInt());
+			Assertions.assertEquals("beanE", data.readUTF());
+			Assertions.assertEquals(MODULE + ".BeanE", data.readUTF());
+
+			Assertions.assertEquals(-1, data.read());
+		}
+	}
+
+	@Test
+	public void testBinaryComponentModuleWithIndex() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		this.getInvernoCompiler().cleanModuleTarget();
+		this.getInvernoCompiler().compile(MODULEA, MODULE, MODULEF);
+
+		String output = this.compileBinaryComponentModules();
+		Assertions.assertTrue(output.contains("Using index of component module " + MODULE));
+		Assertions.assertTrue(output.contains("Using index of component module " + MODULEF));
+	}
+
+	@Test
+	public void testBinaryComponentModuleWithoutIndex() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		this.getInvernoCompiler().cleanModuleTarget();
+		this.getInvernoCompiler().compile(MODULEA, MODULE, MODULEF);
+		for(String module : new String[] {MODULEA, MODULE, MODULEF}) {
+			Files.delete(this.getInvernoCompiler().getModuleOutputPath().resolve(module).resolve("META-INF/inverno/core/" + module + "/module.idx"));
+		}
+
+		String output = this.compileBinaryComponentModules();
+		Assertions.assertFalse(output.contains("Using index of component module"));
+	}
+
+	private String compileBinaryComponentModules() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoTestCompiler extraCompiler = this.getInvernoCompiler().withModulePaths(Set.of(this.getInvernoCompiler().getModuleOutputPath().resolve(MODULED)));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream stdout = System.out;
+		InvernoModuleLoader moduleLoader;
+		System.setOut(new PrintStream(output, true));
+		try {
+			moduleLoader = extraCompiler.compile(MODULED);
+		}
+		finally {
+			System.setOut(stdout);
+		}
+
+		InvernoModuleProxy moduleD = moduleLoader.load(MODULED).build();
+		moduleD.start();
+		try {
+			Object beanD = moduleD.getBean("beanD");
+			Object beanD_beanE = beanD.getClass().getField("beanE").get(beanD);
+			Assertions.assertNotNull(beanD_beanE);
+			Assertions.assertNotNull(beanD_beanE.getClass().getField("beanA").get(beanD_beanE));
+			Assertions.assertNotNull(beanD.getClass().getField("beanF").get(beanD));
+		}
+		finally {
+			moduleD.stop();
+		}
+		return output.toString();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.util.Set;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestModuleMBeans extends AbstractCoreInvernoTest {
+
+	private static final String MODULEA = "io.inverno.core.test.lifecycle.moduleA";
+
+	@Test
+	public void testModuleMBeans() throws IOException, InvernoCompilationException, JMException {
+		InvernoModuleProxy moduleA = this.getInvernoCompiler().compile(MODULEA).load(MODULEA).build();
+
+		MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+		moduleA.registerMBeans(mBeanServer);
+		try {
+			ObjectName moduleName = new ObjectName("io.inverno.core:type=Module,name=" + MODULEA);
+			ObjectName singletonName = new ObjectName("io.inverno.core:type=Bean,module=" + MODULEA + ",name=singletonStrategyBean");
+			ObjectName prototypeName = new ObjectName("io.inverno.core:type=Bean,module=" + MODULEA + ",name=prototypeStrategyBean");
+			ObjectName injectedName = new ObjectName("io.inverno.core:type=Bean,module=" + MODULEA + ",name=injectedBean");
+
+			Assertions.assertEquals(Set.of(moduleName, singletonName, prototypeName, injectedName), mBeanServer.queryNames(new ObjectName("io.inverno.core:*"), null));
+			Assertions.assertEquals(Set.of("singletonStrategyBean", "prototypeStrategyBean", "injectedBean"), Set.of((String[])mBeanServer.getAttribute(moduleName, "Beans")));
+			Assertions.assertEquals(false, mBeanServer.getAttribute(moduleName, "Active"));
+			Assertions.assertEquals("NEW", mBeanServer.getAttribute(singletonName, "State"));
+			Assertions.assertEquals("SINGLETON", mBeanServer.getAttribute(singletonName, "Strategy"));
+			Assertions.assertEquals("PROTOTYPE", mBeanServer.getAttribute(prototypeName, "Strategy"));
+
+			@SuppressWarnings("unused")
+			Object singletonBean = null, prototypeBean1 = null, prototypeBean2 = null, prototypeBean3 = null;
+			moduleA.start();
+			try {
+				singletonBean = moduleA.getBean("singletonStrategyBean");
+				singletonBean = moduleA.getBean("singletonStrategyBean");
+				prototypeBean1 = moduleA.getBean("prototypeStrategyBean");
+				prototypeBean2 = moduleA.getBean("prototypeStrategyBean");
+				prototypeBean3 = moduleA.getBean("prototypeStrategyBean");
+
+				Assertions.assertEquals(true, mBeanServer.getAttribute(moduleName, "Active"));
+				Assertions.assertEquals(3, mBeanServer.getAttribute(moduleName, "CreatedBeanCount"));
+
+				Assertions.assertEquals("CREATED", mBeanServer.getAttribute(singletonName, "State"));
+				Assertions.assertEquals(1L, mBeanServer.getAttribute(singletonName, "InstanceCount"));
+				Assertions.assertEquals(2L, mBeanServer.getAttribute(singletonName, "RequestCount"));
+				Assertions.assertEquals(-1, mBeanServer.getAttribute(singletonName, "TrackedInstanceCount"));
+				Assertions.assertTrue((Double)mBeanServer.getAttribute(singletonName, "InitTime") > 0);
+
+				Assertions.assertEquals("CREATED", mBeanServer.getAttribute(prototypeName, "State"));
+				Assertions.assertEquals(3L, mBeanServer.getAttribute(prototypeName, "InstanceCount"));
+				Assertions.assertEquals(3L, mBeanServer.getAttribute(prototypeName, "RequestCount"));
+				Assertions.assertEquals(3, mBeanServer.getAttribute(prototypeName, "TrackedInstanceCount"));
+
+				// injected into the singleton and the prototype instances
+				Assertions.assertEquals(4L, mBeanServer.getAttribute(injectedName, "RequestCount"));
+				Assertions.assertEquals(0.0, mBeanServer.getAttribute(injectedName, "InitTime"));
+
+				try {
+					moduleA.registerMBeans(mBeanServer);
+					Assertions.fail("Should throw an IllegalStateException");
+				}
+				catch(InvernoModuleException e) {
+					Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+				}
+			}
+			finally {
+				moduleA.stop();
+			}
+
+			Assertions.assertEquals(false, mBeanServer.getAttribute(moduleName, "Active"));
+			Assertions.assertEquals(0, mBeanServer.getAttribute(moduleName, "CreatedBeanCount"));
+			Assertions.assertEquals("DESTROYED", mBeanServer.getAttribute(singletonName, "State"));
+			Assertions.assertEquals(0, mBeanServer.getAttribute(prototypeName, "TrackedInstanceCount"));
+		}
+		finally {
+			moduleA.unregisterMBeans();
+		}
+		Assertions.assertTrue(mBeanServer.queryNames(new ObjectName("io.inverno.core:*"), null).isEmpty());
+	}
+}
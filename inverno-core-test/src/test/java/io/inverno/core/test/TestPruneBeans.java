@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestPruneBeans extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.prune";
+
+	@Test
+	public void testNoPruning() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(MODULE);
+
+		Assertions.assertEquals(Set.of("publicBean", "usedBean", "providerBean", "lifecycleBean", "unusedBean", "unusedDependencyBean"), this.startStop(moduleLoader));
+		Assertions.assertTrue(this.getWarnings(moduleLoader).isEmpty());
+	}
+
+	@Test
+	public void testReportUnreachableBeans() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(Map.of("inverno.pruneBeans", "report"), MODULE);
+
+		Assertions.assertEquals(Set.of("publicBean", "usedBean", "providerBean", "lifecycleBean", "unusedBean", "unusedDependencyBean"), this.startStop(moduleLoader));
+
+		List<String> warnings = this.getWarnings(moduleLoader);
+		Assertions.assertEquals(2, warnings.size());
+		Assertions.assertTrue(warnings.stream().allMatch(warning -> warning.equals("Bean is not reachable from any public bean, component module or bean with init or destroy methods")));
+	}
+
+	@Test
+	public void testPruneUnreachableBeans() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(Map.of("inverno.pruneBeans", "true"), MODULE);
+
+		Assertions.assertEquals(Set.of("publicBean", "usedBean", "providerBean", "lifecycleBean"), this.startStop(moduleLoader));
+
+		List<String> warnings = this.getWarnings(moduleLoader);
+		Assertions.assertEquals(2, warnings.size());
+		Assertions.assertTrue(warnings.stream().allMatch(warning -> warning.equals("Pruning bean which is not reachable from any public bean, component module or bean with init or destroy methods")));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<String> startStop(InvernoModuleLoader moduleLoader) throws ReflectiveOperationException {
+		List<String> created = (List<String>)moduleLoader.loadClass(MODULE, MODULE + ".Instances").getField("CREATED").get(null);
+
+		InvernoModuleProxy module = moduleLoader.load(MODULE).build();
+		module.start();
+		try {
+			return Set.copyOf(created);
+		}
+		finally {
+			module.stop();
+		}
+	}
+
+	private List<String> getWarnings(InvernoModuleLoader moduleLoader) {
+		return moduleLoader.getDiagnotics().stream()
+			.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.MANDATORY_WARNING)
+			.map(diagnostic -> diagnostic.getMessage(Locale.getDefault()))
+			.filter(message -> message.contains("reachable"))
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * <p>
+ * Compiles modules with the {@code inverno.switchBeanFactories} option which generates bean factories dispatching on a bean identifier instead of lambdas and method references.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestSwitchBeanFactories extends AbstractCoreInvernoTest {
+
+	private static final String MODULE_LIFECYCLE = "io.inverno.core.test.lifecycle.moduleA";
+	private static final String MODULE_DEPENDENCIES = "io.inverno.core.test.lifecycle.moduleB";
+	private static final String MODULE_SOCKET = "io.inverno.core.test.socketbean.moduleI";
+
+	private static final Map<String, String> SWITCH_BEAN_FACTORIES_OPTIONS = Map.of("inverno.switchBeanFactories", "true");
+
+	@Test
+	public void testLifecycle() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoModuleProxy moduleProxy = this.getInvernoCompiler().compile(SWITCH_BEAN_FACTORIES_OPTIONS, MODULE_LIFECYCLE).load(MODULE_LIFECYCLE).build();
+		this.assertBeanFactory(MODULE_LIFECYCLE, "ModuleA");
+
+		Object singletonBean = null, prototypeBean = null;
+		try {
+			moduleProxy.start();
+
+			// Each bean is created, initialized and destroyed through its own case of the factory
+			singletonBean = moduleProxy.getBean("singletonStrategyBean");
+			prototypeBean = moduleProxy.getBean("prototypeStrategyBean");
+
+			Assertions.assertEquals("SingletonStrategyBean", singletonBean.getClass().getSimpleName());
+			Assertions.assertEquals("PrototypeStrategyBean", prototypeBean.getClass().getSimpleName());
+
+			// Beans are initialized once, after their dependencies were injected
+			Assertions.assertEquals(1, singletonBean.getClass().getField("initCount").get(singletonBean));
+			Assertions.assertEquals(1, prototypeBean.getClass().getField("initCount").get(prototypeBean));
+			Assertions.assertTrue((boolean)singletonBean.getClass().getField("beanInjected").get(singletonBean));
+			Assertions.assertTrue((boolean)prototypeBean.getClass().getField("beanInjected").get(prototypeBean));
+			Assertions.assertEquals(0, singletonBean.getClass().getField("destroyCount").get(singletonBean));
+		}
+		finally {
+			moduleProxy.stop();
+		}
+		Assertions.assertEquals(1, singletonBean.getClass().getField("destroyCount").get(singletonBean));
+		Assertions.assertEquals(1, prototypeBean.getClass().getField("destroyCount").get(prototypeBean));
+	}
+
+	@Test
+	public void testParallelStart() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoModuleProxy moduleProxy = this.getInvernoCompiler().compile(SWITCH_BEAN_FACTORIES_OPTIONS, MODULE_DEPENDENCIES).load(MODULE_DEPENDENCIES).build();
+		this.assertBeanFactory(MODULE_DEPENDENCIES, "ModuleB");
+
+		ForkJoinPool executor = new ForkJoinPool(4);
+		Object beanA = null, beanB = null, beanC = null, beanD = null, beanE = null;
+		try {
+			moduleProxy.start(executor);
+
+			beanA = moduleProxy.getBean("beanA");
+			beanB = moduleProxy.getBean("beanB");
+			beanC = moduleProxy.getBean("beanC");
+			beanD = moduleProxy.getBean("beanD");
+			beanE = moduleProxy.getBean("beanE");
+
+			Assertions.assertSame(beanA, beanC.getClass().getField("beanA").get(beanC));
+			Assertions.assertSame(beanC, beanB.getClass().getField("beanC").get(beanB));
+			Assertions.assertSame(beanC, beanD.getClass().getField("beanC").get(beanD));
+			Assertions.assertSame(beanA, beanD.getClass().getField("beanA").get(beanD));
+			Assertions.assertSame(beanB, beanE.getClass().getField("beanB").get(beanE));
+		}
+		finally {
+			moduleProxy.stop();
+			executor.shutdown();
+		}
+
+		// Beans are destroyed before their dependencies
+		for(Object bean : new Object[] { beanA, beanB, beanC, beanD, beanE }) {
+			Assertions.assertTrue(bean.getClass().getField("destroyed").getBoolean(bean));
+			Assertions.assertFalse(bean.getClass().getField("destroyFailed").getBoolean(bean));
+		}
+	}
+
+	@Test
+	public void testSockets() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(SWITCH_BEAN_FACTORIES_OPTIONS, MODULE_SOCKET);
+		this.assertBeanFactory(MODULE_SOCKET, "ModuleI");
+
+		Runnable runnable = () -> {};
+		InvernoModuleProxy moduleProxy = moduleLoader.load(MODULE_SOCKET).dependencies(runnable).build();
+
+		moduleProxy.start();
+		try {
+			Object beanA = moduleProxy.getBean("beanA");
+			Object beanB = moduleProxy.getBean("beanB");
+			Assertions.assertSame(runnable, beanA.getClass().getField("runnable").get(beanA));
+			Assertions.assertSame(runnable, beanB.getClass().getField("runnable").get(beanB));
+
+			// Bean factories can't access the module constructor parameters, the socket is held by a module field
+			Field moduleField = InvernoModuleProxy.class.getDeclaredField("module");
+			moduleField.setAccessible(true);
+			Field socketField = moduleField.get(moduleProxy).getClass().getDeclaredField("runnableSocket");
+			Assertions.assertEquals(Supplier.class, socketField.getType());
+			Assertions.assertTrue(Modifier.isFinal(socketField.getModifiers()));
+		}
+		finally {
+			moduleProxy.stop();
+		}
+	}
+
+	private void assertBeanFactory(String moduleName, String moduleClassName) throws IOException {
+		Path moduleSourcePath = this.getInvernoCompiler().getGeneratedSourcePath().resolve(moduleName).resolve(moduleName.replace('.', '/')).resolve(moduleClassName + ".java");
+		String moduleSource = Files.readString(moduleSourcePath);
+		// Only the module class is concerned, the module builder still provides sockets as lambdas
+		moduleSource = moduleSource.substring(0, moduleSource.indexOf("public static final class Builder"));
+		Assertions.assertTrue(moduleSource.contains("new BeanFactory<"), "Missing bean factory in " + moduleSourcePath);
+		Assertions.assertTrue(moduleSource.contains("switch(this.id)"), "Missing switch dispatch in " + moduleSourcePath);
+		Assertions.assertFalse(moduleSource.contains("->") || moduleSource.contains("::new"), "Unexpected lambda in " + moduleSourcePath);
+	}
+}
@@ -16,6 +16,7 @@
 package io.inverno.core.test;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -42,4 +43,21 @@ public class TestWrapperBean extends AbstractCoreInvernoTest {
 		Assertions.assertTrue(simpleProxy.getBean("beanA") instanceof Runnable);
 		simpleProxy.stop();
 	}
+	
+	@Test
+	public void testNullWrapperInstance() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoModuleProxy simpleProxy = this.getInvernoCompiler().compile(MODULE).load(MODULE).build();
+		
+		simpleProxy.start();
+		Class<?> beanBClass = simpleProxy.getBean("beanA").getClass().getClassLoader().loadClass("io.inverno.core.test.wrapperbean.BeanB");
+		AtomicInteger created = (AtomicInteger)beanBClass.getField("CREATED").get(null);
+		AtomicInteger destroyed = (AtomicInteger)beanBClass.getField("DESTROYED").get(null);
+		
+		Assertions.assertNull(simpleProxy.getBean("beanB"));
+		Assertions.assertNull(simpleProxy.getBean("beanB"));
+		// The wrapper is created once even though it supplies a null instance
+		Assertions.assertEquals(1, created.get());
+		simpleProxy.stop();
+		Assertions.assertEquals(1, destroyed.get());
+	}
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleD;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Bean.Strategy;
+import io.inverno.core.annotation.Destroy;
+import io.inverno.core.annotation.Init;
+import io.inverno.core.annotation.Wrapper;
+import java.util.function.Supplier;
+
+@Bean(strategy=Strategy.CLEANABLE_PROTOTYPE)
+@Wrapper
+public class CleanableStrategyWrapperBean implements Supplier<Resource> {
+
+	private boolean destroyed;
+	
+	public Resource get() {
+		// The wrapper must not hold the instance
+		return new Resource();
+	}
+	
+	@Init
+	public void init() {
+		Resource.globalInitCount.incrementAndGet();
+	}
+	
+	@Destroy
+	public void destroy() {
+		if(this.destroyed) {
+			throw new IllegalStateException("Resource already destroyed");
+		}
+		this.destroyed = true;
+		Resource.globalDestroyCount.incrementAndGet();
+	}
+}
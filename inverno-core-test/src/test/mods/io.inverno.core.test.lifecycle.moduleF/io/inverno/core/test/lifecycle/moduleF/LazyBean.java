@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleF;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Bean(lazy = true)
+public class LazyBean {
+
+	public static final AtomicInteger initCount = new AtomicInteger();
+	
+	public EagerBean eagerBean;
+	
+	public boolean destroyed;
+	
+	public boolean destroyFailed;
+	
+	public LazyBean(EagerBean eagerBean) {
+		this.eagerBean = eagerBean;
+		initCount.incrementAndGet();
+		try {
+			// Give concurrent requests a chance to race on the first creation
+			Thread.sleep(50);
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	@Destroy
+	public void destroy() {
+		// A lazy bean must be destroyed before the beans it depends on
+		this.destroyFailed = this.eagerBean.destroyed;
+		this.destroyed = true;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleG;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import io.inverno.core.annotation.Init;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+@Bean(visibility = Bean.Visibility.PRIVATE)
+public class AsyncBeanA {
+
+	private final Latches latches;
+	
+	public volatile boolean initialized;
+	
+	public AsyncBeanA(Latches latches) {
+		this.latches = latches;
+	}
+	
+	@Init
+	public CompletionStage<Void> init() {
+		this.latches.events.add("a.init.start");
+		this.latches.initStartedA.complete(null);
+		// completes once the initialization of the independent bean B has started as well
+		return this.latches.initStartedB.orTimeout(5, TimeUnit.SECONDS).thenRun(() -> {
+			this.initialized = true;
+			this.latches.events.add("a.init");
+		});
+	}
+	
+	@Destroy
+	public CompletableFuture<Void> destroy() {
+		this.latches.events.add("a.destroy.start");
+		this.latches.destroyStartedA.complete(null);
+		return this.latches.destroyStartedB.orTimeout(5, TimeUnit.SECONDS).thenRun(() -> this.latches.events.add("a.destroy"));
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleG;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import io.inverno.core.annotation.Init;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+@Bean(visibility = Bean.Visibility.PRIVATE)
+public class AsyncBeanB {
+
+	private final Latches latches;
+	
+	public volatile boolean initialized;
+	
+	public AsyncBeanB(Latches latches) {
+		this.latches = latches;
+	}
+	
+	@Init
+	public CompletionStage<Void> init() {
+		this.latches.events.add("b.init.start");
+		this.latches.initStartedB.complete(null);
+		// completes once the initialization of the independent bean A has started as well
+		return this.latches.initStartedA.orTimeout(5, TimeUnit.SECONDS).thenRun(() -> {
+			this.initialized = true;
+			this.latches.events.add("b.init");
+		});
+	}
+	
+	@Destroy
+	public CompletableFuture<Void> destroy() {
+		this.latches.events.add("b.destroy.start");
+		this.latches.destroyStartedB.complete(null);
+		return this.latches.destroyStartedA.orTimeout(5, TimeUnit.SECONDS).thenRun(() -> this.latches.events.add("b.destroy"));
+	}
+}
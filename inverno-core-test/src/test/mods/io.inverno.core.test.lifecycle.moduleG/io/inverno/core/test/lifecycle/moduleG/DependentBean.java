@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleG;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+@Bean(visibility = Bean.Visibility.PRIVATE)
+public class DependentBean {
+
+	private final Latches latches;
+	
+	public DependentBean(Latches latches, AsyncBeanA beanA, AsyncBeanB beanB) {
+		this.latches = latches;
+		if(beanA.initialized && beanB.initialized) {
+			this.latches.events.add("dependent.create");
+		}
+	}
+	
+	@Destroy
+	public CompletionStage<Void> destroy() {
+		// the beans it depends on must not be destroyed before this completes
+		return CompletableFuture.runAsync(() -> this.latches.events.add("dependent.destroy"), CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleG;
+
+import io.inverno.core.annotation.Bean;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Bean
+public class Latches {
+
+	public final List<String> events = new CopyOnWriteArrayList<>();
+	
+	public final CompletableFuture<Void> initStartedA = new CompletableFuture<>();
+	
+	public final CompletableFuture<Void> initStartedB = new CompletableFuture<>();
+	
+	public final CompletableFuture<Void> destroyStartedA = new CompletableFuture<>();
+	
+	public final CompletableFuture<Void> destroyStartedB = new CompletableFuture<>();
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleH;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import java.util.concurrent.TimeUnit;
+
+@Bean
+public class IndependentBeanA {
+
+	private final Latches latches;
+	
+	public volatile boolean destroyed;
+	
+	public IndependentBeanA(Latches latches) {
+		this.latches = latches;
+	}
+	
+	@Destroy
+	public void destroy() throws Exception {
+		// blocks until the independent bean B is destroyed concurrently
+		this.latches.destroyStartedA.complete(null);
+		this.latches.destroyStartedB.get(5, TimeUnit.SECONDS);
+		this.destroyed = true;
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleJ;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import io.inverno.core.annotation.Init;
+
+@Bean
+public class BeanB {
+
+	public BeanC beanC;
+	
+	public int initOrder;
+	
+	public boolean initOverlapped;
+	
+	public boolean destroyed;
+	
+	public boolean destroyFailed;
+	
+	public BeanB(BeanC beanC) {
+		this.beanC = beanC; 
+	}
+	
+	@Init
+	public void init() throws InterruptedException {
+		this.initOrder = Initializations.next();
+		this.initOverlapped = Initializations.awaitIndependentBean();
+	}
+	
+	@Destroy
+	public void destroy() {
+		this.destroyFailed = this.beanC.destroyed;
+		this.destroyed = true;
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleJ;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import io.inverno.core.annotation.Init;
+
+@Bean
+public class BeanC {
+
+	public BeanA beanA;
+	
+	public int initOrder;
+	
+	public boolean destroyed;
+	
+	public boolean destroyFailed;
+	
+	public BeanC(BeanA beanA) {
+		this.beanA = beanA;
+	}
+	
+	@Init
+	public void init() {
+		this.initOrder = Initializations.next();
+	}
+	
+	@Destroy
+	public void destroy() {
+		this.destroyFailed = this.beanA.destroyed;
+		this.destroyed = true;
+	}
+}
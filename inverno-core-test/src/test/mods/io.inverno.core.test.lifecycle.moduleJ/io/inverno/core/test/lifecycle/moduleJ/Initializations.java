@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.lifecycle.moduleJ;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class Initializations {
+
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+	
+	// beanB and beanD don't depend on each other, they can only both reach the latch on time when initialized concurrently
+	private static final CountDownLatch INDEPENDENT_BEANS = new CountDownLatch(2);
+	
+	public static int next() {
+		return SEQUENCE.incrementAndGet();
+	}
+	
+	public static boolean awaitIndependentBean() throws InterruptedException {
+		INDEPENDENT_BEANS.countDown();
+		return INDEPENDENT_BEANS.await(2, TimeUnit.SECONDS);
+	}
+}
@@ -17,8 +17,14 @@ package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
 import io.inverno.core.v1.Module.BeanBuilder;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -83,6 +89,14 @@ abstract class AbstractBeanBuilder<T, B extends BeanBuilder<T, B>> implements Be
 		return (B)this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public B initAsync(FallibleAsyncConsumer<T> init) {
+		return this.init(new AsyncOperation<>(init));
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -95,4 +109,283 @@ abstract class AbstractBeanBuilder<T, B extends BeanBuilder<T, B>> implements Be
 		this.destroys.add(destroy);
 		return (B)this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public B destroyAsync(FallibleAsyncConsumer<T> destroy) {
+		return this.destroy(new AsyncOperation<>(destroy));
+	}
+
+	/**
+	 * <p>
+	 * Creates a bean instance using the bean constructor.
+	 * </p>
+	 *
+	 * @param bean the bean requesting the instance
+	 *
+	 * @return a new bean instance
+	 */
+	protected T construct(Bean<?> bean) {
+		T instance = this.constructor.get();
+		BeanMetrics metrics = bean.metrics;
+		if(metrics != null) {
+			metrics.instantiated();
+		}
+		return instance;
+	}
+
+	/**
+	 * <p>
+	 * Invokes an initialization operation on a bean instance, records a {@link BeanInitEvent} and updates the bean metrics.
+	 * </p>
+	 *
+	 * @param <T>      the type of the bean instance
+	 * @param bean     the bean
+	 * @param init     the initialization operation
+	 * @param instance the bean instance
+	 *
+	 * @throws Exception if the operation failed
+	 */
+	protected static <T> void invokeInit(Bean<?> bean, FallibleConsumer<T> init, T instance) throws Exception {
+		BeanMetrics metrics = bean.metrics;
+		long t0 = metrics != null ? System.nanoTime() : 0;
+		BeanInitEvent event = new BeanInitEvent();
+		event.begin();
+		try {
+			init.accept(instance);
+		}
+		finally {
+			completed(bean, event, metrics, t0);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Invokes a destruction operation on a bean instance and records a {@link BeanDestroyEvent}.
+	 * </p>
+	 *
+	 * @param <T>      the type of the bean instance
+	 * @param bean     the bean
+	 * @param destroy  the destruction operation
+	 * @param instance the bean instance
+	 *
+	 * @throws Exception if the operation failed
+	 */
+	protected static <T> void invokeDestroy(Bean<?> bean, FallibleConsumer<T> destroy, T instance) throws Exception {
+		BeanDestroyEvent event = new BeanDestroyEvent();
+		event.begin();
+		try {
+			destroy.accept(instance);
+		}
+		finally {
+			event.commit(bean);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Invokes the specified initialization or destruction operations in order on a bean instance without waiting for asynchronous operations to complete.
+	 * </p>
+	 *
+	 * <p>
+	 * The operations following an asynchronous operation which did not complete right away are invoked once it completes. The error handler is invoked when an operation fails, it can throw an
+	 * exception to stop the invocation of the remaining operations.
+	 * </p>
+	 *
+	 * <p>
+	 * An event is recorded for each operation, the event of an asynchronous operation is committed once the operation completes.
+	 * </p>
+	 *
+	 * @param <T>           the type of the bean
+	 * @param bean          the bean
+	 * @param init          true to invoke initialization operations, false to invoke destruction operations
+	 * @param operations    the operations to invoke
+	 * @param instance      the bean instance
+	 * @param errorHandler  the handler invoked when an operation fails
+	 * @param invokeHandler the handler invoked after each operation invoked before the first pending asynchronous operation or null
+	 *
+	 * @return null if all operations have completed or a future which completes once the remaining operations have completed
+	 */
+	protected static <T> CompletableFuture<Void> invoke(Bean<?> bean, boolean init, List<FallibleConsumer<T>> operations, T instance, Consumer<Throwable> errorHandler, Runnable invokeHandler) {
+		return invoke(bean, init, operations.iterator(), instance, errorHandler, invokeHandler);
+	}
+
+	/**
+	 * <p>
+	 * Invokes the remaining operations.
+	 * </p>
+	 *
+	 * @param <T>           the type of the bean
+	 * @param bean          the bean
+	 * @param init          true to invoke initialization operations, false to invoke destruction operations
+	 * @param operations    the operations to invoke
+	 * @param instance      the bean instance
+	 * @param errorHandler  the handler invoked when an operation fails
+	 * @param invokeHandler the handler invoked after each operation invoked before the first pending asynchronous operation or null
+	 *
+	 * @return null if all operations have completed or a future which completes once the remaining operations have completed
+	 */
+	private static <T> CompletableFuture<Void> invoke(Bean<?> bean, boolean init, Iterator<FallibleConsumer<T>> operations, T instance, Consumer<Throwable> errorHandler, Runnable invokeHandler) {
+		while(operations.hasNext()) {
+			FallibleConsumer<T> operation = operations.next();
+			BeanMetrics metrics = init ? bean.metrics : null;
+			long t0 = metrics != null ? System.nanoTime() : 0;
+			BeanEvent event = init ? new BeanInitEvent() : new BeanDestroyEvent();
+			event.begin();
+			CompletableFuture<Void> completion = null;
+			Exception error = null;
+			try {
+				if(operation instanceof AsyncOperation) {
+					completion = ((AsyncOperation<T>)operation).start(instance);
+				}
+				else {
+					operation.accept(instance);
+				}
+			}
+			catch(Exception e) {
+				error = e;
+			}
+			if(completion != null && !completion.isDone()) {
+				completion.whenComplete((ignore, e) -> completed(bean, event, metrics, t0));
+			}
+			else {
+				completed(bean, event, metrics, t0);
+			}
+			if(error != null) {
+				errorHandler.accept(error);
+			}
+			if(invokeHandler != null) {
+				invokeHandler.run();
+			}
+			if(completion != null) {
+				if(!completion.isDone()) {
+					return completion
+						.exceptionally(e -> {
+							errorHandler.accept(AsyncOperation.unwrap(e));
+							return null;
+						})
+						.thenCompose(ignore -> {
+							CompletableFuture<Void> remaining = invoke(bean, init, operations, instance, errorHandler, null);
+							return remaining != null ? remaining : CompletableFuture.completedFuture(null);
+						});
+				}
+				else if(completion.isCompletedExceptionally()) {
+					errorHandler.accept(AsyncOperation.unwrap(completion.exceptionNow()));
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * <p>
+	 * Records the completion of a bean operation.
+	 * </p>
+	 *
+	 * @param bean    the bean
+	 * @param event   the operation event
+	 * @param metrics the bean metrics to update with the operation duration or null
+	 * @param t0      the time at which the operation was started
+	 */
+	private static void completed(Bean<?> bean, BeanEvent event, BeanMetrics metrics, long t0) {
+		event.commit(bean);
+		if(metrics != null) {
+			metrics.initialized(System.nanoTime() - t0);
+		}
+	}
+
+	/**
+	 * <p>
+	 * An asynchronous bean operation which is awaited when it is invoked as a regular bean operation.
+	 * </p>
+	 *
+	 * <p>
+	 * Singleton module beans start asynchronous operations and wait for their completion when needed, other beans simply invoke them as regular operations.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 *
+	 * @param <T> the type of the bean
+	 */
+	static final class AsyncOperation<T> implements FallibleConsumer<T> {
+
+		private final FallibleAsyncConsumer<T> operation;
+
+		/**
+		 * <p>
+		 * Creates an asynchronous bean operation.
+		 * </p>
+		 *
+		 * @param operation the asynchronous operation
+		 */
+		AsyncOperation(FallibleAsyncConsumer<T> operation) {
+			this.operation = operation;
+		}
+
+		/**
+		 * <p>
+		 * Starts the operation on the specified bean instance.
+		 * </p>
+		 *
+		 * @param t the bean instance
+		 *
+		 * @return a future which completes once the operation has completed
+		 *
+		 * @throws Exception if there was an error starting the operation
+		 */
+		CompletableFuture<Void> start(T t) throws Exception {
+			CompletableFuture<Void> completion = new CompletableFuture<>();
+			CompletionStage<?> stage = this.operation.accept(t);
+			if(stage == null) {
+				completion.complete(null);
+			}
+			else {
+				stage.whenComplete((result, error) -> {
+					if(error != null) {
+						completion.completeExceptionally(unwrap(error));
+					}
+					else {
+						completion.complete(null);
+					}
+				});
+			}
+			return completion;
+		}
+
+		@Override
+		public void accept(T t) throws Exception {
+			try {
+				this.start(t).get();
+			}
+			catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw e;
+			}
+			catch(ExecutionException e) {
+				if(e.getCause() instanceof Exception) {
+					throw (Exception)e.getCause();
+				}
+				else if(e.getCause() instanceof Error) {
+					throw (Error)e.getCause();
+				}
+				throw e;
+			}
+		}
+
+		/**
+		 * <p>
+		 * Returns the actual error of a failed completion stage.
+		 * </p>
+		 *
+		 * @param error the error reported by a completion stage
+		 *
+		 * @return the actual error
+		 */
+		static Throwable unwrap(Throwable error) {
+			return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		}
+	}
 }
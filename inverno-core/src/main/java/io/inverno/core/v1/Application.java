@@ -19,10 +19,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -45,6 +48,25 @@ import org.apache.logging.log4j.Logger;
  * {@value Application#PROPERTY_PID_FILE} system property. By default, no pidfile is created. An application will fail to start if a pidfile designating a valid process already exists.
  * </p>
  *
+ * <p>
+ * The module is started sequentially on the calling thread unless an {@link Executor} is specified in which case independent beans are created concurrently on that executor.
+ * </p>
+ *
+ * <p>
+ * The module is stopped sequentially by the shutdown hook unless a shutdown {@link Executor} is specified in which case independent beans are destroyed concurrently on that executor. A shutdown
+ * timeout and a bean shutdown timeout can be specified to bound the time spent stopping the module, typically to stop before a termination grace period expires.
+ * </p>
+ *
+ * <p>
+ * The application startup can be profiled by specifying a {@link StartupProfiler} or the path to a JSON report file in the {@value Application#PROPERTY_STARTUP_REPORT} system property. The
+ * {@link StartupReport} is logged as a tree at the end of {@link #run()} and written in JSON to the report file if one has been specified.
+ * </p>
+ *
+ * <p>
+ * The state and the metrics of the module and its beans can be exposed over JMX in the platform MBean server by enabling JMX or by setting the {@value Application#PROPERTY_JMX} system property
+ * to {@code true}.
+ * </p>
+ *
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  * @since 1.0
  *
@@ -53,6 +75,10 @@ import org.apache.logging.log4j.Logger;
 public class Application<T extends Module> {
 
 	private static final String PROPERTY_PID_FILE = "inverno.application.pid_file";
+
+	private static final String PROPERTY_STARTUP_REPORT = "inverno.application.startup_report";
+
+	private static final String PROPERTY_JMX = "inverno.application.jmx";
 	
 	/**
 	 * Application logger.
@@ -68,12 +94,57 @@ public class Application<T extends Module> {
 	 * Path to the pidfile if one has been specified.
 	 */
 	private final Optional<Path> pidfile;
+
+	/**
+	 * Path to the startup report file if one has been specified.
+	 */
+	private final Optional<Path> startupReportFile;
 	
 	/**
 	 * The application banner.
 	 */
 	private Banner banner;
 
+	/**
+	 * The executor used to start the module.
+	 */
+	private Executor executor;
+
+	/**
+	 * The profiler used to profile the module startup.
+	 */
+	private StartupProfiler startupProfiler;
+
+	/**
+	 * The executor used to stop the module.
+	 */
+	private Executor shutdownExecutor;
+
+	/**
+	 * The maximum time to wait for the module to stop.
+	 */
+	private Duration shutdownTimeout;
+
+	/**
+	 * The maximum time to wait for a bean to be destroyed when stopping the module.
+	 */
+	private Duration beanShutdownTimeout;
+
+	/**
+	 * Indicates whether module MBeans must be registered in the platform MBean server.
+	 */
+	private boolean jmx;
+
+	/**
+	 * The module lifecycle listener.
+	 */
+	private ModuleLifecycleListener moduleLifecycleListener;
+
+	/**
+	 * The bean lifecycle listener.
+	 */
+	private BeanLifecycleListener beanLifecycleListener;
+
 	/**
 	 * The active module.
 	 */
@@ -89,7 +160,12 @@ public class Application<T extends Module> {
 	protected Application(Module.ModuleBuilder<T> moduleBuilder) {
 		this.moduleBuilder = moduleBuilder;
 		this.banner = new StandardBanner();
+		LoggingLifecycleListener loggingLifecycleListener = new LoggingLifecycleListener();
+		this.moduleLifecycleListener = loggingLifecycleListener;
+		this.beanLifecycleListener = loggingLifecycleListener;
 		this.pidfile = Optional.ofNullable(System.getProperty(PROPERTY_PID_FILE)).map(Path::of);
+		this.jmx = Boolean.getBoolean(PROPERTY_JMX);
+		this.startupReportFile = Optional.ofNullable(System.getProperty(PROPERTY_STARTUP_REPORT)).map(Path::of);
 	}
 
 	/**
@@ -138,6 +214,155 @@ public class Application<T extends Module> {
 		return this;
 	}
 
+	/**
+	 * <p>
+	 * Sets the executor used to create the module beans concurrently.
+	 * </p>
+	 *
+	 * <p>
+	 * If null is specified, beans are created sequentially on the calling thread.
+	 * </p>
+	 *
+	 * @param executor the executor to use to start the module or null to start the module sequentially.
+	 *
+	 * @return this application.
+	 *
+	 * @see Module#start(Executor)
+	 */
+	public Application<T> executor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Sets the profiler used to profile the module startup.
+	 * </p>
+	 *
+	 * <p>
+	 * The startup report is logged at the end of {@link #run()} and remains available from the profiler. If null is specified, the startup is only profiled when a report file is specified in the
+	 * {@value Application#PROPERTY_STARTUP_REPORT} system property.
+	 * </p>
+	 *
+	 * @param startupProfiler the startup profiler or null
+	 *
+	 * @return this application.
+	 *
+	 * @see Module#start(Executor, StartupProfiler)
+	 * @since 1.7
+	 */
+	public Application<T> startupProfiler(StartupProfiler startupProfiler) {
+		this.startupProfiler = startupProfiler;
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Sets the executor used to destroy the module beans concurrently when the application is shutdown.
+	 * </p>
+	 *
+	 * <p>
+	 * If null is specified, beans are destroyed on the shutdown hook thread.
+	 * </p>
+	 *
+	 * @param shutdownExecutor the executor to use to stop the module or null to stop the module on the shutdown hook thread.
+	 *
+	 * @return this application.
+	 *
+	 * @see Module#stop(Executor, Duration, Duration)
+	 * @since 1.7
+	 */
+	public Application<T> shutdownExecutor(Executor shutdownExecutor) {
+		this.shutdownExecutor = shutdownExecutor;
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Sets the maximum time to wait for the module to stop and for a single bean to be destroyed when the application is shutdown.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans which have not been destroyed in time are reported when the module is stopped. If null is specified, the shutdown hook waits indefinitely.
+	 * </p>
+	 *
+	 * @param shutdownTimeout     the maximum time to wait for the module to stop or null
+	 * @param beanShutdownTimeout the maximum time to wait for a bean to be destroyed or null
+	 *
+	 * @return this application.
+	 *
+	 * @see Module#stop(Executor, Duration, Duration)
+	 * @since 1.7
+	 */
+	public Application<T> shutdownTimeout(Duration shutdownTimeout, Duration beanShutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+		this.beanShutdownTimeout = beanShutdownTimeout;
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Enables or disables the registration of the module MBeans in the platform MBean server.
+	 * </p>
+	 *
+	 * <p>
+	 * JMX is disabled by default unless the {@value Application#PROPERTY_JMX} system property is set to {@code true}.
+	 * </p>
+	 *
+	 * @param jmx true to expose the module and its beans over JMX, false otherwise
+	 *
+	 * @return this application.
+	 *
+	 * @see Module#registerMBeans(javax.management.MBeanServer)
+	 * @since 1.7
+	 */
+	public Application<T> jmx(boolean jmx) {
+		this.jmx = jmx;
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Sets the listener to notify when the application module and its component modules are started and stopped.
+	 * </p>
+	 *
+	 * <p>
+	 * Module startup and shutdown are logged by a {@link LoggingLifecycleListener} by default.
+	 * </p>
+	 *
+	 * @param listener a module lifecycle listener or null to report nothing
+	 *
+	 * @return this application.
+	 *
+	 * @see Module#setModuleLifecycleListener(ModuleLifecycleListener)
+	 * @since 1.7
+	 */
+	public Application<T> moduleLifecycleListener(ModuleLifecycleListener listener) {
+		this.moduleLifecycleListener = listener;
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Sets the listener to notify when the beans of the application module and its component modules are created and destroyed.
+	 * </p>
+	 *
+	 * <p>
+	 * Bean creation, destruction and failures are logged by a {@link LoggingLifecycleListener} by default.
+	 * </p>
+	 *
+	 * @param listener a bean lifecycle listener or null to report nothing
+	 *
+	 * @return this application.
+	 *
+	 * @see Module#setBeanLifecycleListener(BeanLifecycleListener)
+	 * @since 1.7
+	 */
+	public Application<T> beanLifecycleListener(BeanLifecycleListener listener) {
+		this.beanLifecycleListener = listener;
+		return this;
+	}
+
 	/**
 	 * <p>
 	 * Runs the application.
@@ -165,8 +390,13 @@ public class Application<T extends Module> {
 			throw new IllegalStateException("Module " + this.module.getName() + " already started");
 		}
 		this.module = this.moduleBuilder.build();
+		this.module.setModuleLifecycleListener(this.moduleLifecycleListener);
+		this.module.setBeanLifecycleListener(this.beanLifecycleListener);
+		if(this.jmx) {
+			this.module.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+		}
 		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-			this.module.stop();
+			this.module.stop(this.shutdownExecutor, this.shutdownTimeout, this.beanShutdownTimeout);
 			LogManager.shutdown();
 			this.pidfile.ifPresent(file -> {
 				try {
@@ -185,7 +415,8 @@ public class Application<T extends Module> {
 				return bannerStream.toString();
 			});
 		}
-		this.module.start();
+		StartupProfiler profiler = this.startupProfiler != null ? this.startupProfiler : this.startupReportFile.map(file -> new StartupProfiler()).orElse(null);
+		this.module.start(this.executor, profiler);
 
 		this.pidfile.ifPresent(file -> {
 			try {
@@ -198,6 +429,22 @@ public class Application<T extends Module> {
 		});
 		LOGGER.info("Application {} started in {}ms", () -> this.module.getName(), () -> ((System.nanoTime() - t0) / 1000000));
 		
+		if(profiler != null) {
+			StartupReport startupReport = profiler.getReport();
+			LOGGER.info(() -> startupReport.toTree());
+			this.startupReportFile.ifPresent(file -> {
+				try {
+					if(file.getParent() != null) {
+						Files.createDirectories(file.getParent());
+					}
+					Files.writeString(file, startupReport.toJson());
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException("Error writing startup report", e);
+				}
+			});
+		}
+		
 		return this.module;
 	}
 }
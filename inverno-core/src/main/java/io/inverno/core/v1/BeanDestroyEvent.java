@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>
+ * JFR event recording the invocation of a destroy method on a bean instance.
+ * </p>
+ *
+ * <p>
+ * The event of an asynchronous destroy method lasts until the returned stage completes, it is then committed by the thread completing the stage.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+@Name("io.inverno.core.BeanDestroy")
+@Label("Bean Destroy")
+@Description("Invocation of a destroy method on a bean instance")
+final class BeanDestroyEvent extends BeanEvent {
+
+}
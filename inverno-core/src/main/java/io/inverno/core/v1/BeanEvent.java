@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>
+ * Base JFR event recording a bean lifecycle step.
+ * </p>
+ *
+ * <p>
+ * Bean events are meant to be left in place: when no recording is enabling them, event classes are not instrumented and the events are reduced to empty method calls which are eliminated by the
+ * JIT compiler. Event fields are only set when the event is actually committed.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+@Category({ "Inverno", "Core" })
+@StackTrace(false)
+abstract class BeanEvent extends Event {
+
+	/**
+	 * The name of the module into which the bean is registered.
+	 */
+	@Label("Module")
+	String moduleName;
+
+	/**
+	 * The bean name.
+	 */
+	@Label("Bean")
+	String beanName;
+
+	/**
+	 * The bean strategy.
+	 */
+	@Label("Strategy")
+	String strategy;
+
+	/**
+	 * <p>
+	 * Ends and commits the event for the specified bean if it is enabled and if its duration exceeds the threshold.
+	 * </p>
+	 *
+	 * @param bean the bean
+	 */
+	final void commit(Module.Bean<?> bean) {
+		if(this.shouldCommit()) {
+			this.moduleName = bean.parent != null ? bean.parent.getName() : null;
+			this.beanName = bean.name;
+			this.strategy = bean.getStrategy();
+			this.commit();
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * <p>
+ * JFR event recording the creation of a prototype bean instance including its initialization.
+ * </p>
+ *
+ * <p>
+ * Prototype beans can be requested very frequently, the event is then only recorded when the instantiation exceeds a default threshold of 1 millisecond which can be overridden in the recording settings (eg. {@code io.inverno.core.BeanInstantiation#threshold=0 ms}).
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+@Name("io.inverno.core.BeanInstantiation")
+@Label("Bean Instantiation")
+@Description("Creation of a prototype bean instance, only instantiations exceeding the threshold are recorded")
+@Threshold("1 ms")
+final class BeanInstantiationEvent extends BeanEvent {
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+/**
+ * <p>
+ * A bean lifecycle listener is notified when the beans of a module are created and destroyed.
+ * </p>
+ *
+ * <p>
+ * The listener registered on a module is also notified of the lifecycle of the beans of its component modules. No work is done to report lifecycle events when no listener is registered.
+ * </p>
+ *
+ * <p>
+ * A bean is created once: a singleton bean when its instance is created, a pooled or thread bean when its pool or thread local is created and a prototype bean when it is first requested. The
+ * instances issued by prototype, pooled and thread beans are not reported.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Module#setBeanLifecycleListener(BeanLifecycleListener)
+ * @see LoggingLifecycleListener
+ */
+public interface BeanLifecycleListener {
+
+	/**
+	 * <p>
+	 * Invoked when a bean is being created.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module into which the bean is registered
+	 * @param beanName   the name of the bean
+	 * @param strategy   the bean strategy
+	 * @param overridden true if the bean instance is provided by an override, false otherwise
+	 */
+	default void beanCreating(String moduleName, String beanName, String strategy, boolean overridden) {
+
+	}
+
+	/**
+	 * <p>
+	 * Invoked when a bean has been created.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module into which the bean is registered
+	 * @param beanName   the name of the bean
+	 */
+	default void beanCreated(String moduleName, String beanName) {
+
+	}
+
+	/**
+	 * <p>
+	 * Invoked when an initialization method failed on a bean instance.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module into which the bean is registered
+	 * @param beanName   the name of the bean
+	 * @param error      the initialization error
+	 */
+	default void beanInitFailed(String moduleName, String beanName, Throwable error) {
+
+	}
+
+	/**
+	 * <p>
+	 * Invoked when a bean has been destroyed when stopping a module.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module into which the bean is registered
+	 * @param beanName   the name of the bean
+	 * @param duration   the time it took to destroy the bean in nanoseconds
+	 */
+	default void beanDestroyed(String moduleName, String beanName, long duration) {
+
+	}
+
+	/**
+	 * <p>
+	 * Invoked when a destroy method failed on a bean instance.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module into which the bean is registered
+	 * @param beanName   the name of the bean
+	 * @param error      the destruction error
+	 */
+	default void beanDestroyFailed(String moduleName, String beanName, Throwable error) {
+
+	}
+
+	/**
+	 * <p>
+	 * Invoked when a bean could not be destroyed when stopping a module.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module into which the bean is registered
+	 * @param beanName   the name of the bean
+	 * @param reason     the reason why the bean was not destroyed
+	 */
+	default void beanNotDestroyed(String moduleName, String beanName, String reason) {
+
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+/**
+ * <p>
+ * Management interface exposing the state and the metrics of a module bean over JMX.
+ * </p>
+ *
+ * <p>
+ * A bean MXBean is registered for each bean of a module when the module MBeans are registered, it is named
+ * {@code io.inverno.core:type=Bean,module=<module name>,name=<bean name>}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Module#registerMBeans(javax.management.MBeanServer)
+ */
+public interface BeanMXBean {
+
+	/**
+	 * <p>
+	 * Returns the name of the module into which the bean is registered.
+	 * </p>
+	 *
+	 * @return a module name
+	 */
+	String getModuleName();
+
+	/**
+	 * <p>
+	 * Returns the name of the bean.
+	 * </p>
+	 *
+	 * @return a bean name
+	 */
+	String getName();
+
+	/**
+	 * <p>
+	 * Returns the strategy of the bean.
+	 * </p>
+	 *
+	 * @return SINGLETON, PROTOTYPE, CLEANABLE_PROTOTYPE, POOLED or THREAD
+	 */
+	String getStrategy();
+
+	/**
+	 * <p>
+	 * Returns the state of the bean.
+	 * </p>
+	 *
+	 * @return NEW if the bean has not been created yet, CREATED if it has been created and DESTROYED if it has been destroyed
+	 */
+	String getState();
+
+	/**
+	 * <p>
+	 * Returns the number of instances created by the bean.
+	 * </p>
+	 *
+	 * <p>
+	 * Instances provided by a bean override are not counted.
+	 * </p>
+	 *
+	 * @return a number of instances
+	 */
+	long getInstanceCount();
+
+	/**
+	 * <p>
+	 * Returns the cumulative time spent invoking the initialization methods of the instances created by the bean.
+	 * </p>
+	 *
+	 * @return a time in milliseconds
+	 */
+	double getInitTime();
+
+	/**
+	 * <p>
+	 * Returns the number of times the bean was requested, either to be injected into another bean or from a module accessor.
+	 * </p>
+	 *
+	 * @return a number of requests
+	 */
+	long getRequestCount();
+
+	/**
+	 * <p>
+	 * Returns the number of instances issued by a prototype bean which are tracked in order to be destroyed when the module is stopped.
+	 * </p>
+	 *
+	 * <p>
+	 * This number keeps growing when instances issued by a prototype bean are leaked.
+	 * </p>
+	 *
+	 * @return a number of tracked instances or -1 if the bean does not track instances
+	 */
+	int getTrackedInstanceCount();
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * The metrics of a bean exposed by its {@link BeanMXBean}.
+ * </p>
+ *
+ * <p>
+ * Metrics are only collected for the beans of a module whose MBeans have been registered, counters are striped in order to keep the overhead low when a bean is requested concurrently.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Module#registerMBeans(javax.management.MBeanServer)
+ */
+final class BeanMetrics {
+
+	/**
+	 * The number of times the bean was requested.
+	 */
+	private final LongAdder requests = new LongAdder();
+
+	/**
+	 * The number of instances created by the bean.
+	 */
+	private final LongAdder instances = new LongAdder();
+
+	/**
+	 * The cumulative time spent in initialization methods in nanoseconds.
+	 */
+	private final LongAdder initTime = new LongAdder();
+
+	/**
+	 * The state of the bean.
+	 */
+	private volatile String state = "NEW";
+
+	/**
+	 * <p>
+	 * Records a bean request.
+	 * </p>
+	 */
+	void requested() {
+		this.requests.increment();
+	}
+
+	/**
+	 * <p>
+	 * Records the creation of a bean instance.
+	 * </p>
+	 */
+	void instantiated() {
+		this.instances.increment();
+	}
+
+	/**
+	 * <p>
+	 * Records the invocation of an initialization method.
+	 * </p>
+	 *
+	 * @param duration the duration of the initialization in nanoseconds
+	 */
+	void initialized(long duration) {
+		this.initTime.add(duration);
+	}
+
+	/**
+	 * <p>
+	 * Records the creation of the bean.
+	 * </p>
+	 */
+	void created() {
+		this.state = "CREATED";
+	}
+
+	/**
+	 * <p>
+	 * Records the destruction of the bean.
+	 * </p>
+	 */
+	void destroyed() {
+		this.state = "DESTROYED";
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of times the bean was requested.
+	 * </p>
+	 *
+	 * @return a number of requests
+	 */
+	long getRequestCount() {
+		return this.requests.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of instances created by the bean.
+	 * </p>
+	 *
+	 * @return a number of instances
+	 */
+	long getInstanceCount() {
+		return this.instances.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the cumulative time spent in initialization methods.
+	 * </p>
+	 *
+	 * @return a time in nanoseconds
+	 */
+	long getInitTime() {
+		return this.initTime.sum();
+	}
+
+	/**
+	 * <p>
+	 * Returns the state of the bean.
+	 * </p>
+	 *
+	 * @return NEW, CREATED or DESTROYED
+	 */
+	String getState() {
+		return this.state;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A pool of bean instances exposed by a pooled bean.
+ * </p>
+ *
+ * <p>
+ * A pooled bean is wired into dependent beans as a {@code BeanPool} from which instances are borrowed and then returned by closing the returned {@link Lease}:
+ * </p>
+ *
+ * <pre>{@code
+ * try(BeanPool.Lease<Deflater> lease = this.deflaterPool.borrow()) {
+ *     Deflater deflater = lease.get();
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Borrowing an instance never blocks: when all pooled instances are in use, an extra overflow instance is created by default which is destroyed as soon as it is returned. The maximum size of the
+ * pool then bounds the number of instances kept in the pool but not the number of instances in existence. When overflow is disabled, borrowing from an exhausted pool fails with an
+ * {@link IllegalStateException} instead.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @param <T> the type of pooled instances
+ */
+public interface BeanPool<T> {
+
+	/**
+	 * <p>
+	 * Borrows an instance from the pool.
+	 * </p>
+	 *
+	 * @return a lease on a pooled instance
+	 *
+	 * @throws IllegalStateException if the pool was closed because the module exposing the bean was stopped or if the pool is exhausted and overflow is disabled
+	 */
+	Lease<T> borrow() throws IllegalStateException;
+
+	/**
+	 * <p>
+	 * A lease on an instance borrowed from a {@link BeanPool}.
+	 * </p>
+	 *
+	 * <p>
+	 * The instance is returned to the pool when the lease is closed, neither the lease nor the instance must be used after that.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 *
+	 * @param <T> the type of pooled instances
+	 */
+	interface Lease<T> extends Supplier<T>, AutoCloseable {
+
+		/**
+		 * <p>
+		 * Returns the borrowed instance.
+		 * </p>
+		 *
+		 * @return the borrowed instance
+		 */
+		@Override
+		T get();
+
+		/**
+		 * <p>
+		 * Returns the borrowed instance to the pool.
+		 * </p>
+		 *
+		 * <p>
+		 * Closing a lease that has already been closed has no effect.
+		 * </p>
+		 */
+		@Override
+		void close();
+	}
+}
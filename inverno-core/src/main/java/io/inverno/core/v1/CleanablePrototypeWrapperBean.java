@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.lang.ref.Cleaner;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A cleanable prototype wrapper {@link Bean} implementation.
+ * </p>
+ *
+ * <p>
+ * As for {@link PrototypeWeakWrapperBean}, a distinct instance is created each time the bean is requested, but the corresponding wrapper instance is destroyed as soon as the instance becomes
+ * phantom reachable instead of when the module is stopped. Each instance is registered to a {@link Cleaner} with an action that only references the wrapper instance, the wrapper must then not hold
+ * a strong reference to the instance it provides otherwise the instance will never be reclaimed by the garbage collector and the wrapper will only be destroyed when the module is stopped.
+ * </p>
+ *
+ * <p>
+ * Destroy operations are invoked in the cleaner thread, they should then be short and must not block.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Bean
+ * @see PrototypeWeakWrapperBean
+ * @see CleanablePrototypeWrapperBeanBuilder
+ *
+ * @param <W> the type of the wrapper bean
+ * @param <T> the actual type of the bean
+ */
+abstract class CleanablePrototypeWrapperBean<W extends Supplier<T>, T> extends AbstractWrapperBean<W, T> {
+
+	/**
+	 * The cleaner shared by all cleanable beans.
+	 */
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	/**
+	 * The cleanup actions registered for the instances issued by the bean that haven't been cleaned yet.
+	 */
+	private volatile Set<CleanupAction> actions;
+
+	/**
+	 * <p>
+	 * Creates a cleanable prototype wrapper bean with the specified name.
+	 * </p>
+	 *
+	 * @param name     the bean name
+	 * @param override An optional override
+	 */
+	public CleanablePrototypeWrapperBean(String name, Optional<Supplier<T>> override) {
+		super(name, override);
+	}
+
+	@Override
+	String getStrategy() {
+		return "CLEANABLE_PROTOTYPE";
+	}
+
+	@Override
+	int getTrackedInstanceCount() {
+		Set<CleanupAction> currentActions = this.actions;
+		return currentActions != null ? currentActions.size() : 0;
+	}
+
+	/**
+	 * <p>
+	 * Creates the prototype bean.
+	 * </p>
+	 *
+	 * <p>
+	 * Since a new bean instance must be created each time the bean is requested, this method basically does nothing, instances being created in the {@link #get()} method.
+	 * </p>
+	 */
+	@Override
+	public final void create() {
+		if (this.actions == null) {
+			synchronized(this) {
+				if (this.actions == null) {
+					this.creating(this.override.isPresent());
+					this.actions = ConcurrentHashMap.newKeySet();
+					this.parent.recordBean(this);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns a new bean instance.
+	 * </p>
+	 *
+	 * <p>
+	 * This method delegates bean instance creation to a wrapper instance returned by {@link #createWrapper()} method and registers the instance to the cleaner.
+	 * </p>
+	 *
+	 * @return a bean instance
+	 */
+	@Override
+	public final T doGet() {
+		this.create();
+
+		return this.override
+			.map(Supplier::get)
+			.orElseGet(() -> {
+				BeanInstantiationEvent event = new BeanInstantiationEvent();
+				event.begin();
+				W wrapper = this.createWrapper();
+				event.commit(this);
+				T instance = wrapper.get();
+				if(instance == null) {
+					// There's nothing to track, the wrapper can be destroyed right away
+					this.destroyWrapper(wrapper);
+					return null;
+				}
+				CleanupAction action = new CleanupAction(wrapper);
+				// The action must be registered before it is published so that it can always be cleaned when the bean is destroyed
+				action.cleanable = CLEANER.register(instance, action);
+				this.actions.add(action);
+				return instance;
+			});
+	}
+
+	/**
+	 * <p>
+	 * Destroys the prototype bean and as a result all bean wrapper instances that haven't been destroyed yet.
+	 * </p>
+	 *
+	 * <p>
+	 * This method delegates bean instance destruction to the {@link #destroyWrapper(Supplier)} method.
+	 * </p>
+	 */
+	@Override
+	public final void destroy() {
+		if (this.actions != null) {
+			synchronized(this) {
+				if(this.override.isEmpty()) {
+					// Cleanable.clean() runs the action at most once whether it was already invoked by the cleaner or not
+					this.actions.forEach(CleanupAction::clean);
+					this.actions.clear();
+				}
+				this.actions = null;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * A cleanup action which destroys a wrapper instance.
+	 * </p>
+	 *
+	 * <p>
+	 * It is an inner class since it must reference the bean but it must not reference the instance to clean.
+	 * </p>
+	 */
+	private class CleanupAction implements Runnable {
+
+		/**
+		 * The wrapper instance to destroy.
+		 */
+		private final W wrapper;
+
+		/**
+		 * The cleanable returned when registering the instance.
+		 */
+		private volatile Cleaner.Cleanable cleanable;
+
+		/**
+		 * <p>
+		 * Creates a cleanup action.
+		 * </p>
+		 *
+		 * @param wrapper the wrapper instance to destroy
+		 */
+		public CleanupAction(W wrapper) {
+			this.wrapper = wrapper;
+		}
+
+		@Override
+		public void run() {
+			Set<CleanupAction> currentActions = CleanablePrototypeWrapperBean.this.actions;
+			if(currentActions != null) {
+				currentActions.remove(this);
+			}
+			CleanablePrototypeWrapperBean.this.destroyWrapper(this.wrapper);
+		}
+
+		/**
+		 * <p>
+		 * Cleans the instance if it hasn't been cleaned yet.
+		 * </p>
+		 */
+		public void clean() {
+			Cleaner.Cleanable currentCleanable = this.cleanable;
+			if(currentCleanable != null) {
+				currentCleanable.clean();
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import io.inverno.core.v1.Module.BeanBuilder;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Cleanable prototype {@link BeanBuilder} implementation.
+ * </p>
+ *
+ * <p>
+ * A {@link CleanablePrototypeWrapperBeanBuilder} must be used to create prototype beans using a wrapper, when distinct bean instances must be injected into all dependent beans through the
+ * application and wrapper instances must be destroyed as soon as the instances they provide are reclaimed by the garbage collector.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see BeanBuilder
+ * @see Bean
+ * @see CleanablePrototypeWrapperBean
+ *
+ * @param <P> the type provided by the bean
+ * @param <W> the type of the wrapper bean
+ * @param <T> the actual type of the bean
+ */
+class CleanablePrototypeWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractWrapperBeanBuilder<P, T, W> {
+
+	/**
+	 * <p>
+	 * Creates a cleanable prototype wrapper bean builder with the specified bean name and constructor.
+	 * </p>
+	 *
+	 * @param beanName    the bean name
+	 * @param constructor the bean constructor
+	 */
+	public CleanablePrototypeWrapperBeanBuilder(String beanName, Supplier<W> constructor) {
+		super(beanName, constructor);
+	}
+
+	/**
+	 * <p>
+	 * Creates an overridable cleanable prototype wrapper bean builder.
+	 * </p>
+	 *
+	 * @param overriddenBuilder the overridden cleanable prototype wrapper bean builder
+	 * @param override          the override
+	 */
+	public CleanablePrototypeWrapperBeanBuilder(CleanablePrototypeWrapperBeanBuilder<?, T, W> overriddenBuilder, Optional<Supplier<P>> override) {
+		super(overriddenBuilder, override);
+	}
+
+	@Override
+	public <U> Module.WrapperBeanBuilder<U, T, W> override(Optional<Supplier<U>> override) {
+		return new CleanablePrototypeWrapperBeanBuilder<>(this, override);
+	}
+	
+	/**
+	 * <p>
+	 * Builds the bean.
+	 * </p>
+	 *
+	 * @return a cleanable prototype bean
+	 */
+	@Override
+	public Bean<P> build() {
+		return new CleanablePrototypeWrapperBean<ProvidingWrapper, P>(this.beanName, this.override) {
+
+			@Override
+			protected ProvidingWrapper createWrapper() {
+				W wrapper = construct(this);
+				if(inits != null) {
+					inits.forEach(init -> {
+						try {
+							invokeInit(this, init, wrapper);
+						} 
+						catch (Exception e) {
+							this.initFailed(e);
+							throw new RuntimeException("Error initializing bean " + name, e);
+						}
+					});
+				}
+				return new ProvidingWrapper(wrapper);
+			}
+
+			@Override
+			protected void destroyWrapper(ProvidingWrapper wrapper) {
+				if(destroys != null) {
+					destroys.forEach(destroy -> {
+						try {
+							invokeDestroy(this, destroy, wrapper.wrapper);
+						} catch (Exception e) {
+							this.destroyFailed(e);
+						}
+					});
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+/**
+ * <p>
+ * Generic {@link BeanMXBean} implementation exposing a module bean and its metrics.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+final class GenericBeanMXBean implements BeanMXBean {
+
+	/**
+	 * The bean.
+	 */
+	private final Module.Bean<?> bean;
+
+	/**
+	 * The bean metrics.
+	 */
+	private final BeanMetrics metrics;
+
+	/**
+	 * <p>
+	 * Creates a generic bean MXBean.
+	 * </p>
+	 *
+	 * @param bean    the bean
+	 * @param metrics the bean metrics
+	 */
+	public GenericBeanMXBean(Module.Bean<?> bean, BeanMetrics metrics) {
+		this.bean = bean;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public String getModuleName() {
+		return this.bean.parent.getName();
+	}
+
+	@Override
+	public String getName() {
+		return this.bean.name;
+	}
+
+	@Override
+	public String getStrategy() {
+		return this.bean.getStrategy();
+	}
+
+	@Override
+	public String getState() {
+		return this.metrics.getState();
+	}
+
+	@Override
+	public long getInstanceCount() {
+		return this.metrics.getInstanceCount();
+	}
+
+	@Override
+	public double getInitTime() {
+		return this.metrics.getInitTime() / 1000000.0;
+	}
+
+	@Override
+	public long getRequestCount() {
+		return this.metrics.getRequestCount();
+	}
+
+	@Override
+	public int getTrackedInstanceCount() {
+		return this.bean.getTrackedInstanceCount();
+	}
+}
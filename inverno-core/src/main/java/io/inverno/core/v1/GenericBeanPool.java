@@ -0,0 +1,372 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A lock-free {@link BeanPool} implementation backing pooled beans.
+ * </p>
+ *
+ * <p>
+ * Idle instances are kept in a LIFO stack so that the most recently returned, and most likely cache-hot, instance is borrowed first whereas the least recently returned instances, at the bottom of
+ * the stack, are evicted once they have been idle for more than the idle timeout. Eviction is performed when instances are returned to the pool, as a result it doesn't require any background
+ * thread.
+ * </p>
+ *
+ * <p>
+ * When all pooled instances are borrowed, an overflow instance is created which is destroyed as soon as it is returned, the maximum size then only bounds the number of instances kept in the pool.
+ * When overflow is disabled, borrowing from an exhausted pool fails instead so that the maximum size bounds the number of instances in existence. All instances are tracked by the pool so that the
+ * ones that haven't been destroyed yet, whether they are idle or borrowed, are destroyed when the pool is closed.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see PooledModuleBean
+ * @see PooledWrapperBean
+ *
+ * @param <E> the type of pooled elements (ie. the bean instance or the bean wrapper instance)
+ * @param <T> the type of instances provided by pooled elements
+ */
+final class GenericBeanPool<E, T> implements BeanPool<T> {
+
+	/**
+	 * The maximum pool size used when none is specified: twice the number of available processors.
+	 */
+	private static final int DEFAULT_MAX_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+	private static final int STATE_IDLE = 0;
+
+	private static final int STATE_LEASED = 1;
+
+	private static final int STATE_DESTROYED = 2;
+
+	/**
+	 * The pooled instance state var handle.
+	 */
+	private static final VarHandle STATE;
+
+	/**
+	 * The lease closed flag var handle.
+	 */
+	private static final VarHandle CLOSED;
+
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			STATE = lookup.findVarHandle(GenericBeanPool.PooledInstance.class, "state", int.class);
+			CLOSED = lookup.findVarHandle(GenericBeanPool.PooledLease.class, "closed", boolean.class);
+		}
+		catch(ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final int minSize;
+
+	private final int maxSize;
+
+	private final long idleTimeoutNanos;
+
+	private final boolean overflow;
+
+	private final Supplier<E> factory;
+
+	private final Function<E, T> instanceExtractor;
+
+	private final Consumer<E> destroyer;
+
+	/**
+	 * The idle instances, most recently returned first.
+	 */
+	private final ConcurrentLinkedDeque<PooledInstance> idleInstances;
+
+	/**
+	 * All instances that haven't been destroyed yet.
+	 */
+	private final Set<PooledInstance> instances;
+
+	/**
+	 * The number of pooled instances excluding overflow instances.
+	 */
+	private final AtomicInteger size;
+
+	private volatile boolean closed;
+
+	/**
+	 * <p>
+	 * Creates a bean pool and fills it with the minimum number of instances.
+	 * </p>
+	 *
+	 * @param minSize           the minimum size of the pool
+	 * @param maxSize           the maximum size of the pool, twice the number of available processors when negative or zero
+	 * @param idleTimeout       the time in milliseconds after which an idle instance is evicted, instances are never evicted when negative or zero
+	 * @param overflow          true to create overflow instances when the pool is exhausted, false to fail
+	 * @param factory           the factory used to create and initialize pooled elements
+	 * @param instanceExtractor the function used to obtain an instance from a pooled element
+	 * @param destroyer         the consumer used to destroy pooled elements
+	 */
+	public GenericBeanPool(int minSize, int maxSize, long idleTimeout, boolean overflow, Supplier<E> factory, Function<E, T> instanceExtractor, Consumer<E> destroyer) {
+		this.maxSize = maxSize > 0 ? maxSize : Math.max(DEFAULT_MAX_SIZE, minSize);
+		this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+		this.idleTimeoutNanos = idleTimeout > 0 ? TimeUnit.MILLISECONDS.toNanos(idleTimeout) : 0;
+		this.overflow = overflow;
+		this.factory = factory;
+		this.instanceExtractor = instanceExtractor;
+		this.destroyer = destroyer;
+		this.idleInstances = new ConcurrentLinkedDeque<>();
+		this.instances = ConcurrentHashMap.newKeySet();
+		this.size = new AtomicInteger();
+
+		try {
+			for(int i = 0; i < this.minSize; i++) {
+				PooledInstance instance = this.register(this.factory.get(), true);
+				this.size.incrementAndGet();
+				instance.state = STATE_IDLE;
+				instance.idleSince = System.nanoTime();
+				this.idleInstances.offerFirst(instance);
+			}
+		}
+		catch(RuntimeException e) {
+			// destroy the instances created so far
+			this.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public Lease<T> borrow() throws IllegalStateException {
+		if(this.closed) {
+			throw new IllegalStateException("Pool is closed");
+		}
+		PooledInstance instance;
+		while( (instance = this.idleInstances.pollFirst()) != null) {
+			// This can only fail if the instance was destroyed when closing the pool
+			if(STATE.compareAndSet(instance, STATE_IDLE, STATE_LEASED)) {
+				return new PooledLease(instance);
+			}
+		}
+
+		int currentSize;
+		while( (currentSize = this.size.get()) < this.maxSize) {
+			if(this.size.compareAndSet(currentSize, currentSize + 1)) {
+				E element;
+				try {
+					element = this.factory.get();
+				}
+				catch(RuntimeException e) {
+					this.size.decrementAndGet();
+					throw e;
+				}
+				return new PooledLease(this.register(element, true));
+			}
+		}
+		if(!this.overflow) {
+			throw new IllegalStateException("Pool is exhausted: " + this.maxSize + " instances are borrowed");
+		}
+		return new PooledLease(this.register(this.factory.get(), false));
+	}
+
+	/**
+	 * <p>
+	 * Closes the pool and destroys all instances that haven't been destroyed yet.
+	 * </p>
+	 *
+	 * <p>
+	 * Instances that are currently borrowed are also destroyed, the pool can't be used after that.
+	 * </p>
+	 */
+	public void close() {
+		this.closed = true;
+		this.idleInstances.clear();
+		this.instances.forEach(this::destroy);
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of pooled instances excluding overflow instances.
+	 * </p>
+	 *
+	 * @return the size of the pool
+	 */
+	int size() {
+		return this.size.get();
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of idle instances.
+	 * </p>
+	 *
+	 * @return the number of idle instances
+	 */
+	int idleSize() {
+		return this.idleInstances.size();
+	}
+
+	/**
+	 * <p>
+	 * Registers a newly created element as a leased instance.
+	 * </p>
+	 *
+	 * @param element the element
+	 * @param pooled  true to register a pooled instance, false to register an overflow instance
+	 *
+	 * @return a new instance
+	 */
+	private PooledInstance register(E element, boolean pooled) {
+		PooledInstance instance = new PooledInstance(element, this.instanceExtractor.apply(element), pooled);
+		this.instances.add(instance);
+		if(this.closed) {
+			// the pool was closed while we were creating the instance
+			this.destroy(instance);
+			throw new IllegalStateException("Pool is closed");
+		}
+		return instance;
+	}
+
+	/**
+	 * <p>
+	 * Returns a borrowed instance to the pool.
+	 * </p>
+	 *
+	 * @param instance the instance to return
+	 */
+	private void release(PooledInstance instance) {
+		if(!instance.pooled || this.closed) {
+			this.destroy(instance);
+			return;
+		}
+		long now = System.nanoTime();
+		instance.idleSince = now;
+		if(!STATE.compareAndSet(instance, STATE_LEASED, STATE_IDLE)) {
+			// the instance was destroyed when closing the pool
+			return;
+		}
+		this.idleInstances.offerFirst(instance);
+		if(this.closed) {
+			// the pool was closed concurrently, make sure the instance is destroyed
+			this.destroy(instance);
+			return;
+		}
+		this.evictIdleInstances(now);
+	}
+
+	/**
+	 * <p>
+	 * Evicts and destroys the instances that have been idle for more than the idle timeout while the size of the pool exceeds the minimum size.
+	 * </p>
+	 *
+	 * @param now the current time in nanoseconds
+	 */
+	private void evictIdleInstances(long now) {
+		if(this.idleTimeoutNanos == 0) {
+			return;
+		}
+		PooledInstance eldest;
+		while( (eldest = this.idleInstances.peekLast()) != null && now - eldest.idleSince >= this.idleTimeoutNanos && this.size.get() > this.minSize) {
+			// Only one thread can successfully remove an idle instance whether it is borrowing or evicting it
+			if(this.idleInstances.removeLastOccurrence(eldest)) {
+				this.destroy(eldest);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Destroys the specified instance if it hasn't been destroyed yet.
+	 * </p>
+	 *
+	 * @param instance the instance to destroy
+	 */
+	private void destroy(PooledInstance instance) {
+		if((int)STATE.getAndSet(instance, STATE_DESTROYED) != STATE_DESTROYED) {
+			this.instances.remove(instance);
+			if(instance.pooled) {
+				this.size.decrementAndGet();
+			}
+			this.destroyer.accept(instance.element);
+		}
+	}
+
+	/**
+	 * <p>
+	 * An instance created by the pool.
+	 * </p>
+	 */
+	private final class PooledInstance {
+
+		private final E element;
+
+		private final T instance;
+
+		private final boolean pooled;
+
+		private volatile int state;
+
+		private long idleSince;
+
+		public PooledInstance(E element, T instance, boolean pooled) {
+			this.element = element;
+			this.instance = instance;
+			this.pooled = pooled;
+			this.state = STATE_LEASED;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A lease on a borrowed instance.
+	 * </p>
+	 *
+	 * <p>
+	 * A new lease is issued each time an instance is borrowed so that closing a stale lease can't return an instance that has since been borrowed again.
+	 * </p>
+	 */
+	private final class PooledLease implements Lease<T> {
+
+		private final PooledInstance instance;
+
+		private volatile boolean closed;
+
+		public PooledLease(PooledInstance instance) {
+			this.instance = instance;
+		}
+
+		@Override
+		public T get() {
+			return this.instance.instance;
+		}
+
+		@Override
+		public void close() {
+			if(CLOSED.compareAndSet(this, false, true)) {
+				GenericBeanPool.this.release(this.instance);
+			}
+		}
+	}
+}
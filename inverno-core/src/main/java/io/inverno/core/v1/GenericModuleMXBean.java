@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Generic {@link ModuleMXBean} implementation exposing a module.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+final class GenericModuleMXBean implements ModuleMXBean {
+
+	/**
+	 * The module.
+	 */
+	private final Module module;
+
+	/**
+	 * The component modules of the module.
+	 */
+	private final List<Module> modules;
+
+	/**
+	 * The beans of the module.
+	 */
+	private final List<Module.Bean<?>> beans;
+
+	/**
+	 * <p>
+	 * Creates a generic module MXBean.
+	 * </p>
+	 *
+	 * @param module  the module
+	 * @param modules the component modules of the module
+	 * @param beans   the beans of the module
+	 */
+	public GenericModuleMXBean(Module module, List<Module> modules, List<Module.Bean<?>> beans) {
+		this.module = module;
+		this.modules = modules;
+		this.beans = beans;
+	}
+
+	@Override
+	public String getName() {
+		return this.module.getName();
+	}
+
+	@Override
+	public boolean isActive() {
+		return this.module.isActive();
+	}
+
+	@Override
+	public List<String> getModules() {
+		return this.modules.stream().map(Module::getName).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<String> getBeans() {
+		return this.beans.stream().map(bean -> bean.name).collect(Collectors.toList());
+	}
+
+	@Override
+	public int getCreatedBeanCount() {
+		int count = 0;
+		for(Module.Bean<?> bean : this.beans) {
+			BeanMetrics metrics = bean.metrics;
+			if(metrics != null && metrics.getState().equals("CREATED")) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
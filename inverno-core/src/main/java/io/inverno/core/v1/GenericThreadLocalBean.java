@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A {@link ThreadLocalBean} implementation backing thread beans.
+ * </p>
+ *
+ * <p>
+ * The instance bound to a thread is stored in a {@link ThreadLocal} so that, once bound, it is returned without any synchronization. Every bound instance is also tracked along with the thread it is
+ * bound to in a queue which is swept when a thread requests an instance for the first time: an instance whose thread has terminated is then recycled instead of creating a new one and any other
+ * such instance found in the process is destroyed. This is how the number of instances is kept bounded by the number of live threads when many short-lived virtual threads are involved, without
+ * relying on the garbage collector or on a background thread.
+ * </p>
+ *
+ * <p>
+ * All instances that haven't been destroyed yet, including the ones still bound to live threads, are destroyed when the bean is closed.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see ThreadModuleBean
+ * @see ThreadWrapperBean
+ *
+ * @param <E> the type of bound elements (ie. the bean instance or the bean wrapper instance)
+ * @param <T> the type of instances provided by bound elements
+ */
+final class GenericThreadLocalBean<E, T> implements ThreadLocalBean<T> {
+
+	/**
+	 * The maximum number of tracked instances inspected when binding an instance to a thread.
+	 */
+	private static final int SWEEP_BATCH_SIZE = 2;
+
+	/**
+	 * The bound instance destroyed flag var handle.
+	 */
+	private static final VarHandle DESTROYED;
+
+	static {
+		try {
+			DESTROYED = MethodHandles.lookup().findVarHandle(GenericThreadLocalBean.BoundInstance.class, "destroyed", boolean.class);
+		}
+		catch(ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Supplier<E> factory;
+
+	private final Function<E, T> instanceExtractor;
+
+	private final Consumer<E> destroyer;
+
+	/**
+	 * The instance bound to the current thread.
+	 */
+	private final ThreadLocal<BoundInstance> boundInstance;
+
+	/**
+	 * All instances that haven't been destroyed yet.
+	 */
+	private final ConcurrentLinkedQueue<BoundInstance> instances;
+
+	private volatile boolean closed;
+
+	/**
+	 * <p>
+	 * Creates a thread local bean.
+	 * </p>
+	 *
+	 * @param factory           the factory used to create and initialize elements
+	 * @param instanceExtractor the function used to obtain an instance from an element
+	 * @param destroyer         the consumer used to destroy elements
+	 */
+	public GenericThreadLocalBean(Supplier<E> factory, Function<E, T> instanceExtractor, Consumer<E> destroyer) {
+		this.factory = factory;
+		this.instanceExtractor = instanceExtractor;
+		this.destroyer = destroyer;
+		this.boundInstance = new ThreadLocal<>();
+		this.instances = new ConcurrentLinkedQueue<>();
+	}
+
+	@Override
+	public T get() throws IllegalStateException {
+		BoundInstance current = this.boundInstance.get();
+		if(current != null && !current.destroyed) {
+			return current.instance;
+		}
+		return this.bind().instance;
+	}
+
+	/**
+	 * <p>
+	 * Closes the thread local bean and destroys all instances that haven't been destroyed yet.
+	 * </p>
+	 *
+	 * <p>
+	 * Instances that are still bound to live threads are also destroyed, the thread local bean can't be used after that.
+	 * </p>
+	 */
+	public void close() {
+		this.closed = true;
+		BoundInstance instance;
+		while( (instance = this.instances.poll()) != null) {
+			this.destroy(instance);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of instances that haven't been destroyed yet.
+	 * </p>
+	 *
+	 * @return the number of instances
+	 */
+	int size() {
+		return this.instances.size();
+	}
+
+	/**
+	 * <p>
+	 * Binds an instance to the current thread, recycling the instance of a terminated thread when possible.
+	 * </p>
+	 *
+	 * @return the bound instance
+	 */
+	private BoundInstance bind() {
+		if(this.closed) {
+			throw new IllegalStateException("Bean is destroyed");
+		}
+		Thread currentThread = Thread.currentThread();
+		BoundInstance instance = this.sweep(currentThread);
+		if(instance == null) {
+			E element = this.factory.get();
+			instance = new BoundInstance(element, this.instanceExtractor.apply(element), currentThread);
+		}
+		this.track(instance);
+		if(instance.destroyed) {
+			// the bean was closed while we were binding the instance
+			throw new IllegalStateException("Bean is destroyed");
+		}
+		this.boundInstance.set(instance);
+		return instance;
+	}
+
+	/**
+	 * <p>
+	 * Inspects a small batch of tracked instances, the first one bound to a terminated thread is rebound to the specified thread and the others are destroyed.
+	 * </p>
+	 *
+	 * @param thread the thread requesting an instance
+	 *
+	 * @return a recycled instance or null
+	 */
+	private BoundInstance sweep(Thread thread) {
+		BoundInstance recycled = null;
+		BoundInstance instance;
+		for(int i = 0; i < SWEEP_BATCH_SIZE && (instance = this.instances.poll()) != null; i++) {
+			// Polling the queue gives us exclusive ownership of the instance
+			if(instance.destroyed) {
+				continue;
+			}
+			if(instance.thread.isAlive()) {
+				this.track(instance);
+			}
+			else if(recycled == null) {
+				instance.thread = thread;
+				recycled = instance;
+			}
+			else {
+				this.destroy(instance);
+			}
+		}
+		return recycled;
+	}
+
+	/**
+	 * <p>
+	 * Tracks the specified instance so that it is destroyed when the bean is closed.
+	 * </p>
+	 *
+	 * @param instance the instance to track
+	 */
+	private void track(BoundInstance instance) {
+		this.instances.offer(instance);
+		if(this.closed) {
+			// the bean was closed concurrently, make sure the instance is destroyed
+			this.destroy(instance);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Destroys the specified instance if it hasn't been destroyed yet.
+	 * </p>
+	 *
+	 * @param instance the instance to destroy
+	 */
+	private void destroy(BoundInstance instance) {
+		if(DESTROYED.compareAndSet(instance, false, true)) {
+			this.destroyer.accept(instance.element);
+		}
+	}
+
+	/**
+	 * <p>
+	 * An instance bound to a thread.
+	 * </p>
+	 */
+	private final class BoundInstance {
+
+		private final E element;
+
+		private final T instance;
+
+		private volatile Thread thread;
+
+		private volatile boolean destroyed;
+
+		public BoundInstance(E element, T instance, Thread thread) {
+			this.element = element;
+			this.instance = instance;
+			this.thread = thread;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * A module and bean lifecycle listener which logs lifecycle events.
+ * </p>
+ *
+ * <p>
+ * Module startup and shutdown are logged at info level, bean creation and destruction at debug level and failures at fatal or warn level. This is the listener registered by an
+ * {@link Application} unless another listener is specified.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+public class LoggingLifecycleListener implements ModuleLifecycleListener, BeanLifecycleListener {
+
+	/**
+	 * The module lifecycle logger.
+	 */
+	private static final Logger MODULE_LOGGER = LogManager.getLogger(Module.class);
+
+	/**
+	 * The bean lifecycle logger.
+	 */
+	private static final Logger BEAN_LOGGER = LogManager.getLogger(Module.Bean.class);
+
+	@Override
+	public void moduleStarting(String moduleName) {
+		MODULE_LOGGER.info("Starting Module {}...", moduleName);
+	}
+
+	@Override
+	public void moduleStarted(String moduleName, long duration) {
+		MODULE_LOGGER.info("Module {} started in {}ms", () -> moduleName, () -> duration / 1000000);
+	}
+
+	@Override
+	public void moduleStopping(String moduleName) {
+		MODULE_LOGGER.info("Stopping Module {}...", moduleName);
+	}
+
+	@Override
+	public void moduleStopped(String moduleName, long duration, List<String> notDestroyed) {
+		if(notDestroyed.isEmpty()) {
+			MODULE_LOGGER.info("Module {} stopped in {}ms", () -> moduleName, () -> duration / 1000000);
+		}
+		else {
+			MODULE_LOGGER.warn("Module {} stopped in {}ms, beans not destroyed: {}", () -> moduleName, () -> duration / 1000000, () -> String.join(", ", notDestroyed));
+		}
+	}
+
+	@Override
+	public void beanCreating(String moduleName, String beanName, String strategy, boolean overridden) {
+		BEAN_LOGGER.debug("Creating {} bean {}:{} {}", () -> strategy != null ? strategy.toLowerCase().replace('_', ' ') : "", () -> moduleName, () -> beanName, () -> overridden ? "(overridden)" : "");
+	}
+
+	@Override
+	public void beanCreated(String moduleName, String beanName) {
+		BEAN_LOGGER.debug("Bean {}:{} created", moduleName, beanName);
+	}
+
+	@Override
+	public void beanInitFailed(String moduleName, String beanName, Throwable error) {
+		BEAN_LOGGER.fatal(() -> "Error initializing bean " + moduleName + ":" + beanName, error);
+	}
+
+	@Override
+	public void beanDestroyed(String moduleName, String beanName, long duration) {
+		BEAN_LOGGER.debug("Bean {}:{} destroyed in {}ms", () -> moduleName, () -> beanName, () -> duration / 1000000);
+	}
+
+	@Override
+	public void beanDestroyFailed(String moduleName, String beanName, Throwable error) {
+		BEAN_LOGGER.warn(() -> "Error destroying bean " + moduleName + ":" + beanName, error);
+	}
+
+	@Override
+	public void beanNotDestroyed(String moduleName, String beanName, String reason) {
+		BEAN_LOGGER.warn("Bean {}:{} not destroyed: {}", moduleName, beanName, reason);
+	}
+}
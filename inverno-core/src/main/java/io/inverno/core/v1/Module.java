@@ -20,21 +20,33 @@ import java.lang.annotation.Retention;
 import static java.lang.annotation.RetentionPolicy.CLASS;
 import java.lang.annotation.Target;
 import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import java.util.stream.Stream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 /**
  * <p>
@@ -59,6 +71,11 @@ import org.apache.logging.log4j.Logger;
  * </p>
  *
  * <p>
+ * When the module is started with an {@link Executor}, the dependency graph declared by the generated module class is used to start component modules and create independent beans concurrently on
+ * that executor, a bean being only created once all the beans and component modules it depends on have been created or started.
+ * </p>
+ *
+ * <p>
  * The following describes the module destroy steps:
  * </p>
  * <ol>
@@ -75,11 +92,6 @@ import org.apache.logging.log4j.Logger;
  */
 public abstract class Module {
 
-	/**
-	 * The module logger.
-	 */
-	private final Logger logger = LogManager.getLogger(this.getClass());
-
 	/**
 	 * The module name.
 	 */
@@ -108,7 +120,32 @@ public abstract class Module {
 	/**
 	 * THe module's state
 	 */
-	private boolean active;
+	private volatile boolean active;
+
+	/**
+	 * The profiler recording the module startup.
+	 */
+	private volatile StartupProfiler startupProfiler;
+
+	/**
+	 * The MBean server into which the module MBeans are registered.
+	 */
+	private MBeanServer mBeanServer;
+
+	/**
+	 * The names of the registered MBeans.
+	 */
+	private List<ObjectName> mBeanNames;
+
+	/**
+	 * The listener notified of the lifecycle of the module and its component modules.
+	 */
+	private volatile ModuleLifecycleListener moduleLifecycleListener;
+
+	/**
+	 * The listener notified of the lifecycle of the beans of the module and its component modules.
+	 */
+	private volatile BeanLifecycleListener beanLifecycleListener;
 
 	/**
 	 * <p>
@@ -136,7 +173,16 @@ public abstract class Module {
 		if (this.parent != null) {
 			this.parent.recordBean(bean);
 		} else {
-			this.beansStack.push(bean);
+			// Beans might be created concurrently when the module is started with an executor
+			synchronized(this.beansStack) {
+				this.beansStack.push(bean);
+			}
+			if(bean.metrics != null) {
+				bean.metrics.created();
+			}
+			if(this.beanLifecycleListener != null) {
+				this.beanLifecycleListener.beanCreated(bean.parent.getName(), bean.name);
+			}
 		}
 	}
 
@@ -207,6 +253,40 @@ public abstract class Module {
 		return bean;
 	}
 
+	/**
+	 * <p>
+	 * Declares the beans of this module a bean depends on.
+	 * </p>
+	 *
+	 * <p>
+	 * The dependency graph of the module is used to create beans concurrently when the module is started with an {@link Executor}. A module is only started concurrently when the dependencies of
+	 * all its beans have been declared, an empty list of dependencies must then be declared for a bean with no dependency.
+	 * </p>
+	 *
+	 * @param bean         a bean registered in this module
+	 * @param dependencies the beans registered in this module the bean depends on
+	 */
+	protected void beanDependencies(Bean<?> bean, Bean<?>... dependencies) {
+		bean.beanDependencies = dependencies;
+	}
+
+	/**
+	 * <p>
+	 * Declares the component modules a bean depends on.
+	 * </p>
+	 *
+	 * <p>
+	 * A bean depends on a component module when it is wired to one or more beans exposed by that module. When the module is started with an {@link Executor}, the bean is only created once these
+	 * component modules have been started.
+	 * </p>
+	 *
+	 * @param bean         a bean registered in this module
+	 * @param dependencies the component modules the bean depends on
+	 */
+	protected void moduleDependencies(Bean<?> bean, Module... dependencies) {
+		bean.moduleDependencies = dependencies;
+	}
+
 	/**
 	 * <p>
 	 * Returns the name of the module.
@@ -228,6 +308,112 @@ public abstract class Module {
 	public boolean isActive() {
 		return active;
 	}
+
+	/**
+	 * <p>
+	 * Registers the MBeans exposing the state of the module, its component modules and their beans in the specified MBean server.
+	 * </p>
+	 *
+	 * <p>
+	 * A {@link ModuleMXBean} is registered for each module and a {@link BeanMXBean} for each bean. Bean metrics are only collected once the MBeans have been registered, as a result MBeans must be
+	 * registered before the module is started.
+	 * </p>
+	 *
+	 * @param mBeanServer the MBean server
+	 *
+	 * @throws IllegalStateException if the module is active, if MBeans have already been registered or if there was an error registering the MBeans
+	 *
+	 * @since 1.7
+	 */
+	public void registerMBeans(MBeanServer mBeanServer) throws IllegalStateException {
+		if(this.active) {
+			throw new IllegalStateException("Module " + this.name + " is active");
+		}
+		if(this.mBeanServer != null) {
+			throw new IllegalStateException("MBeans of module " + this.name + " are already registered");
+		}
+		this.mBeanServer = mBeanServer;
+		this.mBeanNames = new ArrayList<>();
+		try {
+			this.registerMBeans(mBeanServer, this.mBeanNames);
+		}
+		catch(JMException e) {
+			this.unregisterMBeans();
+			throw new IllegalStateException("Error registering MBeans of module " + this.name, e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Registers the MBeans of the module, its beans and its component modules.
+	 * </p>
+	 *
+	 * @param mBeanServer the MBean server
+	 * @param mBeanNames  the list of registered MBean names to populate
+	 *
+	 * @throws JMException if there was an error registering an MBean
+	 */
+	private void registerMBeans(MBeanServer mBeanServer, List<ObjectName> mBeanNames) throws JMException {
+		for(Bean<?> bean : this.beans) {
+			bean.metrics = new BeanMetrics();
+			mBeanNames.add(mBeanServer.registerMBean(new GenericBeanMXBean(bean, bean.metrics), new ObjectName("io.inverno.core:type=Bean,module=" + this.name + ",name=" + bean.name)).getObjectName());
+		}
+		mBeanNames.add(mBeanServer.registerMBean(new GenericModuleMXBean(this, this.modules, this.beans), new ObjectName("io.inverno.core:type=Module,name=" + this.name)).getObjectName());
+		for(Module module : this.modules) {
+			module.registerMBeans(mBeanServer, mBeanNames);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Unregisters the MBeans previously registered with {@link #registerMBeans(MBeanServer)}.
+	 * </p>
+	 *
+	 * <p>
+	 * Bean metrics are no longer collected once the MBeans have been unregistered.
+	 * </p>
+	 *
+	 * @throws IllegalStateException if some MBeans could not be unregistered
+	 *
+	 * @since 1.7
+	 */
+	public void unregisterMBeans() throws IllegalStateException {
+		if(this.mBeanServer == null) {
+			return;
+		}
+		IllegalStateException error = null;
+		for(ObjectName mBeanName : this.mBeanNames) {
+			try {
+				this.mBeanServer.unregisterMBean(mBeanName);
+			}
+			catch(JMException e) {
+				if(error == null) {
+					error = new IllegalStateException("Error unregistering MBeans of module " + this.name);
+				}
+				error.addSuppressed(e);
+			}
+		}
+		this.clearMetrics();
+		this.mBeanServer = null;
+		this.mBeanNames = null;
+		if(error != null) {
+			throw error;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Stops collecting the metrics of the beans of the module and its component modules.
+	 * </p>
+	 */
+	private void clearMetrics() {
+		for(Bean<?> bean : this.beans) {
+			bean.metrics = null;
+		}
+		for(Module module : this.modules) {
+			module.clearMetrics();
+		}
+	}
 	
 	/**
 	 * <p>
@@ -253,15 +439,374 @@ public abstract class Module {
 	 * @throws IllegalStateException if the module is active.
 	 */
 	public void start() throws IllegalStateException {
-		if (this.isActive()) {
+		this.start(null);
+	}
+
+	/**
+	 * <p>
+	 * Starts the module using the specified executor to start component modules and create beans concurrently.
+	 * </p>
+	 *
+	 * <p>
+	 * Independent beans and component modules are created and started at the same time on the executor (e.g. a {@link java.util.concurrent.ForkJoinPool} or a virtual thread per task executor),
+	 * while the bean dependency graph is still respected: a bean is only created once all the beans it depends on have been created and initialized. The calling thread is blocked until all beans have been created and initialized.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans are created sequentially on the calling thread when no executor is specified or when the module class does not declare its dependency graph.
+	 * </p>
+	 *
+	 * @param executor the executor to use to create beans or null to create beans sequentially
+	 *
+	 * @throws IllegalStateException if the module is active.
+	 */
+	public void start(Executor executor) throws IllegalStateException {
+		this.start(executor, null);
+	}
+
+	/**
+	 * <p>
+	 * Starts the module using the specified executor to start component modules and create beans concurrently and the specified profiler to record the creation of the module beans.
+	 * </p>
+	 *
+	 * <p>
+	 * The startup report is available from the profiler once the module is started.
+	 * </p>
+	 *
+	 * @param executor the executor to use to create beans or null to create beans sequentially
+	 * @param profiler the profiler to use to record the module startup or null to start the module without profiling
+	 *
+	 * @throws IllegalStateException if the module is active or if the profiler was already used.
+	 *
+	 * @see StartupProfiler
+	 * @since 1.7
+	 */
+	public void start(Executor executor, StartupProfiler profiler) throws IllegalStateException {
+		if (!this.activate()) {
 			throw new IllegalStateException("Module " + this.name + " is already active");
 		}
+		if(profiler == null) {
+			this.doStart(executor);
+			return;
+		}
+		try {
+			profiler.begin(this.name);
+		}
+		catch(IllegalStateException e) {
+			this.active = false;
+			throw e;
+		}
+		this.startupProfiler = profiler;
+		try {
+			this.doStart(executor);
+		}
+		finally {
+			this.startupProfiler = null;
+			profiler.end();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the profiler recording the startup of the enclosing module tree.
+	 * </p>
+	 *
+	 * @return a startup profiler or null if the module startup is not profiled
+	 */
+	StartupProfiler getStartupProfiler() {
+		return this.parent != null ? this.parent.getStartupProfiler() : this.startupProfiler;
+	}
+
+	/**
+	 * <p>
+	 * Sets the listener to notify when the module and its component modules are started and stopped.
+	 * </p>
+	 *
+	 * <p>
+	 * Nothing is reported when no listener is set, which is the default. The listener must be set on the enclosing module, it is ignored when set on a component module.
+	 * </p>
+	 *
+	 * @param listener a module lifecycle listener or null to remove the current listener
+	 *
+	 * @see LoggingLifecycleListener
+	 * @since 1.7
+	 */
+	public void setModuleLifecycleListener(ModuleLifecycleListener listener) {
+		this.moduleLifecycleListener = listener;
+	}
+
+	/**
+	 * <p>
+	 * Sets the listener to notify when the beans of the module and its component modules are created and destroyed.
+	 * </p>
+	 *
+	 * <p>
+	 * Nothing is reported when no listener is set, which is the default. The listener must be set on the enclosing module, it is ignored when set on a component module.
+	 * </p>
+	 *
+	 * @param listener a bean lifecycle listener or null to remove the current listener
+	 *
+	 * @see LoggingLifecycleListener
+	 * @since 1.7
+	 */
+	public void setBeanLifecycleListener(BeanLifecycleListener listener) {
+		this.beanLifecycleListener = listener;
+	}
+
+	/**
+	 * <p>
+	 * Returns the listener notified of the lifecycle of the modules of the enclosing module tree.
+	 * </p>
+	 *
+	 * @return a module lifecycle listener or null
+	 */
+	ModuleLifecycleListener getModuleLifecycleListener() {
+		return this.parent != null ? this.parent.getModuleLifecycleListener() : this.moduleLifecycleListener;
+	}
+
+	/**
+	 * <p>
+	 * Returns the listener notified of the lifecycle of the beans of the enclosing module tree.
+	 * </p>
+	 *
+	 * @return a bean lifecycle listener or null
+	 */
+	BeanLifecycleListener getBeanLifecycleListener() {
+		return this.parent != null ? this.parent.getBeanLifecycleListener() : this.beanLifecycleListener;
+	}
+
+	/**
+	 * <p>
+	 * Activates the module.
+	 * </p>
+	 *
+	 * <p>
+	 * A module can be activated concurrently when it is started or when one of its beans is requested during the startup of an enclosing module.
+	 * </p>
+	 *
+	 * @return true if the module has been activated, false if it was already active
+	 */
+	private synchronized boolean activate() {
+		if(this.active) {
+			return false;
+		}
 		this.active = true;
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Activates and starts the module when one of its beans is requested while an enclosing module is starting.
+	 * </p>
+	 */
+	private void startOnDemand() {
+		if(this.activate()) {
+			this.doStart(null);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Starts an activated module.
+	 * </p>
+	 *
+	 * <p>
+	 * Component modules and beans are started and created concurrently when an executor is specified and the dependency graph of the module is known, sequentially otherwise.
+	 * </p>
+	 *
+	 * @param executor the executor to use to start component modules and create beans concurrently or null
+	 */
+	private void doStart(Executor executor) {
+		ModuleStartEvent event = new ModuleStartEvent();
+		event.begin();
 		long t0 = System.nanoTime();
-		this.logger.info("Starting Module {}...", () -> this.name);
-		this.modules.stream().filter(module -> !module.isActive()).forEach(Module::start);
-		this.beans.forEach(Bean::create);
-		this.logger.info("Module {} started in {}ms", () -> this.name, () -> ((System.nanoTime() - t0) / 1000000));
+		ModuleLifecycleListener listener = this.getModuleLifecycleListener();
+		if(listener != null) {
+			listener.moduleStarting(this.name);
+		}
+		boolean concurrent = executor != null && this.hasDependencyGraph();
+		if(concurrent) {
+			CompletableFuture<Void> trigger = new CompletableFuture<>();
+			CompletableFuture<Void> started = this.startAsync(trigger, executor);
+			trigger.complete(null);
+			await(started);
+		}
+		else {
+			this.modules.stream().filter(Module::activate).forEach(module -> module.doStart(executor));
+			// Asynchronous initializations are only awaited by dependent beans and once all beans have been created
+			List<CompletableFuture<Void>> initializations = new ArrayList<>();
+			for(Bean<?> bean : this.beans) {
+				if(!bean.isLazy()) {
+					bean.create();
+					CompletableFuture<Void> initialization = bean.initialization();
+					if(initialization != null) {
+						initializations.add(initialization);
+					}
+				}
+			}
+			if(!initializations.isEmpty()) {
+				await(CompletableFuture.allOf(initializations.toArray(CompletableFuture[]::new)));
+			}
+		}
+		if(listener != null) {
+			listener.moduleStarted(this.name, System.nanoTime() - t0);
+		}
+		this.commit(event, concurrent);
+	}
+
+	/**
+	 * <p>
+	 * Commits the specified module startup event if it is enabled.
+	 * </p>
+	 *
+	 * @param event      the module startup event
+	 * @param concurrent true if beans were created concurrently, false otherwise
+	 */
+	private void commit(ModuleStartEvent event, boolean concurrent) {
+		if(event.shouldCommit()) {
+			event.moduleName = this.name;
+			event.concurrent = concurrent;
+			event.commit();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Waits for the specified startup future to complete.
+	 * </p>
+	 *
+	 * @param started a startup future
+	 *
+	 * @throws RuntimeException if the startup failed
+	 */
+	private static void await(CompletableFuture<Void> started) throws RuntimeException {
+		try {
+			started.join();
+		}
+		catch(CompletionException e) {
+			if(e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			}
+			else if(e.getCause() instanceof Error) {
+				throw (Error)e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Schedules the startup of an activated module on the specified executor.
+	 * </p>
+	 *
+	 * <p>
+	 * This method builds the startup graph of the module: component modules that can be activated are scheduled recursively and each bean creation is scheduled once the creation of the beans and
+	 * the startup of the component modules it depends on have completed. Nothing is executed before the specified trigger completes which allows to activate all modules before any bean is actually
+	 * created.
+	 * </p>
+	 *
+	 * @param trigger  the future triggering the startup
+	 * @param executor the executor used to start component modules and create beans
+	 *
+	 * @return a future which completes once the module is started
+	 */
+	private CompletableFuture<Void> startAsync(CompletableFuture<Void> trigger, Executor executor) {
+		Map<Module, CompletableFuture<Void>> moduleStarts = new HashMap<>();
+		for(Module module : this.modules) {
+			if(module.activate()) {
+				if(module.hasDependencyGraph()) {
+					ModuleStartEvent event = new ModuleStartEvent();
+					event.begin();
+					long t0 = System.nanoTime();
+					ModuleLifecycleListener listener = module.getModuleLifecycleListener();
+					if(listener != null) {
+						listener.moduleStarting(module.name);
+					}
+					moduleStarts.put(module, module.startAsync(trigger, executor).thenRun(() -> {
+						if(listener != null) {
+							listener.moduleStarted(module.name, System.nanoTime() - t0);
+						}
+						module.commit(event, true);
+					}));
+				}
+				else {
+					moduleStarts.put(module, trigger.thenRunAsync(() -> module.doStart(null), executor));
+				}
+			}
+		}
+
+		// Lazy beans are only created when required by another bean
+		Map<Bean<?>, CompletableFuture<Void>> beanCreations = new HashMap<>();
+		for(Bean<?> bean : this.beans) {
+			if(!bean.isLazy()) {
+				this.createAsync(bean, trigger, executor, moduleStarts, beanCreations);
+			}
+		}
+
+		return CompletableFuture.allOf(
+			Stream.concat(moduleStarts.values().stream(), beanCreations.values().stream()).toArray(CompletableFuture[]::new)
+		);
+	}
+
+	/**
+	 * <p>
+	 * Schedules the creation of a bean once the beans and the component modules it depends on have been created and started.
+	 * </p>
+	 *
+	 * @param bean          the bean to create
+	 * @param trigger       the future triggering the startup
+	 * @param executor      the executor used to create the bean
+	 * @param moduleStarts  the scheduled component modules startups
+	 * @param beanCreations the scheduled bean creations
+	 *
+	 * @return a future which completes once the bean is created and initialized
+	 */
+	private CompletableFuture<Void> createAsync(Bean<?> bean, CompletableFuture<Void> trigger, Executor executor, Map<Module, CompletableFuture<Void>> moduleStarts, Map<Bean<?>, CompletableFuture<Void>> beanCreations) {
+		CompletableFuture<Void> beanCreation = beanCreations.get(bean);
+		if(beanCreation == null) {
+			List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+			for(Bean<?> dependency : bean.beanDependencies) {
+				if(dependency.parent == this) {
+					dependencies.add(this.createAsync(dependency, trigger, executor, moduleStarts, beanCreations));
+				}
+			}
+			if(bean.moduleDependencies != null) {
+				for(Module dependency : bean.moduleDependencies) {
+					CompletableFuture<Void> moduleStart = moduleStarts.get(dependency);
+					if(moduleStart != null) {
+						dependencies.add(moduleStart);
+					}
+				}
+			}
+			CompletableFuture<Void> ready = dependencies.isEmpty() ? trigger : CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new));
+			StartupProfiler profiler = this.getStartupProfiler();
+			if(profiler != null && !dependencies.isEmpty()) {
+				ready = ready.thenRun(() -> profiler.ready(bean));
+			}
+			// Dependent beans are created once the asynchronous initialization of the bean has completed
+			beanCreation = ready.thenRunAsync(bean::create, executor).thenCompose(ignore -> {
+				CompletableFuture<Void> initialization = bean.initialization();
+				return initialization != null ? initialization : CompletableFuture.completedFuture(null);
+			});
+			beanCreations.put(bean, beanCreation);
+		}
+		return beanCreation;
+	}
+
+	/**
+	 * <p>
+	 * Determines whether the dependencies of all the beans in the module have been declared.
+	 * </p>
+	 *
+	 * @return true if the dependency graph of the module is known, false otherwise
+	 */
+	private boolean hasDependencyGraph() {
+		for(Bean<?> bean : this.beans) {
+			if(bean.beanDependencies == null) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -272,48 +817,369 @@ public abstract class Module {
 	 * <p>
 	 * This method basically destroys the beans created during startup in the reverse order.
 	 * </p>
+	 *
+	 * <p>
+	 * Asynchronous destruction operations are not awaited before destroying the next bean, a bean is only destroyed once the pending destructions of the beans that might depend on it have
+	 * completed. This method returns once all beans have been destroyed.
+	 * </p>
 	 */
 	public void stop() {
-		if(this.isActive()) {
-			long t0 = System.nanoTime();
-			this.logger.info("Stopping Module {}...", () -> this.name);
-			this.beansStack.forEach(bean -> {
-				long bean_t0 = System.nanoTime();
-				try {
-					bean.destroy();
-				} 
-				catch (Exception e) {
-					this.logger.warn("Error destroying Bean {}", () -> (bean.parent != null ? bean.parent.getName() + ":" : "") + bean.name);
+		this.stop(null, null, null);
+	}
+
+	/**
+	 * <p>
+	 * Stops the module using the specified executor to destroy independent beans concurrently within the specified timeouts.
+	 * </p>
+	 *
+	 * <p>
+	 * The dependency graph is respected: a bean is only destroyed once all the beans that might depend on it have been destroyed, namely the beans declaring it as a dependency, the beans
+	 * depending on its module and the beans of the component modules of its module which might be wired to it through module sockets. Beans whose dependencies are unknown are destroyed in the
+	 * reverse creation order.
+	 * </p>
+	 *
+	 * <p>
+	 * A bean whose destruction did not complete within the bean timeout or which was not destroyed before the module timeout has elapsed is reported as not destroyed, the beans it depends on are
+	 * then not destroyed either. The calling thread is blocked until all beans have been destroyed or until the module timeout has elapsed, bean destructions still running at that time are not
+	 * interrupted.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans are destroyed on the calling thread when no executor is specified, a synchronous destruction exceeding the bean timeout can then not be interrupted but it is still reported.
+	 * </p>
+	 *
+	 * @param executor    the executor to use to destroy beans or null to destroy beans on the calling thread
+	 * @param timeout     the maximum time to wait for all beans to be destroyed or null to wait indefinitely
+	 * @param beanTimeout the maximum time to wait for a bean to be destroyed or null to wait indefinitely
+	 *
+	 * @return the names of the beans which have not been destroyed, an empty list if all beans have been destroyed
+	 *
+	 * @since 1.7
+	 */
+	public List<String> stop(Executor executor, Duration timeout, Duration beanTimeout) {
+		if(!this.isActive()) {
+			return List.of();
+		}
+		ModuleStopEvent event = new ModuleStopEvent();
+		event.begin();
+		long t0 = System.nanoTime();
+		ModuleLifecycleListener listener = this.getModuleLifecycleListener();
+		if(listener != null) {
+			listener.moduleStopping(this.name);
+		}
+		List<Bean<?>> beans;
+		synchronized(this.beansStack) {
+			beans = new ArrayList<>(this.beansStack);
+		}
+		BeanDestructions destructions = new BeanDestructions(executor, t0, timeout, beanTimeout);
+		for(Bean<?> bean : beans) {
+			destructions.schedule(bean);
+		}
+		List<String> notDestroyed = destructions.await();
+		this.modules.forEach(Module::stop);
+		this.beansStack.clear();
+		if(listener != null) {
+			listener.moduleStopped(this.name, System.nanoTime() - t0, notDestroyed);
+		}
+		this.active = false;
+		if(event.shouldCommit()) {
+			event.moduleName = this.name;
+			event.notDestroyed = notDestroyed.size();
+			event.commit();
+		}
+		return notDestroyed;
+	}
+
+	/**
+	 * <p>
+	 * The bean destructions scheduled while stopping a module.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans are scheduled in the reverse creation order, the destruction of a bean is triggered once the destructions of the beans that might depend on it have completed. A bean might depend on
+	 * the beans it declares as dependencies, on the beans of the component modules it depends on and, when it is part of a component module, on the beans of the enclosing modules injected in the
+	 * module sockets. A bean whose dependencies are unknown might depend on any bean and any bean might depend on it.
+	 * </p>
+	 *
+	 * <p>
+	 * The result of a bean destruction completes with true when the bean has been destroyed and with false when its destruction timed out or when it was not destroyed.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 */
+	private class BeanDestructions {
+
+		private final Executor executor;
+
+		private final Long deadline;
+
+		private final Duration beanTimeout;
+
+		private final Map<Bean<?>, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+
+		private final Map<Object, List<CompletableFuture<Boolean>>> byDependency = new HashMap<>();
+
+		private final Map<Module, List<CompletableFuture<Boolean>>> byModule = new HashMap<>();
+
+		private CompletableFuture<Boolean> barrier;
+
+		private List<CompletableFuture<Boolean>> sinceBarrier = new ArrayList<>();
+
+		/**
+		 * <p>
+		 * Creates bean destructions.
+		 * </p>
+		 *
+		 * @param executor    the executor to use to destroy beans or null
+		 * @param t0          the time at which the module stop started
+		 * @param timeout     the module timeout or null
+		 * @param beanTimeout the bean timeout or null
+		 */
+		BeanDestructions(Executor executor, long t0, Duration timeout, Duration beanTimeout) {
+			this.executor = executor;
+			this.deadline = timeout != null ? t0 + timeout.toNanos() : null;
+			this.beanTimeout = beanTimeout;
+		}
+
+		/**
+		 * <p>
+		 * Schedules the destruction of a bean once the destructions of the beans that might depend on it have completed.
+		 * </p>
+		 *
+		 * @param bean the bean to destroy
+		 */
+		void schedule(Bean<?> bean) {
+			List<CompletableFuture<Boolean>> dependents = new ArrayList<>();
+			if(this.barrier != null) {
+				dependents.add(this.barrier);
+			}
+			if(bean.beanDependencies == null) {
+				dependents.addAll(this.sinceBarrier);
+			}
+			else {
+				addAll(dependents, this.byDependency.get(bean));
+				for(Module module = bean.parent;module != null;module = module.parent) {
+					addAll(dependents, this.byDependency.get(module));
+				}
+				// Beans in component modules might depend on the beans of the enclosing modules
+				for(Map.Entry<Module, List<CompletableFuture<Boolean>>> entry : this.byModule.entrySet()) {
+					if(entry.getKey().isDescendantOf(bean.parent)) {
+						dependents.addAll(entry.getValue());
+					}
 				}
-				finally {
-					this.logger.debug("Bean {} destroyed in {}ms", () -> (bean.parent != null ? bean.parent.getName() + ":" : "") + bean.name, () -> ((System.nanoTime() - bean_t0) / 1000000));
+			}
+
+			CompletableFuture<Boolean> result = new CompletableFuture<>();
+			CompletableFuture<Void> ready = dependents.isEmpty() ? CompletableFuture.completedFuture(null) : CompletableFuture.allOf(dependents.toArray(CompletableFuture[]::new));
+			CompletableFuture<Void> destruction = this.executor != null ? ready.thenRunAsync(() -> this.destroy(bean, dependents, result), this.executor) : ready.thenRun(() -> this.destroy(bean, dependents, result));
+			// The result must complete even if the executor rejected the destruction
+			destruction.exceptionally(error -> {
+				if(result.complete(false)) {
+					bean.destroyFailed(AbstractBeanBuilder.AsyncOperation.unwrap(error));
 				}
+				return null;
 			});
-			this.modules.forEach(Module::stop);
-			this.beansStack.clear();
-			this.logger.info("Module {} stopped in {}ms", () -> this.name, () -> ((System.nanoTime() - t0) / 1000000));
-			this.active = false;
+			this.results.put(bean, result);
+
+			if(bean.beanDependencies == null) {
+				this.barrier = result;
+				this.sinceBarrier = new ArrayList<>();
+			}
+			else {
+				this.sinceBarrier.add(result);
+				for(Bean<?> dependency : bean.beanDependencies) {
+					this.byDependency.computeIfAbsent(dependency, key -> new ArrayList<>()).add(result);
+				}
+				if(bean.moduleDependencies != null) {
+					for(Module dependency : bean.moduleDependencies) {
+						this.byDependency.computeIfAbsent(dependency, key -> new ArrayList<>()).add(result);
+					}
+				}
+				this.byModule.computeIfAbsent(bean.parent, key -> new ArrayList<>()).add(result);
+			}
+		}
+
+		/**
+		 * <p>
+		 * Destroys a bean whose dependent beans destructions have completed.
+		 * </p>
+		 *
+		 * @param bean       the bean to destroy
+		 * @param dependents the destructions of the beans that might depend on the bean
+		 * @param result     the result of the bean destruction
+		 */
+		private void destroy(Bean<?> bean, List<CompletableFuture<Boolean>> dependents, CompletableFuture<Boolean> result) {
+			BeanLifecycleListener listener = Module.this.getBeanLifecycleListener();
+			for(CompletableFuture<Boolean> dependent : dependents) {
+				if(!dependent.join()) {
+					if(listener != null) {
+						listener.beanNotDestroyed(bean.parent.getName(), bean.name, "a dependent bean was not destroyed");
+					}
+					result.complete(false);
+					return;
+				}
+			}
+			if(this.deadline != null && System.nanoTime() - this.deadline > 0) {
+				if(listener != null) {
+					listener.beanNotDestroyed(bean.parent.getName(), bean.name, "module stop timed out");
+				}
+				result.complete(false);
+				return;
+			}
+			if(this.beanTimeout != null) {
+				result.completeOnTimeout(false, this.beanTimeout.toNanos(), TimeUnit.NANOSECONDS).thenAccept(destroyed -> {
+					if(!destroyed && listener != null) {
+						listener.beanNotDestroyed(bean.parent.getName(), bean.name, "destruction timed out");
+					}
+				});
+			}
+			long bean_t0 = System.nanoTime();
+			CompletableFuture<Void> destruction = null;
+			try {
+				destruction = bean.destroyAsync();
+			}
+			catch (Exception e) {
+				bean.destroyFailed(e);
+				result.complete(false);
+				return;
+			}
+			if(destruction != null) {
+				destruction.whenComplete((ignore, error) -> {
+					if(error != null) {
+						bean.destroyFailed(AbstractBeanBuilder.AsyncOperation.unwrap(error));
+						result.complete(false);
+					}
+					else {
+						this.destroyed(bean, listener, bean_t0, result);
+					}
+				});
+			}
+			else {
+				this.destroyed(bean, listener, bean_t0, result);
+			}
+		}
+
+		/**
+		 * <p>
+		 * Completes the destruction of a bean.
+		 * </p>
+		 *
+		 * @param bean     the destroyed bean
+		 * @param listener the bean lifecycle listener or null
+		 * @param t0       the time at which the destruction started
+		 * @param result   the result of the bean destruction
+		 */
+		private void destroyed(Bean<?> bean, BeanLifecycleListener listener, long t0, CompletableFuture<Boolean> result) {
+			if(listener != null) {
+				listener.beanDestroyed(bean.parent.getName(), bean.name, System.nanoTime() - t0);
+			}
+			if(bean.metrics != null) {
+				bean.metrics.destroyed();
+			}
+			result.complete(true);
+		}
+
+		/**
+		 * <p>
+		 * Waits for all bean destructions to complete or for the module timeout to elapse.
+		 * </p>
+		 *
+		 * @return the names of the beans which have not been destroyed
+		 */
+		List<String> await() {
+			CompletableFuture<Void> all = CompletableFuture.allOf(this.results.values().toArray(CompletableFuture[]::new));
+			try {
+				if(this.deadline != null) {
+					all.get(Math.max(0, this.deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				}
+				else {
+					all.join();
+				}
+			}
+			catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			catch(ExecutionException | TimeoutException e) {
+				// Beans which have not been destroyed are reported
+			}
+			List<String> notDestroyed = new ArrayList<>();
+			this.results.forEach((bean, result) -> {
+				if(!result.getNow(false)) {
+					notDestroyed.add((bean.parent != null ? bean.parent.getName() + ":" : "") + bean.name);
+				}
+			});
+			return notDestroyed;
+		}
+
+		private void addAll(List<CompletableFuture<Boolean>> dependents, List<CompletableFuture<Boolean>> destructions) {
+			if(destructions != null) {
+				dependents.addAll(destructions);
+			}
 		}
 	}
-	
+
+	/**
+	 * <p>
+	 * Determines whether this module is a component module of the specified module or of one of its component modules.
+	 * </p>
+	 *
+	 * @param module a module
+	 *
+	 * @return true if the specified module is an ancestor of this module, false otherwise
+	 */
+	private boolean isDescendantOf(Module module) {
+		for(Module ancestor = this.parent;ancestor != null;ancestor = ancestor.parent) {
+			if(ancestor == module) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * <p>
 	 * Aggregates single beans, collections of beans and arrays of beans.
 	 * </p>
 	 * 
+	 * <p>
+	 * Null beans are filtered when they are added to the aggregate which is backed by an array presized to the expected number of beans, the resulting list, set or array is then created with
+	 * a single copy at most. An aggregator is meant to be used once, it must not be used after one of the {@code to*()} methods has been invoked.
+	 * </p>
+	 * 
 	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
 	 *
 	 * @param <E> the bean type
 	 */
 	protected static class BeanAggregator<E> {
 
-		private final List<E> aggregate;
+		/**
+		 * The default expected number of beans.
+		 */
+		private static final int DEFAULT_EXPECTED_SIZE = 10;
+
+		private Object[] aggregate;
+
+		private int size;
 
 		/**
 		 * Creates an aggregator.
 		 */
 		public BeanAggregator() {
-			this.aggregate = new ArrayList<>();
+			this(DEFAULT_EXPECTED_SIZE);
+		}
+
+		/**
+		 * <p>
+		 * Creates an aggregator presized to the specified expected number of beans.
+		 * </p>
+		 * 
+		 * @param expectedSize the expected number of beans
+		 * 
+		 * @since 1.7
+		 */
+		public BeanAggregator(int expectedSize) {
+			this.aggregate = new Object[Math.max(expectedSize, 0)];
 		}
 
 		/**
@@ -327,7 +1193,8 @@ public abstract class Module {
 		 */
 		public BeanAggregator<E> add(E bean) {
 			if(bean != null) {
-				this.aggregate.add(bean);
+				this.ensureCapacity(1);
+				this.aggregate[this.size++] = bean;
 			}
 			return this;
 		}
@@ -342,75 +1209,122 @@ public abstract class Module {
 		 * @return the aggregator instance.
 		 */
 		public BeanAggregator<E> add(Collection<? extends E> beans) {
-			if(beans != null) {
-				this.aggregate.addAll(beans);
+			if(beans != null && !beans.isEmpty()) {
+				this.ensureCapacity(beans.size());
+				for(E bean : beans) {
+					if(bean != null) {
+						this.aggregate[this.size++] = bean;
+					}
+				}
 			}
 			return this;
 		}
 
 		/**
 		 * <p>
-		 * Appends the specified array of beans to the aggregate.
+		 * Appends the specified array of beans to the aggregate.
+		 * </p>
+		 * 
+		 * @param beans the beans to add.
+		 * 
+		 * @return the aggregator instance.
+		 */
+		public BeanAggregator<E> add(E[] beans) {
+			if(beans != null && beans.length > 0) {
+				this.ensureCapacity(beans.length);
+				for(E bean : beans) {
+					if(bean != null) {
+						this.aggregate[this.size++] = bean;
+					}
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * <p>
+		 * Makes sure the aggregate can hold the specified number of additional beans.
+		 * </p>
+		 * 
+		 * @param count the number of beans to add
+		 */
+		private void ensureCapacity(int count) {
+			int minCapacity = this.size + count;
+			if(minCapacity > this.aggregate.length) {
+				this.aggregate = Arrays.copyOf(this.aggregate, Math.max(minCapacity, this.aggregate.length + (this.aggregate.length >> 1)));
+			}
+		}
+
+		/**
+		 * <p>
+		 * Returns the aggregated beans in an array whose length is the number of beans.
 		 * </p>
 		 * 
-		 * @param beans the beans to add.
-		 * 
-		 * @return the aggregator instance.
+		 * @return an array of beans
 		 */
-		public BeanAggregator<E> add(E[] beans) {
-			if(beans != null) {
-				this.aggregate.addAll(Arrays.asList(beans));
-			}
-			return this;
+		private Object[] trimmedAggregate() {
+			return this.size == this.aggregate.length ? this.aggregate : Arrays.copyOf(this.aggregate, this.size);
 		}
 
 		/**
 		 * <p>
-		 * Filters null beans and returns a list representation of the aggregate.
+		 * Returns an unmodifiable list representation of the aggregate.
 		 * </p>
 		 * 
 		 * @return a list of beans
 		 */
+		@SuppressWarnings("unchecked")
 		public List<E> toList() {
-			return this.aggregate.stream().filter(Objects::nonNull).collect(Collectors.toList());
+			if(this.size == 0) {
+				return List.of();
+			}
+			return (List<E>)Collections.unmodifiableList(Arrays.asList(this.trimmedAggregate()));
 		}
 		
 		/**
 		 * <p>
-		 * Filters null beans and returns a list representation of the aggregate or an empty optional if the aggregate is empty.
+		 * Returns an unmodifiable list representation of the aggregate or an empty optional if the aggregate is empty.
 		 * </p>
 		 * 
 		 * @return an optional containing the aggregate as a list or an empty optional
 		 */
 		public Optional<List<E>> toOptionalList() {
-			return Optional.of(this.aggregate.stream().filter(Objects::nonNull).collect(Collectors.toList())).filter(list -> !list.isEmpty());
+			return this.size == 0 ? Optional.empty() : Optional.of(this.toList());
 		}
 
 		/**
 		 * <p>
-		 * Filters null beans and returns a set representation of the aggregate.
+		 * Returns an unmodifiable set representation of the aggregate.
 		 * </p>
 		 * 
 		 * @return a set of beans
 		 */
+		@SuppressWarnings("unchecked")
 		public Set<E> toSet() {
-			return this.aggregate.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+			if(this.size == 0) {
+				return Set.of();
+			}
+			Set<E> set = HashSet.newHashSet(this.size);
+			for(int i = 0; i < this.size; i++) {
+				set.add((E)this.aggregate[i]);
+			}
+			return Collections.unmodifiableSet(set);
 		}
 
 		/**
 		 * <p>
-		 * Filters null beans and returns a set representation of the aggregate or an empty optional if the aggregate is empty.
+		 * Returns an unmodifiable set representation of the aggregate or an empty optional if the aggregate is empty.
 		 * </p>
 		 * 
 		 * @return an optional containing the aggregate as a set or an empty optional
 		 */
 		public Optional<Set<E>> toOptionalSet() {
-			return Optional.of(this.aggregate.stream().filter(Objects::nonNull).collect(Collectors.toSet())).filter(set -> !set.isEmpty());
+			return this.size == 0 ? Optional.empty() : Optional.of(this.toSet());
 		}
 		
 		/**
 		 * <p>
-		 * Filters null beans and returns an array representation of the aggregate.
+		 * Returns an array representation of the aggregate.
 		 * </p>
 		 *
 		 * @param generator a function which produces a new array of the desired type and the provided length
@@ -418,12 +1332,14 @@ public abstract class Module {
 		 * @return an array of beans
 		 */
 		public E[] toArray(IntFunction<E[]> generator) {
-			return this.aggregate.stream().filter(Objects::nonNull).toArray(generator);
+			E[] array = generator.apply(this.size);
+			System.arraycopy(this.aggregate, 0, array, 0, this.size);
+			return array;
 		}
 		
 		/**
 		 * <p>
-		 * Filters null beans and returns an array representation of the aggregate or an empty optional if the aggregate is empty.
+		 * Returns an array representation of the aggregate or an empty optional if the aggregate is empty.
 		 * </p>
 		 * 
 		 * @param generator a function which produces a new array of the desired type and the provided length
@@ -431,7 +1347,7 @@ public abstract class Module {
 		 * @return an optional containing the aggregate as an array or an empty optional
 		 */
 		public Optional<E[]> toOptionalArray(IntFunction<E[]> generator) {
-			return Optional.of(this.aggregate.stream().filter(Objects::nonNull).toArray(generator)).filter(array -> array.length > 0);
+			return this.size == 0 ? Optional.empty() : Optional.of(this.toArray(generator));
 		}
 	}
 
@@ -575,6 +1491,21 @@ public abstract class Module {
 		 */
 		protected String name;
 
+		/**
+		 * The beans in the enclosing module this bean depends on, null if unknown.
+		 */
+		Bean<?>[] beanDependencies;
+
+		/**
+		 * The component modules this bean depends on.
+		 */
+		private Module[] moduleDependencies;
+
+		/**
+		 * The bean metrics, null if the module MBeans are not registered.
+		 */
+		BeanMetrics metrics;
+
 		/**
 		 * <p>
 		 * Creates a bean with the specified name.
@@ -600,17 +1531,35 @@ public abstract class Module {
 		 */
 		@Override
 		public final T get() throws IllegalStateException {
-			if (!this.parent.isActive()) {
-				if(this.parent.isSuperActive()) {
-					this.parent.start();
-				}
-				else {
-					throw new IllegalArgumentException("Module " + this.parent.getName() + " is inactive.");
-				}
+			if (!this.parent.active) {
+				this.activateParent();
+			}
+			if (this.metrics != null) {
+				this.metrics.requested();
 			}
 			return this.doGet();
 		}
 
+		/**
+		 * <p>
+		 * Starts the enclosing module when one of its ancestors is active.
+		 * </p>
+		 *
+		 * <p>
+		 * This is kept out of {@link #get()} so that the accessor fast path remains small enough to be inlined.
+		 * </p>
+		 *
+		 * @throws IllegalStateException if the enclosing module is inactive and not part of a module initialization process.
+		 */
+		private void activateParent() throws IllegalStateException {
+			if(this.parent.isSuperActive()) {
+				this.parent.startOnDemand();
+			}
+			else {
+				throw new IllegalArgumentException("Module " + this.parent.getName() + " is inactive.");
+			}
+		}
+
 		/**
 		 * <p>
 		 * Returns the supplied bean instance.
@@ -633,6 +1582,118 @@ public abstract class Module {
 		 * </p>
 		 */
 		public abstract void destroy();
+
+		/**
+		 * <p>
+		 * Returns the pending asynchronous initialization of the underlying instance.
+		 * </p>
+		 *
+		 * @return null if the underlying instance is initialized or a future which completes once it is initialized
+		 */
+		CompletableFuture<Void> initialization() {
+			return null;
+		}
+
+		/**
+		 * <p>
+		 * Destroys the underlying instance without waiting for asynchronous destruction operations to complete.
+		 * </p>
+		 *
+		 * @return null if the underlying instance has been destroyed or a future which completes once it is destroyed
+		 */
+		CompletableFuture<Void> destroyAsync() {
+			this.destroy();
+			return null;
+		}
+
+		/**
+		 * <p>
+		 * Determines whether the bean is lazy.
+		 * </p>
+		 *
+		 * <p>
+		 * A lazy bean is not created when the module is started but the first time it is requested.
+		 * </p>
+		 *
+		 * @return true if the bean is lazy, false otherwise
+		 */
+		boolean isLazy() {
+			return false;
+		}
+
+		/**
+		 * <p>
+		 * Notifies the bean lifecycle listener, if any, that the bean is being created.
+		 * </p>
+		 *
+		 * @param overridden true if the bean instance is provided by an override, false otherwise
+		 *
+		 * @since 1.7
+		 */
+		final void creating(boolean overridden) {
+			BeanLifecycleListener listener = this.parent.getBeanLifecycleListener();
+			if(listener != null) {
+				listener.beanCreating(this.parent.getName(), this.name, this.getStrategy(), overridden);
+			}
+		}
+
+		/**
+		 * <p>
+		 * Notifies the bean lifecycle listener, if any, that an initialization method failed on an instance of the bean.
+		 * </p>
+		 *
+		 * @param error the initialization error
+		 *
+		 * @since 1.7
+		 */
+		final void initFailed(Throwable error) {
+			BeanLifecycleListener listener = this.parent.getBeanLifecycleListener();
+			if(listener != null) {
+				listener.beanInitFailed(this.parent.getName(), this.name, error);
+			}
+		}
+
+		/**
+		 * <p>
+		 * Notifies the bean lifecycle listener, if any, that a destroy method failed on an instance of the bean.
+		 * </p>
+		 *
+		 * @param error the destruction error
+		 *
+		 * @since 1.7
+		 */
+		final void destroyFailed(Throwable error) {
+			BeanLifecycleListener listener = this.parent.getBeanLifecycleListener();
+			if(listener != null) {
+				listener.beanDestroyFailed(this.parent.getName(), this.name, error);
+			}
+		}
+
+		/**
+		 * <p>
+		 * Returns the name of the strategy of the bean as reported in lifecycle events.
+		 * </p>
+		 *
+		 * @return the bean strategy or null if unknown
+		 *
+		 * @since 1.7
+		 */
+		String getStrategy() {
+			return null;
+		}
+
+		/**
+		 * <p>
+		 * Returns the number of instances issued by the bean which are tracked in order to be destroyed when the module is stopped.
+		 * </p>
+		 *
+		 * @return a number of instances or -1 if the bean does not track the instances it issues
+		 *
+		 * @since 1.7
+		 */
+		int getTrackedInstanceCount() {
+			return -1;
+		}
 	}
 
 	/**
@@ -680,6 +1741,33 @@ public abstract class Module {
 			void accept(T t) throws Exception;
 		}
 		
+		/**
+		 * <p>
+		 * Fallible asynchronous consumer used to designates init and destroy methods returning a {@link CompletionStage} which completes once the operation is complete.
+		 * </p>
+		 *
+		 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+		 * @since 1.7
+		 *
+		 * @param <T> the type of the input to the operation
+		 */
+		@FunctionalInterface
+		interface FallibleAsyncConsumer<T> {
+			
+			/**
+			 * <p>
+			 * Starts this operation on the given argument.
+			 * </p>
+			 *
+			 * @param t the input argument
+			 *
+			 * @return a completion stage which completes once the operation is complete
+			 * 
+			 * @throws Exception if something goes wrong starting the operation
+			 */
+			CompletionStage<?> accept(T t) throws Exception;
+		}
+		
 		/**
 		 * <p>
 		 * Adds a bean initialization operation.
@@ -690,6 +1778,24 @@ public abstract class Module {
 		 * @return this builder
 		 */
 		B init(FallibleConsumer<T> init);
+		
+		/**
+		 * <p>
+		 * Adds an asynchronous bean initialization operation.
+		 * </p>
+		 * 
+		 * <p>
+		 * Singleton module beans do not wait for the operation to complete when creating the bean instance, the instance is only returned to dependent beans once the operation has completed.
+		 * Initialization operations added after an asynchronous operation are executed once it completes. Other beans wait for the operation to complete when the bean instance is created.
+		 * </p>
+		 * 
+		 * @param init the asynchronous bean initialization operation.
+		 * 
+		 * @return this builder
+		 * 
+		 * @since 1.7
+		 */
+		B initAsync(FallibleAsyncConsumer<T> init);
 
 		/**
 		 * <p>
@@ -701,6 +1807,24 @@ public abstract class Module {
 		 * @return this builder
 		 */
 		B destroy(FallibleConsumer<T> destroy);
+		
+		/**
+		 * <p>
+		 * Adds an asynchronous bean destruction operation.
+		 * </p>
+		 * 
+		 * <p>
+		 * Singleton module beans do not wait for the operation to complete when destroying the bean instance, the module only waits for it before destroying the beans the bean depends on. Other beans
+		 * wait for the operation to complete when the bean instance is destroyed.
+		 * </p>
+		 * 
+		 * @param destroy the asynchronous bean destruction operation.
+		 * 
+		 * @return this builder
+		 * 
+		 * @since 1.7
+		 */
+		B destroyAsync(FallibleAsyncConsumer<T> destroy);
 	}
 	
 	/**
@@ -751,6 +1875,27 @@ public abstract class Module {
 		static <T> ModuleBeanBuilder<T, T> singleton(String beanName, Supplier<T> constructor) {
 			return new SingletonModuleBeanBuilder<>(beanName, constructor);
 		}
+
+		/**
+		 * <p>
+		 * Returns a lazy singleton module bean builder.
+		 * </p>
+		 *
+		 * <p>
+		 * Lazy singleton {@link Bean}s are not created when the module is started unless another bean requires them but the first time they are requested.
+		 * </p>
+		 *
+		 * @param <T>         the type of the bean to build
+		 * @param beanName    the bean name
+		 * @param constructor the bean instance supplier
+		 *
+		 * @return a lazy singleton Bean Builder
+		 *
+		 * @since 1.7
+		 */
+		static <T> ModuleBeanBuilder<T, T> lazySingleton(String beanName, Supplier<T> constructor) {
+			return new SingletonModuleBeanBuilder<>(beanName, constructor, true);
+		}
 		
 		/**
 		 * <p>
@@ -770,6 +1915,54 @@ public abstract class Module {
 		static <T> ModuleBeanBuilder<T, T> prototype(String beanName, Supplier<T> constructor) {
 			return new PrototypeModuleBeanBuilder<>(beanName, constructor);
 		}
+
+		/**
+		 * <p>
+		 * Returns a pooled module bean builder.
+		 * </p>
+		 *
+		 * <p>
+		 * Pooled {@link Bean}s are useful when a bounded number of reusable instances of a bean should be shared through the application, dependent beans being injected with a {@link BeanPool}
+		 * from which they borrow instances.
+		 * </p>
+		 *
+		 * @param <T>         the type of the bean to build
+		 * @param beanName    the bean name
+		 * @param minSize     the minimum size of the pool
+		 * @param maxSize     the maximum size of the pool, twice the number of available processors when negative or zero
+		 * @param idleTimeout the time in milliseconds after which an idle instance is evicted from the pool, idle instances are never evicted when negative or zero
+		 * @param overflow    true to create an overflow instance, destroyed as soon as it is returned, when all pooled instances are borrowed, false to fail borrowing from an exhausted pool
+		 * @param constructor the bean instance supplier
+		 *
+		 * @return a pooled Bean Builder
+		 *
+		 * @since 1.7
+		 */
+		static <T> ModuleBeanBuilder<BeanPool<T>, T> pooled(String beanName, int minSize, int maxSize, long idleTimeout, boolean overflow, Supplier<T> constructor) {
+			return new PooledModuleBeanBuilder<>(beanName, minSize, maxSize, idleTimeout, overflow, constructor);
+		}
+
+		/**
+		 * <p>
+		 * Returns a thread module bean builder.
+		 * </p>
+		 *
+		 * <p>
+		 * Thread {@link Bean}s are useful when instances of a bean are cheap to use but expensive to synchronize, dependent beans being injected with a {@link ThreadLocalBean} which provides a
+		 * distinct instance per thread.
+		 * </p>
+		 *
+		 * @param <T>         the type of the bean to build
+		 * @param beanName    the bean name
+		 * @param constructor the bean instance supplier
+		 *
+		 * @return a thread Bean Builder
+		 *
+		 * @since 1.7
+		 */
+		static <T> ModuleBeanBuilder<ThreadLocalBean<T>, T> thread(String beanName, Supplier<T> constructor) {
+			return new ThreadModuleBeanBuilder<>(beanName, constructor);
+		}
 		
 		/**
 		 * <p>
@@ -849,6 +2042,28 @@ public abstract class Module {
 			return new SingletonWrapperBeanBuilder<>(beanName, constructor);
 		}
 
+		/**
+		 * <p>
+		 * Returns a lazy singleton wrapper bean builder.
+		 * </p>
+		 *
+		 * <p>
+		 * Lazy singleton {@link Bean}s are not created when the module is started unless another bean requires them but the first time they are requested.
+		 * </p>
+		 *
+		 * @param <T>         the type of the bean to build
+		 * @param <W>         the bean wrapper which supplies the bean instance
+		 * @param beanName    the bean name
+		 * @param constructor the bean instance supplier
+		 *
+		 * @return a lazy singleton Bean Builder
+		 *
+		 * @since 1.7
+		 */
+		static <T, W extends Supplier<T>> WrapperBeanBuilder<T, T, W> lazySingleton(String beanName, Supplier<W> constructor) {
+			return new SingletonWrapperBeanBuilder<>(beanName, constructor, true);
+		}
+
 		/**
 		 * <p>
 		 * Returns a prototype wrapper bean builder.
@@ -868,6 +2083,79 @@ public abstract class Module {
 		static <T, W extends Supplier<T>> WrapperBeanBuilder<T, T, W> prototype(String beanName, Supplier<W> constructor) {
 			return new PrototypeWrapperBeanBuilder<>(beanName, constructor);
 		}
+
+		/**
+		 * <p>
+		 * Returns a cleanable prototype wrapper bean builder.
+		 * </p>
+		 *
+		 * <p>
+		 * Cleanable prototype {@link Bean}s are useful when distinct instances of a bean should be injected though the application and when the resources held by the wrapper of an instance must be
+		 * released as soon as the instance is reclaimed by the garbage collector.
+		 * </p>
+		 *
+		 * @param <T>         the type of the bean to build
+		 * @param <W>         the bean wrapper which supplies the bean instance
+		 * @param beanName    the bean name
+		 * @param constructor the bean instance supplier
+		 *
+		 * @return a cleanable prototype Bean Builder
+		 *
+		 * @since 1.7
+		 */
+		static <T, W extends Supplier<T>> WrapperBeanBuilder<T, T, W> cleanablePrototype(String beanName, Supplier<W> constructor) {
+			return new CleanablePrototypeWrapperBeanBuilder<>(beanName, constructor);
+		}
+
+		/**
+		 * <p>
+		 * Returns a pooled wrapper bean builder.
+		 * </p>
+		 *
+		 * <p>
+		 * Pooled {@link Bean}s are useful when a bounded number of reusable instances of a bean should be shared through the application, dependent beans being injected with a {@link BeanPool}
+		 * from which they borrow instances.
+		 * </p>
+		 *
+		 * @param <T>         the type of the bean to build
+		 * @param <W>         the bean wrapper which supplies the bean instance
+		 * @param beanName    the bean name
+		 * @param minSize     the minimum size of the pool
+		 * @param maxSize     the maximum size of the pool, twice the number of available processors when negative or zero
+		 * @param idleTimeout the time in milliseconds after which an idle instance is evicted from the pool, idle instances are never evicted when negative or zero
+		 * @param overflow    true to create an overflow instance, destroyed as soon as it is returned, when all pooled instances are borrowed, false to fail borrowing from an exhausted pool
+		 * @param constructor the bean instance supplier
+		 *
+		 * @return a pooled Bean Builder
+		 *
+		 * @since 1.7
+		 */
+		static <T, W extends Supplier<T>> WrapperBeanBuilder<BeanPool<T>, T, W> pooled(String beanName, int minSize, int maxSize, long idleTimeout, boolean overflow, Supplier<W> constructor) {
+			return new PooledWrapperBeanBuilder<>(beanName, minSize, maxSize, idleTimeout, overflow, constructor);
+		}
+
+		/**
+		 * <p>
+		 * Returns a thread wrapper bean builder.
+		 * </p>
+		 *
+		 * <p>
+		 * Thread {@link Bean}s are useful when instances of a bean are cheap to use but expensive to synchronize, dependent beans being injected with a {@link ThreadLocalBean} which provides a
+		 * distinct instance per thread.
+		 * </p>
+		 *
+		 * @param <T>         the type of the bean to build
+		 * @param <W>         the bean wrapper which supplies the bean instance
+		 * @param beanName    the bean name
+		 * @param constructor the bean instance supplier
+		 *
+		 * @return a thread Bean Builder
+		 *
+		 * @since 1.7
+		 */
+		static <T, W extends Supplier<T>> WrapperBeanBuilder<ThreadLocalBean<T>, T, W> thread(String beanName, Supplier<W> constructor) {
+			return new ThreadWrapperBeanBuilder<>(beanName, constructor);
+		}
 		
 		/**
 		 * <p>
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.List;
+
+/**
+ * <p>
+ * A module lifecycle listener is notified when a module is started and stopped.
+ * </p>
+ *
+ * <p>
+ * The listener registered on a module is also notified of the lifecycle of its component modules. No work is done to report lifecycle events when no listener is registered.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Module#setModuleLifecycleListener(ModuleLifecycleListener)
+ * @see LoggingLifecycleListener
+ */
+public interface ModuleLifecycleListener {
+
+	/**
+	 * <p>
+	 * Invoked when a module is starting.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module
+	 */
+	default void moduleStarting(String moduleName) {
+
+	}
+
+	/**
+	 * <p>
+	 * Invoked when a module has started.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module
+	 * @param duration   the time it took to start the module in nanoseconds
+	 */
+	default void moduleStarted(String moduleName, long duration) {
+
+	}
+
+	/**
+	 * <p>
+	 * Invoked when a module is stopping.
+	 * </p>
+	 *
+	 * @param moduleName the name of the module
+	 */
+	default void moduleStopping(String moduleName) {
+
+	}
+
+	/**
+	 * <p>
+	 * Invoked when a module has stopped.
+	 * </p>
+	 *
+	 * @param moduleName   the name of the module
+	 * @param duration     the time it took to stop the module in nanoseconds
+	 * @param notDestroyed the names of the beans which have not been destroyed
+	 */
+	default void moduleStopped(String moduleName, long duration, List<String> notDestroyed) {
+
+	}
+}
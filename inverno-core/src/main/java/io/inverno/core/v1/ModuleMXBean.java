@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Management interface exposing the state of a module over JMX.
+ * </p>
+ *
+ * <p>
+ * A module MXBean is registered for a module and each of its component modules when the module MBeans are registered, it is named
+ * {@code io.inverno.core:type=Module,name=<module name>}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Module#registerMBeans(javax.management.MBeanServer)
+ */
+public interface ModuleMXBean {
+
+	/**
+	 * <p>
+	 * Returns the name of the module.
+	 * </p>
+	 *
+	 * @return a module name
+	 */
+	String getName();
+
+	/**
+	 * <p>
+	 * Determines whether the module is active.
+	 * </p>
+	 *
+	 * @return true if the module is active, false otherwise
+	 */
+	boolean isActive();
+
+	/**
+	 * <p>
+	 * Returns the names of the component modules of the module.
+	 * </p>
+	 *
+	 * @return a list of module names
+	 */
+	List<String> getModules();
+
+	/**
+	 * <p>
+	 * Returns the names of the beans of the module.
+	 * </p>
+	 *
+	 * @return a list of bean names
+	 */
+	List<String> getBeans();
+
+	/**
+	 * <p>
+	 * Returns the number of beans of the module which have been created and not destroyed yet.
+	 * </p>
+	 *
+	 * @return a number of beans
+	 */
+	int getCreatedBeanCount();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>
+ * JFR event recording the shutdown of a module including the destruction of its beans and the shutdown of its component modules.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ */
+@Name("io.inverno.core.ModuleStop")
+@Label("Module Stop")
+@Description("Shutdown of a module")
+@Category({ "Inverno", "Core" })
+@StackTrace(false)
+final class ModuleStopEvent extends Event {
+
+	/**
+	 * The module name.
+	 */
+	@Label("Module")
+	String moduleName;
+
+	/**
+	 * The number of beans which have not been destroyed.
+	 */
+	@Label("Beans Not Destroyed")
+	int notDestroyed;
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A pooled module {@link Bean} implementation.
+ * </p>
+ *
+ * <p>
+ * A pooled module bean provides a single {@link BeanPool} for the whole application from which dependent beans borrow bean instances. Instances are created and initialized when they are added to the
+ * pool and destroyed when they are evicted from the pool or when the bean is destroyed.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Bean
+ * @see GenericBeanPool
+ * @see PooledModuleBeanBuilder
+ *
+ * @param <P> the type of pool provided by the bean
+ * @param <T> the actual type of the pooled instances
+ */
+abstract class PooledModuleBean<P, T> extends Bean<P> {
+
+	protected final int minSize;
+
+	protected final int maxSize;
+
+	protected final long idleTimeout;
+
+	protected final boolean overflow;
+
+	protected final Optional<Supplier<P>> override;
+
+	/**
+	 * The pool provided by the bean.
+	 */
+	private volatile P pool;
+
+	/**
+	 * <p>
+	 * Creates a pooled module bean with the specified name.
+	 * </p>
+	 *
+	 * @param name        the bean name
+	 * @param minSize     the minimum size of the pool
+	 * @param maxSize     the maximum size of the pool
+	 * @param idleTimeout the idle timeout in milliseconds
+	 * @param overflow    true to create overflow instances when the pool is exhausted, false to fail
+	 * @param override    An optional override
+	 */
+	public PooledModuleBean(String name, int minSize, int maxSize, long idleTimeout, boolean overflow, Optional<Supplier<P>> override) {
+		super(name);
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.idleTimeout = idleTimeout;
+		this.overflow = overflow;
+		this.override = override;
+	}
+
+	@Override
+	String getStrategy() {
+		return "POOLED";
+	}
+
+	/**
+	 * <p>
+	 * Creates the pooled bean.
+	 * </p>
+	 *
+	 * <p>
+	 * This method creates the pool and fills it with the minimum number of instances, instance creation being delegated to the {@link #createInstance()} method.
+	 * </p>
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void create() {
+		if (this.pool == null) {
+			synchronized(this) {
+				if (this.pool == null) {
+					this.creating(this.override.isPresent());
+					BeanCreateEvent event = new BeanCreateEvent();
+					event.begin();
+					StartupProfiler.Recording recording = StartupProfiler.record(this);
+					try {
+						this.pool = this.override.map(Supplier::get).orElseGet(() -> (P)new GenericBeanPool<>(this.minSize, this.maxSize, this.idleTimeout, this.overflow, this::createInstance, Function.identity(), this::destroyInstance));
+					}
+					finally {
+						if(recording != null) {
+							recording.close();
+						}
+						event.commit(this);
+					}
+					this.parent.recordBean(this);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the bean pool.
+	 * </p>
+	 *
+	 * @return the bean pool
+	 */
+	@Override
+	public final P doGet() {
+		P current = this.pool;
+		if(current != null) {
+			return current;
+		}
+		this.create();
+		return this.pool;
+	}
+
+	/**
+	 * <p>
+	 * Destroys the pooled bean and as a result all the instances created by the pool that haven't been destroyed yet.
+	 * </p>
+	 *
+	 * <p>
+	 * This method delegates bean instance destruction to the {@link #destroyInstance(Object)} method.
+	 * </p>
+	 */
+	@Override
+	public final void destroy() {
+		synchronized(this) {
+			if (this.pool != null) {
+				if(this.override.isEmpty()) {
+					((GenericBeanPool<?, ?>)this.pool).close();
+				}
+				this.pool = null;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Creates a bean instance.
+	 * </p>
+	 *
+	 * @return a bean instance
+	 */
+	protected abstract T createInstance();
+
+	/**
+	 * <p>
+	 * Destroys the specified bean instance.
+	 * </p>
+	 *
+	 * @param instance the instance to destroy
+	 */
+	protected abstract void destroyInstance(T instance);
+}
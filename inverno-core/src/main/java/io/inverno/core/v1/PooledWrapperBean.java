@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A pooled wrapper {@link Bean} implementation.
+ * </p>
+ *
+ * <p>
+ * As for {@link PooledModuleBean}, a single {@link BeanPool} is provided for the whole application, pooled elements are wrapper instances which are created and initialized when they are added to the
+ * pool and destroyed when they are evicted from the pool or when the bean is destroyed. The instance provided by a wrapper is obtained once when the wrapper is added to the pool.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Bean
+ * @see GenericBeanPool
+ * @see PooledWrapperBeanBuilder
+ *
+ * @param <P> the type of pool provided by the bean
+ * @param <W> the type of the wrapper bean
+ * @param <T> the actual type of the pooled instances
+ */
+abstract class PooledWrapperBean<P, W extends Supplier<T>, T> extends Bean<P> {
+
+	protected final int minSize;
+
+	protected final int maxSize;
+
+	protected final long idleTimeout;
+
+	protected final boolean overflow;
+
+	protected final Optional<Supplier<P>> override;
+
+	/**
+	 * The pool provided by the bean.
+	 */
+	private volatile P pool;
+
+	/**
+	 * <p>
+	 * Creates a pooled wrapper bean with the specified name.
+	 * </p>
+	 *
+	 * @param name        the bean name
+	 * @param minSize     the minimum size of the pool
+	 * @param maxSize     the maximum size of the pool
+	 * @param idleTimeout the idle timeout in milliseconds
+	 * @param overflow    true to create overflow instances when the pool is exhausted, false to fail
+	 * @param override    An optional override
+	 */
+	public PooledWrapperBean(String name, int minSize, int maxSize, long idleTimeout, boolean overflow, Optional<Supplier<P>> override) {
+		super(name);
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.idleTimeout = idleTimeout;
+		this.overflow = overflow;
+		this.override = override;
+	}
+
+	@Override
+	String getStrategy() {
+		return "POOLED";
+	}
+
+	/**
+	 * <p>
+	 * Creates the pooled bean.
+	 * </p>
+	 *
+	 * <p>
+	 * This method creates the pool and fills it with the minimum number of instances, wrapper creation being delegated to the {@link #createWrapper()} method.
+	 * </p>
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void create() {
+		if (this.pool == null) {
+			synchronized(this) {
+				if (this.pool == null) {
+					this.creating(this.override.isPresent());
+					BeanCreateEvent event = new BeanCreateEvent();
+					event.begin();
+					StartupProfiler.Recording recording = StartupProfiler.record(this);
+					try {
+						this.pool = this.override.map(Supplier::get).orElseGet(() -> (P)new GenericBeanPool<W, T>(this.minSize, this.maxSize, this.idleTimeout, this.overflow, this::createWrapper, Supplier::get, this::destroyWrapper));
+					}
+					finally {
+						if(recording != null) {
+							recording.close();
+						}
+						event.commit(this);
+					}
+					this.parent.recordBean(this);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the bean pool.
+	 * </p>
+	 *
+	 * @return the bean pool
+	 */
+	@Override
+	public final P doGet() {
+		P current = this.pool;
+		if(current != null) {
+			return current;
+		}
+		this.create();
+		return this.pool;
+	}
+
+	/**
+	 * <p>
+	 * Destroys the pooled bean and as a result all the wrapper instances created by the pool that haven't been destroyed yet.
+	 * </p>
+	 *
+	 * <p>
+	 * This method delegates wrapper instance destruction to the {@link #destroyWrapper(Supplier)} method.
+	 * </p>
+	 */
+	@Override
+	public final void destroy() {
+		synchronized(this) {
+			if (this.pool != null) {
+				if(this.override.isEmpty()) {
+					((GenericBeanPool<?, ?>)this.pool).close();
+				}
+				this.pool = null;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Creates a wrapper instance.
+	 * </p>
+	 *
+	 * @return a wrapper instance
+	 */
+	protected abstract W createWrapper();
+
+	/**
+	 * <p>
+	 * Destroys the specified wrapper instance.
+	 * </p>
+	 *
+	 * @param wrapper the wrapper instance to destroy
+	 */
+	protected abstract void destroyWrapper(W wrapper);
+}
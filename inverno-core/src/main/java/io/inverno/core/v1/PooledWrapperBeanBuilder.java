@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import io.inverno.core.v1.Module.BeanBuilder;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Pooled wrapper {@link BeanBuilder} implementation.
+ * </p>
+ *
+ * <p>
+ * A {@link PooledWrapperBeanBuilder} must be used to create pooled beans using a wrapper, when a bounded number of reusable bean instances must be shared by dependent beans through a
+ * {@link BeanPool}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see BeanBuilder
+ * @see Bean
+ * @see PooledWrapperBean
+ *
+ * @param <P> the type provided by the bean (ie. the pool type)
+ * @param <W> the type of the wrapper bean
+ * @param <T> the actual type of the bean
+ */
+class PooledWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractWrapperBeanBuilder<P, T, W> {
+
+	/**
+	 * The minimum size of the pool.
+	 */
+	private final int minSize;
+
+	/**
+	 * The maximum size of the pool.
+	 */
+	private final int maxSize;
+
+	/**
+	 * The idle timeout in milliseconds.
+	 */
+	private final long idleTimeout;
+
+	/**
+	 * Indicates whether overflow instances are created when the pool is exhausted.
+	 */
+	private final boolean overflow;
+
+	/**
+	 * <p>
+	 * Creates a pooled wrapper bean builder with the specified bean name, pool configuration and constructor.
+	 * </p>
+	 *
+	 * @param beanName    the bean name
+	 * @param minSize     the minimum size of the pool
+	 * @param maxSize     the maximum size of the pool
+	 * @param idleTimeout the idle timeout in milliseconds
+	 * @param overflow    true to create overflow instances when the pool is exhausted, false to fail
+	 * @param constructor the bean constructor
+	 */
+	public PooledWrapperBeanBuilder(String beanName, int minSize, int maxSize, long idleTimeout, boolean overflow, Supplier<W> constructor) {
+		super(beanName, constructor);
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.idleTimeout = idleTimeout;
+		this.overflow = overflow;
+	}
+
+	/**
+	 * <p>
+	 * Creates an overridable pooled wrapper bean builder.
+	 * </p>
+	 *
+	 * @param overriddenBuilder the overridden pooled wrapper bean builder
+	 * @param override          the override
+	 */
+	public PooledWrapperBeanBuilder(PooledWrapperBeanBuilder<?, T, W> overriddenBuilder, Optional<Supplier<P>> override) {
+		super(overriddenBuilder, override);
+		this.minSize = overriddenBuilder.minSize;
+		this.maxSize = overriddenBuilder.maxSize;
+		this.idleTimeout = overriddenBuilder.idleTimeout;
+		this.overflow = overriddenBuilder.overflow;
+	}
+
+	@Override
+	public <U> Module.WrapperBeanBuilder<U, T, W> override(Optional<Supplier<U>> override) {
+		return new PooledWrapperBeanBuilder<>(this, override);
+	}
+
+	/**
+	 * <p>
+	 * Builds the bean.
+	 * </p>
+	 *
+	 * @return a pooled bean
+	 */
+	@Override
+	public Bean<P> build() {
+		return new PooledWrapperBean<P, W, T>(this.beanName, this.minSize, this.maxSize, this.idleTimeout, this.overflow, this.override) {
+
+			@Override
+			protected W createWrapper() {
+				W wrapper = construct(this);
+				if(inits != null) {
+					inits.forEach(init -> {
+						try {
+							invokeInit(this, init, wrapper);
+						}
+						catch (Exception e) {
+							this.initFailed(e);
+							throw new RuntimeException("Error initializing bean " + name, e);
+						}
+					});
+				}
+				return wrapper;
+			}
+
+			@Override
+			protected void destroyWrapper(W wrapper) {
+				if(destroys != null) {
+					destroys.forEach(destroy -> {
+						try {
+							invokeDestroy(this, destroy, wrapper);
+						} catch (Exception e) {
+							this.destroyFailed(e);
+						}
+					});
+				}
+			}
+		};
+	}
+}
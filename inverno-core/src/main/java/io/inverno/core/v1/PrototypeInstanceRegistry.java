@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * A registry that weakly tracks the instances issued by a prototype bean in order to destroy the ones that are still reachable when the bean is destroyed.
+ * </p>
+ *
+ * <p>
+ * Instances are registered in stripes selected from the identifier of the registering thread, a stripe being locked only when a reference is added or removed, so that threads requesting instances
+ * concurrently do not contend on a single lock. References to instances that were garbage collected are expunged in small batches on registration which keeps the number of stale references
+ * bounded under churn without making any registration pay for a full cleanup.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ * @see PrototypeWeakModuleBean
+ * @see PrototypeWeakWrapperBean
+ *
+ * @param <T> the type of instance
+ * @param <V> the type of value associated to an instance
+ */
+final class PrototypeInstanceRegistry<T, V> {
+
+	/**
+	 * The maximum number of stripes.
+	 */
+	private static final int MAX_STRIPES = 64;
+
+	/**
+	 * The maximum number of stale references expunged on registration.
+	 */
+	private static final int EXPUNGE_BATCH_SIZE = 32;
+
+	/**
+	 * The number of stripes: the number of available processors rounded to the next power of two.
+	 */
+	private static final int STRIPES = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+
+	/**
+	 * The queue where references are enqueued when instances are garbage collected.
+	 */
+	private final ReferenceQueue<T> referenceQueue;
+
+	/**
+	 * The stripes.
+	 */
+	private final Stripe<T, V>[] stripes;
+
+	/**
+	 * <p>
+	 * Creates a prototype instance registry.
+	 * </p>
+	 */
+	public PrototypeInstanceRegistry() {
+		this.referenceQueue = new ReferenceQueue<>();
+		@SuppressWarnings("unchecked")
+		Stripe<T, V>[] stripes = (Stripe<T, V>[])new Stripe<?, ?>[STRIPES];
+		for(int i = 0; i < stripes.length; i++) {
+			stripes[i] = new Stripe<>();
+		}
+		this.stripes = stripes;
+	}
+
+	/**
+	 * <p>
+	 * Registers an instance.
+	 * </p>
+	 *
+	 * <p>
+	 * The instance is weakly referenced whereas the associated value, if any, is strongly referenced until the instance is garbage collected.
+	 * </p>
+	 *
+	 * <p>
+	 * A null instance can't be tracked since it is never garbage collected, it must not be registered.
+	 * </p>
+	 *
+	 * @param instance the instance to register
+	 * @param value    a value associated to the instance or null
+	 */
+	public void register(T instance, V value) {
+		this.expungeStaleReferences();
+		long threadId = Thread.currentThread().threadId();
+		Stripe<T, V> stripe = this.stripes[(int)(threadId ^ (threadId >>> 32)) & (this.stripes.length - 1)];
+		stripe.add(new InstanceReference<>(instance, value, stripe, this.referenceQueue));
+	}
+
+	/**
+	 * <p>
+	 * Removes all registered instances and invokes the specified destroyer on the ones that were not garbage collected.
+	 * </p>
+	 *
+	 * <p>
+	 * The destroyer is invoked outside of any lock.
+	 * </p>
+	 *
+	 * @param destroyer the destroyer to invoke with reachable instances and their associated values
+	 */
+	public void destroy(BiConsumer<T, V> destroyer) {
+		for(Stripe<T, V> stripe : this.stripes) {
+			for(InstanceReference<T, V> reference : stripe.removeAll()) {
+				T instance = reference.get();
+				if(instance != null) {
+					destroyer.accept(instance, reference.value);
+				}
+				reference.clear();
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the number of registered instances that have not been garbage collected.
+	 * </p>
+	 *
+	 * <p>
+	 * All stale references are expunged before counting, the result is an estimate when instances are registered concurrently.
+	 * </p>
+	 *
+	 * @return the number of tracked instances
+	 */
+	@SuppressWarnings("unchecked")
+	public int size() {
+		InstanceReference<T, V> reference;
+		while((reference = (InstanceReference<T, V>)this.referenceQueue.poll()) != null) {
+			reference.stripe.remove(reference);
+		}
+		int size = 0;
+		for(Stripe<T, V> stripe : this.stripes) {
+			size += stripe.size();
+		}
+		return size;
+	}
+
+	/**
+	 * <p>
+	 * Expunges a batch of stale references.
+	 * </p>
+	 */
+	@SuppressWarnings("unchecked")
+	private void expungeStaleReferences() {
+		InstanceReference<T, V> reference;
+		for(int i = 0; i < EXPUNGE_BATCH_SIZE && (reference = (InstanceReference<T, V>)this.referenceQueue.poll()) != null; i++) {
+			reference.stripe.remove(reference);
+		}
+	}
+
+	/**
+	 * <p>
+	 * A weak reference to a registered instance, linked to the other references of its stripe.
+	 * </p>
+	 *
+	 * @param <T> the type of instance
+	 * @param <V> the type of value associated to an instance
+	 */
+	private static final class InstanceReference<T, V> extends WeakReference<T> {
+
+		private final V value;
+
+		private final Stripe<T, V> stripe;
+
+		private InstanceReference<T, V> previous;
+
+		private InstanceReference<T, V> next;
+
+		private boolean linked;
+
+		public InstanceReference(T referent, V value, Stripe<T, V> stripe, ReferenceQueue<? super T> queue) {
+			super(referent, queue);
+			this.value = value;
+			this.stripe = stripe;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A stripe holding a doubly linked list of instance references.
+	 * </p>
+	 *
+	 * @param <T> the type of instance
+	 * @param <V> the type of value associated to an instance
+	 */
+	private static final class Stripe<T, V> {
+
+		private InstanceReference<T, V> head;
+
+		private int size;
+
+		public synchronized void add(InstanceReference<T, V> reference) {
+			reference.next = this.head;
+			if(this.head != null) {
+				this.head.previous = reference;
+			}
+			this.head = reference;
+			reference.linked = true;
+			this.size++;
+		}
+
+		public synchronized void remove(InstanceReference<T, V> reference) {
+			if(!reference.linked) {
+				return;
+			}
+			if(reference.previous != null) {
+				reference.previous.next = reference.next;
+			}
+			else {
+				this.head = reference.next;
+			}
+			if(reference.next != null) {
+				reference.next.previous = reference.previous;
+			}
+			reference.previous = reference.next = null;
+			reference.linked = false;
+			this.size--;
+		}
+
+		public synchronized List<InstanceReference<T, V>> removeAll() {
+			List<InstanceReference<T, V>> references = new ArrayList<>();
+			InstanceReference<T, V> reference = this.head;
+			while(reference != null) {
+				InstanceReference<T, V> next = reference.next;
+				reference.previous = reference.next = null;
+				reference.linked = false;
+				references.add(reference);
+				reference = next;
+			}
+			this.head = null;
+			this.size = 0;
+			return references;
+		}
+
+		public synchronized int size() {
+			return this.size;
+		}
+	}
+}
@@ -18,8 +18,6 @@ package io.inverno.core.v1;
 import io.inverno.core.v1.Module.Bean;
 import java.util.Optional;
 import java.util.function.Supplier;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 /**
  * <p>
@@ -45,12 +43,7 @@ import org.apache.logging.log4j.Logger;
  */
 abstract class PrototypeModuleBean<T> extends AbstractModuleBean<T> {
 
-	/**
-	 * The bean logger.
-	 */
-	protected static final Logger LOGGER = LogManager.getLogger(PrototypeModuleBean.class);
-
-	private boolean created;
+	private volatile boolean created;
 	
 	/**
 	 * <p>
@@ -64,6 +57,11 @@ abstract class PrototypeModuleBean<T> extends AbstractModuleBean<T> {
 		super(name, override);
 	}
 
+	@Override
+	String getStrategy() {
+		return "PROTOTYPE";
+	}
+
 	/**
 	 * <p>
 	 * Creates the prototype bean.
@@ -77,9 +75,11 @@ abstract class PrototypeModuleBean<T> extends AbstractModuleBean<T> {
 	public final void create() {
 		if (!this.created) {
 			synchronized(this) {
-				LOGGER.debug("Creating prototype bean {} {}", () ->  (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.parent.recordBean(this);
-				this.created = true;
+				if (!this.created) {
+					this.creating(this.override.isPresent());
+					this.parent.recordBean(this);
+					this.created = true;
+				}
 			}
 		}
 	}
@@ -100,7 +100,13 @@ abstract class PrototypeModuleBean<T> extends AbstractModuleBean<T> {
 		this.create();
 		return this.override
 			.map(Supplier::get)
-			.orElseGet(this::createInstance);
+			.orElseGet(() -> {
+				BeanInstantiationEvent event = new BeanInstantiationEvent();
+				event.begin();
+				T instance = this.createInstance();
+				event.commit(this);
+				return instance;
+			});
 	}
 
 	/**
@@ -114,9 +120,7 @@ abstract class PrototypeModuleBean<T> extends AbstractModuleBean<T> {
 	 */
 	@Override
 	public final void destroy() {
-		synchronized(this) {
-			LOGGER.debug("Destroying prototype bean {}", () ->  (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
-		}
+
 	}
 	
 	@Override
@@ -85,13 +85,13 @@ class PrototypeModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
 				@Override
 				@SuppressWarnings("unchecked")
 				protected P createInstance() {
-					T instance = constructor.get();
+					T instance = construct(this);
 					if(inits != null) {
 						inits.forEach(init -> {
 							try {
-								init.accept(instance);
+								invokeInit(this, init, instance);
 							} catch (Exception e) {
-								LOGGER.fatal(() -> "Error initializing bean " + name, e);
+								this.initFailed(e);
 								throw new RuntimeException("Error initializing bean " + name, e);
 							}
 						});
@@ -106,13 +106,13 @@ class PrototypeModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
 				@Override
 				@SuppressWarnings("unchecked")
 				protected P createInstance() {
-					T instance = constructor.get();
+					T instance = construct(this);
 					if(inits != null) {
 						inits.forEach(init -> {
 							try {
-								init.accept(instance);
+								invokeInit(this, init, instance);
 							} catch (Exception e) {
-								LOGGER.fatal(() -> "Error initializing bean " + name, e);
+								this.initFailed(e);
 								throw new RuntimeException("Error initializing bean " + name, e);
 							}
 						});
@@ -126,9 +126,9 @@ class PrototypeModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
 					if(destroys != null) {
 						destroys.forEach(destroy -> {
 							try {
-								destroy.accept((T)instance);
+								invokeDestroy(this, destroy, (T)instance);
 							} catch (Exception e) {
-								LOGGER.warn(() -> "Error destroying bean " + name, e);
+								this.destroyFailed(e);
 							}
 						});
 					}
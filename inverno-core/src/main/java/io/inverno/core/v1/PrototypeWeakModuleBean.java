@@ -16,15 +16,8 @@
 package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.WeakReference;
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Supplier;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 /**
  * <p>
@@ -66,16 +59,9 @@ import org.apache.logging.log4j.Logger;
 abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 
 	/**
-	 * The bean logger.
+	 * The registry of instances issued by the bean.
 	 */
-	protected static final Logger LOGGER = LogManager.getLogger(PrototypeWeakModuleBean.class);
-
-	/**
-	 * The list of instances issued by the bean.
-	 */
-	private Set<WeakReference<T>> instances;
-
-	private ReferenceQueue<T> referenceQueue;
+	private volatile PrototypeInstanceRegistry<T, Void> instances;
 
 	/**
 	 * <p>
@@ -89,14 +75,15 @@ abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 		super(name, override);
 	}
 
-	/**
-	 * Expunges stale instances from the list.
-	 */
-	@SuppressWarnings("unchecked")
-	private void expungeStaleInstances() {
-		for (WeakReference<T> ref; (ref = (WeakReference<T>) this.referenceQueue.poll()) != null;) {
-			this.instances.remove(ref);
-		}
+	@Override
+	String getStrategy() {
+		return "PROTOTYPE";
+	}
+
+	@Override
+	int getTrackedInstanceCount() {
+		PrototypeInstanceRegistry<T, Void> currentInstances = this.instances;
+		return currentInstances != null ? currentInstances.size() : 0;
 	}
 
 	/**
@@ -112,10 +99,11 @@ abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 	public final void create() {
 		if (this.instances == null) {
 			synchronized(this) {
-				LOGGER.debug("Creating prototype bean {} {}", () ->  (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.instances = new HashSet<>();
-				this.referenceQueue = new ReferenceQueue<>();
-				this.parent.recordBean(this);
+				if (this.instances == null) {
+					this.creating(this.override.isPresent());
+					this.instances = new PrototypeInstanceRegistry<>();
+					this.parent.recordBean(this);
+				}
 			}
 		}
 	}
@@ -137,13 +125,11 @@ abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 		return this.override
 			.map(Supplier::get)
 			.orElseGet(() -> {
-				this.expungeStaleInstances();
+				BeanInstantiationEvent event = new BeanInstantiationEvent();
+				event.begin();
 				T instance = this.createInstance();
-				WeakReference<T> reference = new WeakReference<>(instance, this.referenceQueue);
-				synchronized (this) {
-					this.instances.add(reference);
-				}
-		
+				event.commit(this);
+				this.instances.register(instance, null);
 				return instance;
 			});
 	}
@@ -161,14 +147,8 @@ abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 	public final void destroy() {
 		if (this.instances != null) {
 			synchronized(this) {
-				LOGGER.debug("Destroying prototype bean {}", () ->  (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
 				if(this.override.isEmpty()) {
-					this.expungeStaleInstances();
-					this.instances.stream()
-						.map(WeakReference::get)
-						.filter(Objects::nonNull)
-						.forEach(this::destroyInstance);
-					this.instances.clear();
+					this.instances.destroy((instance, value) -> this.destroyInstance(instance));
 				}
 				this.instances = null;
 			}
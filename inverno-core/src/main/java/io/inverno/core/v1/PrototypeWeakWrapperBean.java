@@ -17,10 +17,7 @@ package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
 import java.util.Optional;
-import java.util.WeakHashMap;
 import java.util.function.Supplier;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 /**
  * <p>
@@ -57,14 +54,9 @@ import org.apache.logging.log4j.Logger;
 abstract class PrototypeWeakWrapperBean<W extends Supplier<T>, T> extends AbstractWrapperBean<W, T> {
 
 	/**
-	 * The bean logger.
+	 * The registry of instances issued by the bean associated to their corresponding wrapper instance.
 	 */
-	protected static final Logger LOGGER = LogManager.getLogger(PrototypeWeakWrapperBean.class);
-	
-	/**
-	 * A weak hash map holding the bean instances issued by the bean as keys and their corresponding wrapper instance as value.
-	 */
-	private WeakHashMap<T, W> instances;
+	private volatile PrototypeInstanceRegistry<T, W> instances;
 	
 	/**
 	 * <p>
@@ -78,6 +70,17 @@ abstract class PrototypeWeakWrapperBean<W extends Supplier<T>, T> extends Abstra
 		super(name, override);
 	}
 	
+	@Override
+	String getStrategy() {
+		return "PROTOTYPE";
+	}
+
+	@Override
+	int getTrackedInstanceCount() {
+		PrototypeInstanceRegistry<T, W> currentInstances = this.instances;
+		return currentInstances != null ? currentInstances.size() : 0;
+	}
+
 	/**
 	 * <p>
 	 * Creates the prototype bean.
@@ -91,9 +94,11 @@ abstract class PrototypeWeakWrapperBean<W extends Supplier<T>, T> extends Abstra
 	public final void create() {
 		if (this.instances == null) {
 			synchronized(this) {
-				LOGGER.debug("Creating prototype bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.instances = new WeakHashMap<>();
-				this.parent.recordBean(this);
+				if (this.instances == null) {
+					this.creating(this.override.isPresent());
+					this.instances = new PrototypeInstanceRegistry<>();
+					this.parent.recordBean(this);
+				}
 			}
 		}
 	}
@@ -116,11 +121,17 @@ abstract class PrototypeWeakWrapperBean<W extends Supplier<T>, T> extends Abstra
 		return this.override
 			.map(Supplier::get)
 			.orElseGet(() -> {
+				BeanInstantiationEvent event = new BeanInstantiationEvent();
+				event.begin();
 				W wrapper = this.createWrapper();
+				event.commit(this);
 				T instance = wrapper.get();
-				synchronized (this) {
-					this.instances.put(instance, wrapper);
+				if(instance == null) {
+					// There's nothing to track, the wrapper can be destroyed right away
+					this.destroyWrapper(wrapper);
+					return null;
 				}
+				this.instances.register(instance, wrapper);
 				return instance;
 			});
 	}
@@ -138,10 +149,8 @@ abstract class PrototypeWeakWrapperBean<W extends Supplier<T>, T> extends Abstra
 	public final void destroy() {
 		if (this.instances != null) {
 			synchronized(this) {
-				LOGGER.debug("Destroying prototype bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
 				if(this.override.isEmpty()) {
-					this.instances.values().forEach(this::destroyWrapper);
-					this.instances.clear();
+					this.instances.destroy((instance, wrapper) -> this.destroyWrapper(wrapper));
 				}
 				this.instances = null;
 			}
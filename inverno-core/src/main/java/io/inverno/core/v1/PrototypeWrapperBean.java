@@ -19,8 +19,6 @@ import io.inverno.core.v1.Module.Bean;
 import java.lang.ref.WeakReference;
 import java.util.Optional;
 import java.util.function.Supplier;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 /**
  * <p>
@@ -53,12 +51,7 @@ import org.apache.logging.log4j.Logger;
  */
 abstract class PrototypeWrapperBean<W extends Supplier<T>, T> extends AbstractWrapperBean<W, T> {
 
-	/**
-	 * The bean logger.
-	 */
-	protected static final Logger LOGGER = LogManager.getLogger(PrototypeWrapperBean.class);
-	
-	private boolean created;
+	private volatile boolean created;
 	
 	/**
 	 * <p>
@@ -72,6 +65,11 @@ abstract class PrototypeWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 		super(name, override);
 	}
 	
+	@Override
+	String getStrategy() {
+		return "PROTOTYPE";
+	}
+
 	/**
 	 * <p>
 	 * Creates the prototype bean.
@@ -85,9 +83,11 @@ abstract class PrototypeWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	public final void create() {
 		if (!this.created) {
 			synchronized(this) {
-				LOGGER.debug("Creating prototype bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.parent.recordBean(this);
-				this.created = true;
+				if (!this.created) {
+					this.creating(this.override.isPresent());
+					this.parent.recordBean(this);
+					this.created = true;
+				}
 			}
 		}
 	}
@@ -110,7 +110,10 @@ abstract class PrototypeWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 		return this.override
 			.map(Supplier::get)
 			.orElseGet(() -> {
+				BeanInstantiationEvent event = new BeanInstantiationEvent();
+				event.begin();
 				W wrapper = this.createWrapper();
+				event.commit(this);
 				return wrapper.get();
 			});
 	}
@@ -126,9 +129,7 @@ abstract class PrototypeWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	 */
 	@Override
 	public final void destroy() {
-		synchronized(this) {
-			LOGGER.debug("Destroying prototype bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
-		}
+
 	}
 	
 	@Override
@@ -85,14 +85,14 @@ class PrototypeWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractW
 
 				@Override
 				protected ProvidingWrapper createWrapper() {
-					W wrapper = constructor.get();
+					W wrapper = construct(this);
 					if(inits != null) {
 						inits.forEach(init -> {
 							try {
-								init.accept(wrapper);
+								invokeInit(this, init, wrapper);
 							} 
 							catch (Exception e) {
-								LOGGER.fatal(() -> "Error initializing bean " + name, e);
+								this.initFailed(e);
 								throw new RuntimeException("Error initializing bean " + name, e);
 							}
 						});
@@ -106,14 +106,14 @@ class PrototypeWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractW
 
 				@Override
 				protected ProvidingWrapper createWrapper() {
-					W wrapper = constructor.get();
+					W wrapper = construct(this);
 					if(inits != null) {
 						inits.forEach(init -> {
 							try {
-								init.accept(wrapper);
+								invokeInit(this, init, wrapper);
 							} 
 							catch (Exception e) {
-								LOGGER.fatal(() -> "Error initializing bean " + name, e);
+								this.initFailed(e);
 								throw new RuntimeException("Error initializing bean " + name, e);
 							}
 						});
@@ -126,9 +126,9 @@ class PrototypeWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractW
 					if(destroys != null) {
 						destroys.forEach(destroy -> {
 							try {
-								destroy.accept(wrapper.wrapper);
+								invokeDestroy(this, destroy, wrapper.wrapper);
 							} catch (Exception e) {
-								LOGGER.warn(() -> "Error destroying bean " + name, e);
+								this.destroyFailed(e);
 							}
 						});
 					}
@@ -16,10 +16,13 @@
 package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 /**
  * <p>
@@ -30,6 +33,15 @@ import org.apache.logging.log4j.Logger;
  * A Singleton module bean is instantiated once for the whole application, every dependent beans receive the same instance.
  * </p>
  *
+ * <p>
+ * The bean instance is safely published using release/acquire semantics so that once created, it is returned without locking.
+ * </p>
+ *
+ * <p>
+ * Asynchronous initialization operations are not awaited when the bean is created: the instance is published with its pending initialization which is awaited when the bean is requested.
+ * Asynchronous destruction operations are returned by {@link #destroyAsync()} so that the enclosing module can destroy independent beans while they complete.
+ * </p>
+ *
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  * @since 1.0
  * @see Bean
@@ -39,14 +51,33 @@ import org.apache.logging.log4j.Logger;
 abstract class SingletonModuleBean<T> extends AbstractModuleBean<T> {
 
 	/**
-	 * The bean logger.
+	 * The bean instance var handle.
 	 */
-	protected static final Logger LOGGER = LogManager.getLogger(SingletonModuleBean.class);
+	private static final VarHandle INSTANCE;
+	
+	static {
+		try {
+			INSTANCE = MethodHandles.lookup().findVarHandle(SingletonModuleBean.class, "instance", Object.class);
+		}
+		catch(ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
 
 	/**
 	 * The bean instance.
 	 */
 	protected T instance;
+
+	/**
+	 * The pending asynchronous initialization of the bean instance, null if the bean instance is initialized.
+	 */
+	protected CompletableFuture<Void> initialization;
+
+	/**
+	 * Indicates whether the bean is created the first time it is requested.
+	 */
+	private final boolean lazy;
 	
 	/**
 	 * <p>
@@ -57,7 +88,31 @@ abstract class SingletonModuleBean<T> extends AbstractModuleBean<T> {
 	 * @param override An optional override
 	 */
 	public SingletonModuleBean(String name, Optional<Supplier<T>> override) {
+		this(name, override, false);
+	}
+
+	/**
+	 * <p>
+	 * Creates a singleton module bean with the specified name.
+	 * </p>
+	 *
+	 * @param name     the bean name
+	 * @param override An optional override
+	 * @param lazy     true to create the bean the first time it is requested instead of when the module is started
+	 */
+	public SingletonModuleBean(String name, Optional<Supplier<T>> override, boolean lazy) {
 		super(name, override);
+		this.lazy = lazy;
+	}
+
+	@Override
+	boolean isLazy() {
+		return this.lazy;
+	}
+
+	@Override
+	String getStrategy() {
+		return "SINGLETON";
 	}
 
 	/**
@@ -71,11 +126,24 @@ abstract class SingletonModuleBean<T> extends AbstractModuleBean<T> {
 	 */
 	@Override
 	public final void create() {
-		if (this.instance == null) {
+		if (INSTANCE.getAcquire(this) == null) {
 			synchronized(this) {
-				LOGGER.debug("Creating singleton bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.instance = this.override.map(Supplier::get).orElseGet(this::createInstance);
-				this.parent.recordBean(this);
+				if (this.instance == null) {
+					this.creating(this.override.isPresent());
+					BeanCreateEvent event = new BeanCreateEvent();
+					event.begin();
+					StartupProfiler.Recording recording = StartupProfiler.record(this);
+					try {
+						INSTANCE.setRelease(this, this.override.map(Supplier::get).orElseGet(this::createInstance));
+					}
+					finally {
+						if(recording != null) {
+							recording.close();
+						}
+						event.commit(this);
+					}
+					this.parent.recordBean(this);
+				}
 			}
 		}
 	}
@@ -88,9 +156,45 @@ abstract class SingletonModuleBean<T> extends AbstractModuleBean<T> {
 	 * @return the bean singleton
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public final T doGet() {
-		this.create();
-		return this.instance;
+		T current = (T)INSTANCE.getAcquire(this);
+		if(current == null) {
+			this.create();
+			current = (T)INSTANCE.getAcquire(this);
+		}
+		if(this.initialization != null) {
+			this.awaitInitialization();
+		}
+		return current;
+	}
+
+	@Override
+	CompletableFuture<Void> initialization() {
+		return this.initialization;
+	}
+
+	/**
+	 * <p>
+	 * Waits for the pending asynchronous initialization of the bean instance to complete.
+	 * </p>
+	 *
+	 * @throws RuntimeException if the initialization failed
+	 */
+	private void awaitInitialization() throws RuntimeException {
+		CompletableFuture<Void> pending = this.initialization;
+		if(pending != null) {
+			try {
+				pending.join();
+			}
+			catch(CompletionException | CancellationException e) {
+				if(e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException)e.getCause();
+				}
+				throw new RuntimeException("Error initializing bean " + this.name, e.getCause() != null ? e.getCause() : e);
+			}
+			this.initialization = null;
+		}
 	}
 
 	/**
@@ -104,14 +208,66 @@ abstract class SingletonModuleBean<T> extends AbstractModuleBean<T> {
 	 */
 	@Override
 	public final void destroy() {
-		if (this.instance != null) {
-			synchronized(this) {
-				LOGGER.debug("Destroying singleton bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
+		CompletableFuture<Void> destruction = this.destroyAsync();
+		if(destruction != null) {
+			destruction.join();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Destroys the singleton bean without waiting for asynchronous destruction operations to complete.
+	 * </p>
+	 *
+	 * <p>
+	 * This method delegates bean instance destruction to the {@link #destroyInstanceAsync(Object)} method, a bean instance whose asynchronous initialization is pending is destroyed once it
+	 * completes, it is not destroyed if it failed.
+	 * </p>
+	 *
+	 * @return null if the bean has been destroyed or a future which completes once the bean is destroyed
+	 */
+	@Override
+	final CompletableFuture<Void> destroyAsync() {
+		synchronized(this) {
+			CompletableFuture<Void> destruction = null;
+			if (this.instance != null) {
 				if(this.override.isEmpty()) {
-					this.destroyInstance(this.instance);
+					T destroyedInstance = this.instance;
+					CompletableFuture<Void> pending = this.initialization;
+					if(pending == null) {
+						destruction = this.destroyInstanceAsync(destroyedInstance);
+					}
+					else {
+						destruction = pending
+							.handle((ignore, error) -> error == null)
+							.thenCompose(initialized -> {
+								CompletableFuture<Void> instanceDestruction = initialized ? this.destroyInstanceAsync(destroyedInstance) : null;
+								return instanceDestruction != null ? instanceDestruction : CompletableFuture.completedFuture(null);
+							});
+					}
 				}
-				this.instance = null;
+				this.initialization = null;
+				INSTANCE.setRelease(this, null);
 			}
+			return destruction;
 		}
 	}
+
+	/**
+	 * <p>
+	 * Destroys the specified bean instance without waiting for asynchronous destruction operations to complete.
+	 * </p>
+	 *
+	 * <p>
+	 * This method invokes {@link #destroyInstance(Object)} by default.
+	 * </p>
+	 *
+	 * @param instance the bean instance to destroy
+	 *
+	 * @return null if the instance has been destroyed or a future which completes once the instance is destroyed
+	 */
+	protected CompletableFuture<Void> destroyInstanceAsync(T instance) {
+		this.destroyInstance(instance);
+		return null;
+	}
 }
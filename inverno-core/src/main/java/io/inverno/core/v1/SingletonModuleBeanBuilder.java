@@ -18,6 +18,7 @@ package io.inverno.core.v1;
 import io.inverno.core.v1.Module.Bean;
 import io.inverno.core.v1.Module.BeanBuilder;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -41,6 +42,11 @@ import java.util.function.Supplier;
  */
 class SingletonModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
 
+	/**
+	 * Indicates whether the bean is created the first time it is requested.
+	 */
+	private final boolean lazy;
+
 	/**
 	 * <p>
 	 * Creates a singleton module bean builder with the specified bean name and constructor.
@@ -50,7 +56,21 @@ class SingletonModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
 	 * @param constructor the bean constructor
 	 */
 	public SingletonModuleBeanBuilder(String beanName, Supplier<T> constructor) {
+		this(beanName, constructor, false);
+	}
+
+	/**
+	 * <p>
+	 * Creates a singleton module bean builder with the specified bean name and constructor.
+	 * </p>
+	 *
+	 * @param beanName    the bean name
+	 * @param constructor the bean constructor
+	 * @param lazy        true to create the bean the first time it is requested instead of when the module is started
+	 */
+	public SingletonModuleBeanBuilder(String beanName, Supplier<T> constructor, boolean lazy) {
 		super(beanName, constructor);
+		this.lazy = lazy;
 	}
 	
 	/**
@@ -63,6 +83,7 @@ class SingletonModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
 	 */
 	public SingletonModuleBeanBuilder(SingletonModuleBeanBuilder<?, T> overriddenBuilder, Optional<Supplier<P>> override) {
 		super(overriddenBuilder, override);
+		this.lazy = overriddenBuilder.lazy;
 	}
 
 	@Override
@@ -79,37 +100,43 @@ class SingletonModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
 	 */
 	@Override
 	public Bean<P> build() {
-		return new SingletonModuleBean<>(this.beanName, this.override) {
+		return new SingletonModuleBean<>(this.beanName, this.override, this.lazy) {
 
 			@Override
 			@SuppressWarnings("unchecked")
 			protected P createInstance() {
-				T instance = constructor.get();
+				StartupProfiler.Recording recording = StartupProfiler.currentRecording(this);
+				T instance = construct(this);
+				if(recording != null) {
+					recording.constructed();
+				}
 				if(inits != null) {
-					inits.forEach(init -> {
-						try {
-							init.accept(instance);
-						} catch (Exception e) {
-							LOGGER.fatal(() -> "Error initializing bean " + name, e);
+					// Asynchronous initializations are awaited when the bean is requested
+					this.initialization = invoke(this, true, inits, instance, e -> {
+							this.initFailed(e);
 							throw new RuntimeException("Error initializing bean " + name, e);
-						}
-					});
+						},
+						recording != null ? recording::initialized : null
+					);
 				}
 				return (P)instance;
 			}
 
 			@Override
-			@SuppressWarnings("unchecked")
 			protected void destroyInstance(P instance) {
+				CompletableFuture<Void> destruction = this.destroyInstanceAsync(instance);
+				if(destruction != null) {
+					destruction.join();
+				}
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			protected CompletableFuture<Void> destroyInstanceAsync(P instance) {
 				if(destroys != null) {
-					destroys.forEach(destroy -> {
-						try {
-							destroy.accept((T)instance);
-						} catch (Exception e) {
-							LOGGER.warn(() -> "Error destroying bean " + name, e);
-						}
-					});
+					return invoke(this, false, destroys, (T)instance, this::destroyFailed, null);
 				}
+				return null;
 			}
 		};
 	}
@@ -16,10 +16,10 @@
 package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Optional;
 import java.util.function.Supplier;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 /**
  * <p>
@@ -30,6 +30,10 @@ import org.apache.logging.log4j.Logger;
  * A Singleton bean is instantiated once for the whole application, every dependent beans receive the same instance.
  * </p>
  *
+ * <p>
+ * The bean instance is safely published using release/acquire semantics so that once created, it is returned without locking.
+ * </p>
+ *
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  * @since 1.0
  * @see Bean
@@ -40,10 +44,19 @@ import org.apache.logging.log4j.Logger;
 abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWrapperBean<W, T> {
 
 	/**
-	 * The bean logger.
+	 * The bean instance var handle.
 	 */
-	protected static final Logger LOGGER = LogManager.getLogger(SingletonWrapperBean.class);
-
+	private static final VarHandle INSTANCE;
+	
+	static {
+		try {
+			INSTANCE = MethodHandles.lookup().findVarHandle(SingletonWrapperBean.class, "instance", Object.class);
+		}
+		catch(ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
 	/**
 	 * The wrapper instance.
 	 */
@@ -54,6 +67,16 @@ abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	 */
 	protected T instance;
 	
+	/**
+	 * Indicates whether the bean has been created, a wrapper can legitimately supply a null instance.
+	 */
+	private volatile boolean created;
+
+	/**
+	 * Indicates whether the bean is created the first time it is requested.
+	 */
+	private final boolean lazy;
+	
 	/**
 	 * <p>
 	 * Creates a singleton wrapper bean with the specified name.
@@ -63,7 +86,31 @@ abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	 * @param override An optional override
 	 */
 	public SingletonWrapperBean(String name, Optional<Supplier<T>> override) {
+		this(name, override, false);
+	}
+
+	/**
+	 * <p>
+	 * Creates a singleton wrapper bean with the specified name.
+	 * </p>
+	 *
+	 * @param name     the bean name
+	 * @param override An optional override
+	 * @param lazy     true to create the bean the first time it is requested instead of when the module is started
+	 */
+	public SingletonWrapperBean(String name, Optional<Supplier<T>> override, boolean lazy) {
 		super(name, override);
+		this.lazy = lazy;
+	}
+
+	@Override
+	boolean isLazy() {
+		return this.lazy;
+	}
+
+	@Override
+	String getStrategy() {
+		return "SINGLETON";
 	}
 
 	/**
@@ -76,14 +123,28 @@ abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	 * </p>
 	 */
 	public final void create() {
-		if (this.wrapper == null) {
+		if (!this.created) {
 			synchronized(this) {
-				LOGGER.debug("Creating singleton bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.instance = this.override.map(Supplier::get).orElseGet(() -> {
-					this.wrapper = this.createWrapper();
-					return this.wrapper.get();
-				});
-				this.parent.recordBean(this);
+				if (!this.created) {
+					this.creating(this.override.isPresent());
+					BeanCreateEvent event = new BeanCreateEvent();
+					event.begin();
+					StartupProfiler.Recording recording = StartupProfiler.record(this);
+					try {
+						INSTANCE.setRelease(this, this.override.map(Supplier::get).orElseGet(() -> {
+							this.wrapper = this.createWrapper();
+							return this.wrapper.get();
+						}));
+					}
+					finally {
+						if(recording != null) {
+							recording.close();
+						}
+						event.commit(this);
+					}
+					this.created = true;
+					this.parent.recordBean(this);
+				}
 			}
 		}
 	}
@@ -95,9 +156,14 @@ abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	 * 
 	 * @return the bean singleton
 	 */
+	@SuppressWarnings("unchecked")
 	public final T doGet() {
+		T current = (T)INSTANCE.getAcquire(this);
+		if(current != null) {
+			return current;
+		}
 		this.create();
-		return this.instance;
+		return (T)INSTANCE.getAcquire(this);
 	}
 
 	/**
@@ -110,14 +176,14 @@ abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	 * </p>
 	 */
 	public final void destroy() {
-		if (this.wrapper != null) {
-			synchronized(this) {
-				LOGGER.debug("Destroying singleton bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
-				if(this.override.isEmpty()) {
+		synchronized(this) {
+			if (this.created) {
+				if(this.wrapper != null) {
 					this.destroyWrapper(this.wrapper);
 					this.wrapper = null;
 				}
-				this.instance = null;
+				INSTANCE.setRelease(this, null);
+				this.created = false;
 			}
 		}
 	}
@@ -43,6 +43,11 @@ import io.inverno.core.v1.Module.BeanBuilder;
  */
 class SingletonWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractWrapperBeanBuilder<P, T, W> {
 
+	/**
+	 * Indicates whether the bean is created the first time it is requested.
+	 */
+	private final boolean lazy;
+
 	/**
 	 * <p>
 	 * Creates a singleton wrapper bean builder with the specified bean name and constructor.
@@ -52,7 +57,21 @@ class SingletonWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractW
 	 * @param constructor the bean constructor
 	 */
 	public SingletonWrapperBeanBuilder(String beanName, Supplier<W> constructor) {
+		this(beanName, constructor, false);
+	}
+
+	/**
+	 * <p>
+	 * Creates a singleton wrapper bean builder with the specified bean name and constructor.
+	 * </p>
+	 *
+	 * @param beanName    the bean name
+	 * @param constructor the bean constructor
+	 * @param lazy        true to create the bean the first time it is requested instead of when the module is started
+	 */
+	public SingletonWrapperBeanBuilder(String beanName, Supplier<W> constructor, boolean lazy) {
 		super(beanName, constructor);
+		this.lazy = lazy;
 	}
 	
 	/**
@@ -65,6 +84,7 @@ class SingletonWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractW
 	 */
 	public SingletonWrapperBeanBuilder(SingletonWrapperBeanBuilder<?, T, W> overriddenBuilder, Optional<Supplier<P>> override) {
 		super(overriddenBuilder, override);
+		this.lazy = overriddenBuilder.lazy;
 	}
 
 	@Override
@@ -81,20 +101,27 @@ class SingletonWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractW
 	 */
 	@Override
 	public Bean<P> build() {
-		return new SingletonWrapperBean<ProvidingWrapper, P>(this.beanName, this.override) {
+		return new SingletonWrapperBean<ProvidingWrapper, P>(this.beanName, this.override, this.lazy) {
 
 			@Override
 			protected ProvidingWrapper createWrapper() {
-				W wrapper =	constructor.get();
+				StartupProfiler.Recording recording = StartupProfiler.currentRecording(this);
+				W wrapper = construct(this);
+				if(recording != null) {
+					recording.constructed();
+				}
 				if(inits != null) {
 					inits.forEach(init -> {
 						try {
-							init.accept(wrapper);
+							invokeInit(this, init, wrapper);
 						} 
 						catch (Exception e) {
-							LOGGER.fatal(() -> "Error initializing bean " + name, e);
+							this.initFailed(e);
 							throw new RuntimeException("Error initializing bean " + name, e);
 						}
+						if(recording != null) {
+							recording.initialized();
+						}
 					});
 				}
 				return new ProvidingWrapper(wrapper);
@@ -105,9 +132,9 @@ class SingletonWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractW
 				if(destroys != null) {
 					destroys.forEach(destroy -> {
 						try {
-							destroy.accept(wrapper.wrapper);
+							invokeDestroy(this, destroy, wrapper.wrapper);
 						} catch (Exception e) {
-							LOGGER.warn(() -> "Error destroying bean " + name, e);
+							this.destroyFailed(e);
 						}
 					});
 				}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>
+ * A startup profiler records the creation of the beans of a module while it is started.
+ * </p>
+ *
+ * <p>
+ * When a module is started with a profiler, the wall time spent constructing each bean, invoking each of its initialization methods and waiting for the beans it depends on is recorded. Once the
+ * module is started, the resulting {@link StartupReport} exposes these timings as well as the critical path through the bean graph, namely the chain of dependent beans that determined the startup
+ * time.
+ * </p>
+ *
+ * <p>
+ * Beans are profiled when they are created during the startup of the module, singleton and pooled bean instances are then profiled whereas prototype bean instances created on demand are accounted
+ * in the construction of the beans that requested them.
+ * </p>
+ *
+ * <p>
+ * A profiler can only be used to profile the startup of one module.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Module#start(Executor, StartupProfiler)
+ * @see StartupReport
+ */
+public final class StartupProfiler {
+
+	/**
+	 * The recording of the bean being created by the current thread.
+	 */
+	private static final ThreadLocal<Recording> CURRENT_RECORDING = new ThreadLocal<>();
+
+	/**
+	 * The bean creation recordings.
+	 */
+	private final Queue<Recording> recordings;
+
+	/**
+	 * The times at which the dependencies of the beans created concurrently were all created.
+	 */
+	private final Map<Module.Bean<?>, Long> readyTimes;
+
+	/**
+	 * The name of the profiled module.
+	 */
+	private String moduleName;
+
+	/**
+	 * The startup start time.
+	 */
+	private long startTime;
+
+	/**
+	 * The startup end time.
+	 */
+	private long endTime;
+
+	/**
+	 * Indicates whether the startup has completed.
+	 */
+	private volatile boolean completed;
+
+	/**
+	 * The startup report.
+	 */
+	private StartupReport report;
+
+	/**
+	 * <p>
+	 * Creates a startup profiler.
+	 * </p>
+	 */
+	public StartupProfiler() {
+		this.recordings = new ConcurrentLinkedQueue<>();
+		this.readyTimes = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * <p>
+	 * Starts profiling the startup of the specified module.
+	 * </p>
+	 *
+	 * @param moduleName the name of the profiled module
+	 *
+	 * @throws IllegalStateException if the profiler was already used to profile a module startup
+	 */
+	synchronized void begin(String moduleName) throws IllegalStateException {
+		if(this.moduleName != null) {
+			throw new IllegalStateException("Profiler was already used to profile module " + this.moduleName);
+		}
+		this.moduleName = moduleName;
+		this.startTime = System.nanoTime();
+	}
+
+	/**
+	 * <p>
+	 * Stops profiling the module startup.
+	 * </p>
+	 */
+	synchronized void end() {
+		this.endTime = System.nanoTime();
+		this.completed = true;
+	}
+
+	/**
+	 * <p>
+	 * Records the time at which the dependencies of a bean created concurrently have all been created.
+	 * </p>
+	 *
+	 * @param bean the bean whose dependencies have been created
+	 */
+	void ready(Module.Bean<?> bean) {
+		this.readyTimes.put(bean, System.nanoTime());
+	}
+
+	/**
+	 * <p>
+	 * Starts recording the creation of the specified bean on the current thread.
+	 * </p>
+	 *
+	 * @param bean the bean being created
+	 *
+	 * @return a bean creation recording
+	 */
+	private Recording enter(Module.Bean<?> bean) {
+		Recording parent = CURRENT_RECORDING.get();
+		Long readyTime = this.readyTimes.remove(bean);
+		Recording recording = new Recording(bean, parent, readyTime != null ? readyTime - this.startTime : 0);
+		if(parent != null) {
+			parent.children.add(recording);
+		}
+		this.recordings.add(recording);
+		CURRENT_RECORDING.set(recording);
+		return recording;
+	}
+
+	/**
+	 * <p>
+	 * Starts recording the creation of the specified bean if the module startup is being profiled.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans created after the module startup has completed, such as lazy beans, are not recorded.
+	 * </p>
+	 *
+	 * @param bean the bean being created
+	 *
+	 * @return a bean creation recording or null if the module startup is not profiled
+	 */
+	static Recording record(Module.Bean<?> bean) {
+		StartupProfiler profiler = bean.parent.getStartupProfiler();
+		return profiler != null && !profiler.completed ? profiler.enter(bean) : null;
+	}
+
+	/**
+	 * <p>
+	 * Returns the recording of the specified bean if it is being created by the current thread.
+	 * </p>
+	 *
+	 * @param bean the bean being created
+	 *
+	 * @return a bean creation recording or null if the bean creation is not recorded
+	 */
+	static Recording currentRecording(Module.Bean<?> bean) {
+		Recording recording = CURRENT_RECORDING.get();
+		return recording != null && recording.bean == bean ? recording : null;
+	}
+
+	/**
+	 * <p>
+	 * Returns the report of the profiled module startup.
+	 * </p>
+	 *
+	 * @return the startup report
+	 *
+	 * @throws IllegalStateException if the module startup has not completed
+	 */
+	public synchronized StartupReport getReport() throws IllegalStateException {
+		if(!this.completed) {
+			throw new IllegalStateException("Module startup has not completed");
+		}
+		if(this.report == null) {
+			this.report = new StartupReport(this.moduleName, this.endTime - this.startTime, new ArrayList<>(this.recordings), this.startTime);
+		}
+		return this.report;
+	}
+
+	/**
+	 * <p>
+	 * The recording of the creation of a bean.
+	 * </p>
+	 *
+	 * <p>
+	 * A recording is created and updated by the thread creating the bean, it is only read once the module startup has completed.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 */
+	static final class Recording {
+
+		/**
+		 * The recorded bean.
+		 */
+		final Module.Bean<?> bean;
+
+		/**
+		 * The recording of the bean whose creation triggered the creation of the recorded bean.
+		 */
+		final Recording parent;
+
+		/**
+		 * The recordings of the beans created during the creation of the recorded bean.
+		 */
+		final List<Recording> children;
+
+		/**
+		 * The time spent waiting for the creation of dependencies before the bean creation was started.
+		 */
+		final long readyTime;
+
+		/**
+		 * The creation start time.
+		 */
+		final long startTime;
+
+		/**
+		 * The creation end time.
+		 */
+		long endTime;
+
+		/**
+		 * The construction time or -1 if construction was not recorded.
+		 */
+		long constructionTime;
+
+		/**
+		 * The initialization times.
+		 */
+		List<Long> initTimes;
+
+		/**
+		 * The time spent creating other beans.
+		 */
+		long nestedTime;
+
+		/**
+		 * The time of the last recorded step.
+		 */
+		private long markTime;
+
+		/**
+		 * The time spent creating other beans at the time of the last recorded step.
+		 */
+		private long markNestedTime;
+
+		/**
+		 * <p>
+		 * Creates a bean creation recording.
+		 * </p>
+		 *
+		 * @param bean      the recorded bean
+		 * @param parent    the recording of the bean whose creation triggered the creation of the recorded bean or null
+		 * @param readyTime the time spent waiting for dependencies before the creation was started
+		 */
+		private Recording(Module.Bean<?> bean, Recording parent, long readyTime) {
+			this.bean = bean;
+			this.parent = parent;
+			this.children = new ArrayList<>();
+			this.readyTime = readyTime;
+			this.constructionTime = -1;
+			this.initTimes = List.of();
+			this.startTime = this.markTime = System.nanoTime();
+		}
+
+		/**
+		 * <p>
+		 * Returns the time elapsed since the last recorded step excluding the time spent creating other beans.
+		 * </p>
+		 *
+		 * @return a step time
+		 */
+		private long step() {
+			long now = System.nanoTime();
+			long stepTime = (now - this.markTime) - (this.nestedTime - this.markNestedTime);
+			this.markTime = now;
+			this.markNestedTime = this.nestedTime;
+			return stepTime;
+		}
+
+		/**
+		 * <p>
+		 * Records the end of the bean construction.
+		 * </p>
+		 */
+		void constructed() {
+			this.constructionTime = this.step();
+		}
+
+		/**
+		 * <p>
+		 * Records the end of a bean initialization.
+		 * </p>
+		 */
+		void initialized() {
+			if(this.initTimes.isEmpty()) {
+				this.initTimes = new ArrayList<>(2);
+			}
+			this.initTimes.add(this.step());
+		}
+
+		/**
+		 * <p>
+		 * Records the end of the bean creation.
+		 * </p>
+		 */
+		void close() {
+			this.endTime = System.nanoTime();
+			if(this.constructionTime < 0) {
+				this.constructionTime = this.step();
+			}
+			if(this.parent != null) {
+				this.parent.nestedTime += this.endTime - this.startTime;
+				CURRENT_RECORDING.set(this.parent);
+			}
+			else {
+				CURRENT_RECORDING.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,623 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * The report of a module startup profiled by a {@link StartupProfiler}.
+ * </p>
+ *
+ * <p>
+ * The report exposes the profiles of the beans created during the module startup in creation order as well as the critical path through the bean graph: the chain of dependent beans whose
+ * construction and initialization times add up to the longest time, considering both the dependencies declared in the module and the beans created on demand during the creation of another bean.
+ * </p>
+ *
+ * <p>
+ * The report can be exported in JSON using {@link #toJson()} or as a human-readable tree using {@link #toTree()}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see StartupProfiler
+ */
+public final class StartupReport {
+
+	/**
+	 * The name of the profiled module.
+	 */
+	private final String moduleName;
+
+	/**
+	 * The startup time in nanoseconds.
+	 */
+	private final long startupTime;
+
+	/**
+	 * The bean profiles in creation order.
+	 */
+	private final List<BeanProfile> beans;
+
+	/**
+	 * The root bean profiles in creation order.
+	 */
+	private final List<BeanProfile> roots;
+
+	/**
+	 * The bean profiles on the critical path from the first created to the last created.
+	 */
+	private final List<BeanProfile> criticalPath;
+
+	/**
+	 * The critical path time in nanoseconds.
+	 */
+	private final long criticalPathTime;
+
+	/**
+	 * <p>
+	 * Creates a startup report.
+	 * </p>
+	 *
+	 * @param moduleName       the name of the profiled module
+	 * @param startupTime      the startup time in nanoseconds
+	 * @param recordings       the bean creation recordings
+	 * @param startupStartTime the startup start time
+	 */
+	StartupReport(String moduleName, long startupTime, List<StartupProfiler.Recording> recordings, long startupStartTime) {
+		this.moduleName = moduleName;
+		this.startupTime = startupTime;
+
+		recordings.sort(Comparator.comparingLong(recording -> recording.startTime));
+		Map<Module.Bean<?>, StartupProfiler.Recording> recordingsByBean = new IdentityHashMap<>();
+		for(StartupProfiler.Recording recording : recordings) {
+			recordingsByBean.put(recording.bean, recording);
+		}
+
+		Map<StartupProfiler.Recording, BeanProfile> profiles = new IdentityHashMap<>();
+		List<BeanProfile> beanProfiles = new ArrayList<>(recordings.size());
+		for(StartupProfiler.Recording recording : recordings) {
+			BeanProfile profile = new BeanProfile(recording, startupStartTime);
+			profiles.put(recording, profile);
+			beanProfiles.add(profile);
+		}
+
+		List<BeanProfile> rootProfiles = new ArrayList<>();
+		for(StartupProfiler.Recording recording : recordings) {
+			BeanProfile profile = profiles.get(recording);
+			if(recording.parent == null || !profiles.containsKey(recording.parent)) {
+				rootProfiles.add(profile);
+			}
+			Set<BeanProfile> dependencies = new LinkedHashSet<>();
+			if(recording.bean.beanDependencies != null) {
+				for(Module.Bean<?> dependency : recording.bean.beanDependencies) {
+					StartupProfiler.Recording dependencyRecording = recordingsByBean.get(dependency);
+					if(dependencyRecording != null) {
+						dependencies.add(profiles.get(dependencyRecording));
+					}
+				}
+			}
+			for(StartupProfiler.Recording child : recording.children) {
+				BeanProfile childProfile = profiles.get(child);
+				dependencies.add(childProfile);
+				profile.children.add(childProfile);
+			}
+			profile.dependencies.addAll(dependencies);
+		}
+		this.beans = Collections.unmodifiableList(beanProfiles);
+		this.roots = Collections.unmodifiableList(rootProfiles);
+
+		// Longest path through the bean graph weighted by bean construction and initialization times
+		Map<BeanProfile, Long> pathTimes = new IdentityHashMap<>();
+		Map<BeanProfile, BeanProfile> pathPredecessors = new IdentityHashMap<>();
+		BeanProfile last = null;
+		long lastPathTime = -1;
+		for(BeanProfile profile : beanProfiles) {
+			long pathTime = this.visitCriticalPath(profile, pathTimes, pathPredecessors, Collections.newSetFromMap(new IdentityHashMap<>()));
+			if(pathTime > lastPathTime) {
+				last = profile;
+				lastPathTime = pathTime;
+			}
+		}
+		List<BeanProfile> path = new ArrayList<>();
+		for(BeanProfile current = last; current != null; current = pathPredecessors.get(current)) {
+			current.critical = true;
+			path.add(current);
+		}
+		Collections.reverse(path);
+		this.criticalPath = Collections.unmodifiableList(path);
+		this.criticalPathTime = Math.max(lastPathTime, 0);
+	}
+
+	/**
+	 * <p>
+	 * Computes the time of the longest path ending with the specified bean.
+	 * </p>
+	 *
+	 * @param profile          a bean profile
+	 * @param pathTimes        the longest path times already computed
+	 * @param pathPredecessors the predecessors of the bean profiles on their longest path
+	 * @param visiting         the bean profiles being visited
+	 *
+	 * @return the time of the longest path ending with the bean
+	 */
+	private long visitCriticalPath(BeanProfile profile, Map<BeanProfile, Long> pathTimes, Map<BeanProfile, BeanProfile> pathPredecessors, Set<BeanProfile> visiting) {
+		Long pathTime = pathTimes.get(profile);
+		if(pathTime != null) {
+			return pathTime;
+		}
+		if(!visiting.add(profile)) {
+			return 0;
+		}
+		long dependenciesTime = 0;
+		BeanProfile predecessor = null;
+		for(BeanProfile dependency : profile.dependencies) {
+			long dependencyTime = this.visitCriticalPath(dependency, pathTimes, pathPredecessors, visiting);
+			if(dependencyTime > dependenciesTime || predecessor == null) {
+				dependenciesTime = dependencyTime;
+				predecessor = dependency;
+			}
+		}
+		visiting.remove(profile);
+		if(predecessor != null) {
+			pathPredecessors.put(profile, predecessor);
+		}
+		long result = dependenciesTime + profile.selfTime;
+		pathTimes.put(profile, result);
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Returns the name of the profiled module.
+	 * </p>
+	 *
+	 * @return the module name
+	 */
+	public String getModuleName() {
+		return this.moduleName;
+	}
+
+	/**
+	 * <p>
+	 * Returns the time it took to start the module.
+	 * </p>
+	 *
+	 * @return the startup time
+	 */
+	public Duration getStartupTime() {
+		return Duration.ofNanos(this.startupTime);
+	}
+
+	/**
+	 * <p>
+	 * Returns the profiles of the beans created during the module startup in creation order.
+	 * </p>
+	 *
+	 * @return a list of bean profiles
+	 */
+	public List<BeanProfile> getBeans() {
+		return this.beans;
+	}
+
+	/**
+	 * <p>
+	 * Returns the critical path through the bean graph.
+	 * </p>
+	 *
+	 * <p>
+	 * The returned list starts with the bean that has no dependency and ends with the bean that depends on all the others.
+	 * </p>
+	 *
+	 * @return a list of bean profiles
+	 */
+	public List<BeanProfile> getCriticalPath() {
+		return this.criticalPath;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of the construction and initialization times of the beans on the critical path.
+	 * </p>
+	 *
+	 * @return the critical path time
+	 */
+	public Duration getCriticalPathTime() {
+		return Duration.ofNanos(this.criticalPathTime);
+	}
+
+	/**
+	 * <p>
+	 * Exports the report in JSON.
+	 * </p>
+	 *
+	 * <p>
+	 * Times are expressed in milliseconds and bean start times are relative to the start of the module startup.
+	 * </p>
+	 *
+	 * @return a JSON representation of the report
+	 */
+	public String toJson() {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n");
+		json.append("\t\"module\": ").append(jsonString(this.moduleName)).append(",\n");
+		json.append("\t\"startupTime\": ").append(millis(this.startupTime)).append(",\n");
+		json.append("\t\"criticalPathTime\": ").append(millis(this.criticalPathTime)).append(",\n");
+		json.append("\t\"criticalPath\": [");
+		for(int i = 0; i < this.criticalPath.size(); i++) {
+			json.append(i > 0 ? ", " : "").append(jsonString(this.criticalPath.get(i).getQualifiedName()));
+		}
+		json.append("],\n");
+		json.append("\t\"beans\": [");
+		for(int i = 0; i < this.beans.size(); i++) {
+			BeanProfile profile = this.beans.get(i);
+			json.append(i > 0 ? ",\n\t\t{" : "\n\t\t{");
+			json.append("\"name\": ").append(jsonString(profile.getQualifiedName()));
+			json.append(", \"module\": ").append(jsonString(profile.moduleName));
+			json.append(", \"bean\": ").append(jsonString(profile.beanName));
+			json.append(", \"startTime\": ").append(millis(profile.startTime));
+			json.append(", \"creationTime\": ").append(millis(profile.creationTime));
+			json.append(", \"constructionTime\": ").append(millis(profile.constructionTime));
+			json.append(", \"initTimes\": [");
+			for(int j = 0; j < profile.initTimes.length; j++) {
+				json.append(j > 0 ? ", " : "").append(millis(profile.initTimes[j]));
+			}
+			json.append("], \"dependencyWaitTime\": ").append(millis(profile.dependencyWaitTime));
+			json.append(", \"dependencies\": [");
+			for(int j = 0; j < profile.dependencies.size(); j++) {
+				json.append(j > 0 ? ", " : "").append(jsonString(profile.dependencies.get(j).getQualifiedName()));
+			}
+			json.append("], \"critical\": ").append(profile.critical).append("}");
+		}
+		json.append(this.beans.isEmpty() ? "]\n" : "\n\t]\n");
+		json.append("}");
+		return json.toString();
+	}
+
+	/**
+	 * <p>
+	 * Exports the report as a human-readable tree.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans created on demand during the creation of another bean are displayed under that bean and beans on the critical path are marked with a {@code *}.
+	 * </p>
+	 *
+	 * @return a tree representation of the report
+	 */
+	public String toTree() {
+		StringBuilder tree = new StringBuilder();
+		tree.append("Module ").append(this.moduleName).append(" started in ").append(millis(this.startupTime)).append("ms\n");
+		tree.append("Critical path (").append(millis(this.criticalPathTime)).append("ms): ");
+		for(int i = 0; i < this.criticalPath.size(); i++) {
+			tree.append(i > 0 ? " > " : "").append(this.criticalPath.get(i).getQualifiedName());
+		}
+		tree.append("\n");
+		for(int i = 0; i < this.roots.size(); i++) {
+			this.appendTree(tree, this.roots.get(i), "", i == this.roots.size() - 1);
+		}
+		return tree.toString();
+	}
+
+	/**
+	 * <p>
+	 * Appends a bean profile and the profiles of the beans it created to a tree.
+	 * </p>
+	 *
+	 * @param tree    the tree
+	 * @param profile the bean profile
+	 * @param indent  the current indentation
+	 * @param last    true if the bean profile is the last of its siblings
+	 */
+	private void appendTree(StringBuilder tree, BeanProfile profile, String indent, boolean last) {
+		tree.append(indent).append(last ? "└─ " : "├─ ").append(profile.getQualifiedName()).append(" ").append(millis(profile.creationTime)).append("ms (construction ").append(millis(profile.constructionTime)).append("ms");
+		for(long initTime : profile.initTimes) {
+			tree.append(", init ").append(millis(initTime)).append("ms");
+		}
+		if(profile.dependencyWaitTime > 0) {
+			tree.append(", dependency wait ").append(millis(profile.dependencyWaitTime)).append("ms");
+		}
+		tree.append(")");
+		if(profile.critical) {
+			tree.append(" *");
+		}
+		tree.append("\n");
+		String childIndent = indent + (last ? "   " : "│  ");
+		for(int i = 0; i < profile.children.size(); i++) {
+			this.appendTree(tree, profile.children.get(i), childIndent, i == profile.children.size() - 1);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.toTree();
+	}
+
+	/**
+	 * <p>
+	 * Formats a time in nanoseconds in milliseconds.
+	 * </p>
+	 *
+	 * @param nanos a time in nanoseconds
+	 *
+	 * @return a time in milliseconds
+	 */
+	private static String millis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / 1000000.0);
+	}
+
+	/**
+	 * <p>
+	 * Formats a JSON string.
+	 * </p>
+	 *
+	 * @param value a string value
+	 *
+	 * @return a JSON string
+	 */
+	private static String jsonString(String value) {
+		StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+		for(int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch(c) {
+				case '"': result.append("\\\"");
+					break;
+				case '\\': result.append("\\\\");
+					break;
+				case '\n': result.append("\\n");
+					break;
+				case '\r': result.append("\\r");
+					break;
+				case '\t': result.append("\\t");
+					break;
+				default:
+					if(c < 0x20) {
+						result.append(String.format("\\u%04x", (int)c));
+					}
+					else {
+						result.append(c);
+					}
+			}
+		}
+		return result.append('"').toString();
+	}
+
+	/**
+	 * <p>
+	 * The profile of a bean created during a module startup.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.7
+	 */
+	public static final class BeanProfile {
+
+		/**
+		 * The name of the module defining the bean.
+		 */
+		private final String moduleName;
+
+		/**
+		 * The bean name.
+		 */
+		private final String beanName;
+
+		/**
+		 * The creation start time relative to the module startup.
+		 */
+		private final long startTime;
+
+		/**
+		 * The creation time.
+		 */
+		private final long creationTime;
+
+		/**
+		 * The construction time.
+		 */
+		private final long constructionTime;
+
+		/**
+		 * The initialization times.
+		 */
+		private final long[] initTimes;
+
+		/**
+		 * The time spent waiting for dependencies.
+		 */
+		private final long dependencyWaitTime;
+
+		/**
+		 * The construction and initialization time.
+		 */
+		private final long selfTime;
+
+		/**
+		 * The profiles of the beans the bean depends on.
+		 */
+		private final List<BeanProfile> dependencies;
+
+		/**
+		 * The profiles of the beans created during the creation of the bean.
+		 */
+		private final List<BeanProfile> children;
+
+		/**
+		 * Indicates whether the bean is on the critical path.
+		 */
+		private boolean critical;
+
+		/**
+		 * <p>
+		 * Creates a bean profile.
+		 * </p>
+		 *
+		 * @param recording        the bean creation recording
+		 * @param startupStartTime the module startup start time
+		 */
+		private BeanProfile(StartupProfiler.Recording recording, long startupStartTime) {
+			this.moduleName = recording.bean.parent.getName();
+			this.beanName = recording.bean.name;
+			this.startTime = recording.startTime - startupStartTime;
+			this.creationTime = recording.endTime - recording.startTime;
+			this.constructionTime = recording.constructionTime;
+			this.initTimes = recording.initTimes.stream().mapToLong(Long::longValue).toArray();
+			this.dependencyWaitTime = recording.readyTime + recording.nestedTime;
+
+			long time = this.constructionTime;
+			for(long initTime : this.initTimes) {
+				time += initTime;
+			}
+			this.selfTime = time;
+			this.dependencies = new ArrayList<>();
+			this.children = new ArrayList<>();
+		}
+
+		/**
+		 * <p>
+		 * Returns the name of the module defining the bean.
+		 * </p>
+		 *
+		 * @return the module name
+		 */
+		public String getModuleName() {
+			return this.moduleName;
+		}
+
+		/**
+		 * <p>
+		 * Returns the name of the bean.
+		 * </p>
+		 *
+		 * @return the bean name
+		 */
+		public String getBeanName() {
+			return this.beanName;
+		}
+
+		/**
+		 * <p>
+		 * Returns the qualified name of the bean (ie. {@code module:bean}).
+		 * </p>
+		 *
+		 * @return the bean qualified name
+		 */
+		public String getQualifiedName() {
+			return this.moduleName + ":" + this.beanName;
+		}
+
+		/**
+		 * <p>
+		 * Returns the time at which the bean creation started relative to the start of the module startup.
+		 * </p>
+		 *
+		 * @return the creation start time
+		 */
+		public Duration getStartTime() {
+			return Duration.ofNanos(this.startTime);
+		}
+
+		/**
+		 * <p>
+		 * Returns the total time it took to create the bean including the time spent creating the beans it depends on.
+		 * </p>
+		 *
+		 * @return the creation time
+		 */
+		public Duration getCreationTime() {
+			return Duration.ofNanos(this.creationTime);
+		}
+
+		/**
+		 * <p>
+		 * Returns the time spent constructing the bean excluding the time spent creating the beans it depends on.
+		 * </p>
+		 *
+		 * @return the construction time
+		 */
+		public Duration getConstructionTime() {
+			return Duration.ofNanos(this.constructionTime);
+		}
+
+		/**
+		 * <p>
+		 * Returns the time spent in each initialization method of the bean in invocation order.
+		 * </p>
+		 *
+		 * @return a list of initialization times
+		 */
+		public List<Duration> getInitTimes() {
+			List<Duration> result = new ArrayList<>(this.initTimes.length);
+			for(long initTime : this.initTimes) {
+				result.add(Duration.ofNanos(initTime));
+			}
+			return Collections.unmodifiableList(result);
+		}
+
+		/**
+		 * <p>
+		 * Returns the time spent waiting for the beans it depends on to be created.
+		 * </p>
+		 *
+		 * <p>
+		 * This includes the time spent creating dependencies on demand during the bean creation and, when the module is started concurrently, the time elapsed between the beginning of the module
+		 * startup and the creation of the last of its dependencies.
+		 * </p>
+		 *
+		 * @return the dependency wait time
+		 */
+		public Duration getDependencyWaitTime() {
+			return Duration.ofNanos(this.dependencyWaitTime);
+		}
+
+		/**
+		 * <p>
+		 * Returns the profiles of the beans created during the module startup the bean depends on.
+		 * </p>
+		 *
+		 * @return a list of bean profiles
+		 */
+		public List<BeanProfile> getDependencies() {
+			return Collections.unmodifiableList(this.dependencies);
+		}
+
+		/**
+		 * <p>
+		 * Determines whether the bean is on the critical path.
+		 * </p>
+		 *
+		 * @return true if the bean is on the critical path, false otherwise
+		 */
+		public boolean isCritical() {
+			return this.critical;
+		}
+
+		@Override
+		public String toString() {
+			return this.getQualifiedName();
+		}
+	}
+}
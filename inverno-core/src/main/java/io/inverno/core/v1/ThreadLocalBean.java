@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+/**
+ * <p>
+ * A thread local bean instance exposed by a thread bean.
+ * </p>
+ *
+ * <p>
+ * A thread bean is wired into dependent beans as a {@code ThreadLocalBean} which provides the instance bound to the calling thread, a thread receiving the same instance on every call:
+ * </p>
+ *
+ * <pre>{@code
+ * MessageDigest digest = this.digest.get();
+ * digest.reset();
+ * byte[] hash = digest.digest(data);
+ * }</pre>
+ *
+ * <p>
+ * An instance is created the first time a thread requests it and is recycled once that thread has terminated, the number of instances is then bounded by the number of threads alive at a given
+ * time and not by the number of threads that ever requested one, which matters when many short-lived virtual threads are involved. As a result, an instance must not be used outside the thread that
+ * obtained it and must not be retained beyond the lifetime of that thread.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @param <T> the type of thread local instances
+ */
+public interface ThreadLocalBean<T> {
+
+	/**
+	 * <p>
+	 * Returns the instance bound to the current thread, creating or recycling one if needed.
+	 * </p>
+	 *
+	 * @return the instance bound to the current thread
+	 *
+	 * @throws IllegalStateException if the bean was destroyed because the module exposing the bean was stopped
+	 */
+	T get() throws IllegalStateException;
+}
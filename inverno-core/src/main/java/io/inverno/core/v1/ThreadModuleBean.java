@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A thread module {@link Bean} implementation.
+ * </p>
+ *
+ * <p>
+ * A thread module bean provides a single {@link ThreadLocalBean} for the whole application from which dependent beans obtain the bean instance bound to the current thread. Instances are created and
+ * initialized the first time they are requested by a thread, recycled once that thread has terminated and destroyed when the bean is destroyed.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Bean
+ * @see GenericThreadLocalBean
+ * @see ThreadModuleBeanBuilder
+ *
+ * @param <P> the type of thread local bean provided by the bean
+ * @param <T> the actual type of the thread local instances
+ */
+abstract class ThreadModuleBean<P, T> extends Bean<P> {
+
+	protected final Optional<Supplier<P>> override;
+
+	/**
+	 * The thread local bean provided by the bean.
+	 */
+	private volatile P threadLocalBean;
+
+	/**
+	 * <p>
+	 * Creates a thread module bean with the specified name.
+	 * </p>
+	 *
+	 * @param name     the bean name
+	 * @param override An optional override
+	 */
+	public ThreadModuleBean(String name, Optional<Supplier<P>> override) {
+		super(name);
+		this.override = override;
+	}
+
+	@Override
+	String getStrategy() {
+		return "THREAD";
+	}
+
+	/**
+	 * <p>
+	 * Creates the thread bean.
+	 * </p>
+	 *
+	 * <p>
+	 * This method creates the thread local bean, instance creation being delegated to the {@link #createInstance()} method.
+	 * </p>
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void create() {
+		if (this.threadLocalBean == null) {
+			synchronized(this) {
+				if (this.threadLocalBean == null) {
+					this.creating(this.override.isPresent());
+					BeanCreateEvent event = new BeanCreateEvent();
+					event.begin();
+					StartupProfiler.Recording recording = StartupProfiler.record(this);
+					try {
+						this.threadLocalBean = this.override.map(Supplier::get).orElseGet(() -> (P)new GenericThreadLocalBean<>(this::createInstance, Function.identity(), this::destroyInstance));
+					}
+					finally {
+						if(recording != null) {
+							recording.close();
+						}
+						event.commit(this);
+					}
+					this.parent.recordBean(this);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the thread local bean.
+	 * </p>
+	 *
+	 * @return the thread local bean
+	 */
+	@Override
+	public final P doGet() {
+		P current = this.threadLocalBean;
+		if(current != null) {
+			return current;
+		}
+		this.create();
+		return this.threadLocalBean;
+	}
+
+	/**
+	 * <p>
+	 * Destroys the thread bean and as a result all the instances created by the thread local bean that haven't been destroyed yet.
+	 * </p>
+	 *
+	 * <p>
+	 * This method delegates bean instance destruction to the {@link #destroyInstance(Object)} method.
+	 * </p>
+	 */
+	@Override
+	public final void destroy() {
+		synchronized(this) {
+			if (this.threadLocalBean != null) {
+				if(this.override.isEmpty()) {
+					((GenericThreadLocalBean<?, ?>)this.threadLocalBean).close();
+				}
+				this.threadLocalBean = null;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Creates a bean instance.
+	 * </p>
+	 *
+	 * @return a bean instance
+	 */
+	protected abstract T createInstance();
+
+	/**
+	 * <p>
+	 * Destroys the specified bean instance.
+	 * </p>
+	 *
+	 * @param instance the instance to destroy
+	 */
+	protected abstract void destroyInstance(T instance);
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import io.inverno.core.v1.Module.BeanBuilder;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Thread module {@link BeanBuilder} implementation.
+ * </p>
+ *
+ * <p>
+ * A {@link ThreadModuleBeanBuilder} must be used to create thread beans, when dependent beans must obtain a distinct bean instance per thread through a {@link ThreadLocalBean}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see BeanBuilder
+ * @see Bean
+ * @see ThreadModuleBean
+ *
+ * @param <P> the type provided by the bean (ie. the thread local bean type).
+ * @param <T> the actual type of the bean.
+ */
+class ThreadModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
+
+	/**
+	 * <p>
+	 * Creates a thread module bean builder with the specified bean name and constructor.
+	 * </p>
+	 *
+	 * @param beanName    the bean name
+	 * @param constructor the bean constructor
+	 */
+	public ThreadModuleBeanBuilder(String beanName, Supplier<T> constructor) {
+		super(beanName, constructor);
+	}
+
+	/**
+	 * <p>
+	 * Creates an overridable thread module bean builder.
+	 * </p>
+	 *
+	 * @param overriddenBuilder the overridden thread module bean builder
+	 * @param override          the override
+	 */
+	public ThreadModuleBeanBuilder(ThreadModuleBeanBuilder<?, T> overriddenBuilder, Optional<Supplier<P>> override) {
+		super(overriddenBuilder, override);
+	}
+
+	@Override
+	public <U> Module.ModuleBeanBuilder<U, T> override(Optional<Supplier<U>> override) {
+		return new ThreadModuleBeanBuilder<>(this, override);
+	}
+
+	/**
+	 * <p>
+	 * Builds the bean.
+	 * </p>
+	 *
+	 * @return a thread bean
+	 */
+	@Override
+	public Bean<P> build() {
+		return new ThreadModuleBean<P, T>(this.beanName, this.override) {
+
+			@Override
+			protected T createInstance() {
+				T instance = construct(this);
+				if(inits != null) {
+					inits.forEach(init -> {
+						try {
+							invokeInit(this, init, instance);
+						} catch (Exception e) {
+							this.initFailed(e);
+							throw new RuntimeException("Error initializing bean " + name, e);
+						}
+					});
+				}
+				return instance;
+			}
+
+			@Override
+			protected void destroyInstance(T instance) {
+				if(destroys != null) {
+					destroys.forEach(destroy -> {
+						try {
+							invokeDestroy(this, destroy, instance);
+						} catch (Exception e) {
+							this.destroyFailed(e);
+						}
+					});
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A thread wrapper {@link Bean} implementation.
+ * </p>
+ *
+ * <p>
+ * As for {@link ThreadModuleBean}, a single {@link ThreadLocalBean} is provided for the whole application, wrapper instances are created and initialized the first time an instance is requested by a
+ * thread and destroyed when the bean is destroyed. The instance provided by a wrapper is obtained once when the wrapper is created.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see Bean
+ * @see GenericThreadLocalBean
+ * @see ThreadWrapperBeanBuilder
+ *
+ * @param <P> the type of thread local bean provided by the bean
+ * @param <W> the type of the wrapper bean
+ * @param <T> the actual type of the thread local instances
+ */
+abstract class ThreadWrapperBean<P, W extends Supplier<T>, T> extends Bean<P> {
+
+	protected final Optional<Supplier<P>> override;
+
+	/**
+	 * The thread local bean provided by the bean.
+	 */
+	private volatile P threadLocalBean;
+
+	/**
+	 * <p>
+	 * Creates a thread wrapper bean with the specified name.
+	 * </p>
+	 *
+	 * @param name     the bean name
+	 * @param override An optional override
+	 */
+	public ThreadWrapperBean(String name, Optional<Supplier<P>> override) {
+		super(name);
+		this.override = override;
+	}
+
+	@Override
+	String getStrategy() {
+		return "THREAD";
+	}
+
+	/**
+	 * <p>
+	 * Creates the thread bean.
+	 * </p>
+	 *
+	 * <p>
+	 * This method creates the thread local bean, wrapper creation being delegated to the {@link #createWrapper()} method.
+	 * </p>
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final void create() {
+		if (this.threadLocalBean == null) {
+			synchronized(this) {
+				if (this.threadLocalBean == null) {
+					this.creating(this.override.isPresent());
+					BeanCreateEvent event = new BeanCreateEvent();
+					event.begin();
+					StartupProfiler.Recording recording = StartupProfiler.record(this);
+					try {
+						this.threadLocalBean = this.override.map(Supplier::get).orElseGet(() -> (P)new GenericThreadLocalBean<W, T>(this::createWrapper, Supplier::get, this::destroyWrapper));
+					}
+					finally {
+						if(recording != null) {
+							recording.close();
+						}
+						event.commit(this);
+					}
+					this.parent.recordBean(this);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the thread local bean.
+	 * </p>
+	 *
+	 * @return the thread local bean
+	 */
+	@Override
+	public final P doGet() {
+		P current = this.threadLocalBean;
+		if(current != null) {
+			return current;
+		}
+		this.create();
+		return this.threadLocalBean;
+	}
+
+	/**
+	 * <p>
+	 * Destroys the thread bean and as a result all the wrapper instances created by the thread local bean that haven't been destroyed yet.
+	 * </p>
+	 *
+	 * <p>
+	 * This method delegates wrapper instance destruction to the {@link #destroyWrapper(Supplier)} method.
+	 * </p>
+	 */
+	@Override
+	public final void destroy() {
+		synchronized(this) {
+			if (this.threadLocalBean != null) {
+				if(this.override.isEmpty()) {
+					((GenericThreadLocalBean<?, ?>)this.threadLocalBean).close();
+				}
+				this.threadLocalBean = null;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Creates a wrapper instance.
+	 * </p>
+	 *
+	 * @return a wrapper instance
+	 */
+	protected abstract W createWrapper();
+
+	/**
+	 * <p>
+	 * Destroys the specified wrapper instance.
+	 * </p>
+	 *
+	 * @param wrapper the wrapper instance to destroy
+	 */
+	protected abstract void destroyWrapper(W wrapper);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import io.inverno.core.v1.Module.BeanBuilder;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Thread wrapper {@link BeanBuilder} implementation.
+ * </p>
+ *
+ * <p>
+ * A {@link ThreadWrapperBeanBuilder} must be used to create thread beans using a wrapper, when dependent beans must obtain a distinct bean instance per thread through a
+ * {@link ThreadLocalBean}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.7
+ *
+ * @see BeanBuilder
+ * @see Bean
+ * @see ThreadWrapperBean
+ *
+ * @param <P> the type provided by the bean (ie. the thread local bean type)
+ * @param <W> the type of the wrapper bean
+ * @param <T> the actual type of the bean
+ */
+class ThreadWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractWrapperBeanBuilder<P, T, W> {
+
+	/**
+	 * <p>
+	 * Creates a thread wrapper bean builder with the specified bean name and constructor.
+	 * </p>
+	 *
+	 * @param beanName    the bean name
+	 * @param constructor the bean constructor
+	 */
+	public ThreadWrapperBeanBuilder(String beanName, Supplier<W> constructor) {
+		super(beanName, constructor);
+	}
+
+	/**
+	 * <p>
+	 * Creates an overridable thread wrapper bean builder.
+	 * </p>
+	 *
+	 * @param overriddenBuilder the overridden thread wrapper bean builder
+	 * @param override          the override
+	 */
+	public ThreadWrapperBeanBuilder(ThreadWrapperBeanBuilder<?, T, W> overriddenBuilder, Optional<Supplier<P>> override) {
+		super(overriddenBuilder, override);
+	}
+
+	@Override
+	public <U> Module.WrapperBeanBuilder<U, T, W> override(Optional<Supplier<U>> override) {
+		return new ThreadWrapperBeanBuilder<>(this, override);
+	}
+
+	/**
+	 * <p>
+	 * Builds the bean.
+	 * </p>
+	 *
+	 * @return a thread bean
+	 */
+	@Override
+	public Bean<P> build() {
+		return new ThreadWrapperBean<P, W, T>(this.beanName, this.override) {
+
+			@Override
+			protected W createWrapper() {
+				W wrapper = construct(this);
+				if(inits != null) {
+					inits.forEach(init -> {
+						try {
+							invokeInit(this, init, wrapper);
+						}
+						catch (Exception e) {
+							this.initFailed(e);
+							throw new RuntimeException("Error initializing bean " + name, e);
+						}
+					});
+				}
+				return wrapper;
+			}
+
+			@Override
+			protected void destroyWrapper(W wrapper) {
+				if(destroys != null) {
+					destroys.forEach(destroy -> {
+						try {
+							invokeDestroy(this, destroy, wrapper);
+						} catch (Exception e) {
+							this.destroyFailed(e);
+						}
+					});
+				}
+			}
+		};
+	}
+}
@@ -29,6 +29,8 @@
  */
 module io.inverno.core {
 	requires org.apache.logging.log4j;
+	requires transitive java.management;
+	requires jdk.jfr;
 	requires static transitive java.compiler;
 	
 	requires static transitive io.inverno.core.annotation;
@@ -16,8 +16,16 @@
 package io.inverno.test;
 
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
 
+import javax.management.MBeanServer;
+
+import io.inverno.core.v1.BeanLifecycleListener;
 import io.inverno.core.v1.Module;
+import io.inverno.core.v1.ModuleLifecycleListener;
 
 /**
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
@@ -60,6 +68,36 @@ public class InvernoModuleProxy extends Module {
 		}
 	}
 
+	@Override
+	public void start(Executor executor) throws InvernoModuleException {
+		try {
+			this.module.getClass().getMethod("start", Executor.class).invoke(this.module, executor);
+		} 
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public Object startProfiled(Executor executor) throws InvernoModuleException {
+		try {
+			Class<?> profilerClass = this.module.getClass().getClassLoader().loadClass("io.inverno.core.v1.StartupProfiler");
+			Object profiler = profilerClass.getConstructor().newInstance();
+			this.module.getClass().getMethod("start", Executor.class, profilerClass).invoke(this.module, executor, profiler);
+			return profiler;
+		} 
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	@Override
 	public void stop() throws InvernoModuleException {
 		try {
@@ -74,6 +112,88 @@ public class InvernoModuleProxy extends Module {
 		}
 	}
 	
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<String> stop(Executor executor, Duration timeout, Duration beanTimeout) throws InvernoModuleException {
+		try {
+			return (List<String>)this.module.getClass().getMethod("stop", Executor.class, Duration.class, Duration.class).invoke(this.module, executor, timeout, beanTimeout);
+		}
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	@Override
+	public void registerMBeans(MBeanServer mBeanServer) throws InvernoModuleException {
+		try {
+			this.module.getClass().getMethod("registerMBeans", MBeanServer.class).invoke(this.module, mBeanServer);
+		}
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	@Override
+	public void unregisterMBeans() throws InvernoModuleException {
+		try {
+			this.module.getClass().getMethod("unregisterMBeans").invoke(this.module);
+		}
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	@Override
+	public void setModuleLifecycleListener(ModuleLifecycleListener listener) throws InvernoModuleException {
+		this.setLifecycleListener(ModuleLifecycleListener.class, "setModuleLifecycleListener", listener);
+	}
+	
+	@Override
+	public void setBeanLifecycleListener(BeanLifecycleListener listener) throws InvernoModuleException {
+		this.setLifecycleListener(BeanLifecycleListener.class, "setBeanLifecycleListener", listener);
+	}
+	
+	private void setLifecycleListener(Class<?> listenerType, String setterName, Object listener) throws InvernoModuleException {
+		try {
+			// The listener type might have been loaded by the module class loader
+			Class<?> moduleListenerType = this.module.getClass().getClassLoader().loadClass(listenerType.getName());
+			Object moduleListener = null;
+			if(listener != null) {
+				moduleListener = Proxy.newProxyInstance(moduleListenerType.getClassLoader(), new Class<?>[] { moduleListenerType }, (proxy, method, args) -> {
+					try {
+						if(method.getDeclaringClass() == Object.class) {
+							return method.invoke(listener, args);
+						}
+						return listenerType.getMethod(method.getName(), method.getParameterTypes()).invoke(listener, args);
+					}
+					catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+			}
+			this.module.getClass().getMethod(setterName, moduleListenerType).invoke(this.module, moduleListener);
+		}
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (ClassNotFoundException | IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
 	public Object getBean(String name) throws InvernoModuleException {
 		try {
 			return this.module.getClass().getMethod(name).invoke(this.module);
@@ -23,10 +23,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -91,7 +93,13 @@ public class InvernoTestCompiler {
 	}
 	
 	public InvernoModuleLoader compile(String... modules) throws IOException, InvernoCompilationException {
-		CompilationTask task = this.compiler.getTask(new PrintWriter(System.out), this.fileManager, this.diagnosticListener, Arrays.asList("-Xlint:-options", "--module", Arrays.stream(modules).collect(Collectors.joining(",")), "-Ainverno.debug=true", "-Ainverno.verbose=true", "-Ainverno.generateDescriptor=true"), null, null);
+		return this.compile(Map.of(), modules);
+	}
+	
+	public InvernoModuleLoader compile(Map<String, String> compilerOptions, String... modules) throws IOException, InvernoCompilationException {
+		List<String> options = new ArrayList<>(List.of("-Xlint:-options", "--module", Arrays.stream(modules).collect(Collectors.joining(",")), "-Ainverno.debug=true", "-Ainverno.verbose=true", "-Ainverno.generateDescriptor=true"));
+		compilerOptions.forEach((name, value) -> options.add("-A" + name + "=" + value));
+		CompilationTask task = this.compiler.getTask(new PrintWriter(System.out), this.fileManager, this.diagnosticListener, options, null, null);
 		if(!task.call()) {
 			for(Diagnostic<? extends JavaFileObject> d : this.diagnosticListener.getDiagnotics()) {
 				System.err.println(d.toString());